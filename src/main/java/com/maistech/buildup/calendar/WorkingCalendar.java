@@ -0,0 +1,237 @@
+package com.maistech.buildup.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+// Whole years are precomputed, so counting or adding working days is O(1)
+public final class WorkingCalendar {
+
+    public static final int MIN_YEAR = 1970;
+    public static final int MAX_YEAR = 2199;
+
+    private static final int YEARS_BEHIND = 5;
+    private static final int YEARS_AHEAD = 15;
+
+    private static final WorkingCalendar CONTINUOUS = new WorkingCalendar(
+        EnumSet.allOf(DayOfWeek.class),
+        Map.of()
+    );
+
+    private final Set<DayOfWeek> workdays;
+    private final Map<LocalDate, Boolean> exceptions;
+    private final int workdayMask;
+
+    private volatile Span span;
+
+    private WorkingCalendar(
+        Set<DayOfWeek> workdays,
+        Map<LocalDate, Boolean> exceptions
+    ) {
+        this.workdays = Set.copyOf(workdays);
+        this.exceptions = Map.copyOf(exceptions);
+        this.workdayMask = maskOf(workdays);
+
+        int thisYear = LocalDate.now().getYear();
+        int first = thisYear - YEARS_BEHIND;
+        int last = thisYear + YEARS_AHEAD;
+        for (LocalDate date : this.exceptions.keySet()) {
+            first = Math.min(first, date.getYear());
+            last = Math.max(last, date.getYear());
+        }
+        this.span = new Span(
+            this,
+            Math.max(first, MIN_YEAR),
+            Math.min(last, MAX_YEAR)
+        );
+    }
+
+    public static WorkingCalendar of(
+        Set<DayOfWeek> workdays,
+        Map<LocalDate, Boolean> exceptions
+    ) {
+        if (workdays == null || workdays.isEmpty()) {
+            throw new IllegalArgumentException(
+                "A working calendar needs at least one workday"
+            );
+        }
+        return new WorkingCalendar(workdays, exceptions);
+    }
+
+    public static WorkingCalendar standard() {
+        return of(
+            EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY),
+            Map.of()
+        );
+    }
+
+    public static WorkingCalendar continuous() {
+        return CONTINUOUS;
+    }
+
+    public Set<DayOfWeek> workdays() {
+        return workdays;
+    }
+
+    public Map<LocalDate, Boolean> exceptions() {
+        return exceptions;
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        Span current = spanCovering(date, date);
+        int day = current.dayIndex(date);
+        return (current.workingBits[day >>> 6] & (1L << day)) != 0;
+    }
+
+    // Working days in [from, to); negative when to is before from
+    public int workingDaysUntil(LocalDate from, LocalDate to) {
+        Span current = spanCovering(from, to);
+        return (
+            current.workingBefore[current.dayIndex(to)] -
+            current.workingBefore[current.dayIndex(from)]
+        );
+    }
+
+    // Working days in [start, end]
+    public int countWorkingDays(LocalDate start, LocalDate end) {
+        return workingDaysUntil(start, end.plusDays(1));
+    }
+
+    // A non-working date first rolls forward to the next working day
+    public LocalDate addWorkingDays(LocalDate date, int days) {
+        Span current = spanCovering(date, date);
+        while (true) {
+            long ordinal =
+                (long) current.workingBefore[current.dayIndex(date)] + days;
+            if (ordinal >= 0 && ordinal < current.workingDays.length) {
+                return current.firstDay.plusDays(
+                    current.workingDays[(int) ordinal]
+                );
+            }
+            current = grow(
+                current,
+                ordinal < 0 ? -1 : 1,
+                Math.abs(days) / Math.max(workdays.size() * 52, 1) + 1
+            );
+        }
+    }
+
+    public LocalDate endDateFor(LocalDate start, int durationDays) {
+        return addWorkingDays(start, Math.max(durationDays, 1) - 1);
+    }
+
+    private Span spanCovering(LocalDate from, LocalDate to) {
+        Span current = span;
+        if (current.covers(from) && current.covers(to)) {
+            return current;
+        }
+        synchronized (this) {
+            current = span;
+            int first = Math.min(current.firstYear, Math.min(from.getYear(), to.getYear()));
+            int last = Math.max(current.lastYear, Math.max(from.getYear(), to.getYear()));
+            if (first < MIN_YEAR || last > MAX_YEAR) {
+                throw new IllegalArgumentException(
+                    "Dates must fall between " + MIN_YEAR + " and " + MAX_YEAR
+                );
+            }
+            if (first != current.firstYear || last != current.lastYear) {
+                current = new Span(this, first, last);
+                span = current;
+            }
+            return current;
+        }
+    }
+
+    private Span grow(Span from, int direction, int years) {
+        synchronized (this) {
+            Span current = span;
+            if (current != from) {
+                return current;
+            }
+            int first = direction < 0
+                ? current.firstYear - years
+                : current.firstYear;
+            int last = direction > 0
+                ? current.lastYear + years
+                : current.lastYear;
+            if (first < MIN_YEAR || last > MAX_YEAR) {
+                throw new IllegalArgumentException(
+                    "Dates must fall between " + MIN_YEAR + " and " + MAX_YEAR
+                );
+            }
+            current = new Span(this, first, last);
+            span = current;
+            return current;
+        }
+    }
+
+    private boolean computeWorking(LocalDate date) {
+        Boolean exception = exceptions.get(date);
+        if (exception != null) {
+            return exception;
+        }
+        return (workdayMask & (1 << (date.getDayOfWeek().getValue() - 1))) != 0;
+    }
+
+    private static int maskOf(Set<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return mask;
+    }
+
+    private static final class Span {
+
+        final int firstYear;
+        final int lastYear;
+        final LocalDate firstDay;
+        final long firstEpochDay;
+        final long[] workingBits;
+        final int[] workingBefore;
+        final int[] workingDays;
+
+        Span(WorkingCalendar calendar, int firstYear, int lastYear) {
+            this.firstYear = firstYear;
+            this.lastYear = lastYear;
+            this.firstDay = LocalDate.of(firstYear, 1, 1);
+            this.firstEpochDay = firstDay.toEpochDay();
+
+            int days = 0;
+            for (int year = firstYear; year <= lastYear; year++) {
+                days += Year.of(year).length();
+            }
+
+            this.workingBits = new long[(days + 63) >>> 6];
+            this.workingBefore = new int[days + 1];
+            int[] ordered = new int[days];
+            int count = 0;
+            LocalDate date = firstDay;
+            for (int day = 0; day < days; day++) {
+                workingBefore[day] = count;
+                if (calendar.computeWorking(date)) {
+                    workingBits[day >>> 6] |= 1L << day;
+                    ordered[count++] = day;
+                }
+                date = date.plusDays(1);
+            }
+            workingBefore[days] = count;
+
+            int[] trimmed = new int[count];
+            System.arraycopy(ordered, 0, trimmed, 0, count);
+            this.workingDays = trimmed;
+        }
+
+        boolean covers(LocalDate date) {
+            int year = date.getYear();
+            return year >= firstYear && year <= lastYear;
+        }
+
+        int dayIndex(LocalDate date) {
+            return (int) (date.toEpochDay() - firstEpochDay);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.maistech.buildup.calendar;
+
+import java.util.UUID;
+
+public record WorkingCalendarChangedEvent(UUID companyId) {}
@@ -0,0 +1,126 @@
+package com.maistech.buildup.calendar;
+
+import com.maistech.buildup.calendar.domain.WorkingCalendarService;
+import com.maistech.buildup.calendar.dto.UpdateWorkingCalendarRequest;
+import com.maistech.buildup.calendar.dto.WorkingCalendarResponse;
+import com.maistech.buildup.shared.security.JWTUserData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.UUID;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/calendar")
+@SecurityRequirement(name = "bearer-jwt")
+@Tag(
+    name = "Working Calendar",
+    description = "Company working calendar (workdays, holidays and extra working days) used for task and phase durations and schedule calculations. SUPER_ADMIN can optionally specify companyId via query parameter."
+)
+public class WorkingCalendarController {
+
+    private final WorkingCalendarService workingCalendarService;
+
+    public WorkingCalendarController(
+        WorkingCalendarService workingCalendarService
+    ) {
+        this.workingCalendarService = workingCalendarService;
+    }
+
+    @GetMapping
+    @Operation(
+        summary = "Get working calendar",
+        description = "Returns the company's working calendar. Companies that have not configured one work Monday to Friday with no holidays."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Calendar retrieved successfully",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(
+                        implementation = WorkingCalendarResponse.class
+                    )
+                )
+            ),
+        }
+    )
+    public ResponseEntity<WorkingCalendarResponse> getCalendar(
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+        return ResponseEntity.ok(
+            workingCalendarService.getCalendar(targetCompanyId)
+        );
+    }
+
+    @PutMapping
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN')")
+    @Operation(
+        summary = "Replace working calendar",
+        description = "Replaces the workdays and the full list of exceptions. Stored durations are not rewritten; the calendar applies to tasks and phases saved afterwards and to the next schedule recalculation."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Calendar updated successfully",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(
+                        implementation = WorkingCalendarResponse.class
+                    )
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Invalid workdays or exceptions"
+            ),
+            @ApiResponse(
+                responseCode = "403",
+                description = "Forbidden - requires ADMIN role"
+            ),
+        }
+    )
+    public ResponseEntity<WorkingCalendarResponse> updateCalendar(
+        @Valid @RequestBody UpdateWorkingCalendarRequest request,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+        return ResponseEntity.ok(
+            workingCalendarService.updateCalendar(targetCompanyId, request)
+        );
+    }
+
+    private UUID getTargetCompanyId(
+        Authentication authentication,
+        UUID requestedCompanyId
+    ) {
+        JWTUserData userData = (JWTUserData) authentication.getPrincipal();
+
+        if (requestedCompanyId != null) {
+            if (!userData.isMasterCompany()) {
+                throw new IllegalStateException(
+                    "Only SUPER_ADMIN can access other companies' resources"
+                );
+            }
+            return requestedCompanyId;
+        }
+
+        return userData.companyId();
+    }
+}
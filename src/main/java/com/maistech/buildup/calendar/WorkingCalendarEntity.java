@@ -0,0 +1,60 @@
+package com.maistech.buildup.calendar;
+
+import com.maistech.buildup.shared.entity.BaseEntity;
+import jakarta.persistence.*;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+// workdays is a bitmask from bit 0 (Monday) to bit 6 (Sunday)
+@Entity
+@Table(name = "working_calendars")
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkingCalendarEntity extends BaseEntity {
+
+    @Column(name = "workdays_mask", nullable = false)
+    @Builder.Default
+    private Integer workdaysMask = 0b0011111;
+
+    @OneToMany(
+        mappedBy = "calendar",
+        cascade = CascadeType.ALL,
+        orphanRemoval = true
+    )
+    @Builder.Default
+    private List<WorkingCalendarExceptionEntity> exceptions = new ArrayList<>();
+
+    public Set<DayOfWeek> getWorkdays() {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((workdaysMask & (1 << (day.getValue() - 1))) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    public void setWorkdays(Set<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        this.workdaysMask = mask;
+    }
+
+    public void replaceExceptions(List<WorkingCalendarExceptionEntity> replacements) {
+        exceptions.clear();
+        for (WorkingCalendarExceptionEntity exception : replacements) {
+            exception.setCalendar(this);
+            exceptions.add(exception);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.maistech.buildup.calendar;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(name = "working_calendar_exceptions")
+@Getter
+@Setter
+public class WorkingCalendarExceptionEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "calendar_id", nullable = false)
+    @NotNull
+    private WorkingCalendarEntity calendar;
+
+    @NotNull
+    @Column(name = "exception_date", nullable = false)
+    private LocalDate date;
+
+    // false for a holiday or closure, true for an extra working day
+    @Column(nullable = false)
+    private boolean working;
+
+    @Column(length = 255)
+    private String description;
+}
@@ -0,0 +1,17 @@
+package com.maistech.buildup.calendar.domain;
+
+import com.maistech.buildup.calendar.WorkingCalendarChangedEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class WorkingCalendarCacheEvictionListener {
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(
+        cacheNames = WorkingCalendarService.CACHE_NAME,
+        key = "#event.companyId()"
+    )
+    public void onCalendarChanged(WorkingCalendarChangedEvent event) {}
+}
@@ -0,0 +1,20 @@
+package com.maistech.buildup.calendar.domain;
+
+import com.maistech.buildup.calendar.WorkingCalendarEntity;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WorkingCalendarRepository
+    extends JpaRepository<WorkingCalendarEntity, UUID> {
+    @Query(
+        "SELECT DISTINCT c FROM WorkingCalendarEntity c LEFT JOIN FETCH c.exceptions WHERE c.companyId = :companyId"
+    )
+    Optional<WorkingCalendarEntity> findByCompanyIdWithExceptions(
+        @Param("companyId") UUID companyId
+    );
+}
@@ -0,0 +1,166 @@
+package com.maistech.buildup.calendar.domain;
+
+import com.maistech.buildup.calendar.WorkingCalendar;
+import com.maistech.buildup.calendar.WorkingCalendarChangedEvent;
+import com.maistech.buildup.calendar.WorkingCalendarEntity;
+import com.maistech.buildup.calendar.WorkingCalendarExceptionEntity;
+import com.maistech.buildup.calendar.dto.CalendarExceptionRequest;
+import com.maistech.buildup.calendar.dto.CalendarExceptionResponse;
+import com.maistech.buildup.calendar.dto.UpdateWorkingCalendarRequest;
+import com.maistech.buildup.calendar.dto.WorkingCalendarResponse;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// Stored dates are not rewritten; a new calendar applies from the next save
+@Service
+@Transactional
+public class WorkingCalendarService {
+
+    public static final String CACHE_NAME = "workingCalendars";
+
+    private final WorkingCalendarRepository workingCalendarRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public WorkingCalendarService(
+        WorkingCalendarRepository workingCalendarRepository,
+        ApplicationEventPublisher eventPublisher
+    ) {
+        this.workingCalendarRepository = workingCalendarRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CACHE_NAME, key = "#companyId")
+    public WorkingCalendar forCompany(UUID companyId) {
+        return workingCalendarRepository
+            .findByCompanyIdWithExceptions(companyId)
+            .map(WorkingCalendarService::toCalendar)
+            .orElseGet(WorkingCalendar::standard);
+    }
+
+    @Transactional(readOnly = true)
+    public WorkingCalendarResponse getCalendar(UUID companyId) {
+        return workingCalendarRepository
+            .findByCompanyIdWithExceptions(companyId)
+            .map(WorkingCalendarService::mapToResponse)
+            .orElseGet(() ->
+                new WorkingCalendarResponse(
+                    WorkingCalendar.standard().workdays(),
+                    List.of(),
+                    false
+                )
+            );
+    }
+
+    public WorkingCalendarResponse updateCalendar(
+        UUID companyId,
+        UpdateWorkingCalendarRequest request
+    ) {
+        Map<LocalDate, CalendarExceptionRequest> requested =
+            indexByDate(request.exceptions());
+
+        WorkingCalendarEntity calendar = workingCalendarRepository
+            .findByCompanyIdWithExceptions(companyId)
+            .orElseGet(() ->
+                WorkingCalendarEntity.builder().companyId(companyId).build()
+            );
+        calendar.setWorkdays(request.workdays());
+
+        // Exceptions are updated in place by date: a delete-and-insert of the
+        // same date would hit the unique constraint, as Hibernate flushes
+        // inserts before orphan removals.
+        Map<LocalDate, WorkingCalendarExceptionEntity> existing =
+            new HashMap<>();
+        for (WorkingCalendarExceptionEntity exception : calendar.getExceptions()) {
+            existing.put(exception.getDate(), exception);
+        }
+        List<WorkingCalendarExceptionEntity> merged = requested
+            .values()
+            .stream()
+            .map(item -> {
+                WorkingCalendarExceptionEntity exception = existing.get(
+                    item.date()
+                );
+                if (exception == null) {
+                    exception = new WorkingCalendarExceptionEntity();
+                    exception.setDate(item.date());
+                }
+                exception.setWorking(item.working());
+                exception.setDescription(item.description());
+                return exception;
+            })
+            .toList();
+        calendar.replaceExceptions(merged);
+
+        WorkingCalendarEntity saved = workingCalendarRepository.save(calendar);
+        eventPublisher.publishEvent(new WorkingCalendarChangedEvent(companyId));
+        return mapToResponse(saved);
+    }
+
+    private static Map<LocalDate, CalendarExceptionRequest> indexByDate(
+        List<CalendarExceptionRequest> exceptions
+    ) {
+        Map<LocalDate, CalendarExceptionRequest> byDate = new LinkedHashMap<>();
+        if (exceptions == null) {
+            return byDate;
+        }
+        for (CalendarExceptionRequest exception : exceptions) {
+            int year = exception.date().getYear();
+            if (year < WorkingCalendar.MIN_YEAR || year > WorkingCalendar.MAX_YEAR) {
+                throw new IllegalArgumentException(
+                    "Calendar exceptions must fall between " +
+                    WorkingCalendar.MIN_YEAR +
+                    " and " +
+                    WorkingCalendar.MAX_YEAR
+                );
+            }
+            if (byDate.put(exception.date(), exception) != null) {
+                throw new IllegalArgumentException(
+                    "Duplicate calendar exception for " + exception.date()
+                );
+            }
+        }
+        return byDate;
+    }
+
+    private static WorkingCalendar toCalendar(WorkingCalendarEntity entity) {
+        Map<LocalDate, Boolean> exceptions = new HashMap<>();
+        for (WorkingCalendarExceptionEntity exception : entity.getExceptions()) {
+            exceptions.put(exception.getDate(), exception.isWorking());
+        }
+        return WorkingCalendar.of(entity.getWorkdays(), exceptions);
+    }
+
+    private static WorkingCalendarResponse mapToResponse(
+        WorkingCalendarEntity entity
+    ) {
+        return new WorkingCalendarResponse(
+            entity.getWorkdays(),
+            entity
+                .getExceptions()
+                .stream()
+                .sorted(
+                    Comparator.comparing(WorkingCalendarExceptionEntity::getDate)
+                )
+                .map(exception ->
+                    new CalendarExceptionResponse(
+                        exception.getDate(),
+                        exception.isWorking(),
+                        exception.getDescription()
+                    )
+                )
+                .collect(Collectors.toList()),
+            true
+        );
+    }
+}
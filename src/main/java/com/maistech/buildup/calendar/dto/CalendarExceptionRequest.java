@@ -0,0 +1,14 @@
+package com.maistech.buildup.calendar.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+
+public record CalendarExceptionRequest(
+    @NotNull(message = "Date is required") LocalDate date,
+
+    boolean working,
+
+    @Size(max = 255, message = "Description must have at most 255 characters")
+    String description
+) {}
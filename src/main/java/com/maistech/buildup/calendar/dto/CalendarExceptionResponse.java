@@ -0,0 +1,9 @@
+package com.maistech.buildup.calendar.dto;
+
+import java.time.LocalDate;
+
+public record CalendarExceptionResponse(
+    LocalDate date,
+    boolean working,
+    String description
+) {}
@@ -0,0 +1,14 @@
+package com.maistech.buildup.calendar.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Set;
+
+public record UpdateWorkingCalendarRequest(
+    @NotEmpty(message = "At least one workday is required")
+    Set<DayOfWeek> workdays,
+
+    @Valid List<CalendarExceptionRequest> exceptions
+) {}
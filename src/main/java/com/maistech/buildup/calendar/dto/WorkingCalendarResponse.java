@@ -0,0 +1,12 @@
+package com.maistech.buildup.calendar.dto;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Set;
+
+// configured is false while the default Monday-to-Friday calendar applies
+public record WorkingCalendarResponse(
+    Set<DayOfWeek> workdays,
+    List<CalendarExceptionResponse> exceptions,
+    boolean configured
+) {}
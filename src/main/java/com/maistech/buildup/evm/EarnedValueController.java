@@ -0,0 +1,110 @@
+package com.maistech.buildup.evm;
+
+import com.maistech.buildup.evm.domain.EarnedValueService;
+import com.maistech.buildup.evm.dto.EarnedValueResponse;
+import com.maistech.buildup.shared.security.JWTUserData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/projects/{projectId}/earned-value")
+@SecurityRequirement(name = "bearer-jwt")
+@Tag(
+    name = "Earned Value",
+    description = "Earned value management (PV, EV, AC, SPI, CPI, EAC) combining task progress, paid expenses and the contract value. SUPER_ADMIN can optionally specify companyId via query parameter."
+)
+public class EarnedValueController {
+
+    private final EarnedValueService earnedValueService;
+
+    public EarnedValueController(EarnedValueService earnedValueService) {
+        this.earnedValueService = earnedValueService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+        summary = "Get project earned value",
+        description = "Returns today's earned value metrics, calculated live, and the daily series recorded between from and to (default: last 90 days). The contract value is used as budget at completion and each task's share of it is proportional to its duration."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Earned value retrieved successfully",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = EarnedValueResponse.class)
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Invalid date range"
+            ),
+            @ApiResponse(
+                responseCode = "403",
+                description = "Forbidden - requires ADMIN or MANAGER role"
+            ),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Project not found"
+            ),
+        }
+    )
+    public ResponseEntity<EarnedValueResponse> getEarnedValue(
+        @Parameter(description = "Project ID") @PathVariable UUID projectId,
+        @Parameter(description = "First day of the series")
+        @RequestParam(required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate from,
+        @Parameter(description = "Last day of the series")
+        @RequestParam(required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate to,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        return ResponseEntity.ok(
+            earnedValueService.getEarnedValue(
+                targetCompanyId,
+                projectId,
+                from,
+                to
+            )
+        );
+    }
+
+    private UUID getTargetCompanyId(
+        Authentication authentication,
+        UUID requestedCompanyId
+    ) {
+        JWTUserData userData = (JWTUserData) authentication.getPrincipal();
+
+        if (requestedCompanyId != null) {
+            if (!userData.isMasterCompany()) {
+                throw new IllegalStateException(
+                    "Only SUPER_ADMIN can access other companies' resources"
+                );
+            }
+            return requestedCompanyId;
+        }
+
+        return userData.companyId();
+    }
+}
@@ -0,0 +1,46 @@
+package com.maistech.buildup.evm;
+
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.shared.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "project_evm_snapshots")
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EarnedValueSnapshotEntity extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    @NotNull
+    private ProjectEntity project;
+
+    @NotNull
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @NotNull
+    @Column(name = "budget_at_completion", nullable = false, precision = 15, scale = 2)
+    private BigDecimal budgetAtCompletion;
+
+    @NotNull
+    @Column(name = "planned_value", nullable = false, precision = 15, scale = 2)
+    private BigDecimal plannedValue;
+
+    @NotNull
+    @Column(name = "earned_value", nullable = false, precision = 15, scale = 2)
+    private BigDecimal earnedValue;
+
+    @NotNull
+    @Column(name = "actual_cost", nullable = false, precision = 15, scale = 2)
+    private BigDecimal actualCost;
+}
@@ -0,0 +1,52 @@
+package com.maistech.buildup.evm.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.UUID;
+
+// PV and EV scale the budget by the planned and earned share of task weight
+record EarnedValueInputs(
+    UUID projectId,
+    UUID companyId,
+    BigDecimal budgetAtCompletion,
+    BigDecimal totalWeight,
+    BigDecimal plannedWeight,
+    BigDecimal earnedWeight,
+    BigDecimal actualCost
+) {
+    static EarnedValueInputs of(Object[] columns) {
+        return new EarnedValueInputs(
+            (UUID) columns[0],
+            (UUID) columns[1],
+            columns[2] != null ? toBigDecimal(columns[2]) : BigDecimal.ZERO,
+            toBigDecimal(columns[3]),
+            toBigDecimal(columns[4]),
+            toBigDecimal(columns[5]),
+            toBigDecimal(columns[6])
+        );
+    }
+
+    BigDecimal plannedValue() {
+        return shareOfBudget(plannedWeight);
+    }
+
+    BigDecimal earnedValue() {
+        return shareOfBudget(earnedWeight);
+    }
+
+    private BigDecimal shareOfBudget(BigDecimal weight) {
+        if (totalWeight.signum() == 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        return budgetAtCompletion
+            .multiply(weight)
+            .divide(totalWeight, 2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        return new BigDecimal(value.toString());
+    }
+}
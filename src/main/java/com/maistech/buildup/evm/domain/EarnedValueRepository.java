@@ -0,0 +1,104 @@
+package com.maistech.buildup.evm.domain;
+
+import com.maistech.buildup.evm.EarnedValueSnapshotEntity;
+import com.maistech.buildup.project.ProjectStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EarnedValueRepository
+    extends JpaRepository<EarnedValueSnapshotEntity, UUID> {
+    @Query(
+        "SELECT s FROM EarnedValueSnapshotEntity s WHERE s.project.id = :projectId AND s.companyId = :companyId AND s.snapshotDate BETWEEN :from AND :to ORDER BY s.snapshotDate"
+    )
+    List<EarnedValueSnapshotEntity> findSeries(
+        @Param("projectId") UUID projectId,
+        @Param("companyId") UUID companyId,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+
+    @Query(
+        "SELECT p.id FROM ProjectEntity p WHERE p.status = :status AND p.contractValue IS NOT NULL ORDER BY p.id"
+    )
+    List<UUID> findProjectIdsToSnapshot(@Param("status") ProjectStatus status);
+
+    @Query(
+        value = """
+        SELECT p.id, p.company_id, p.contract_value,
+            COALESCE(t.total_weight, 0), COALESCE(t.planned_weight, 0),
+            COALESCE(t.earned_weight, 0), COALESCE(e.actual_cost, 0)
+        FROM projects p
+        LEFT JOIN LATERAL (
+            SELECT SUM(w.weight) AS total_weight,
+                SUM(w.weight * w.progress) / 100.0 AS earned_weight,
+                SUM(CASE
+                    WHEN w.start_date IS NULL OR w.start_date > CAST(:asOf AS date) THEN 0
+                    WHEN w.end_date <= CAST(:asOf AS date) THEN w.weight
+                    ELSE w.weight * (CAST(:asOf AS date) - w.start_date + 1)
+                        / (w.end_date - w.start_date + 1.0)
+                END) AS planned_weight
+            FROM (
+                SELECT GREATEST(COALESCE(tk.duration_days, 1), 1) AS weight,
+                    COALESCE(tk.progress_percentage, 0) AS progress,
+                    tk.start_date,
+                    COALESCE(tk.end_date, tk.start_date
+                        + GREATEST(COALESCE(tk.duration_days, 1), 1) - 1) AS end_date
+                FROM tasks tk
+                WHERE tk.project_id = p.id
+            ) w
+        ) t ON true
+        LEFT JOIN LATERAL (
+            SELECT SUM(ex.amount) AS actual_cost
+            FROM expenses ex
+            WHERE ex.project_id = p.id
+                AND ex.status = 'PAID'
+                AND ex.paid_date <= CAST(:asOf AS date)
+        ) e ON true
+        WHERE p.id IN (:projectIds)
+        """,
+        nativeQuery = true
+    )
+    List<Object[]> findInputs(
+        @Param("projectIds") Collection<UUID> projectIds,
+        @Param("asOf") LocalDate asOf
+    );
+
+    @Modifying
+    @Query(
+        value = """
+        INSERT INTO project_evm_snapshots (
+            id, project_id, company_id, snapshot_date, budget_at_completion,
+            planned_value, earned_value, actual_cost, created_at, updated_at
+        ) VALUES (
+            gen_random_uuid(), :projectId, :companyId, :snapshotDate,
+            :budgetAtCompletion, :plannedValue, :earnedValue, :actualCost,
+            CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        )
+        ON CONFLICT (project_id, snapshot_date) DO UPDATE SET
+            budget_at_completion = EXCLUDED.budget_at_completion,
+            planned_value = EXCLUDED.planned_value,
+            earned_value = EXCLUDED.earned_value,
+            actual_cost = EXCLUDED.actual_cost,
+            updated_at = CURRENT_TIMESTAMP
+        """,
+        nativeQuery = true
+    )
+    int upsertSnapshot(
+        @Param("projectId") UUID projectId,
+        @Param("companyId") UUID companyId,
+        @Param("snapshotDate") LocalDate snapshotDate,
+        @Param("budgetAtCompletion") BigDecimal budgetAtCompletion,
+        @Param("plannedValue") BigDecimal plannedValue,
+        @Param("earnedValue") BigDecimal earnedValue,
+        @Param("actualCost") BigDecimal actualCost
+    );
+}
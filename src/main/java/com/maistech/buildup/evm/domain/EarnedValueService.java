@@ -0,0 +1,160 @@
+package com.maistech.buildup.evm.domain;
+
+import com.maistech.buildup.evm.EarnedValueSnapshotEntity;
+import com.maistech.buildup.evm.dto.EarnedValuePoint;
+import com.maistech.buildup.evm.dto.EarnedValueResponse;
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.project.ProjectNotFoundException;
+import com.maistech.buildup.project.domain.ProjectRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class EarnedValueService {
+
+    static final int RATIO_SCALE = 4;
+    static final int DEFAULT_SERIES_DAYS = 90;
+
+    private final EarnedValueRepository earnedValueRepository;
+    private final ProjectRepository projectRepository;
+
+    public EarnedValueService(
+        EarnedValueRepository earnedValueRepository,
+        ProjectRepository projectRepository
+    ) {
+        this.earnedValueRepository = earnedValueRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    public EarnedValueResponse getEarnedValue(
+        UUID companyId,
+        UUID projectId,
+        LocalDate from,
+        LocalDate to
+    ) {
+        ProjectEntity project = projectRepository
+            .findByIdAndCompanyId(projectId, companyId)
+            .orElseThrow(() ->
+                new ProjectNotFoundException("Project not found")
+            );
+
+        LocalDate today = LocalDate.now();
+        LocalDate seriesEnd = to != null ? to : today;
+        LocalDate seriesStart = from != null
+            ? from
+            : seriesEnd.minusDays(DEFAULT_SERIES_DAYS);
+        if (seriesStart.isAfter(seriesEnd)) {
+            throw new IllegalArgumentException(
+                "Start date must be before end date"
+            );
+        }
+
+        EarnedValueInputs inputs = earnedValueRepository
+            .findInputs(List.of(project.getId()), today)
+            .stream()
+            .findFirst()
+            .map(EarnedValueInputs::of)
+            .orElseThrow(() ->
+                new ProjectNotFoundException("Project not found")
+            );
+
+        List<EarnedValuePoint> series = earnedValueRepository
+            .findSeries(projectId, companyId, seriesStart, seriesEnd)
+            .stream()
+            .map(this::toPoint)
+            .toList();
+
+        return new EarnedValueResponse(
+            projectId,
+            inputs.budgetAtCompletion(),
+            toPoint(
+                today,
+                inputs.budgetAtCompletion(),
+                inputs.plannedValue(),
+                inputs.earnedValue(),
+                inputs.actualCost()
+            ),
+            series
+        );
+    }
+
+    @Transactional
+    public int appendSnapshots(Collection<UUID> projectIds, LocalDate date) {
+        if (projectIds.isEmpty()) {
+            return 0;
+        }
+
+        List<EarnedValueInputs> inputs = earnedValueRepository
+            .findInputs(projectIds, date)
+            .stream()
+            .map(EarnedValueInputs::of)
+            .toList();
+
+        for (EarnedValueInputs input : inputs) {
+            earnedValueRepository.upsertSnapshot(
+                input.projectId(),
+                input.companyId(),
+                date,
+                input.budgetAtCompletion(),
+                input.plannedValue(),
+                input.earnedValue(),
+                input.actualCost()
+            );
+        }
+        return inputs.size();
+    }
+
+    private EarnedValuePoint toPoint(EarnedValueSnapshotEntity snapshot) {
+        return toPoint(
+            snapshot.getSnapshotDate(),
+            snapshot.getBudgetAtCompletion(),
+            snapshot.getPlannedValue(),
+            snapshot.getEarnedValue(),
+            snapshot.getActualCost()
+        );
+    }
+
+    private EarnedValuePoint toPoint(
+        LocalDate date,
+        BigDecimal budgetAtCompletion,
+        BigDecimal plannedValue,
+        BigDecimal earnedValue,
+        BigDecimal actualCost
+    ) {
+        BigDecimal spi = ratio(earnedValue, plannedValue);
+        BigDecimal cpi = ratio(earnedValue, actualCost);
+        // Without spend or without earned work there is no cost trend yet,
+        // so the estimate falls back to the budget.
+        BigDecimal eac = cpi != null && cpi.signum() > 0
+            ? budgetAtCompletion
+                .multiply(actualCost)
+                .divide(earnedValue, 2, RoundingMode.HALF_UP)
+            : budgetAtCompletion;
+
+        return new EarnedValuePoint(
+            date,
+            plannedValue,
+            earnedValue,
+            actualCost,
+            earnedValue.subtract(plannedValue),
+            earnedValue.subtract(actualCost),
+            spi,
+            cpi,
+            eac
+        );
+    }
+
+    private static BigDecimal ratio(BigDecimal numerator, BigDecimal denominator) {
+        if (denominator.signum() == 0) {
+            return null;
+        }
+        return numerator.divide(denominator, RATIO_SCALE, RoundingMode.HALF_UP);
+    }
+}
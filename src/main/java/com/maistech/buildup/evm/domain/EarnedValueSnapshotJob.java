@@ -0,0 +1,62 @@
+package com.maistech.buildup.evm.domain;
+
+import com.maistech.buildup.project.ProjectStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class EarnedValueSnapshotJob {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final EarnedValueRepository earnedValueRepository;
+    private final EarnedValueService earnedValueService;
+    private final Timer snapshotTimer;
+    private final Counter snapshotCounter;
+
+    public EarnedValueSnapshotJob(
+        EarnedValueRepository earnedValueRepository,
+        EarnedValueService earnedValueService,
+        MeterRegistry meterRegistry
+    ) {
+        this.earnedValueRepository = earnedValueRepository;
+        this.earnedValueService = earnedValueService;
+        this.snapshotTimer = Timer.builder("evm.snapshot.duration")
+            .description("Duration of the daily earned value snapshot")
+            .register(meterRegistry);
+        this.snapshotCounter = Counter.builder("evm.snapshot.projects")
+            .description("Projects with an earned value point appended")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "0 30 0 * * ?")
+    public void appendDailySnapshots() {
+        snapshotTimer.record(() -> appendSnapshots(LocalDate.now().minusDays(1)));
+    }
+
+    int appendSnapshots(LocalDate date) {
+        List<UUID> projectIds = earnedValueRepository.findProjectIdsToSnapshot(
+            ProjectStatus.IN_PROGRESS
+        );
+
+        int appended = 0;
+        for (int i = 0; i < projectIds.size(); i += CHUNK_SIZE) {
+            appended += earnedValueService.appendSnapshots(
+                projectIds.subList(i, Math.min(i + CHUNK_SIZE, projectIds.size())),
+                date
+            );
+        }
+
+        snapshotCounter.increment(appended);
+        log.info("Appended earned value point of {} for {} projects", date, appended);
+        return appended;
+    }
+}
@@ -0,0 +1,16 @@
+package com.maistech.buildup.evm.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record EarnedValuePoint(
+    LocalDate date,
+    BigDecimal plannedValue,
+    BigDecimal earnedValue,
+    BigDecimal actualCost,
+    BigDecimal scheduleVariance,
+    BigDecimal costVariance,
+    BigDecimal schedulePerformanceIndex,
+    BigDecimal costPerformanceIndex,
+    BigDecimal estimateAtCompletion
+) {}
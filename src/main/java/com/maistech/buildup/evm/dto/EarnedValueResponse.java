@@ -0,0 +1,12 @@
+package com.maistech.buildup.evm.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public record EarnedValueResponse(
+    UUID projectId,
+    BigDecimal budgetAtCompletion,
+    EarnedValuePoint current,
+    List<EarnedValuePoint> series
+) {}
@@ -0,0 +1,154 @@
+package com.maistech.buildup.financial;
+
+import com.maistech.buildup.financial.domain.CashFlowService;
+import com.maistech.buildup.financial.dto.CashFlowForecastResponse;
+import com.maistech.buildup.shared.security.JWTUserData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.UUID;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/cash-flow")
+@SecurityRequirement(name = "bearer-jwt")
+@Tag(
+    name = "Cash Flow",
+    description = "Forecast of unpaid expenses, installments and payment milestones by week or month. SUPER_ADMIN can optionally specify companyId via query parameter."
+)
+public class CashFlowController {
+
+    private final CashFlowService cashFlowService;
+
+    public CashFlowController(CashFlowService cashFlowService) {
+        this.cashFlowService = cashFlowService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+        summary = "Get company cash flow forecast",
+        description = "Buckets what every non-cancelled project of the company still has to pay and receive, starting at the current week or month. Amounts already past due are carried into the first bucket and also reported separately."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Forecast retrieved successfully",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(
+                        implementation = CashFlowForecastResponse.class
+                    )
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Invalid number of periods"
+            ),
+            @ApiResponse(
+                responseCode = "403",
+                description = "Forbidden - requires ADMIN or MANAGER role"
+            ),
+        }
+    )
+    public ResponseEntity<CashFlowForecastResponse> getCompanyForecast(
+        @Parameter(description = "Bucket size") @RequestParam(
+            defaultValue = "WEEK"
+        ) CashFlowGranularity granularity,
+        @Parameter(description = "Number of buckets (1 to 104)") @RequestParam(
+            defaultValue = "12"
+        ) int periods,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        return ResponseEntity.ok(
+            cashFlowService.forecastCompany(targetCompanyId, granularity, periods)
+        );
+    }
+
+    @GetMapping("/projects/{projectId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+        summary = "Get project cash flow forecast",
+        description = "Buckets what the project still has to pay and receive, starting at the current week or month. Amounts already past due are carried into the first bucket and also reported separately."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Forecast retrieved successfully",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(
+                        implementation = CashFlowForecastResponse.class
+                    )
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Invalid number of periods"
+            ),
+            @ApiResponse(
+                responseCode = "403",
+                description = "Forbidden - requires ADMIN or MANAGER role"
+            ),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Project not found"
+            ),
+        }
+    )
+    public ResponseEntity<CashFlowForecastResponse> getProjectForecast(
+        @Parameter(description = "Project ID") @PathVariable UUID projectId,
+        @Parameter(description = "Bucket size") @RequestParam(
+            defaultValue = "WEEK"
+        ) CashFlowGranularity granularity,
+        @Parameter(description = "Number of buckets (1 to 104)") @RequestParam(
+            defaultValue = "12"
+        ) int periods,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        return ResponseEntity.ok(
+            cashFlowService.forecastProject(
+                targetCompanyId,
+                projectId,
+                granularity,
+                periods
+            )
+        );
+    }
+
+    private UUID getTargetCompanyId(
+        Authentication authentication,
+        UUID requestedCompanyId
+    ) {
+        JWTUserData userData = (JWTUserData) authentication.getPrincipal();
+
+        if (requestedCompanyId != null) {
+            if (!userData.isMasterCompany()) {
+                throw new IllegalStateException(
+                    "Only SUPER_ADMIN can access other companies' resources"
+                );
+            }
+            return requestedCompanyId;
+        }
+
+        return userData.companyId();
+    }
+}
@@ -0,0 +1,37 @@
+package com.maistech.buildup.financial;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum CashFlowGranularity {
+    WEEK("week", "1 week"),
+    MONTH("month", "1 month");
+
+    private final String truncUnit;
+    private final String step;
+
+    CashFlowGranularity(String truncUnit, String step) {
+        this.truncUnit = truncUnit;
+        this.step = step;
+    }
+
+    public String getTruncUnit() {
+        return truncUnit;
+    }
+
+    public String getStep() {
+        return step;
+    }
+
+    // Weeks start on Monday
+    public LocalDate bucketStart(LocalDate date) {
+        return this == WEEK
+            ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+            : date.withDayOfMonth(1);
+    }
+
+    public LocalDate plus(LocalDate date, int buckets) {
+        return this == WEEK ? date.plusWeeks(buckets) : date.plusMonths(buckets);
+    }
+}
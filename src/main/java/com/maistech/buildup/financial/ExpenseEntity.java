@@ -76,8 +76,9 @@ public class ExpenseEntity extends BaseEntity {
         mappedBy = "expense",
         cascade = CascadeType.ALL,
         orphanRemoval = true,
-        fetch = FetchType.EAGER
+        fetch = FetchType.LAZY
     )
+    @OrderBy("installmentNumber ASC")
     private List<ExpenseInstallmentEntity> installments = new ArrayList<>();
 
     // ============ Domain Logic ============
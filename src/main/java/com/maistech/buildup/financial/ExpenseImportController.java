@@ -0,0 +1,138 @@
+package com.maistech.buildup.financial;
+
+import com.maistech.buildup.financial.domain.ExpenseImportService;
+import com.maistech.buildup.financial.dto.ExpenseImportResponse;
+import com.maistech.buildup.shared.security.JWTUserData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.UUID;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/expenses/import")
+@SecurityRequirement(name = "bearer-jwt")
+@Tag(
+    name = "Expense Import",
+    description = "Bulk import of expenses from CSV spreadsheets and OFX bank statements. SUPER_ADMIN can optionally specify companyId via query parameter."
+)
+public class ExpenseImportController {
+
+    private final ExpenseImportService expenseImportService;
+
+    public ExpenseImportController(ExpenseImportService expenseImportService) {
+        this.expenseImportService = expenseImportService;
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+        summary = "Import expenses from a file",
+        description = "CSV files need a header with description, amount, due_date, supplier and invoice_number columns; project, category, paid_date, payment_method, notes and installments are optional. OFX files import each debit as a paid expense into the given project and category. Rows whose supplier and invoice number already exist are skipped, so the same file can be uploaded again safely. Invalid rows are reported by line without stopping the import."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "File processed; see the counts and errors for each row",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(
+                        implementation = ExpenseImportResponse.class
+                    )
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Unreadable file, missing columns or missing default project/category"
+            ),
+            @ApiResponse(
+                responseCode = "403",
+                description = "Forbidden - requires ADMIN or MANAGER role"
+            ),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Default project not found"
+            ),
+        }
+    )
+    public ResponseEntity<ExpenseImportResponse> importExpenses(
+        @Parameter(description = "CSV or OFX file") @RequestParam(
+            "file"
+        ) MultipartFile file,
+        @Parameter(description = "File format") @RequestParam(
+            defaultValue = "CSV"
+        ) ExpenseImportFormat format,
+        @Parameter(
+            description = "Project for rows without one (required for OFX)"
+        ) @RequestParam(required = false) UUID projectId,
+        @Parameter(
+            description = "Category for rows without one (required for OFX)"
+        ) @RequestParam(required = false) UUID categoryId,
+        @Parameter(
+            description = "Charset of CSV files, e.g. windows-1252 (defaults to the file's Content-Type charset, then UTF-8)"
+        ) @RequestParam(required = false) String charset,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        Authentication authentication
+    ) throws IOException {
+        JWTUserData userData = (JWTUserData) authentication.getPrincipal();
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+        Charset fileCharset = getFileCharset(file, charset);
+
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(
+                expenseImportService.importExpenses(
+                    targetCompanyId,
+                    userData.userId(),
+                    format,
+                    in,
+                    fileCharset,
+                    projectId,
+                    categoryId
+                )
+            );
+        }
+    }
+
+    private Charset getFileCharset(MultipartFile file, String charset) {
+        if (charset != null && !charset.isBlank()) {
+            return Charset.forName(charset.trim());
+        }
+        String contentType = file.getContentType();
+        return contentType != null
+            ? MediaType.parseMediaType(contentType).getCharset()
+            : null;
+    }
+
+    private UUID getTargetCompanyId(
+        Authentication authentication,
+        UUID requestedCompanyId
+    ) {
+        JWTUserData userData = (JWTUserData) authentication.getPrincipal();
+
+        if (requestedCompanyId != null) {
+            if (!userData.isMasterCompany()) {
+                throw new IllegalStateException(
+                    "Only SUPER_ADMIN can access other companies' resources"
+                );
+            }
+            return requestedCompanyId;
+        }
+
+        return userData.companyId();
+    }
+}
@@ -0,0 +1,6 @@
+package com.maistech.buildup.financial;
+
+public enum ExpenseImportFormat {
+    CSV,    // Header row with one expense per line, comma or semicolon separated
+    OFX     // Bank statement; each debit transaction becomes a paid expense
+}
@@ -0,0 +1,48 @@
+package com.maistech.buildup.financial;
+
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.shared.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import lombok.Getter;
+import lombok.Setter;
+
+// Written only by FinancialLedgerRepository; mapped for reads
+@Entity
+@Table(name = "project_financial_ledger")
+@Getter
+@Setter
+public class ProjectFinancialLedgerEntity extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    @NotNull
+    private ProjectEntity project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false)
+    @NotNull
+    private ExpenseCategoryEntity category;
+
+    @Column(name = "committed_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal committedAmount = BigDecimal.ZERO;
+
+    @Column(name = "paid_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal paidAmount = BigDecimal.ZERO;
+
+    @Column(name = "pending_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal pendingAmount = BigDecimal.ZERO;
+
+    @Column(name = "overdue_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal overdueAmount = BigDecimal.ZERO;
+
+    @Column(name = "overdue_count", nullable = false)
+    private int overdueCount;
+
+    @Column(name = "expense_count", nullable = false)
+    private int expenseCount;
+
+    @Column(name = "installments_outstanding", nullable = false)
+    private int installmentsOutstanding;
+}
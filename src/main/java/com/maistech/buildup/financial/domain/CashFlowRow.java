@@ -0,0 +1,31 @@
+package com.maistech.buildup.financial.domain;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+
+// Past-due columns are the amounts carried into the first bucket
+record CashFlowRow(
+    LocalDate bucketStart,
+    BigDecimal outflow,
+    BigDecimal inflow,
+    BigDecimal pastDueOutflow,
+    BigDecimal pastDueInflow
+) {
+    static CashFlowRow of(Object[] columns) {
+        return new CashFlowRow(
+            toLocalDate(columns[0]),
+            (BigDecimal) columns[1],
+            (BigDecimal) columns[2],
+            (BigDecimal) columns[3],
+            (BigDecimal) columns[4]
+        );
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+}
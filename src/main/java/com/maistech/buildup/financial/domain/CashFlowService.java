@@ -0,0 +1,152 @@
+package com.maistech.buildup.financial.domain;
+
+import com.maistech.buildup.financial.CashFlowGranularity;
+import com.maistech.buildup.financial.dto.CashFlowBucket;
+import com.maistech.buildup.financial.dto.CashFlowForecastResponse;
+import com.maistech.buildup.project.ProjectNotFoundException;
+import com.maistech.buildup.project.ProjectStatus;
+import com.maistech.buildup.project.domain.ProjectRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class CashFlowService {
+
+    public static final int MAX_PERIODS = 104;
+
+    private final ExpenseRepository expenseRepository;
+    private final ProjectRepository projectRepository;
+
+    public CashFlowService(
+        ExpenseRepository expenseRepository,
+        ProjectRepository projectRepository
+    ) {
+        this.expenseRepository = expenseRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    public CashFlowForecastResponse forecastProject(
+        UUID companyId,
+        UUID projectId,
+        CashFlowGranularity granularity,
+        int periods
+    ) {
+        projectRepository
+            .findByIdAndCompanyId(projectId, companyId)
+            .orElseThrow(() ->
+                new ProjectNotFoundException(
+                    "Project not found or does not belong to this company"
+                )
+            );
+        return forecast(
+            projectId,
+            List.of(projectId),
+            granularity,
+            periods,
+            LocalDate.now()
+        );
+    }
+
+    // Projects that are cancelled are left out
+    public CashFlowForecastResponse forecastCompany(
+        UUID companyId,
+        CashFlowGranularity granularity,
+        int periods
+    ) {
+        return forecast(
+            null,
+            projectRepository.findIdsByCompanyIdAndStatusNot(
+                companyId,
+                ProjectStatus.CANCELLED
+            ),
+            granularity,
+            periods,
+            LocalDate.now()
+        );
+    }
+
+    CashFlowForecastResponse forecast(
+        UUID projectId,
+        Collection<UUID> projectIds,
+        CashFlowGranularity granularity,
+        int periods,
+        LocalDate today
+    ) {
+        if (periods < 1 || periods > MAX_PERIODS) {
+            throw new IllegalArgumentException(
+                "Periods must be between 1 and " + MAX_PERIODS
+            );
+        }
+
+        LocalDate from = granularity.bucketStart(today);
+        LocalDate to = granularity.plus(from, periods).minusDays(1);
+        List<CashFlowRow> rows = projectIds.isEmpty()
+            ? List.of()
+            : expenseRepository
+                .findCashFlowRows(
+                    projectIds,
+                    granularity.getTruncUnit(),
+                    granularity.getStep(),
+                    today,
+                    from,
+                    to
+                )
+                .stream()
+                .map(CashFlowRow::of)
+                .toList();
+
+        BigDecimal totalInflow = BigDecimal.ZERO;
+        BigDecimal totalOutflow = BigDecimal.ZERO;
+        BigDecimal pastDueInflow = BigDecimal.ZERO;
+        BigDecimal pastDueOutflow = BigDecimal.ZERO;
+        List<CashFlowBucket> buckets = new ArrayList<>(periods);
+        for (int i = 0; i < periods; i++) {
+            LocalDate start = granularity.plus(from, i);
+            CashFlowRow row = i < rows.size() ? rows.get(i) : null;
+            if (row != null && !row.bucketStart().equals(start)) {
+                throw new IllegalStateException(
+                    "Cash flow bucket " + row.bucketStart() + " out of order"
+                );
+            }
+
+            BigDecimal inflow = row != null ? row.inflow() : BigDecimal.ZERO;
+            BigDecimal outflow = row != null ? row.outflow() : BigDecimal.ZERO;
+            if (row != null) {
+                pastDueInflow = pastDueInflow.add(row.pastDueInflow());
+                pastDueOutflow = pastDueOutflow.add(row.pastDueOutflow());
+            }
+            totalInflow = totalInflow.add(inflow);
+            totalOutflow = totalOutflow.add(outflow);
+            buckets.add(
+                new CashFlowBucket(
+                    start,
+                    granularity.plus(from, i + 1).minusDays(1),
+                    inflow,
+                    outflow,
+                    inflow.subtract(outflow),
+                    totalInflow.subtract(totalOutflow)
+                )
+            );
+        }
+
+        return new CashFlowForecastResponse(
+            projectId,
+            granularity,
+            from,
+            to,
+            totalInflow,
+            totalOutflow,
+            totalInflow.subtract(totalOutflow),
+            pastDueInflow,
+            pastDueOutflow,
+            buckets
+        );
+    }
+}
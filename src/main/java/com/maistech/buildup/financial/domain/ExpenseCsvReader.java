@@ -0,0 +1,195 @@
+package com.maistech.buildup.financial.domain;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// The separator is ';' when the header has more semicolons than commas
+final class ExpenseCsvReader implements ExpenseImportReader {
+
+    static final List<String> REQUIRED_COLUMNS = List.of(
+        "description",
+        "amount",
+        "due_date",
+        "supplier",
+        "invoice_number"
+    );
+
+    private static final byte[] UTF8_BOM = {
+        (byte) 0xEF,
+        (byte) 0xBB,
+        (byte) 0xBF,
+    };
+
+    private final BufferedReader reader;
+    private final char separator;
+    private final Map<String, Integer> columns;
+    private final StringBuilder field = new StringBuilder();
+    private int line = 1;
+
+    ExpenseCsvReader(InputStream in, Charset charset) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in);
+        this.reader = new BufferedReader(
+            new InputStreamReader(buffered, detectCharset(buffered, charset))
+        );
+
+        reader.mark(8192);
+        String firstLine = reader.readLine();
+        reader.reset();
+        if (firstLine == null) {
+            throw new IllegalArgumentException("Import file is empty");
+        }
+        this.separator = count(firstLine, ';') > count(firstLine, ',')
+            ? ';'
+            : ',';
+        this.columns = indexHeader(readFields());
+    }
+
+    @Override
+    public ExpenseImportRecord next() throws IOException {
+        List<String> fields;
+        int start;
+        do {
+            start = line;
+            fields = readFields();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        return new ExpenseImportRecord(
+            start,
+            value(fields, "project"),
+            value(fields, "category"),
+            value(fields, "description"),
+            value(fields, "amount"),
+            value(fields, "due_date"),
+            value(fields, "paid_date"),
+            value(fields, "supplier"),
+            value(fields, "invoice_number"),
+            value(fields, "payment_method"),
+            value(fields, "notes"),
+            value(fields, "installments"),
+            null
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Map<String, Integer> indexHeader(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException("Import file is empty");
+        }
+        Map<String, Integer> index = new HashMap<>(header.size() * 2);
+        for (int i = 0; i < header.size(); i++) {
+            index.putIfAbsent(
+                header
+                    .get(i)
+                    .trim()
+                    .toLowerCase(Locale.ROOT)
+                    .replace(' ', '_')
+                    .replace('-', '_'),
+                i
+            );
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!index.containsKey(column)) {
+                throw new IllegalArgumentException(
+                    "Import file is missing the " + column + " column"
+                );
+            }
+        }
+        return index;
+    }
+
+    private String value(List<String> fields, String column) {
+        Integer position = columns.get(column);
+        if (position == null || position >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(position).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private List<String> readFields() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>(
+            columns != null ? columns.size() : 16
+        );
+        boolean quoted = false;
+        field.setLength(0);
+        while (true) {
+            if (c == -1) {
+                fields.add(field.toString());
+                return fields;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private static int count(String text, char c) {
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == c) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static Charset detectCharset(
+        BufferedInputStream in,
+        Charset declared
+    ) throws IOException {
+        in.mark(UTF8_BOM.length);
+        if (Arrays.equals(in.readNBytes(UTF8_BOM.length), UTF8_BOM)) {
+            return StandardCharsets.UTF_8;
+        }
+        in.reset();
+        return declared != null ? declared : StandardCharsets.UTF_8;
+    }
+}
@@ -0,0 +1,9 @@
+package com.maistech.buildup.financial.domain;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+interface ExpenseImportReader extends Closeable {
+    // null once the file is exhausted
+    ExpenseImportRecord next() throws IOException;
+}
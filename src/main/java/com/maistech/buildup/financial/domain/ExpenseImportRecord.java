@@ -0,0 +1,18 @@
+package com.maistech.buildup.financial.domain;
+
+// error is set when the entry can never become an expense
+record ExpenseImportRecord(
+    int line,
+    String project,
+    String category,
+    String description,
+    String amount,
+    String dueDate,
+    String paidDate,
+    String supplier,
+    String invoiceNumber,
+    String paymentMethod,
+    String notes,
+    String installments,
+    String error
+) {}
@@ -0,0 +1,575 @@
+package com.maistech.buildup.financial.domain;
+
+import com.maistech.buildup.auth.domain.UserRepository;
+import com.maistech.buildup.financial.ExpenseCategoryEntity;
+import com.maistech.buildup.financial.ExpenseImportFormat;
+import com.maistech.buildup.financial.ExpenseStatus;
+import com.maistech.buildup.financial.PaymentMethod;
+import com.maistech.buildup.financial.dto.ExpenseImportError;
+import com.maistech.buildup.financial.dto.ExpenseImportResponse;
+import com.maistech.buildup.portfolio.domain.PortfolioService;
+import com.maistech.buildup.project.ProjectNotFoundException;
+import com.maistech.buildup.project.domain.ProjectRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class ExpenseImportService {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 1000;
+    static final int MAX_INSTALLMENTS = 120;
+
+    private static final DateTimeFormatter BRAZILIAN_DATE =
+        DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private static final String LOCK_COMPANY_IMPORTS =
+        "SELECT pg_advisory_xact_lock(hashtext(?))";
+
+    private static final String INSERT_EXPENSE = """
+        INSERT INTO expenses (
+            id, project_id, category_id, company_id, description, amount,
+            due_date, paid_date, status, payment_method, supplier,
+            invoice_number, notes, has_installments, created_by,
+            created_at, updated_at
+        ) VALUES (
+            ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?,
+            CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        )
+        """;
+
+    private static final String INSERT_INSTALLMENT = """
+        INSERT INTO expense_installments (
+            id, expense_id, installment_number, amount, due_date, paid_date,
+            status, created_at
+        ) VALUES (?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExpenseRepository expenseRepository;
+    private final ExpenseCategoryRepository categoryRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final FinancialLedgerService ledgerService;
+
+    public ExpenseImportService(
+        JdbcTemplate jdbcTemplate,
+        ExpenseRepository expenseRepository,
+        ExpenseCategoryRepository categoryRepository,
+        ProjectRepository projectRepository,
+        UserRepository userRepository,
+        FinancialLedgerService ledgerService
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.expenseRepository = expenseRepository;
+        this.categoryRepository = categoryRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.ledgerService = ledgerService;
+    }
+
+    // OFX has no project or category columns, so both defaults are required
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = PortfolioService.CACHE_KEY
+    )
+    public ExpenseImportResponse importExpenses(
+        UUID companyId,
+        UUID userId,
+        ExpenseImportFormat format,
+        InputStream in,
+        Charset charset,
+        UUID defaultProjectId,
+        UUID defaultCategoryId
+    ) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found");
+        }
+        if (
+            format == ExpenseImportFormat.OFX &&
+            (defaultProjectId == null || defaultCategoryId == null)
+        ) {
+            throw new IllegalArgumentException(
+                "Project and category are required to import an OFX file"
+            );
+        }
+
+        // Imports of one company run one at a time, so two uploads of the
+        // same file cannot both miss each other's invoices.
+        jdbcTemplate.query(
+            LOCK_COMPANY_IMPORTS,
+            rs -> null,
+            "expense-import:" + companyId
+        );
+
+        Map<String, UUID> projects = indexProjects(companyId);
+        Map<String, UUID> categories = indexCategories();
+        if (
+            defaultProjectId != null &&
+            !projects.containsKey(defaultProjectId.toString())
+        ) {
+            throw new ProjectNotFoundException(
+                "Project not found or does not belong to this company"
+            );
+        }
+        if (
+            defaultCategoryId != null &&
+            !categories.containsKey(defaultCategoryId.toString())
+        ) {
+            throw new IllegalArgumentException("Category not found");
+        }
+
+        ImportRun run = new ImportRun(
+            companyId,
+            userId,
+            LocalDate.now(),
+            projects,
+            categories,
+            defaultProjectId,
+            defaultCategoryId
+        );
+        try (ExpenseImportReader reader = open(format, in, charset)) {
+            ExpenseImportRecord record;
+            while ((record = reader.next()) != null) {
+                run.accept(record);
+                if (run.chunk.size() == CHUNK_SIZE) {
+                    writeChunk(run);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read import file", e);
+        }
+        writeChunk(run);
+
+        run.ledger.forEach((key, entry) ->
+            ledgerService.apply(key.projectId(), key.categoryId(), companyId, entry)
+        );
+
+        return new ExpenseImportResponse(
+            run.totalRows,
+            run.imported,
+            run.duplicates,
+            run.failed,
+            run.errors
+        );
+    }
+
+    private static ExpenseImportReader open(
+        ExpenseImportFormat format,
+        InputStream in,
+        Charset charset
+    ) throws IOException {
+        return switch (format) {
+            case CSV -> new ExpenseCsvReader(in, charset);
+            case OFX -> new ExpenseOfxReader(in);
+        };
+    }
+
+    private void writeChunk(ImportRun run) {
+        if (run.chunk.isEmpty()) {
+            return;
+        }
+
+        Set<String> existing = new HashSet<>(run.chunk.size() * 2);
+        for (Object[] pair : expenseRepository.findSupplierInvoicePairs(
+            run.companyId,
+            run.chunk.stream().map(ImportedExpense::invoiceNumber).toList()
+        )) {
+            existing.add(key((String) pair[0], (String) pair[1]));
+        }
+
+        List<Object[]> expenses = new ArrayList<>(run.chunk.size());
+        List<Object[]> installments = new ArrayList<>();
+        for (ImportedExpense expense : run.chunk) {
+            if (existing.contains(key(expense.supplier(), expense.invoiceNumber()))) {
+                run.duplicates++;
+                continue;
+            }
+
+            expenses.add(
+                new Object[] {
+                    expense.id(),
+                    expense.projectId(),
+                    expense.categoryId(),
+                    run.companyId,
+                    expense.description(),
+                    expense.amount(),
+                    expense.dueDate(),
+                    expense.paidDate(),
+                    expense.status().name(),
+                    expense.paymentMethod() != null
+                        ? expense.paymentMethod().name()
+                        : null,
+                    expense.supplier(),
+                    expense.invoiceNumber(),
+                    expense.notes(),
+                    expense.installments() > 1,
+                    run.userId,
+                }
+            );
+            addInstallments(expense, installments);
+            run.ledger.merge(
+                new LedgerKey(expense.projectId(), expense.categoryId()),
+                FinancialLedgerEntry.of(
+                    expense.status(),
+                    expense.amount(),
+                    expense.dueDate(),
+                    expense.installments() > 1 &&
+                        expense.status() == ExpenseStatus.PENDING
+                        ? expense.installments()
+                        : 0,
+                    run.today
+                ),
+                FinancialLedgerEntry::plus
+            );
+        }
+
+        if (!expenses.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_EXPENSE, expenses);
+        }
+        if (!installments.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_INSTALLMENT, installments);
+        }
+        run.imported += expenses.size();
+        run.chunk.clear();
+    }
+
+    // The last installment takes the cents left over
+    private static void addInstallments(
+        ImportedExpense expense,
+        List<Object[]> installments
+    ) {
+        int count = expense.installments();
+        if (count < 2) {
+            return;
+        }
+
+        BigDecimal share = expense
+            .amount()
+            .divide(BigDecimal.valueOf(count), 2, RoundingMode.DOWN);
+        BigDecimal last = expense
+            .amount()
+            .subtract(share.multiply(BigDecimal.valueOf(count - 1)));
+        for (int i = 0; i < count; i++) {
+            installments.add(
+                new Object[] {
+                    UUID.randomUUID(),
+                    expense.id(),
+                    i + 1,
+                    i == count - 1 ? last : share,
+                    expense.dueDate().plusMonths(i),
+                    expense.paidDate(),
+                    expense.status().name(),
+                }
+            );
+        }
+    }
+
+    private Map<String, UUID> indexProjects(UUID companyId) {
+        Map<String, UUID> projects = new HashMap<>();
+        Set<String> names = new HashSet<>();
+        for (Object[] project : projectRepository.findIdAndNameByCompanyId(
+            companyId
+        )) {
+            index(projects, names, (UUID) project[0], (String) project[1]);
+        }
+        return projects;
+    }
+
+    private Map<String, UUID> indexCategories() {
+        Map<String, UUID> categories = new HashMap<>();
+        Set<String> names = new HashSet<>();
+        for (ExpenseCategoryEntity category : categoryRepository.findAll()) {
+            index(categories, names, category.getId(), category.getName());
+        }
+        return categories;
+    }
+
+    private static void index(
+        Map<String, UUID> index,
+        Set<String> names,
+        UUID id,
+        String name
+    ) {
+        index.put(id.toString(), id);
+        String key = normalize(name);
+        if (!names.add(key)) {
+            // Two entries share the name: only their ids resolve
+            index.put(key, null);
+        } else {
+            index.put(key, id);
+        }
+    }
+
+    private static String normalize(String reference) {
+        return reference.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String key(String supplier, String invoiceNumber) {
+        return supplier + '\u0000' + invoiceNumber;
+    }
+
+    private record LedgerKey(UUID projectId, UUID categoryId) {}
+
+    private record ImportedExpense(
+        UUID id,
+        UUID projectId,
+        UUID categoryId,
+        String description,
+        BigDecimal amount,
+        LocalDate dueDate,
+        LocalDate paidDate,
+        ExpenseStatus status,
+        PaymentMethod paymentMethod,
+        String supplier,
+        String invoiceNumber,
+        String notes,
+        int installments
+    ) {}
+
+    private static final class ImportRun {
+
+        private final UUID companyId;
+        private final UUID userId;
+        private final LocalDate today;
+        private final Map<String, UUID> projects;
+        private final Map<String, UUID> categories;
+        private final UUID defaultProjectId;
+        private final UUID defaultCategoryId;
+
+        private final List<ImportedExpense> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final Set<String> keysInFile = new HashSet<>();
+        private final Map<LedgerKey, FinancialLedgerEntry> ledger =
+            new LinkedHashMap<>();
+        private final List<ExpenseImportError> errors = new ArrayList<>();
+        private int totalRows;
+        private int imported;
+        private int duplicates;
+        private int failed;
+
+        private ImportRun(
+            UUID companyId,
+            UUID userId,
+            LocalDate today,
+            Map<String, UUID> projects,
+            Map<String, UUID> categories,
+            UUID defaultProjectId,
+            UUID defaultCategoryId
+        ) {
+            this.companyId = companyId;
+            this.userId = userId;
+            this.today = today;
+            this.projects = projects;
+            this.categories = categories;
+            this.defaultProjectId = defaultProjectId;
+            this.defaultCategoryId = defaultCategoryId;
+        }
+
+        private void accept(ExpenseImportRecord record) {
+            totalRows++;
+            ImportedExpense expense;
+            try {
+                expense = convert(record);
+            } catch (IllegalArgumentException e) {
+                failed++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(
+                        new ExpenseImportError(
+                            record.line(),
+                            record.invoiceNumber(),
+                            e.getMessage()
+                        )
+                    );
+                }
+                return;
+            }
+
+            if (!keysInFile.add(key(expense.supplier(), expense.invoiceNumber()))) {
+                duplicates++;
+                return;
+            }
+            chunk.add(expense);
+        }
+
+        private ImportedExpense convert(ExpenseImportRecord record) {
+            if (record.error() != null) {
+                throw new IllegalArgumentException(record.error());
+            }
+
+            String description = require(record.description(), "Description");
+            String supplier = require(record.supplier(), "Supplier");
+            String invoiceNumber = require(
+                record.invoiceNumber(),
+                "Invoice number"
+            );
+            checkLength(description, 500, "Description");
+            checkLength(supplier, 255, "Supplier");
+            checkLength(invoiceNumber, 100, "Invoice number");
+
+            BigDecimal amount = parseAmount(
+                require(record.amount(), "Amount")
+            );
+            LocalDate dueDate = parseDate(
+                require(record.dueDate(), "Due date"),
+                "due date"
+            );
+            LocalDate paidDate = record.paidDate() != null
+                ? parseDate(record.paidDate(), "paid date")
+                : null;
+            int installments = parseInstallments(record.installments());
+            if (
+                installments > 1 &&
+                amount.compareTo(
+                    new BigDecimal("0.01").multiply(
+                        BigDecimal.valueOf(installments)
+                    )
+                ) <
+                0
+            ) {
+                throw new IllegalArgumentException(
+                    "Amount is too small for " + installments + " installments"
+                );
+            }
+
+            return new ImportedExpense(
+                UUID.randomUUID(),
+                resolve(record.project(), projects, defaultProjectId, "Project"),
+                resolve(
+                    record.category(),
+                    categories,
+                    defaultCategoryId,
+                    "Category"
+                ),
+                description,
+                amount,
+                dueDate,
+                paidDate,
+                paidDate != null ? ExpenseStatus.PAID : ExpenseStatus.PENDING,
+                record.paymentMethod() != null
+                    ? PaymentMethod.fromString(record.paymentMethod())
+                    : null,
+                supplier,
+                invoiceNumber,
+                record.notes(),
+                installments
+            );
+        }
+
+        private static UUID resolve(
+            String reference,
+            Map<String, UUID> index,
+            UUID fallback,
+            String label
+        ) {
+            if (reference == null) {
+                if (fallback == null) {
+                    throw new IllegalArgumentException(label + " is required");
+                }
+                return fallback;
+            }
+
+            String key = normalize(reference);
+            UUID id = index.get(key);
+            if (id == null) {
+                throw new IllegalArgumentException(
+                    index.containsKey(key)
+                        ? label + " name is ambiguous, use its ID: " + reference
+                        : label + " not found: " + reference
+                );
+            }
+            return id;
+        }
+
+        private static String require(String value, String label) {
+            if (value == null) {
+                throw new IllegalArgumentException(label + " is required");
+            }
+            return value;
+        }
+
+        private static void checkLength(String value, int max, String label) {
+            if (value.length() > max) {
+                throw new IllegalArgumentException(
+                    label + " must be at most " + max + " characters"
+                );
+            }
+        }
+
+        // Accepts 1234.56 as well as the pt-BR 1.234,56 and R$ prefix
+        private static BigDecimal parseAmount(String text) {
+            String normalized = text.replace("R$", "").replace(" ", "");
+            if (normalized.indexOf(',') >= 0) {
+                normalized = normalized.replace(".", "").replace(',', '.');
+            }
+
+            BigDecimal amount;
+            try {
+                amount = new BigDecimal(normalized);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid amount: " + text);
+            }
+            if (amount.signum() <= 0) {
+                throw new IllegalArgumentException("Amount must be positive");
+            }
+            if (amount.stripTrailingZeros().scale() > 2) {
+                throw new IllegalArgumentException(
+                    "Amount must have at most 2 decimal places"
+                );
+            }
+            return amount.setScale(2, RoundingMode.UNNECESSARY);
+        }
+
+        private static LocalDate parseDate(String text, String label) {
+            try {
+                return text.indexOf('/') >= 0
+                    ? LocalDate.parse(text, BRAZILIAN_DATE)
+                    : LocalDate.parse(text);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(
+                    "Invalid " + label + ": " + text
+                );
+            }
+        }
+
+        private static int parseInstallments(String text) {
+            if (text == null) {
+                return 1;
+            }
+            int installments;
+            try {
+                installments = Integer.parseInt(text);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(
+                    "Invalid installments: " + text
+                );
+            }
+            if (installments < 1 || installments > MAX_INSTALLMENTS) {
+                throw new IllegalArgumentException(
+                    "Installments must be between 1 and " + MAX_INSTALLMENTS
+                );
+            }
+            return installments;
+        }
+    }
+}
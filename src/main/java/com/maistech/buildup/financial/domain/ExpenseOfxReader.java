@@ -0,0 +1,213 @@
+package com.maistech.buildup.financial.domain;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Each debit becomes a paid expense; credits are reported as errors
+final class ExpenseOfxReader implements ExpenseImportReader {
+
+    private static final int HEADER_LIMIT = 4096;
+
+    private static final Pattern XML_ENCODING = Pattern.compile(
+        "<\\?xml[^>]*encoding\\s*=\\s*[\"']([^\"']+)[\"']",
+        Pattern.CASE_INSENSITIVE
+    );
+    private static final Pattern SGML_ENCODING = Pattern.compile(
+        "^\\s*ENCODING\\s*:\\s*(\\S+)",
+        Pattern.CASE_INSENSITIVE | Pattern.MULTILINE
+    );
+    private static final Pattern SGML_CHARSET = Pattern.compile(
+        "^\\s*CHARSET\\s*:\\s*(\\S+)",
+        Pattern.CASE_INSENSITIVE | Pattern.MULTILINE
+    );
+
+    private final BufferedReader reader;
+    private final StringBuilder token = new StringBuilder();
+    private int line = 1;
+
+    ExpenseOfxReader(InputStream in) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in);
+        this.reader = new BufferedReader(
+            new InputStreamReader(buffered, detectCharset(buffered))
+        );
+    }
+
+    @Override
+    public ExpenseImportRecord next() throws IOException {
+        Map<String, String> values = null;
+        int start = line;
+        String tag;
+        while ((tag = nextTag()) != null) {
+            if (tag.equals("STMTTRN")) {
+                values = new HashMap<>();
+                start = line;
+            } else if (tag.equals("/STMTTRN") && values != null) {
+                return toRecord(start, values);
+            } else if (values != null && !tag.startsWith("/")) {
+                String value = readValue();
+                if (!value.isEmpty()) {
+                    values.putIfAbsent(tag, value);
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ExpenseImportRecord toRecord(int start, Map<String, String> values) {
+        String amount = values.get("TRNAMT");
+        String error = null;
+        if (amount != null) {
+            amount = amount.replace(',', '.');
+            if (amount.startsWith("-")) {
+                amount = amount.substring(1);
+            } else {
+                error = "Credit transactions are not expenses";
+            }
+        }
+
+        String date = toIsoDate(values.get("DTPOSTED"));
+        String name = values.get("NAME");
+        String memo = values.get("MEMO");
+        return new ExpenseImportRecord(
+            start,
+            null,
+            null,
+            memo != null ? memo : name,
+            amount,
+            date,
+            date,
+            name,
+            values.getOrDefault("CHECKNUM", values.get("FITID")),
+            null,
+            memo != null && name != null ? name : null,
+            null,
+            error
+        );
+    }
+
+    private String nextTag() throws IOException {
+        int c;
+        while ((c = reader.read()) != '<') {
+            if (c == -1) {
+                return null;
+            }
+            if (c == '\n') {
+                line++;
+            }
+        }
+
+        token.setLength(0);
+        while ((c = reader.read()) != '>') {
+            if (c == -1) {
+                return null;
+            }
+            token.append((char) c);
+        }
+        return token.toString().trim().toUpperCase(Locale.ROOT);
+    }
+
+    private String readValue() throws IOException {
+        token.setLength(0);
+        while (true) {
+            reader.mark(1);
+            int c = reader.read();
+            if (c == -1) {
+                break;
+            }
+            if (c == '<') {
+                reader.reset();
+                break;
+            }
+            if (c == '\n') {
+                line++;
+            }
+            token.append((char) c);
+        }
+        return token.toString().trim();
+    }
+
+    // XML files default to UTF-8, SGML files to Latin-1
+    private static Charset detectCharset(BufferedInputStream in) throws IOException {
+        in.mark(HEADER_LIMIT);
+        byte[] head = in.readNBytes(HEADER_LIMIT);
+        in.reset();
+
+        if (
+            head.length >= 3 &&
+            (head[0] & 0xFF) == 0xEF &&
+            (head[1] & 0xFF) == 0xBB &&
+            (head[2] & 0xFF) == 0xBF
+        ) {
+            return StandardCharsets.UTF_8;
+        }
+
+        String header = new String(head, StandardCharsets.US_ASCII);
+        int body = header.toUpperCase(Locale.ROOT).indexOf("<OFX");
+        if (body >= 0) {
+            header = header.substring(0, body);
+        }
+
+        Matcher xml = XML_ENCODING.matcher(header);
+        if (xml.find()) {
+            return charsetOrDefault(xml.group(1), StandardCharsets.UTF_8);
+        }
+        if (header.stripLeading().startsWith("<?")) {
+            return StandardCharsets.UTF_8;
+        }
+
+        Matcher encoding = SGML_ENCODING.matcher(header);
+        if (
+            encoding.find() &&
+            encoding.group(1).replace("-", "").equalsIgnoreCase("UTF8")
+        ) {
+            return StandardCharsets.UTF_8;
+        }
+        Matcher charset = SGML_CHARSET.matcher(header);
+        if (charset.find()) {
+            String name = charset.group(1);
+            if (name.equals("1252")) {
+                return charsetOrDefault("windows-1252", StandardCharsets.ISO_8859_1);
+            }
+            if (!name.equalsIgnoreCase("NONE") && !name.equals("8859-1")) {
+                return charsetOrDefault(name, StandardCharsets.ISO_8859_1);
+            }
+        }
+        return StandardCharsets.ISO_8859_1;
+    }
+
+    private static Charset charsetOrDefault(String name, Charset fallback) {
+        try {
+            return Charset.forName(name);
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+
+    private static String toIsoDate(String value) {
+        if (value == null || value.length() < 8) {
+            return value;
+        }
+        return (
+            value.substring(0, 4) +
+            "-" +
+            value.substring(4, 6) +
+            "-" +
+            value.substring(6, 8)
+        );
+    }
+}
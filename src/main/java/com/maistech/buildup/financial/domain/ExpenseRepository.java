@@ -1,8 +1,8 @@
 package com.maistech.buildup.financial.domain;
 
 import com.maistech.buildup.financial.*;
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -14,8 +14,19 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ExpenseRepository extends JpaRepository<ExpenseEntity, UUID> {
-    Page<ExpenseEntity> findByProjectIdOrderByDueDateDesc(
-        UUID projectId,
+    @Query(
+        value = """
+        SELECT e.id FROM ExpenseEntity e
+        WHERE e.project.id = :projectId
+        ORDER BY e.dueDate DESC, e.id
+        """,
+        countQuery = """
+        SELECT COUNT(e) FROM ExpenseEntity e
+        WHERE e.project.id = :projectId
+        """
+    )
+    Page<UUID> findIdsByProjectId(
+        @Param("projectId") UUID projectId,
         Pageable pageable
     );
 
@@ -24,33 +35,129 @@ public interface ExpenseRepository extends JpaRepository<ExpenseEntity, UUID> {
         ExpenseStatus status
     );
 
-    List<ExpenseEntity> findByProjectIdAndCategoryId(
-        UUID projectId,
-        UUID categoryId
+    @Query(
+        """
+        SELECT DISTINCT e FROM ExpenseEntity e
+        JOIN FETCH e.category
+        JOIN FETCH e.project
+        JOIN FETCH e.createdBy
+        LEFT JOIN FETCH e.installments
+        WHERE e.id IN :ids
+        """
+    )
+    List<ExpenseEntity> findWithDetailsByIdIn(
+        @Param("ids") Collection<UUID> ids
     );
 
     @Query(
-        "SELECT e FROM ExpenseEntity e WHERE e.project.id = :projectId AND e.dueDate < :date AND e.status = 'PENDING'"
+        """
+        SELECT DISTINCT e FROM ExpenseEntity e
+        JOIN FETCH e.category
+        JOIN FETCH e.project
+        JOIN FETCH e.createdBy
+        LEFT JOIN FETCH e.installments
+        WHERE e.project.id = :projectId
+          AND e.category.id = :categoryId
+        ORDER BY e.dueDate DESC
+        """
     )
-    List<ExpenseEntity> findOverdueExpenses(
+    List<ExpenseEntity> findWithDetailsByProjectIdAndCategoryId(
         @Param("projectId") UUID projectId,
-        @Param("date") LocalDate date
+        @Param("categoryId") UUID categoryId
     );
 
     @Query(
-        "SELECT SUM(e.amount) FROM ExpenseEntity e WHERE e.project.id = :projectId"
+        """
+        SELECT DISTINCT e FROM ExpenseEntity e
+        JOIN FETCH e.category
+        JOIN FETCH e.project
+        JOIN FETCH e.createdBy
+        LEFT JOIN FETCH e.installments
+        WHERE e.project.id = :projectId
+          AND e.dueDate < :date
+          AND e.status = 'PENDING'
+        ORDER BY e.dueDate ASC
+        """
     )
-    BigDecimal getTotalExpensesByProject(@Param("projectId") UUID projectId);
+    List<ExpenseEntity> findOverdueExpenses(
+        @Param("projectId") UUID projectId,
+        @Param("date") LocalDate date
+    );
 
+    // Columns: supplier, invoice_number
     @Query(
-        "SELECT SUM(e.amount) FROM ExpenseEntity e WHERE e.project.id = :projectId AND e.status = 'PAID'"
+        """
+        SELECT e.supplier, e.invoiceNumber FROM ExpenseEntity e
+        WHERE e.companyId = :companyId
+          AND e.invoiceNumber IN :invoiceNumbers
+        """
     )
-    BigDecimal getTotalPaidByProject(@Param("projectId") UUID projectId);
+    List<Object[]> findSupplierInvoicePairs(
+        @Param("companyId") UUID companyId,
+        @Param("invoiceNumbers") Collection<String> invoiceNumbers
+    );
 
+    // Columns: bucket start, outflow, inflow, past-due outflow, past-due inflow
     @Query(
-        "SELECT e.category.name, SUM(e.amount) FROM ExpenseEntity e WHERE e.project.id = :projectId GROUP BY e.category.name"
+        value = """
+        WITH buckets AS (
+            SELECT CAST(b AS date) AS bucket_start
+            FROM generate_series(
+                CAST(CAST(:start AS date) AS timestamp),
+                CAST(CAST(:end AS date) AS timestamp),
+                CAST(:step AS interval)
+            ) b
+        ),
+        flows AS (
+            SELECT e.due_date, e.amount AS outflow, 0 AS inflow
+            FROM expenses e
+            WHERE e.project_id IN (:projectIds)
+                AND e.status IN ('PENDING', 'OVERDUE')
+                AND NOT COALESCE(e.has_installments, false)
+                AND e.due_date <= CAST(:end AS date)
+            UNION ALL
+            SELECT i.due_date, i.amount, 0
+            FROM expense_installments i
+            JOIN expenses e ON e.id = i.expense_id
+            WHERE e.project_id IN (:projectIds)
+                AND e.status IN ('PENDING', 'OVERDUE')
+                AND e.has_installments
+                AND i.status IN ('PENDING', 'OVERDUE')
+                AND i.due_date <= CAST(:end AS date)
+            UNION ALL
+            SELECT m.due_date, 0, m.value
+            FROM payment_milestones m
+            WHERE m.project_id IN (:projectIds)
+                AND m.status IN ('PENDING', 'LATE')
+                AND m.due_date <= CAST(:end AS date)
+        )
+        SELECT b.bucket_start,
+            COALESCE(SUM(f.outflow), 0),
+            COALESCE(SUM(f.inflow), 0),
+            COALESCE(SUM(f.outflow) FILTER (
+                WHERE f.due_date < CAST(:today AS date)
+            ), 0),
+            COALESCE(SUM(f.inflow) FILTER (
+                WHERE f.due_date < CAST(:today AS date)
+            ), 0)
+        FROM buckets b
+        LEFT JOIN flows f ON b.bucket_start = CAST(date_trunc(
+            CAST(:unit AS text),
+            CAST(GREATEST(f.due_date, CAST(:today AS date)) AS timestamp)
+        ) AS date)
+        GROUP BY b.bucket_start
+        ORDER BY b.bucket_start
+        """,
+        nativeQuery = true
     )
-    List<Object[]> getExpensesByCategory(@Param("projectId") UUID projectId);
+    List<Object[]> findCashFlowRows(
+        @Param("projectIds") Collection<UUID> projectIds,
+        @Param("unit") String unit,
+        @Param("step") String step,
+        @Param("today") LocalDate today,
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end
+    );
 
     @Query(
         "SELECT e FROM ExpenseEntity e WHERE e.project.id = :projectId AND e.dueDate BETWEEN :startDate AND :endDate"
@@ -60,4 +167,26 @@ public interface ExpenseRepository extends JpaRepository<ExpenseEntity, UUID> {
         @Param("startDate") LocalDate startDate,
         @Param("endDate") LocalDate endDate
     );
+
+    @Query(
+        """
+        SELECT new com.maistech.buildup.financial.domain.ExpenseSummaryRow(
+            e.project.id,
+            SUM(e.amount) FILTER (WHERE e.status <> 'CANCELLED'),
+            SUM(e.amount) FILTER (WHERE e.status = 'PAID'),
+            SUM(e.amount) FILTER (WHERE e.status = 'PENDING'),
+            SUM(e.amount) FILTER (
+                WHERE e.status = 'OVERDUE'
+                OR (e.status = 'PENDING' AND e.dueDate < :today)
+            )
+        )
+        FROM ExpenseEntity e
+        WHERE e.companyId = :companyId
+        GROUP BY e.project.id
+        """
+    )
+    List<ExpenseSummaryRow> findSummaryRowsByCompanyId(
+        @Param("companyId") UUID companyId,
+        @Param("today") LocalDate today
+    );
 }
@@ -4,14 +4,18 @@ import com.maistech.buildup.financial.*;
 import com.maistech.buildup.auth.UserEntity;
 import com.maistech.buildup.auth.domain.UserRepository;
 import com.maistech.buildup.financial.dto.*;
+import com.maistech.buildup.portfolio.domain.PortfolioService;
 import com.maistech.buildup.project.ProjectEntity;
 import com.maistech.buildup.project.ProjectNotFoundException;
 import com.maistech.buildup.project.domain.ProjectRepository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,21 +30,28 @@ public class ExpenseService {
     private final ExpenseCategoryRepository categoryRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final FinancialLedgerService ledgerService;
 
     public ExpenseService(
         ExpenseRepository expenseRepository,
         ExpenseInstallmentRepository installmentRepository,
         ExpenseCategoryRepository categoryRepository,
         ProjectRepository projectRepository,
-        UserRepository userRepository
+        UserRepository userRepository,
+        FinancialLedgerService ledgerService
     ) {
         this.expenseRepository = expenseRepository;
         this.installmentRepository = installmentRepository;
         this.categoryRepository = categoryRepository;
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
+        this.ledgerService = ledgerService;
     }
 
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = PortfolioService.CACHE_KEY
+    )
     public ExpenseResponse createExpense(
         UUID companyId,
         UUID projectId,
@@ -85,9 +96,18 @@ public class ExpenseService {
             expense = expenseRepository.save(expense);
         }
 
+        ledgerService.record(
+            expense,
+            FinancialLedgerEntry.EMPTY,
+            FinancialLedgerEntry.of(expense, LocalDate.now())
+        );
         return mapToResponse(expense);
     }
 
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = PortfolioService.CACHE_KEY
+    )
     public ExpenseResponse updateExpense(
         UUID companyId,
         UUID projectId,
@@ -99,6 +119,8 @@ public class ExpenseService {
             projectId,
             companyId
         );
+        LocalDate today = LocalDate.now();
+        FinancialLedgerEntry before = FinancialLedgerEntry.of(expense, today);
 
         if (request.description() != null) {
             expense.setDescription(request.description());
@@ -126,15 +148,29 @@ public class ExpenseService {
         }
 
         expense = expenseRepository.save(expense);
+        ledgerService.record(
+            expense,
+            before,
+            FinancialLedgerEntry.of(expense, today)
+        );
         return mapToResponse(expense);
     }
 
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = PortfolioService.CACHE_KEY
+    )
     public void deleteExpense(UUID companyId, UUID projectId, UUID expenseId) {
         ExpenseEntity expense = findExpenseInProjectOrThrow(
             expenseId,
             projectId,
             companyId
         );
+        ledgerService.record(
+            expense,
+            FinancialLedgerEntry.of(expense, LocalDate.now()),
+            FinancialLedgerEntry.EMPTY
+        );
         expenseRepository.delete(expense);
     }
 
@@ -159,9 +195,18 @@ public class ExpenseService {
         Pageable pageable
     ) {
         findProjectInCompanyOrThrow(projectId, companyId);
-        return expenseRepository
-            .findByProjectIdOrderByDueDateDesc(projectId, pageable)
-            .map(this::mapToResponse);
+
+        Page<UUID> ids = expenseRepository.findIdsByProjectId(
+            projectId,
+            pageable
+        );
+        Map<UUID, ExpenseEntity> expenses = ids.isEmpty()
+            ? Map.of()
+            : expenseRepository
+                .findWithDetailsByIdIn(ids.getContent())
+                .stream()
+                .collect(Collectors.toMap(ExpenseEntity::getId, e -> e));
+        return ids.map(id -> mapToResponse(expenses.get(id)));
     }
 
     @Transactional(readOnly = true)
@@ -185,12 +230,16 @@ public class ExpenseService {
     ) {
         findProjectInCompanyOrThrow(projectId, companyId);
         return expenseRepository
-            .findByProjectIdAndCategoryId(projectId, categoryId)
+            .findWithDetailsByProjectIdAndCategoryId(projectId, categoryId)
             .stream()
             .map(this::mapToResponse)
             .collect(Collectors.toList());
     }
 
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = PortfolioService.CACHE_KEY
+    )
     public ExpenseResponse markAsPaid(
         UUID companyId,
         UUID projectId,
@@ -202,11 +251,22 @@ public class ExpenseService {
             projectId,
             companyId
         );
+        LocalDate today = LocalDate.now();
+        FinancialLedgerEntry before = FinancialLedgerEntry.of(expense, today);
         expense.markAsPaid(request.paymentDate(), request.paymentMethod());
         expense = expenseRepository.save(expense);
+        ledgerService.record(
+            expense,
+            before,
+            FinancialLedgerEntry.of(expense, today)
+        );
         return mapToResponse(expense);
     }
 
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = PortfolioService.CACHE_KEY
+    )
     public ExpenseResponse cancelExpense(
         UUID companyId,
         UUID projectId,
@@ -217,8 +277,15 @@ public class ExpenseService {
             projectId,
             companyId
         );
+        LocalDate today = LocalDate.now();
+        FinancialLedgerEntry before = FinancialLedgerEntry.of(expense, today);
         expense.cancel();
         expense = expenseRepository.save(expense);
+        ledgerService.record(
+            expense,
+            before,
+            FinancialLedgerEntry.of(expense, today)
+        );
         return mapToResponse(expense);
     }
 
@@ -229,42 +296,38 @@ public class ExpenseService {
     ) {
         findProjectInCompanyOrThrow(projectId, companyId);
 
-        BigDecimal totalExpenses = expenseRepository.getTotalExpensesByProject(
+        BigDecimal totalExpenses = BigDecimal.ZERO;
+        BigDecimal totalPaid = BigDecimal.ZERO;
+        BigDecimal totalPending = BigDecimal.ZERO;
+        BigDecimal totalOverdue = BigDecimal.ZERO;
+        long overdueCount = 0;
+        long outstandingInstallments = 0;
+        List<CategorySummary> byCategory = new ArrayList<>();
+        for (ProjectFinancialLedgerEntity row : ledgerService.findByProjectId(
             projectId
-        );
-        if (totalExpenses == null) {
-            totalExpenses = BigDecimal.ZERO;
-        }
-
-        BigDecimal totalPaid = expenseRepository.getTotalPaidByProject(
-            projectId
-        );
-        if (totalPaid == null) {
-            totalPaid = BigDecimal.ZERO;
+        )) {
+            totalExpenses = totalExpenses.add(row.getCommittedAmount());
+            totalPaid = totalPaid.add(row.getPaidAmount());
+            totalPending = totalPending.add(row.getPendingAmount());
+            totalOverdue = totalOverdue.add(row.getOverdueAmount());
+            overdueCount += row.getOverdueCount();
+            outstandingInstallments += row.getInstallmentsOutstanding();
+            byCategory.add(
+                new CategorySummary(
+                    row.getCategory().getName(),
+                    row.getCommittedAmount()
+                )
+            );
         }
 
-        BigDecimal totalPending = totalExpenses.subtract(totalPaid);
-
-        List<Object[]> categoryData = expenseRepository.getExpensesByCategory(
-            projectId
-        );
-        List<CategorySummary> byCategory = categoryData
-            .stream()
-            .map(row ->
-                new CategorySummary((String) row[0], (BigDecimal) row[1])
-            )
-            .collect(Collectors.toList());
-
-        long overdueCount = expenseRepository
-            .findOverdueExpenses(projectId, LocalDate.now())
-            .size();
-
         return new FinancialSummaryResponse(
             totalExpenses,
             totalPaid,
             totalPending,
             byCategory,
-            overdueCount
+            overdueCount,
+            totalOverdue,
+            outstandingInstallments
         );
     }
 
@@ -281,7 +344,9 @@ public class ExpenseService {
             installment.setAmount(req.amount());
             installment.setDueDate(req.dueDate());
             installment.setStatus(ExpenseStatus.PENDING);
-            installmentRepository.save(installment);
+            expense.getInstallments().add(
+                installmentRepository.save(installment)
+            );
         }
     }
 
@@ -325,12 +390,8 @@ public class ExpenseService {
     }
 
     private ExpenseResponse mapToResponse(ExpenseEntity expense) {
-        List<ExpenseInstallmentEntity> installmentEntities =
-            installmentRepository.findByExpenseIdOrderByInstallmentNumberAsc(
-                expense.getId()
-            );
-
-        List<InstallmentResponse> installments = installmentEntities
+        List<InstallmentResponse> installments = expense
+            .getInstallments()
             .stream()
             .map(i ->
                 new InstallmentResponse(
@@ -0,0 +1,12 @@
+package com.maistech.buildup.financial.domain;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ExpenseSummaryRow(
+    UUID projectId,
+    BigDecimal totalAmount,
+    BigDecimal paidAmount,
+    BigDecimal pendingAmount,
+    BigDecimal overdueAmount
+) {}
@@ -0,0 +1,27 @@
+package com.maistech.buildup.financial.domain;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// Positive values mean the ledger was short
+public record FinancialLedgerDrift(
+    UUID projectId,
+    UUID categoryId,
+    BigDecimal committedAmount,
+    BigDecimal paidAmount,
+    BigDecimal pendingAmount,
+    long expenseCount,
+    long installmentsOutstanding
+) {
+    static FinancialLedgerDrift of(Object[] columns) {
+        return new FinancialLedgerDrift(
+            (UUID) columns[0],
+            (UUID) columns[1],
+            (BigDecimal) columns[2],
+            (BigDecimal) columns[3],
+            (BigDecimal) columns[4],
+            ((Number) columns[5]).longValue(),
+            ((Number) columns[6]).longValue()
+        );
+    }
+}
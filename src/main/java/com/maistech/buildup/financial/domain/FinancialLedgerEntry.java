@@ -0,0 +1,121 @@
+package com.maistech.buildup.financial.domain;
+
+import com.maistech.buildup.financial.ExpenseEntity;
+import com.maistech.buildup.financial.ExpenseInstallmentEntity;
+import com.maistech.buildup.financial.ExpenseStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Must match the aggregation in FinancialLedgerRepository.reconcile
+record FinancialLedgerEntry(
+    BigDecimal committedAmount,
+    BigDecimal paidAmount,
+    BigDecimal pendingAmount,
+    BigDecimal overdueAmount,
+    int overdueCount,
+    int expenseCount,
+    int installmentsOutstanding
+) {
+    static final FinancialLedgerEntry EMPTY = new FinancialLedgerEntry(
+        BigDecimal.ZERO,
+        BigDecimal.ZERO,
+        BigDecimal.ZERO,
+        BigDecimal.ZERO,
+        0,
+        0,
+        0
+    );
+
+    static FinancialLedgerEntry of(ExpenseEntity expense, LocalDate today) {
+        int installmentsOutstanding = Boolean.TRUE.equals(
+                expense.getHasInstallments()
+            )
+            ? (int) expense
+                .getInstallments()
+                .stream()
+                .map(ExpenseInstallmentEntity::getStatus)
+                .filter(s ->
+                    s != ExpenseStatus.PAID && s != ExpenseStatus.CANCELLED
+                )
+                .count()
+            : 0;
+        return of(
+            expense.getStatus(),
+            expense.getAmount(),
+            expense.getDueDate(),
+            installmentsOutstanding,
+            today
+        );
+    }
+
+    static FinancialLedgerEntry of(
+        ExpenseStatus status,
+        BigDecimal amount,
+        LocalDate dueDate,
+        int installmentsOutstanding,
+        LocalDate today
+    ) {
+        if (status == ExpenseStatus.CANCELLED) {
+            return EMPTY;
+        }
+        if (status == ExpenseStatus.PAID) {
+            return new FinancialLedgerEntry(
+                amount,
+                amount,
+                BigDecimal.ZERO,
+                BigDecimal.ZERO,
+                0,
+                1,
+                0
+            );
+        }
+
+        boolean overdue =
+            status == ExpenseStatus.OVERDUE || dueDate.isBefore(today);
+        return new FinancialLedgerEntry(
+            amount,
+            BigDecimal.ZERO,
+            amount,
+            overdue ? amount : BigDecimal.ZERO,
+            overdue ? 1 : 0,
+            1,
+            installmentsOutstanding
+        );
+    }
+
+    FinancialLedgerEntry plus(FinancialLedgerEntry other) {
+        return new FinancialLedgerEntry(
+            committedAmount.add(other.committedAmount),
+            paidAmount.add(other.paidAmount),
+            pendingAmount.add(other.pendingAmount),
+            overdueAmount.add(other.overdueAmount),
+            overdueCount + other.overdueCount,
+            expenseCount + other.expenseCount,
+            installmentsOutstanding + other.installmentsOutstanding
+        );
+    }
+
+    FinancialLedgerEntry minus(FinancialLedgerEntry other) {
+        return new FinancialLedgerEntry(
+            committedAmount.subtract(other.committedAmount),
+            paidAmount.subtract(other.paidAmount),
+            pendingAmount.subtract(other.pendingAmount),
+            overdueAmount.subtract(other.overdueAmount),
+            overdueCount - other.overdueCount,
+            expenseCount - other.expenseCount,
+            installmentsOutstanding - other.installmentsOutstanding
+        );
+    }
+
+    boolean isZero() {
+        return (
+            committedAmount.signum() == 0 &&
+            paidAmount.signum() == 0 &&
+            pendingAmount.signum() == 0 &&
+            overdueAmount.signum() == 0 &&
+            overdueCount == 0 &&
+            expenseCount == 0 &&
+            installmentsOutstanding == 0
+        );
+    }
+}
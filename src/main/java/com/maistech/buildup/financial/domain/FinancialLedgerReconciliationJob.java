@@ -0,0 +1,61 @@
+package com.maistech.buildup.financial.domain;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class FinancialLedgerReconciliationJob {
+
+    static final int MAX_LOGGED_DRIFTS = 20;
+
+    private final FinancialLedgerService ledgerService;
+    private final Timer reconciliationTimer;
+    private final Counter driftCounter;
+
+    public FinancialLedgerReconciliationJob(
+        FinancialLedgerService ledgerService,
+        MeterRegistry meterRegistry
+    ) {
+        this.ledgerService = ledgerService;
+        this.reconciliationTimer = Timer.builder(
+            "financial.ledger.reconciliation.duration"
+        )
+            .description("Duration of the nightly financial ledger rebuild")
+            .register(meterRegistry);
+        this.driftCounter = Counter.builder("financial.ledger.drift")
+            .description("Ledger rows found out of step with their expenses")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "0 5 0 * * ?")
+    public void reconcileDaily() {
+        reconciliationTimer.record(() -> reconcile(LocalDate.now()));
+    }
+
+    int reconcile(LocalDate today) {
+        List<FinancialLedgerDrift> drifts = ledgerService.reconcile(today);
+        if (drifts.isEmpty()) {
+            log.info("Financial ledger reconciled as of {} without drift", today);
+            return 0;
+        }
+
+        driftCounter.increment(drifts.size());
+        log.warn(
+            "Financial ledger reconciled as of {}: {} rows had drifted",
+            today,
+            drifts.size()
+        );
+        drifts
+            .stream()
+            .limit(MAX_LOGGED_DRIFTS)
+            .forEach(drift -> log.warn("Ledger drift corrected: {}", drift));
+        return drifts.size();
+    }
+}
@@ -0,0 +1,192 @@
+package com.maistech.buildup.financial.domain;
+
+import com.maistech.buildup.financial.ProjectFinancialLedgerEntity;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FinancialLedgerRepository
+    extends JpaRepository<ProjectFinancialLedgerEntity, UUID> {
+    @Query(
+        """
+        SELECT l FROM ProjectFinancialLedgerEntity l
+        JOIN FETCH l.category
+        WHERE l.project.id = :projectId AND l.expenseCount > 0
+        ORDER BY l.category.name
+        """
+    )
+    List<ProjectFinancialLedgerEntity> findByProjectId(
+        @Param("projectId") UUID projectId
+    );
+
+    // The row lock serializes expense writes of the same category
+    @Modifying
+    @Query(
+        value = """
+        INSERT INTO project_financial_ledger (
+            id, project_id, category_id, company_id, committed_amount,
+            paid_amount, pending_amount, overdue_amount, overdue_count,
+            expense_count, installments_outstanding, created_at, updated_at
+        ) VALUES (
+            gen_random_uuid(), :projectId, :categoryId, :companyId,
+            :committedAmount, :paidAmount, :pendingAmount, :overdueAmount,
+            :overdueCount, :expenseCount, :installmentsOutstanding,
+            CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        )
+        ON CONFLICT (project_id, category_id) DO UPDATE SET
+            committed_amount = project_financial_ledger.committed_amount
+                + EXCLUDED.committed_amount,
+            paid_amount = project_financial_ledger.paid_amount
+                + EXCLUDED.paid_amount,
+            pending_amount = project_financial_ledger.pending_amount
+                + EXCLUDED.pending_amount,
+            overdue_amount = project_financial_ledger.overdue_amount
+                + EXCLUDED.overdue_amount,
+            overdue_count = project_financial_ledger.overdue_count
+                + EXCLUDED.overdue_count,
+            expense_count = project_financial_ledger.expense_count
+                + EXCLUDED.expense_count,
+            installments_outstanding =
+                project_financial_ledger.installments_outstanding
+                + EXCLUDED.installments_outstanding,
+            updated_at = CURRENT_TIMESTAMP
+        """,
+        nativeQuery = true
+    )
+    int applyDelta(
+        @Param("projectId") UUID projectId,
+        @Param("categoryId") UUID categoryId,
+        @Param("companyId") UUID companyId,
+        @Param("committedAmount") BigDecimal committedAmount,
+        @Param("paidAmount") BigDecimal paidAmount,
+        @Param("pendingAmount") BigDecimal pendingAmount,
+        @Param("overdueAmount") BigDecimal overdueAmount,
+        @Param("overdueCount") int overdueCount,
+        @Param("expenseCount") int expenseCount,
+        @Param("installmentsOutstanding") int installmentsOutstanding
+    );
+
+    // Keeps a rebuild from overwriting deltas committed while it aggregates
+    @Modifying
+    @Query(
+        value = "LOCK TABLE project_financial_ledger IN SHARE ROW EXCLUSIVE MODE",
+        nativeQuery = true
+    )
+    void lockForReconciliation();
+
+    // Columns: project_id, category_id, then the drift of each reported total
+    @Query(
+        value = """
+        WITH expected AS (
+            SELECT e.project_id, e.category_id, e.company_id,
+                COALESCE(SUM(e.amount) FILTER (WHERE e.status <> 'CANCELLED'), 0)
+                    AS committed_amount,
+                COALESCE(SUM(e.amount) FILTER (WHERE e.status = 'PAID'), 0)
+                    AS paid_amount,
+                COALESCE(SUM(e.amount) FILTER (
+                    WHERE e.status IN ('PENDING', 'OVERDUE')
+                ), 0) AS pending_amount,
+                COALESCE(SUM(e.amount) FILTER (
+                    WHERE e.status = 'OVERDUE'
+                    OR (e.status = 'PENDING' AND e.due_date < CAST(:today AS date))
+                ), 0) AS overdue_amount,
+                COUNT(*) FILTER (
+                    WHERE e.status = 'OVERDUE'
+                    OR (e.status = 'PENDING' AND e.due_date < CAST(:today AS date))
+                ) AS overdue_count,
+                COUNT(*) FILTER (WHERE e.status <> 'CANCELLED') AS expense_count,
+                COALESCE(SUM(i.outstanding) FILTER (
+                    WHERE e.status IN ('PENDING', 'OVERDUE')
+                ), 0) AS installments_outstanding
+            FROM expenses e
+            LEFT JOIN LATERAL (
+                SELECT COUNT(*) AS outstanding
+                FROM expense_installments ei
+                WHERE ei.expense_id = e.id
+                    AND ei.status NOT IN ('PAID', 'CANCELLED')
+            ) i ON e.has_installments
+            GROUP BY e.project_id, e.category_id, e.company_id
+        ),
+        drift AS (
+            SELECT COALESCE(x.project_id, l.project_id) AS project_id,
+                COALESCE(x.category_id, l.category_id) AS category_id,
+                COALESCE(x.committed_amount, 0) - COALESCE(l.committed_amount, 0)
+                    AS committed_amount,
+                COALESCE(x.paid_amount, 0) - COALESCE(l.paid_amount, 0)
+                    AS paid_amount,
+                COALESCE(x.pending_amount, 0) - COALESCE(l.pending_amount, 0)
+                    AS pending_amount,
+                COALESCE(x.expense_count, 0) - COALESCE(l.expense_count, 0)
+                    AS expense_count,
+                COALESCE(x.installments_outstanding, 0)
+                    - COALESCE(l.installments_outstanding, 0)
+                    AS installments_outstanding
+            FROM expected x
+            FULL JOIN project_financial_ledger l
+                ON l.project_id = x.project_id AND l.category_id = x.category_id
+        ),
+        rebuilt AS (
+            INSERT INTO project_financial_ledger (
+                id, project_id, category_id, company_id, committed_amount,
+                paid_amount, pending_amount, overdue_amount, overdue_count,
+                expense_count, installments_outstanding, created_at, updated_at
+            )
+            SELECT gen_random_uuid(), x.project_id, x.category_id, x.company_id,
+                x.committed_amount, x.paid_amount, x.pending_amount,
+                x.overdue_amount, x.overdue_count, x.expense_count,
+                x.installments_outstanding, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+            FROM expected x
+            ON CONFLICT (project_id, category_id) DO UPDATE SET
+                committed_amount = EXCLUDED.committed_amount,
+                paid_amount = EXCLUDED.paid_amount,
+                pending_amount = EXCLUDED.pending_amount,
+                overdue_amount = EXCLUDED.overdue_amount,
+                overdue_count = EXCLUDED.overdue_count,
+                expense_count = EXCLUDED.expense_count,
+                installments_outstanding = EXCLUDED.installments_outstanding,
+                updated_at = CURRENT_TIMESTAMP
+            WHERE (
+                project_financial_ledger.committed_amount,
+                project_financial_ledger.paid_amount,
+                project_financial_ledger.pending_amount,
+                project_financial_ledger.overdue_amount,
+                project_financial_ledger.overdue_count,
+                project_financial_ledger.expense_count,
+                project_financial_ledger.installments_outstanding
+            ) IS DISTINCT FROM (
+                EXCLUDED.committed_amount, EXCLUDED.paid_amount,
+                EXCLUDED.pending_amount, EXCLUDED.overdue_amount,
+                EXCLUDED.overdue_count, EXCLUDED.expense_count,
+                EXCLUDED.installments_outstanding
+            )
+            RETURNING 1
+        ),
+        removed AS (
+            DELETE FROM project_financial_ledger l
+            WHERE NOT EXISTS (
+                SELECT 1 FROM expected x
+                WHERE x.project_id = l.project_id
+                    AND x.category_id = l.category_id
+            )
+            RETURNING 1
+        )
+        SELECT d.project_id, d.category_id, d.committed_amount,
+            d.paid_amount, d.pending_amount, d.expense_count,
+            d.installments_outstanding
+        FROM drift d
+        WHERE d.committed_amount <> 0 OR d.paid_amount <> 0
+            OR d.pending_amount <> 0 OR d.expense_count <> 0
+            OR d.installments_outstanding <> 0
+        ORDER BY d.project_id, d.category_id
+        """,
+        nativeQuery = true
+    )
+    List<Object[]> reconcile(@Param("today") LocalDate today);
+}
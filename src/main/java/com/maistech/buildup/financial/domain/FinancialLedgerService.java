@@ -0,0 +1,71 @@
+package com.maistech.buildup.financial.domain;
+
+import com.maistech.buildup.financial.ExpenseEntity;
+import com.maistech.buildup.financial.ProjectFinancialLedgerEntity;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class FinancialLedgerService {
+
+    private final FinancialLedgerRepository ledgerRepository;
+
+    public FinancialLedgerService(FinancialLedgerRepository ledgerRepository) {
+        this.ledgerRepository = ledgerRepository;
+    }
+
+    public void record(
+        ExpenseEntity expense,
+        FinancialLedgerEntry before,
+        FinancialLedgerEntry after
+    ) {
+        apply(
+            expense.getProject().getId(),
+            expense.getCategory().getId(),
+            expense.getCompanyId(),
+            after.minus(before)
+        );
+    }
+
+    public void apply(
+        UUID projectId,
+        UUID categoryId,
+        UUID companyId,
+        FinancialLedgerEntry delta
+    ) {
+        if (delta.isZero()) {
+            return;
+        }
+
+        ledgerRepository.applyDelta(
+            projectId,
+            categoryId,
+            companyId,
+            delta.committedAmount(),
+            delta.paidAmount(),
+            delta.pendingAmount(),
+            delta.overdueAmount(),
+            delta.overdueCount(),
+            delta.expenseCount(),
+            delta.installmentsOutstanding()
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProjectFinancialLedgerEntity> findByProjectId(UUID projectId) {
+        return ledgerRepository.findByProjectId(projectId);
+    }
+
+    public List<FinancialLedgerDrift> reconcile(LocalDate today) {
+        ledgerRepository.lockForReconciliation();
+        return ledgerRepository
+            .reconcile(today)
+            .stream()
+            .map(FinancialLedgerDrift::of)
+            .toList();
+    }
+}
@@ -0,0 +1,13 @@
+package com.maistech.buildup.financial.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record CashFlowBucket(
+    LocalDate periodStart,
+    LocalDate periodEnd,
+    BigDecimal inflow,
+    BigDecimal outflow,
+    BigDecimal netCashFlow,
+    BigDecimal cumulativeNetCashFlow
+) {}
@@ -0,0 +1,20 @@
+package com.maistech.buildup.financial.dto;
+
+import com.maistech.buildup.financial.CashFlowGranularity;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record CashFlowForecastResponse(
+    UUID projectId,
+    CashFlowGranularity granularity,
+    LocalDate from,
+    LocalDate to,
+    BigDecimal totalInflow,
+    BigDecimal totalOutflow,
+    BigDecimal netCashFlow,
+    BigDecimal pastDueInflow,
+    BigDecimal pastDueOutflow,
+    List<CashFlowBucket> buckets
+) {}
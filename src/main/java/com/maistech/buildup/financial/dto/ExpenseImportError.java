@@ -0,0 +1,7 @@
+package com.maistech.buildup.financial.dto;
+
+public record ExpenseImportError(
+    int line,
+    String invoiceNumber,
+    String message
+) {}
@@ -0,0 +1,11 @@
+package com.maistech.buildup.financial.dto;
+
+import java.util.List;
+
+public record ExpenseImportResponse(
+    int totalRows,
+    int importedCount,
+    int duplicateCount,
+    int failedCount,
+    List<ExpenseImportError> errors
+) {}
@@ -8,5 +8,7 @@ public record FinancialSummaryResponse(
     BigDecimal totalPaid,
     BigDecimal totalPending,
     List<CategorySummary> expensesByCategory,
-    Long overdueExpensesCount
+    Long overdueExpensesCount,
+    BigDecimal totalOverdue,
+    Long outstandingInstallmentsCount
 ) {}
@@ -0,0 +1,84 @@
+package com.maistech.buildup.portfolio;
+
+import com.maistech.buildup.portfolio.domain.PortfolioService;
+import com.maistech.buildup.portfolio.dto.PortfolioResponse;
+import com.maistech.buildup.shared.security.JWTUserData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.UUID;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/portfolio")
+@SecurityRequirement(name = "bearer-jwt")
+@Tag(
+    name = "Portfolio",
+    description = "Company-wide roll-up of project schedules, phases, milestones, tasks and spend. SUPER_ADMIN can optionally specify companyId via query parameter."
+)
+public class PortfolioController {
+
+    private final PortfolioService portfolioService;
+
+    public PortfolioController(PortfolioService portfolioService) {
+        this.portfolioService = portfolioService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+        summary = "Get company portfolio",
+        description = "Returns per-project and company-wide aggregates of schedules, phases, milestones, tasks and expenses. Results are cached per company and refreshed after any write. SUPER_ADMIN can optionally specify companyId via query parameter."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Portfolio retrieved successfully",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = PortfolioResponse.class)
+                )
+            ),
+            @ApiResponse(
+                responseCode = "403",
+                description = "Forbidden - requires ADMIN or MANAGER role"
+            ),
+        }
+    )
+    public ResponseEntity<PortfolioResponse> getPortfolio(
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        return ResponseEntity.ok(portfolioService.getPortfolio(targetCompanyId));
+    }
+
+    private UUID getTargetCompanyId(
+        Authentication authentication,
+        UUID requestedCompanyId
+    ) {
+        JWTUserData userData = (JWTUserData) authentication.getPrincipal();
+
+        if (requestedCompanyId != null) {
+            if (!userData.isMasterCompany()) {
+                throw new IllegalStateException(
+                    "Only SUPER_ADMIN can access other companies' resources"
+                );
+            }
+            return requestedCompanyId;
+        }
+
+        return userData.companyId();
+    }
+}
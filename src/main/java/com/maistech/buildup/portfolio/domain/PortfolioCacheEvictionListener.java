@@ -0,0 +1,44 @@
+package com.maistech.buildup.portfolio.domain;
+
+import com.maistech.buildup.schedule.MilestoneChangedEvent;
+import com.maistech.buildup.task.TaskChangedEvent;
+import com.maistech.buildup.task.TasksFlaggedOverdueEvent;
+import com.maistech.buildup.task.TasksImportedEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class PortfolioCacheEvictionListener {
+
+    private static final String EVENT_CACHE_KEY =
+        "T(com.maistech.buildup.portfolio.domain.PortfolioService).cacheKey(#event.companyId())";
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = EVENT_CACHE_KEY
+    )
+    public void onTaskChanged(TaskChangedEvent event) {}
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = EVENT_CACHE_KEY
+    )
+    public void onTasksImported(TasksImportedEvent event) {}
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = EVENT_CACHE_KEY
+    )
+    public void onTasksFlaggedOverdue(TasksFlaggedOverdueEvent event) {}
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = EVENT_CACHE_KEY
+    )
+    public void onMilestoneChanged(MilestoneChangedEvent event) {}
+}
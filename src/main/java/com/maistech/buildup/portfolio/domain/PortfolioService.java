@@ -0,0 +1,208 @@
+package com.maistech.buildup.portfolio.domain;
+
+import com.maistech.buildup.financial.domain.ExpenseRepository;
+import com.maistech.buildup.financial.domain.ExpenseSummaryRow;
+import com.maistech.buildup.portfolio.dto.PortfolioResponse;
+import com.maistech.buildup.portfolio.dto.ProjectPortfolioSummary;
+import com.maistech.buildup.schedule.domain.MilestoneRepository;
+import com.maistech.buildup.schedule.domain.MilestoneSummaryRow;
+import com.maistech.buildup.schedule.domain.PhaseRepository;
+import com.maistech.buildup.schedule.domain.PhaseSummaryRow;
+import com.maistech.buildup.schedule.domain.ProjectScheduleSummaryRow;
+import com.maistech.buildup.schedule.domain.ScheduleRepository;
+import com.maistech.buildup.task.domain.TaskRepository;
+import com.maistech.buildup.task.domain.TaskSummaryRow;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class PortfolioService {
+
+    public static final String CACHE_NAME = "portfolio";
+
+    // Keyed per day because overdue figures depend on the current date
+    public static final String CACHE_KEY =
+        "T(com.maistech.buildup.portfolio.domain.PortfolioService).cacheKey(#companyId)";
+
+    private final ScheduleRepository scheduleRepository;
+    private final PhaseRepository phaseRepository;
+    private final MilestoneRepository milestoneRepository;
+    private final TaskRepository taskRepository;
+    private final ExpenseRepository expenseRepository;
+
+    public PortfolioService(
+        ScheduleRepository scheduleRepository,
+        PhaseRepository phaseRepository,
+        MilestoneRepository milestoneRepository,
+        TaskRepository taskRepository,
+        ExpenseRepository expenseRepository
+    ) {
+        this.scheduleRepository = scheduleRepository;
+        this.phaseRepository = phaseRepository;
+        this.milestoneRepository = milestoneRepository;
+        this.taskRepository = taskRepository;
+        this.expenseRepository = expenseRepository;
+    }
+
+    @Cacheable(cacheNames = CACHE_NAME, key = CACHE_KEY)
+    public PortfolioResponse getPortfolio(UUID companyId) {
+        LocalDate today = LocalDate.now();
+
+        List<ProjectScheduleSummaryRow> projects =
+            scheduleRepository.findProjectSummaryRowsByCompanyId(companyId);
+        Map<UUID, TaskSummaryRow> tasks = byProject(
+            taskRepository.findSummaryRowsByCompanyId(companyId),
+            TaskSummaryRow::projectId
+        );
+        Map<UUID, PhaseSummaryRow> phases = byProject(
+            phaseRepository.findSummaryRowsByCompanyId(companyId),
+            PhaseSummaryRow::projectId
+        );
+        Map<UUID, MilestoneSummaryRow> milestones = byProject(
+            milestoneRepository.findSummaryRowsByCompanyId(companyId, today),
+            MilestoneSummaryRow::projectId
+        );
+        Map<UUID, ExpenseSummaryRow> expenses = byProject(
+            expenseRepository.findSummaryRowsByCompanyId(companyId, today),
+            ExpenseSummaryRow::projectId
+        );
+
+        List<ProjectPortfolioSummary> summaries = new ArrayList<>(
+            projects.size()
+        );
+        for (ProjectScheduleSummaryRow project : projects) {
+            summaries.add(
+                toSummary(
+                    project,
+                    tasks.get(project.projectId()),
+                    phases.get(project.projectId()),
+                    milestones.get(project.projectId()),
+                    expenses.get(project.projectId())
+                )
+            );
+        }
+
+        return toPortfolioResponse(companyId, summaries);
+    }
+
+    public static Object cacheKey(UUID companyId) {
+        return new SimpleKey(companyId, LocalDate.now());
+    }
+
+    @Scheduled(cron = "0 0 0 * * ?")
+    @CacheEvict(cacheNames = CACHE_NAME, allEntries = true)
+    public void evictPreviousDays() {}
+
+    private ProjectPortfolioSummary toSummary(
+        ProjectScheduleSummaryRow project,
+        TaskSummaryRow tasks,
+        PhaseSummaryRow phases,
+        MilestoneSummaryRow milestones,
+        ExpenseSummaryRow expenses
+    ) {
+        return new ProjectPortfolioSummary(
+            project.projectId(),
+            project.projectName(),
+            project.projectStatus(),
+            project.dueDate(),
+            project.contractValue(),
+            project.scheduleStatus(),
+            project.completedPercentage(),
+            project.isOnTrack(),
+            project.scheduleEndDate(),
+            tasks != null ? tasks.totalTasks() : 0,
+            tasks != null ? tasks.completedTasks() : 0,
+            tasks != null ? tasks.overdueTasks() : 0,
+            phases != null ? phases.totalPhases() : 0,
+            phases != null ? phases.completedPhases() : 0,
+            phases != null ? phases.delayedPhases() : 0,
+            milestones != null ? milestones.totalMilestones() : 0,
+            milestones != null ? milestones.completedMilestones() : 0,
+            milestones != null ? milestones.overdueMilestones() : 0,
+            milestones != null ? milestones.nextMilestoneDate() : null,
+            amount(expenses != null ? expenses.totalAmount() : null),
+            amount(expenses != null ? expenses.paidAmount() : null),
+            amount(expenses != null ? expenses.pendingAmount() : null),
+            amount(expenses != null ? expenses.overdueAmount() : null)
+        );
+    }
+
+    private PortfolioResponse toPortfolioResponse(
+        UUID companyId,
+        List<ProjectPortfolioSummary> projects
+    ) {
+        int onTrack = 0;
+        int delayed = 0;
+        long totalTasks = 0;
+        long completedTasks = 0;
+        long overdueTasks = 0;
+        long totalMilestones = 0;
+        long overdueMilestones = 0;
+        BigDecimal contractValue = BigDecimal.ZERO;
+        BigDecimal totalExpenses = BigDecimal.ZERO;
+        BigDecimal paidExpenses = BigDecimal.ZERO;
+        BigDecimal overdueExpenses = BigDecimal.ZERO;
+
+        for (ProjectPortfolioSummary project : projects) {
+            if (Boolean.TRUE.equals(project.isOnTrack())) {
+                onTrack++;
+            } else if (Boolean.FALSE.equals(project.isOnTrack())) {
+                delayed++;
+            }
+            totalTasks += project.totalTasks();
+            completedTasks += project.completedTasks();
+            overdueTasks += project.overdueTasks();
+            totalMilestones += project.totalMilestones();
+            overdueMilestones += project.overdueMilestones();
+            contractValue = contractValue.add(amount(project.contractValue()));
+            totalExpenses = totalExpenses.add(project.totalExpenses());
+            paidExpenses = paidExpenses.add(project.paidExpenses());
+            overdueExpenses = overdueExpenses.add(project.overdueExpenses());
+        }
+
+        return new PortfolioResponse(
+            companyId,
+            projects.size(),
+            onTrack,
+            delayed,
+            totalTasks,
+            completedTasks,
+            overdueTasks,
+            totalMilestones,
+            overdueMilestones,
+            contractValue,
+            totalExpenses,
+            paidExpenses,
+            overdueExpenses,
+            projects,
+            LocalDateTime.now()
+        );
+    }
+
+    private static <T> Map<UUID, T> byProject(
+        List<T> rows,
+        Function<T, UUID> projectId
+    ) {
+        return rows
+            .stream()
+            .collect(Collectors.toMap(projectId, Function.identity()));
+    }
+
+    private static BigDecimal amount(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
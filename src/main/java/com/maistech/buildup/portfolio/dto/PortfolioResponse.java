@@ -0,0 +1,24 @@
+package com.maistech.buildup.portfolio.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record PortfolioResponse(
+    UUID companyId,
+    int totalProjects,
+    int onTrackProjects,
+    int delayedProjects,
+    long totalTasks,
+    long completedTasks,
+    long overdueTasks,
+    long totalMilestones,
+    long overdueMilestones,
+    BigDecimal totalContractValue,
+    BigDecimal totalExpenses,
+    BigDecimal paidExpenses,
+    BigDecimal overdueExpenses,
+    List<ProjectPortfolioSummary> projects,
+    LocalDateTime generatedAt
+) {}
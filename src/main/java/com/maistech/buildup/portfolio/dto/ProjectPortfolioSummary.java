@@ -0,0 +1,33 @@
+package com.maistech.buildup.portfolio.dto;
+
+import com.maistech.buildup.project.ProjectStatus;
+import com.maistech.buildup.schedule.ScheduleStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record ProjectPortfolioSummary(
+    UUID projectId,
+    String projectName,
+    ProjectStatus projectStatus,
+    LocalDate dueDate,
+    BigDecimal contractValue,
+    ScheduleStatus scheduleStatus,
+    Integer completedPercentage,
+    Boolean isOnTrack,
+    LocalDate scheduleEndDate,
+    long totalTasks,
+    long completedTasks,
+    long overdueTasks,
+    long totalPhases,
+    long completedPhases,
+    long delayedPhases,
+    long totalMilestones,
+    long completedMilestones,
+    long overdueMilestones,
+    LocalDate nextMilestoneDate,
+    BigDecimal totalExpenses,
+    BigDecimal paidExpenses,
+    BigDecimal pendingExpenses,
+    BigDecimal overdueExpenses
+) {}
@@ -21,6 +21,17 @@ public interface ProjectRepository extends JpaRepository<ProjectEntity, UUID> {
         ProjectStatus status
     );
 
+    @Query("SELECT p.id, p.name FROM ProjectEntity p WHERE p.companyId = :companyId")
+    List<Object[]> findIdAndNameByCompanyId(@Param("companyId") UUID companyId);
+
+    @Query(
+        "SELECT p.id FROM ProjectEntity p WHERE p.companyId = :companyId AND p.status <> :excludedStatus"
+    )
+    List<UUID> findIdsByCompanyIdAndStatusNot(
+        @Param("companyId") UUID companyId,
+        @Param("excludedStatus") ProjectStatus excludedStatus
+    );
+
     @Query(
         "SELECT p FROM ProjectEntity p WHERE p.companyId = :companyId AND p.id = :projectId"
     )
@@ -3,10 +3,12 @@ package com.maistech.buildup.project.domain;
 import com.maistech.buildup.project.*;
 import com.maistech.buildup.auth.UserEntity;
 import com.maistech.buildup.auth.domain.UserRepository;
+import com.maistech.buildup.portfolio.domain.PortfolioService;
 import com.maistech.buildup.project.dto.*;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -30,6 +32,10 @@ public class ProjectService {
         this.userRepository = userRepository;
     }
 
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = PortfolioService.CACHE_KEY
+    )
     public ProjectResponse createProject(
         UUID companyId,
         UUID currentUserId,
@@ -69,6 +75,10 @@ public class ProjectService {
         return mapToResponse(project);
     }
 
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = PortfolioService.CACHE_KEY
+    )
     public ProjectResponse updateProject(
         UUID companyId,
         UUID projectId,
@@ -111,6 +121,10 @@ public class ProjectService {
         return mapToResponse(project);
     }
 
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = PortfolioService.CACHE_KEY
+    )
     public void deleteProject(UUID companyId, UUID projectId) {
         ProjectEntity project = findProjectInCompanyOrThrow(
             projectId,
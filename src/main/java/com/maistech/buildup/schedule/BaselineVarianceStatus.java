@@ -0,0 +1,8 @@
+package com.maistech.buildup.schedule;
+
+public enum BaselineVarianceStatus {
+    UNCHANGED,
+    CHANGED,
+    ADDED,
+    REMOVED
+}
@@ -0,0 +1,5 @@
+package com.maistech.buildup.schedule;
+
+import java.util.UUID;
+
+public record MilestoneChangedEvent(UUID companyId, UUID projectId) {}
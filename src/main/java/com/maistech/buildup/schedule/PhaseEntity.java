@@ -1,5 +1,6 @@
 package com.maistech.buildup.schedule;
 
+import com.maistech.buildup.calendar.WorkingCalendar;
 import com.maistech.buildup.shared.entity.BaseEntity;
 import com.maistech.buildup.task.TaskEntity;
 import jakarta.persistence.*;
@@ -57,7 +58,8 @@ public class PhaseEntity extends BaseEntity {
     @Builder.Default
     private Integer orderIndex = 0;
 
-    @Column(name = "completion_percentage")
+    // Maintained by PhaseRepository.applyProgressDelta from task progress
+    @Column(name = "completion_percentage", updatable = false)
     @Builder.Default
     private Integer completionPercentage = 0;
 
@@ -71,17 +73,15 @@ public class PhaseEntity extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     private String notes;
 
-    @PrePersist
-    @PreUpdate
-    private void prePersistAndUpdate() {
-        // Calculate duration from dates
+    public void calculateDuration(WorkingCalendar calendar) {
         if (startDate != null && endDate != null) {
-            this.durationDays = (int) java.time.temporal.ChronoUnit.DAYS.between(
-                startDate,
-                endDate
-            ) + 1;
+            this.durationDays = calendar.countWorkingDays(startDate, endDate);
         }
+    }
 
+    @PrePersist
+    @PreUpdate
+    private void prePersistAndUpdate() {
         // Sync company ID from schedule
         if (schedule != null && getCompanyId() == null) {
             setCompanyId(schedule.getCompanyId());
@@ -101,7 +101,6 @@ public class PhaseEntity extends BaseEntity {
 
     public void complete() {
         this.status = PhaseStatus.COMPLETED;
-        this.completionPercentage = 100;
         this.actualEndDate = LocalDate.now();
     }
 
@@ -111,17 +110,4 @@ public class PhaseEntity extends BaseEntity {
             this.actualStartDate = LocalDate.now();
         }
     }
-
-    public void updateProgress(Integer progress) {
-        if (progress < 0 || progress > 100) {
-            throw new IllegalArgumentException("Progress must be between 0 and 100");
-        }
-        this.completionPercentage = progress;
-
-        if (progress == 100 && status != PhaseStatus.COMPLETED) {
-            complete();
-        } else if (progress > 0 && status == PhaseStatus.PENDING) {
-            start();
-        }
-    }
 }
@@ -0,0 +1,9 @@
+package com.maistech.buildup.schedule;
+
+public enum SandboxEditType {
+    SHIFT_TASK,         // Move a task by N working days
+    SET_START,          // Pin a task to a start date
+    SET_DURATION,       // Change a task's duration in working days
+    ADD_DEPENDENCY,     // Link a task to a predecessor
+    REMOVE_DEPENDENCY   // Unlink a task from a predecessor
+}
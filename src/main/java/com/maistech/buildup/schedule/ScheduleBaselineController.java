@@ -0,0 +1,206 @@
+package com.maistech.buildup.schedule;
+
+import com.maistech.buildup.schedule.domain.ScheduleBaselineService;
+import com.maistech.buildup.schedule.dto.BaselineResponse;
+import com.maistech.buildup.schedule.dto.BaselineVarianceResponse;
+import com.maistech.buildup.schedule.dto.CreateBaselineRequest;
+import com.maistech.buildup.shared.security.JWTUserData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/projects/{projectId}/schedule/baselines")
+@SecurityRequirement(name = "bearer-jwt")
+@Tag(
+    name = "Schedule Baselines",
+    description = "Frozen copies of the planned schedule and their variance against the live plan. SUPER_ADMIN can optionally specify companyId via query parameter."
+)
+public class ScheduleBaselineController {
+
+    private final ScheduleBaselineService baselineService;
+
+    public ScheduleBaselineController(ScheduleBaselineService baselineService) {
+        this.baselineService = baselineService;
+    }
+
+    @PostMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+        summary = "Create baseline",
+        description = "Freezes the current planned dates of every task, phase and milestone of the project schedule. A schedule keeps at most 10 baselines."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "201",
+                description = "Baseline created successfully",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = BaselineResponse.class)
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Validation error or baseline limit reached"
+            ),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Schedule not found"
+            ),
+        }
+    )
+    public ResponseEntity<BaselineResponse> createBaseline(
+        @Parameter(description = "Project ID") @PathVariable UUID projectId,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        @Valid @RequestBody CreateBaselineRequest request,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        BaselineResponse baseline = baselineService.createBaseline(
+            targetCompanyId,
+            projectId,
+            request
+        );
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(baseline);
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
+    @Operation(
+        summary = "List baselines",
+        description = "Returns the baselines of the project schedule, most recent first."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Baselines retrieved successfully"
+            ),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+        }
+    )
+    public ResponseEntity<List<BaselineResponse>> listBaselines(
+        @Parameter(description = "Project ID") @PathVariable UUID projectId,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        return ResponseEntity.ok(
+            baselineService.listBaselines(targetCompanyId, projectId)
+        );
+    }
+
+    @GetMapping("/{baselineId}/variance")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
+    @Operation(
+        summary = "Compare baseline with current plan",
+        description = "Returns start and finish variance in days for every task, phase and milestone, plus items added or removed since the baseline. Unchanged items are omitted unless includeUnchanged is true."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Variance calculated successfully",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(
+                        implementation = BaselineVarianceResponse.class
+                    )
+                )
+            ),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Baseline not found"
+            ),
+        }
+    )
+    public ResponseEntity<BaselineVarianceResponse> getVariance(
+        @Parameter(description = "Project ID") @PathVariable UUID projectId,
+        @Parameter(description = "Baseline ID") @PathVariable UUID baselineId,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        @Parameter(description = "Include items whose dates did not change")
+        @RequestParam(defaultValue = "false") boolean includeUnchanged,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        BaselineVarianceResponse variance = baselineService.getVariance(
+            targetCompanyId,
+            projectId,
+            baselineId,
+            includeUnchanged
+        );
+
+        return ResponseEntity.ok(variance);
+    }
+
+    @DeleteMapping("/{baselineId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+        summary = "Delete baseline",
+        description = "Deletes a baseline of the project schedule."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "204",
+                description = "Baseline deleted successfully"
+            ),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Baseline not found"
+            ),
+        }
+    )
+    public ResponseEntity<Void> deleteBaseline(
+        @Parameter(description = "Project ID") @PathVariable UUID projectId,
+        @Parameter(description = "Baseline ID") @PathVariable UUID baselineId,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        baselineService.deleteBaseline(targetCompanyId, projectId, baselineId);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    private UUID getTargetCompanyId(Authentication authentication, UUID requestedCompanyId) {
+        JWTUserData userData = (JWTUserData) authentication.getPrincipal();
+
+        if (requestedCompanyId != null) {
+            if (!userData.isMasterCompany()) {
+                throw new IllegalStateException(
+                    "Only SUPER_ADMIN can access other companies' resources"
+                );
+            }
+            return requestedCompanyId;
+        }
+
+        return userData.companyId();
+    }
+}
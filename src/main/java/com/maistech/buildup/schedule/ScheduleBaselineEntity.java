@@ -0,0 +1,63 @@
+package com.maistech.buildup.schedule;
+
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.shared.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+
+// entries is only touched by native queries, so listings never load it
+@Entity
+@Table(name = "schedule_baselines")
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleBaselineEntity extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "schedule_id", nullable = false)
+    @NotNull
+    private ScheduleEntity schedule;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    @NotNull
+    private ProjectEntity project;
+
+    @NotBlank
+    @Column(nullable = false)
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @NotNull
+    @Column(name = "reference_date", nullable = false)
+    private LocalDate referenceDate;
+
+    @NotNull
+    @Column(name = "planned_start_date", nullable = false)
+    private LocalDate plannedStartDate;
+
+    @NotNull
+    @Column(name = "planned_end_date", nullable = false)
+    private LocalDate plannedEndDate;
+
+    @Column(name = "task_count", nullable = false)
+    @Builder.Default
+    private Integer taskCount = 0;
+
+    @Column(name = "phase_count", nullable = false)
+    @Builder.Default
+    private Integer phaseCount = 0;
+
+    @Column(name = "milestone_count", nullable = false)
+    @Builder.Default
+    private Integer milestoneCount = 0;
+}
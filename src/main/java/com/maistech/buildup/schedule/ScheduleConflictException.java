@@ -0,0 +1,7 @@
+package com.maistech.buildup.schedule;
+
+public class ScheduleConflictException extends RuntimeException {
+    public ScheduleConflictException(String message) {
+        super(message);
+    }
+}
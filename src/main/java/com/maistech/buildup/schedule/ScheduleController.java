@@ -1,6 +1,7 @@
 package com.maistech.buildup.schedule;
 
 import com.maistech.buildup.schedule.dto.*;
+import com.maistech.buildup.schedule.domain.ScheduleExportService;
 import com.maistech.buildup.schedule.domain.ScheduleService;
 import com.maistech.buildup.shared.security.JWTUserData;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,11 +15,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/projects/{projectId}/schedule")
@@ -30,9 +35,14 @@ import org.springframework.web.bind.annotation.*;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final ScheduleExportService scheduleExportService;
 
-    public ScheduleController(ScheduleService scheduleService) {
+    public ScheduleController(
+        ScheduleService scheduleService,
+        ScheduleExportService scheduleExportService
+    ) {
         this.scheduleService = scheduleService;
+        this.scheduleExportService = scheduleExportService;
     }
 
     @PostMapping("/generate")
@@ -185,6 +195,95 @@ public class ScheduleController {
         return ResponseEntity.ok(schedule);
     }
 
+    @GetMapping("/critical-path")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
+    @Operation(
+        summary = "Get critical path",
+        description = "Runs the Critical Path Method over the project's tasks and dependencies (all four dependency types) and returns the critical tasks with early/late dates and total float. SUPER_ADMIN can optionally specify companyId via query parameter."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Critical path calculated",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = CriticalPathResponse.class)
+                )
+            ),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Project not found"
+            ),
+        }
+    )
+    public ResponseEntity<CriticalPathResponse> getCriticalPath(
+        @Parameter(description = "Project ID") @PathVariable UUID projectId,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        CriticalPathResponse criticalPath = scheduleService.getCriticalPath(
+            targetCompanyId,
+            projectId
+        );
+
+        return ResponseEntity.ok(criticalPath);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
+    @Operation(
+        summary = "Export schedule",
+        description = "Streams the project's phases, tasks, dependency links and milestones as CSV or Microsoft Project XML. The file is written while it is read from the database, so large schedules do not need to fit in memory. SUPER_ADMIN can optionally specify companyId via query parameter."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Schedule export streamed"
+            ),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Project not found"
+            ),
+        }
+    )
+    public ResponseEntity<StreamingResponseBody> exportSchedule(
+        @Parameter(description = "Project ID") @PathVariable UUID projectId,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        @Parameter(description = "Export format") @RequestParam(
+            defaultValue = "CSV"
+        ) ScheduleExportFormat format,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        StreamingResponseBody body = scheduleExportService.exportSchedule(
+            targetCompanyId,
+            projectId,
+            format
+        );
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .header(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment()
+                    .filename(
+                        "schedule-" + projectId + "." + format.getExtension()
+                    )
+                    .build()
+                    .toString()
+            )
+            .body(body);
+    }
+
     @PostMapping("/milestones")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     @Operation(
@@ -0,0 +1,22 @@
+package com.maistech.buildup.schedule;
+
+public enum ScheduleExportFormat {
+    CSV("text/csv", "csv"),
+    MS_PROJECT_XML("application/xml", "xml");
+
+    private final String contentType;
+    private final String extension;
+
+    ScheduleExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,101 @@
+package com.maistech.buildup.schedule;
+
+import com.maistech.buildup.schedule.domain.ScheduleRiskService;
+import com.maistech.buildup.schedule.dto.ScheduleRiskResponse;
+import com.maistech.buildup.shared.security.JWTUserData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.UUID;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/projects/{projectId}/schedule/risk")
+@SecurityRequirement(name = "bearer-jwt")
+@Tag(
+    name = "Schedule Risk",
+    description = "Monte Carlo risk analysis of the project schedule based on three-point task estimates. SUPER_ADMIN can optionally specify companyId via query parameter."
+)
+public class ScheduleRiskController {
+
+    private final ScheduleRiskService scheduleRiskService;
+
+    public ScheduleRiskController(ScheduleRiskService scheduleRiskService) {
+        this.scheduleRiskService = scheduleRiskService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+        summary = "Simulate schedule risk",
+        description = "Samples the duration of every task with an optimistic/most likely/pessimistic estimate and propagates it through the dependencies. Returns P50, P80 and P95 finish dates, the probability of finishing by the project due date and how often each task was critical. Tasks without an estimate keep their planned duration. Pass the returned seed to reproduce a run."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Simulation completed successfully",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ScheduleRiskResponse.class)
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Invalid number of iterations"
+            ),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Project not found"
+            ),
+        }
+    )
+    public ResponseEntity<ScheduleRiskResponse> simulate(
+        @Parameter(description = "Project ID") @PathVariable UUID projectId,
+        @Parameter(description = "Number of iterations (100 to 100000, default 10000)")
+        @RequestParam(required = false) Integer iterations,
+        @Parameter(description = "Random seed, to reproduce a previous run")
+        @RequestParam(required = false) Long seed,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        return ResponseEntity.ok(
+            scheduleRiskService.simulate(
+                targetCompanyId,
+                projectId,
+                iterations,
+                seed
+            )
+        );
+    }
+
+    private UUID getTargetCompanyId(
+        Authentication authentication,
+        UUID requestedCompanyId
+    ) {
+        JWTUserData userData = (JWTUserData) authentication.getPrincipal();
+
+        if (requestedCompanyId != null) {
+            if (!userData.isMasterCompany()) {
+                throw new IllegalStateException(
+                    "Only SUPER_ADMIN can access other companies' resources"
+                );
+            }
+            return requestedCompanyId;
+        }
+
+        return userData.companyId();
+    }
+}
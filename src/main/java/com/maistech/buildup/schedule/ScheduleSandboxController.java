@@ -0,0 +1,261 @@
+package com.maistech.buildup.schedule;
+
+import com.maistech.buildup.schedule.domain.ScheduleSandboxService;
+import com.maistech.buildup.schedule.dto.ApplySandboxEditsRequest;
+import com.maistech.buildup.schedule.dto.SandboxCommitResponse;
+import com.maistech.buildup.schedule.dto.SandboxResponse;
+import com.maistech.buildup.shared.security.JWTUserData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/projects/{projectId}/schedule/sandboxes")
+@SecurityRequirement(name = "bearer-jwt")
+@Tag(
+    name = "Schedule Sandboxes",
+    description = "What-if editing of the project schedule on an in-memory copy. Nothing is saved until the sandbox is committed. SUPER_ADMIN can optionally specify companyId via query parameter."
+)
+public class ScheduleSandboxController {
+
+    private final ScheduleSandboxService sandboxService;
+
+    public ScheduleSandboxController(ScheduleSandboxService sandboxService) {
+        this.sandboxService = sandboxService;
+    }
+
+    @PostMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+        summary = "Open sandbox",
+        description = "Copies the project's tasks, dependencies, phases and milestones into a sandbox. Sandboxes expire after 30 minutes without use and a company can have at most 20 open."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "201",
+                description = "Sandbox opened successfully",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = SandboxResponse.class)
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Sandbox limit reached"
+            ),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Project not found"
+            ),
+        }
+    )
+    public ResponseEntity<SandboxResponse> openSandbox(
+        @Parameter(description = "Project ID") @PathVariable UUID projectId,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        SandboxResponse sandbox = sandboxService.openSandbox(
+            targetCompanyId,
+            projectId
+        );
+        return ResponseEntity.status(HttpStatus.CREATED).body(sandbox);
+    }
+
+    @GetMapping("/{sandboxId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+        summary = "Get sandbox",
+        description = "Returns the edits applied so far with the resulting finish date, critical path, moved tasks and impacted phases and milestones."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Sandbox retrieved successfully",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = SandboxResponse.class)
+                )
+            ),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Sandbox not found or expired"
+            ),
+        }
+    )
+    public ResponseEntity<SandboxResponse> getSandbox(
+        @Parameter(description = "Project ID") @PathVariable UUID projectId,
+        @Parameter(description = "Sandbox ID") @PathVariable UUID sandboxId,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        return ResponseEntity.ok(
+            sandboxService.getSandbox(targetCompanyId, projectId, sandboxId)
+        );
+    }
+
+    @PostMapping("/{sandboxId}/edits")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+        summary = "Apply edits",
+        description = "Applies the edits in order: shift a task by working days, set its start date or duration, add or remove a dependency. Either all edits are applied or none."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Edits applied successfully",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = SandboxResponse.class)
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Invalid edit or circular dependency"
+            ),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Sandbox not found or expired"
+            ),
+            @ApiResponse(
+                responseCode = "409",
+                description = "Sandbox changed by a concurrent request"
+            ),
+        }
+    )
+    public ResponseEntity<SandboxResponse> applyEdits(
+        @Parameter(description = "Project ID") @PathVariable UUID projectId,
+        @Parameter(description = "Sandbox ID") @PathVariable UUID sandboxId,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        @Valid @RequestBody ApplySandboxEditsRequest request,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        return ResponseEntity.ok(
+            sandboxService.applyEdits(
+                targetCompanyId,
+                projectId,
+                sandboxId,
+                request
+            )
+        );
+    }
+
+    @PostMapping("/{sandboxId}/commit")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+        summary = "Commit sandbox",
+        description = "Saves the sandbox's task dates and dependencies to the project in one transaction and closes the sandbox. Fails without saving anything if an affected task or dependency was changed since the sandbox was opened."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Sandbox committed successfully",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(
+                        implementation = SandboxCommitResponse.class
+                    )
+                )
+            ),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Sandbox not found or expired"
+            ),
+            @ApiResponse(
+                responseCode = "409",
+                description = "Project changed since the sandbox was opened"
+            ),
+        }
+    )
+    public ResponseEntity<SandboxCommitResponse> commitSandbox(
+        @Parameter(description = "Project ID") @PathVariable UUID projectId,
+        @Parameter(description = "Sandbox ID") @PathVariable UUID sandboxId,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        return ResponseEntity.ok(
+            sandboxService.commitSandbox(targetCompanyId, projectId, sandboxId)
+        );
+    }
+
+    @DeleteMapping("/{sandboxId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+        summary = "Discard sandbox",
+        description = "Closes the sandbox without saving anything."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "204",
+                description = "Sandbox discarded successfully"
+            ),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Sandbox not found or expired"
+            ),
+        }
+    )
+    public ResponseEntity<Void> discardSandbox(
+        @Parameter(description = "Project ID") @PathVariable UUID projectId,
+        @Parameter(description = "Sandbox ID") @PathVariable UUID sandboxId,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        sandboxService.discardSandbox(targetCompanyId, projectId, sandboxId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private UUID getTargetCompanyId(
+        Authentication authentication,
+        UUID requestedCompanyId
+    ) {
+        JWTUserData userData = (JWTUserData) authentication.getPrincipal();
+
+        if (requestedCompanyId != null) {
+            if (!userData.isMasterCompany()) {
+                throw new IllegalStateException(
+                    "Only SUPER_ADMIN can access other companies' resources"
+                );
+            }
+            return requestedCompanyId;
+        }
+
+        return userData.companyId();
+    }
+}
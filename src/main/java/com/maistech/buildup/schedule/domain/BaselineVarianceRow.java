@@ -0,0 +1,38 @@
+package com.maistech.buildup.schedule.domain;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.UUID;
+
+record BaselineVarianceRow(
+    String type,
+    UUID id,
+    String name,
+    LocalDate baselineStartDate,
+    LocalDate baselineEndDate,
+    LocalDate currentStartDate,
+    LocalDate currentEndDate,
+    boolean inBaseline,
+    boolean inPlan
+) {
+    static BaselineVarianceRow of(Object[] columns) {
+        return new BaselineVarianceRow(
+            (String) columns[0],
+            (UUID) columns[1],
+            (String) columns[2],
+            toLocalDate(columns[3]),
+            toLocalDate(columns[4]),
+            toLocalDate(columns[5]),
+            toLocalDate(columns[6]),
+            (Boolean) columns[7],
+            (Boolean) columns[8]
+        );
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+}
@@ -0,0 +1,114 @@
+package com.maistech.buildup.schedule.domain;
+
+import java.util.BitSet;
+
+// Offsets are days from the graph anchor; an early finish is exclusive
+public final class CriticalPathEngine {
+
+    private CriticalPathEngine() {}
+
+    public static CriticalPathResult calculate(ScheduleGraph graph) {
+        int n = graph.size();
+        int[] earlyStart = new int[n];
+        int[] lateFinish = new int[n];
+
+        int projectFinish = forwardPass(graph, graph.durations, earlyStart);
+        backwardPass(graph, graph.durations, projectFinish, lateFinish);
+
+        int[] earlyFinish = new int[n];
+        int[] lateStart = new int[n];
+        int[] totalFloat = new int[n];
+        BitSet critical = new BitSet(n);
+        for (int i = 0; i < n; i++) {
+            earlyFinish[i] = earlyStart[i] + graph.durations[i];
+            lateStart[i] = lateFinish[i] - graph.durations[i];
+            totalFloat[i] = lateStart[i] - earlyStart[i];
+            if (totalFloat[i] <= 0) {
+                critical.set(i);
+            }
+        }
+
+        return new CriticalPathResult(
+            graph,
+            earlyStart,
+            earlyFinish,
+            lateStart,
+            lateFinish,
+            totalFloat,
+            critical,
+            projectFinish
+        );
+    }
+
+    static int forwardPass(
+        ScheduleGraph graph,
+        int[] durations,
+        int[] earlyStart
+    ) {
+        int projectFinish = 0;
+        for (int i : graph.topologicalOrder) {
+            int start = Math.max(0, graph.startConstraints[i]);
+            int duration = durations[i];
+
+            for (
+                int e = graph.predecessorOffsets[i];
+                e < graph.predecessorOffsets[i + 1];
+                e++
+            ) {
+                int p = graph.predecessors[e];
+                int constraint = switch (graph.predecessorTypes[e]) {
+                    case ScheduleGraph.START_TO_START -> earlyStart[p];
+                    case ScheduleGraph.FINISH_TO_FINISH ->
+                        earlyStart[p] + durations[p] - duration;
+                    case ScheduleGraph.START_TO_FINISH ->
+                        earlyStart[p] - duration;
+                    default -> earlyStart[p] + durations[p];
+                };
+                if (constraint > start) {
+                    start = constraint;
+                }
+            }
+
+            earlyStart[i] = start;
+            if (start + duration > projectFinish) {
+                projectFinish = start + duration;
+            }
+        }
+        return projectFinish;
+    }
+
+    static void backwardPass(
+        ScheduleGraph graph,
+        int[] durations,
+        int projectFinish,
+        int[] lateFinish
+    ) {
+        int[] order = graph.topologicalOrder;
+        for (int k = order.length - 1; k >= 0; k--) {
+            int i = order[k];
+            int finish = projectFinish;
+            int duration = durations[i];
+
+            for (
+                int e = graph.successorOffsets[i];
+                e < graph.successorOffsets[i + 1];
+                e++
+            ) {
+                int s = graph.successors[e];
+                int constraint = switch (graph.successorTypes[e]) {
+                    case ScheduleGraph.START_TO_START ->
+                        lateFinish[s] - durations[s] + duration;
+                    case ScheduleGraph.FINISH_TO_FINISH -> lateFinish[s];
+                    case ScheduleGraph.START_TO_FINISH ->
+                        lateFinish[s] + duration;
+                    default -> lateFinish[s] - durations[s];
+                };
+                if (constraint < finish) {
+                    finish = constraint;
+                }
+            }
+
+            lateFinish[i] = finish;
+        }
+    }
+}
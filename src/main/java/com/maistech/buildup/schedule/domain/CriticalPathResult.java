@@ -0,0 +1,39 @@
+package com.maistech.buildup.schedule.domain;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+
+public record CriticalPathResult(
+    ScheduleGraph graph,
+    int[] earlyStart,
+    int[] earlyFinish,
+    int[] lateStart,
+    int[] lateFinish,
+    int[] totalFloat,
+    BitSet critical,
+    int projectDuration
+) {
+    public boolean isCritical(int index) {
+        return critical.get(index);
+    }
+
+    public LocalDate earlyStartDate(int index) {
+        return graph.dateAt(earlyStart[index]);
+    }
+
+    public LocalDate earlyFinishDate(int index) {
+        return graph.dateAt(earlyFinish[index] - 1);
+    }
+
+    public LocalDate lateStartDate(int index) {
+        return graph.dateAt(lateStart[index]);
+    }
+
+    public LocalDate lateFinishDate(int index) {
+        return graph.dateAt(lateFinish[index] - 1);
+    }
+
+    public LocalDate projectFinishDate() {
+        return graph.dateAt(Math.max(projectDuration, 1) - 1);
+    }
+}
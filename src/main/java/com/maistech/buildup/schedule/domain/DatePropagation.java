@@ -0,0 +1,100 @@
+package com.maistech.buildup.schedule.domain;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public final class DatePropagation {
+
+    private DatePropagation() {}
+
+    // Tasks without a start date neither move nor push
+    public static Map<UUID, LocalDate> pushSuccessors(
+        ScheduleGraph graph,
+        UUID sourceTaskId
+    ) {
+        int source = graph.indexOf(sourceTaskId);
+        if (
+            source < 0 ||
+            graph.startConstraints[source] == ScheduleGraph.NO_CONSTRAINT
+        ) {
+            return Map.of();
+        }
+
+        // Links into each reachable task from other reachable tasks
+        int n = graph.size();
+        int[] pending = new int[n];
+        int[] queue = new int[n];
+        BitSet reached = new BitSet(n);
+        reached.set(source);
+        int tail = 0;
+        queue[tail++] = source;
+        for (int head = 0; head < tail; head++) {
+            int p = queue[head];
+            for (
+                int e = graph.successorOffsets[p];
+                e < graph.successorOffsets[p + 1];
+                e++
+            ) {
+                int s = graph.successors[e];
+                if (s == source) {
+                    continue;
+                }
+                pending[s]++;
+                if (!reached.get(s)) {
+                    reached.set(s);
+                    queue[tail++] = s;
+                }
+            }
+        }
+
+        int[] start = graph.startConstraints.clone();
+        int[] required = graph.startConstraints.clone();
+        int[] durations = graph.durations;
+        BitSet moved = new BitSet(n);
+        moved.set(source);
+
+        Map<UUID, LocalDate> shifted = new LinkedHashMap<>();
+        tail = 0;
+        queue[tail++] = source;
+        for (int head = 0; head < tail; head++) {
+            int p = queue[head];
+            boolean pushes = moved.get(p);
+            for (
+                int e = graph.successorOffsets[p];
+                e < graph.successorOffsets[p + 1];
+                e++
+            ) {
+                int s = graph.successors[e];
+                if (s == source) {
+                    continue;
+                }
+                if (pushes && start[s] != ScheduleGraph.NO_CONSTRAINT) {
+                    int constraint = switch (graph.successorTypes[e]) {
+                        case ScheduleGraph.START_TO_START -> start[p];
+                        case ScheduleGraph.FINISH_TO_FINISH ->
+                            start[p] + durations[p] - durations[s];
+                        case ScheduleGraph.START_TO_FINISH ->
+                            start[p] - durations[s];
+                        default -> start[p] + durations[p];
+                    };
+                    if (constraint > required[s]) {
+                        required[s] = constraint;
+                    }
+                }
+                if (--pending[s] > 0) {
+                    continue;
+                }
+                if (required[s] > start[s]) {
+                    start[s] = required[s];
+                    moved.set(s);
+                    shifted.put(graph.taskIds[s], graph.dateAt(start[s]));
+                }
+                queue[tail++] = s;
+            }
+        }
+        return shifted;
+    }
+}
@@ -0,0 +1,12 @@
+package com.maistech.buildup.schedule.domain;
+
+import com.maistech.buildup.schedule.MilestoneStatus;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record MilestoneDateRow(
+    UUID id,
+    String name,
+    LocalDate plannedDate,
+    MilestoneStatus status
+) {}
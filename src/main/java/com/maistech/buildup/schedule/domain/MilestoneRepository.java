@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,6 +18,11 @@ public interface MilestoneRepository extends JpaRepository<MilestoneEntity, UUID
     @Query("SELECT m FROM MilestoneEntity m WHERE m.project.id = :projectId ORDER BY m.plannedDate ASC")
     List<MilestoneEntity> findByProjectIdOrderByPlannedDateAsc(@Param("projectId") UUID projectId);
 
+    @Query("SELECT m FROM MilestoneEntity m WHERE m.project.id IN :projectIds ORDER BY m.plannedDate ASC")
+    List<MilestoneEntity> findByProjectIdInOrderByPlannedDateAsc(
+        @Param("projectIds") Collection<UUID> projectIds
+    );
+
     @Query("SELECT m FROM MilestoneEntity m WHERE m.project.id = :projectId AND m.status = :status ORDER BY m.plannedDate ASC")
     List<MilestoneEntity> findByProjectIdAndStatus(
         @Param("projectId") UUID projectId,
@@ -41,4 +47,41 @@ public interface MilestoneRepository extends JpaRepository<MilestoneEntity, UUID
         @Param("startDate") LocalDate startDate,
         @Param("endDate") LocalDate endDate
     );
+
+    @Query(
+        """
+        SELECT new com.maistech.buildup.schedule.domain.MilestoneSummaryRow(
+            m.project.id,
+            COUNT(m),
+            COUNT(m) FILTER (WHERE m.status = 'COMPLETED'),
+            COUNT(m) FILTER (
+                WHERE m.status <> 'COMPLETED' AND m.plannedDate < :today
+            ),
+            MIN(m.plannedDate) FILTER (
+                WHERE m.status <> 'COMPLETED' AND m.plannedDate >= :today
+            )
+        )
+        FROM MilestoneEntity m
+        WHERE m.companyId = :companyId
+        GROUP BY m.project.id
+        """
+    )
+    List<MilestoneSummaryRow> findSummaryRowsByCompanyId(
+        @Param("companyId") UUID companyId,
+        @Param("today") LocalDate today
+    );
+
+    @Query(
+        """
+        SELECT new com.maistech.buildup.schedule.domain.MilestoneDateRow(
+            m.id, m.name, m.plannedDate, m.status
+        )
+        FROM MilestoneEntity m
+        WHERE m.project.id = :projectId
+        ORDER BY m.plannedDate ASC
+        """
+    )
+    List<MilestoneDateRow> findDateRowsByProjectId(
+        @Param("projectId") UUID projectId
+    );
 }
@@ -0,0 +1,12 @@
+package com.maistech.buildup.schedule.domain;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record MilestoneSummaryRow(
+    UUID projectId,
+    long totalMilestones,
+    long completedMilestones,
+    long overdueMilestones,
+    LocalDate nextMilestoneDate
+) {}
@@ -0,0 +1,119 @@
+package com.maistech.buildup.schedule.domain;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+final class MsProjectXmlWriter implements ScheduleExportWriter {
+
+    private static final String NAMESPACE = "http://schemas.microsoft.com/project";
+    private static final String DAY_START = "T08:00:00";
+    private static final String DAY_END = "T17:00:00";
+    private static final int HOURS_PER_DAY = 8;
+
+    private final XMLStreamWriter xml;
+
+    MsProjectXmlWriter(
+        OutputStream out,
+        String projectName,
+        LocalDate projectStart
+    ) throws IOException {
+        try {
+            this.xml = XMLOutputFactory.newFactory().createXMLStreamWriter(
+                out,
+                StandardCharsets.UTF_8.name()
+            );
+            xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            xml.writeStartElement("Project");
+            xml.writeDefaultNamespace(NAMESPACE);
+            element("SaveVersion", "14");
+            element("Name", projectName);
+            element("ScheduleFromStart", "1");
+            if (projectStart != null) {
+                element("StartDate", projectStart + DAY_START);
+            }
+            xml.writeStartElement("Tasks");
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void write(ScheduleExportRow row) throws IOException {
+        try {
+            xml.writeStartElement("Task");
+            element("UID", Long.toString(row.uid()));
+            element("ID", Long.toString(row.uid()));
+            element("Name", row.name());
+            element("OutlineLevel", Integer.toString(row.outlineLevel()));
+            if (row.startDate() != null) {
+                element("Start", row.startDate() + DAY_START);
+            }
+            if (row.endDate() != null) {
+                element("Finish", row.endDate() + DAY_END);
+            }
+            if (row.durationDays() != null) {
+                element(
+                    "Duration",
+                    "PT" + row.durationDays() * HOURS_PER_DAY + "H0M0S"
+                );
+            }
+            element("Milestone", row.isMilestone() ? "1" : "0");
+            element("Summary", row.isPhase() ? "1" : "0");
+            element(
+                "PercentComplete",
+                Integer.toString(row.progress() != null ? row.progress() : 0)
+            );
+            writePredecessors(row.predecessors());
+            xml.writeEndElement();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        try {
+            xml.writeEndElement();
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.flush();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private void writePredecessors(String predecessors)
+        throws XMLStreamException {
+        if (predecessors == null || predecessors.isEmpty()) {
+            return;
+        }
+        for (String link : predecessors.split(";")) {
+            int separator = link.indexOf(':');
+            xml.writeStartElement("PredecessorLink");
+            element("PredecessorUID", link.substring(0, separator));
+            element("Type", linkType(link.substring(separator + 1)));
+            xml.writeEndElement();
+        }
+    }
+
+    private void element(String name, String value) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(value != null ? value : "");
+        xml.writeEndElement();
+    }
+
+    private static String linkType(String dependencyType) {
+        // MS Project link codes: 0=FF, 1=FS, 2=SF, 3=SS
+        return switch (dependencyType) {
+            case "FINISH_TO_FINISH" -> "0";
+            case "START_TO_FINISH" -> "2";
+            case "START_TO_START" -> "3";
+            default -> "1";
+        };
+    }
+}
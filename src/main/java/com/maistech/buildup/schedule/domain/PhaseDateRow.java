@@ -0,0 +1,11 @@
+package com.maistech.buildup.schedule.domain;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record PhaseDateRow(
+    UUID id,
+    String name,
+    LocalDate startDate,
+    LocalDate endDate
+) {}
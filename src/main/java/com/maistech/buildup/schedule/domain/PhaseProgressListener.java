@@ -0,0 +1,61 @@
+package com.maistech.buildup.schedule.domain;
+
+import com.maistech.buildup.task.TaskChangedEvent;
+import com.maistech.buildup.task.TaskSnapshot;
+import com.maistech.buildup.task.TasksImportedEvent;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Applies task changes as deltas to each phase's weighted progress sums
+@Component
+public class PhaseProgressListener {
+
+    private final PhaseRepository phaseRepository;
+
+    public PhaseProgressListener(PhaseRepository phaseRepository) {
+        this.phaseRepository = phaseRepository;
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        Map<UUID, long[]> deltas = new HashMap<>();
+        accumulate(deltas, event.before(), -1);
+        accumulate(deltas, event.after(), 1);
+        apply(deltas);
+    }
+
+    @EventListener
+    public void onTasksImported(TasksImportedEvent event) {
+        Map<UUID, long[]> deltas = new HashMap<>();
+        for (TaskSnapshot task : event.tasks()) {
+            accumulate(deltas, task, 1);
+        }
+        apply(deltas);
+    }
+
+    private static void accumulate(
+        Map<UUID, long[]> deltas,
+        TaskSnapshot task,
+        int sign
+    ) {
+        if (task == null || task.phaseId() == null) {
+            return;
+        }
+        long[] delta = deltas.computeIfAbsent(task.phaseId(), id ->
+            new long[2]
+        );
+        delta[0] += sign * task.weightedProgress();
+        delta[1] += sign * task.progressWeight();
+    }
+
+    private void apply(Map<UUID, long[]> deltas) {
+        deltas.forEach((phaseId, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                phaseRepository.applyProgressDelta(phaseId, delta[0], delta[1]);
+            }
+        });
+    }
+}
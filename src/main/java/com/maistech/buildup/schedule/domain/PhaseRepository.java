@@ -3,6 +3,7 @@ package com.maistech.buildup.schedule.domain;
 import com.maistech.buildup.schedule.PhaseEntity;
 import com.maistech.buildup.schedule.PhaseStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -35,4 +36,93 @@ public interface PhaseRepository extends JpaRepository<PhaseEntity, UUID> {
 
     @Query("SELECT COUNT(p) FROM PhaseEntity p WHERE p.schedule.id = :scheduleId")
     long countByScheduleId(@Param("scheduleId") UUID scheduleId);
+
+    @Query(
+        """
+        SELECT new com.maistech.buildup.schedule.domain.PhaseSummaryRow(
+            s.project.id,
+            COUNT(p),
+            COUNT(p) FILTER (WHERE p.status = 'COMPLETED'),
+            COUNT(p) FILTER (WHERE p.status = 'DELAYED')
+        )
+        FROM PhaseEntity p
+        JOIN p.schedule s
+        WHERE p.companyId = :companyId
+        GROUP BY s.project.id
+        """
+    )
+    List<PhaseSummaryRow> findSummaryRowsByCompanyId(
+        @Param("companyId") UUID companyId
+    );
+
+    @Query(
+        """
+        SELECT new com.maistech.buildup.schedule.domain.PhaseTaskCountRow(
+            t.phase.id,
+            COUNT(t),
+            COUNT(t) FILTER (WHERE t.status = 'COMPLETED')
+        )
+        FROM TaskEntity t
+        WHERE t.phase.schedule.id = :scheduleId
+        GROUP BY t.phase.id
+        """
+    )
+    List<PhaseTaskCountRow> findTaskCountsByScheduleId(
+        @Param("scheduleId") UUID scheduleId
+    );
+
+    @Query(
+        """
+        SELECT new com.maistech.buildup.schedule.domain.PhaseTaskCountRow(
+            t.phase.id,
+            COUNT(t),
+            COUNT(t) FILTER (WHERE t.status = 'COMPLETED')
+        )
+        FROM TaskEntity t
+        WHERE t.phase.id = :phaseId
+        GROUP BY t.phase.id
+        """
+    )
+    Optional<PhaseTaskCountRow> findTaskCountsByPhaseId(
+        @Param("phaseId") UUID phaseId
+    );
+
+    @Modifying
+    @Query(
+        value = """
+        UPDATE phases p SET
+            weighted_progress = p.weighted_progress + :progressDelta,
+            progress_weight = p.progress_weight + :weightDelta,
+            completion_percentage = CASE
+                WHEN p.progress_weight + :weightDelta > 0
+                THEN ROUND(
+                    CAST(p.weighted_progress + :progressDelta AS numeric)
+                        / (p.progress_weight + :weightDelta)
+                )
+                ELSE 0
+            END,
+            updated_at = CURRENT_TIMESTAMP
+        WHERE p.id = :phaseId
+        """,
+        nativeQuery = true
+    )
+    int applyProgressDelta(
+        @Param("phaseId") UUID phaseId,
+        @Param("progressDelta") long progressDelta,
+        @Param("weightDelta") long weightDelta
+    );
+
+    @Query(
+        """
+        SELECT new com.maistech.buildup.schedule.domain.PhaseDateRow(
+            p.id, p.name, p.startDate, p.endDate
+        )
+        FROM PhaseEntity p
+        WHERE p.schedule.project.id = :projectId
+        ORDER BY p.orderIndex ASC
+        """
+    )
+    List<PhaseDateRow> findDateRowsByProjectId(
+        @Param("projectId") UUID projectId
+    );
 }
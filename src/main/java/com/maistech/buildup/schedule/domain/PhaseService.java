@@ -1,16 +1,20 @@
 package com.maistech.buildup.schedule.domain;
 
+import com.maistech.buildup.calendar.domain.WorkingCalendarService;
+import com.maistech.buildup.portfolio.domain.PortfolioService;
 import com.maistech.buildup.schedule.PhaseEntity;
 import com.maistech.buildup.schedule.ScheduleEntity;
 import com.maistech.buildup.schedule.dto.CreatePhaseRequest;
 import com.maistech.buildup.schedule.dto.PhaseResponse;
 import com.maistech.buildup.schedule.dto.UpdatePhaseRequest;
-import com.maistech.buildup.task.TaskStatus;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,15 +23,22 @@ public class PhaseService {
 
     private final PhaseRepository phaseRepository;
     private final ScheduleRepository scheduleRepository;
+    private final WorkingCalendarService workingCalendarService;
 
     public PhaseService(
         PhaseRepository phaseRepository,
-        ScheduleRepository scheduleRepository
+        ScheduleRepository scheduleRepository,
+        WorkingCalendarService workingCalendarService
     ) {
         this.phaseRepository = phaseRepository;
         this.scheduleRepository = scheduleRepository;
+        this.workingCalendarService = workingCalendarService;
     }
 
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = PortfolioService.CACHE_KEY
+    )
     public PhaseResponse createPhase(
         UUID companyId,
         UUID scheduleId,
@@ -53,6 +64,7 @@ public class PhaseService {
             .notes(request.notes())
             .companyId(companyId)
             .build();
+        phase.calculateDuration(workingCalendarService.forCompany(companyId));
 
         PhaseEntity saved = phaseRepository.save(phase);
         return mapToResponse(saved);
@@ -86,13 +98,24 @@ public class PhaseService {
                 new IllegalArgumentException("Schedule not found: " + scheduleId)
             );
 
+        Map<UUID, PhaseTaskCountRow> countsByPhase = phaseRepository
+            .findTaskCountsByScheduleId(scheduleId)
+            .stream()
+            .collect(
+                Collectors.toMap(PhaseTaskCountRow::phaseId, Function.identity())
+            );
+
         return phaseRepository
             .findByScheduleIdAndCompanyId(scheduleId, companyId)
             .stream()
-            .map(this::mapToResponse)
+            .map(phase -> mapToResponse(phase, countsByPhase.get(phase.getId())))
             .collect(Collectors.toList());
     }
 
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = PortfolioService.CACHE_KEY
+    )
     public PhaseResponse updatePhase(
         UUID companyId,
         UUID scheduleId,
@@ -111,6 +134,14 @@ public class PhaseService {
             );
         }
 
+        // Completion is derived from the tasks' weighted progress; a manual
+        // value would be overwritten by the next task change.
+        if (request.completionPercentage() != null) {
+            throw new IllegalArgumentException(
+                "Phase completion is calculated from its tasks and cannot be set"
+            );
+        }
+
         if (request.name() != null) phase.setName(request.name());
         if (request.description() != null) phase.setDescription(
             request.description()
@@ -127,15 +158,17 @@ public class PhaseService {
         if (request.orderIndex() != null) phase.setOrderIndex(
             request.orderIndex()
         );
-        if (request.completionPercentage() != null) phase.updateProgress(
-            request.completionPercentage()
-        );
         if (request.notes() != null) phase.setNotes(request.notes());
+        phase.calculateDuration(workingCalendarService.forCompany(companyId));
 
         PhaseEntity updated = phaseRepository.save(phase);
         return mapToResponse(updated);
     }
 
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = PortfolioService.CACHE_KEY
+    )
     public void deletePhase(UUID companyId, UUID scheduleId, UUID phaseId) {
         PhaseEntity phase = phaseRepository
             .findByIdAndCompanyId(phaseId, companyId)
@@ -158,12 +191,18 @@ public class PhaseService {
     }
 
     private PhaseResponse mapToResponse(PhaseEntity phase) {
-        int totalTasks = phase.getTasks().size();
-        int completedTasks = (int) phase
-            .getTasks()
-            .stream()
-            .filter(task -> task.getStatus() == TaskStatus.COMPLETED)
-            .count();
+        return mapToResponse(
+            phase,
+            phaseRepository.findTaskCountsByPhaseId(phase.getId()).orElse(null)
+        );
+    }
+
+    private PhaseResponse mapToResponse(
+        PhaseEntity phase,
+        PhaseTaskCountRow counts
+    ) {
+        int totalTasks = counts != null ? (int) counts.totalTasks() : 0;
+        int completedTasks = counts != null ? (int) counts.completedTasks() : 0;
 
         return new PhaseResponse(
             phase.getId(),
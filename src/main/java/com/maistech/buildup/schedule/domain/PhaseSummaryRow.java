@@ -0,0 +1,10 @@
+package com.maistech.buildup.schedule.domain;
+
+import java.util.UUID;
+
+public record PhaseSummaryRow(
+    UUID projectId,
+    long totalPhases,
+    long completedPhases,
+    long delayedPhases
+) {}
@@ -0,0 +1,9 @@
+package com.maistech.buildup.schedule.domain;
+
+import java.util.UUID;
+
+public record PhaseTaskCountRow(
+    UUID phaseId,
+    long totalTasks,
+    long completedTasks
+) {}
@@ -0,0 +1,19 @@
+package com.maistech.buildup.schedule.domain;
+
+import com.maistech.buildup.project.ProjectStatus;
+import com.maistech.buildup.schedule.ScheduleStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record ProjectScheduleSummaryRow(
+    UUID projectId,
+    String projectName,
+    ProjectStatus projectStatus,
+    LocalDate dueDate,
+    BigDecimal contractValue,
+    ScheduleStatus scheduleStatus,
+    Integer completedPercentage,
+    Boolean isOnTrack,
+    LocalDate scheduleEndDate
+) {}
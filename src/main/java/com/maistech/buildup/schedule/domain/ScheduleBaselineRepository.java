@@ -0,0 +1,136 @@
+package com.maistech.buildup.schedule.domain;
+
+import com.maistech.buildup.schedule.ScheduleBaselineEntity;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScheduleBaselineRepository
+    extends JpaRepository<ScheduleBaselineEntity, UUID> {
+    @Query(
+        "SELECT b FROM ScheduleBaselineEntity b WHERE b.id = :baselineId AND b.project.id = :projectId AND b.companyId = :companyId"
+    )
+    Optional<ScheduleBaselineEntity> findByIdAndProjectIdAndCompanyId(
+        @Param("baselineId") UUID baselineId,
+        @Param("projectId") UUID projectId,
+        @Param("companyId") UUID companyId
+    );
+
+    @Query(
+        "SELECT b FROM ScheduleBaselineEntity b WHERE b.project.id = :projectId AND b.companyId = :companyId ORDER BY b.createdAt DESC"
+    )
+    List<ScheduleBaselineEntity> findByProjectIdAndCompanyId(
+        @Param("projectId") UUID projectId,
+        @Param("companyId") UUID companyId
+    );
+
+    @Query(
+        "SELECT COUNT(b) FROM ScheduleBaselineEntity b WHERE b.schedule.id = :scheduleId"
+    )
+    long countByScheduleId(@Param("scheduleId") UUID scheduleId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        value = """
+        UPDATE schedule_baselines b
+        SET entries = jsonb_build_object(
+                'tasks', COALESCE((
+                    SELECT jsonb_object_agg(t.id, jsonb_build_array(
+                        t.start_date - b.reference_date,
+                        t.end_date - b.reference_date,
+                        t.name))
+                    FROM tasks t
+                    WHERE t.project_id = b.project_id
+                ), CAST('{}' AS jsonb)),
+                'phases', COALESCE((
+                    SELECT jsonb_object_agg(ph.id, jsonb_build_array(
+                        ph.start_date - b.reference_date,
+                        ph.end_date - b.reference_date,
+                        ph.name))
+                    FROM phases ph
+                    WHERE ph.schedule_id = b.schedule_id
+                ), CAST('{}' AS jsonb)),
+                'milestones', COALESCE((
+                    SELECT jsonb_object_agg(m.id, jsonb_build_array(
+                        m.planned_date - b.reference_date,
+                        m.planned_date - b.reference_date,
+                        m.name))
+                    FROM milestones m
+                    WHERE m.project_id = b.project_id
+                ), CAST('{}' AS jsonb))
+            ),
+            task_count = (
+                SELECT COUNT(*) FROM tasks t WHERE t.project_id = b.project_id
+            ),
+            phase_count = (
+                SELECT COUNT(*) FROM phases ph WHERE ph.schedule_id = b.schedule_id
+            ),
+            milestone_count = (
+                SELECT COUNT(*) FROM milestones m WHERE m.project_id = b.project_id
+            ),
+            updated_at = CURRENT_TIMESTAMP
+        WHERE b.id = :baselineId
+        """,
+        nativeQuery = true
+    )
+    int captureEntries(@Param("baselineId") UUID baselineId);
+
+    @Query(
+        value = """
+        WITH baseline AS (
+            SELECT b.reference_date, b.entries
+            FROM schedule_baselines b
+            WHERE b.id = :baselineId
+        ),
+        planned AS (
+            SELECT e.type, CAST(e.key AS uuid) AS id, e.value ->> 2 AS name,
+                bl.reference_date + CAST(e.value ->> 0 AS integer) AS start_date,
+                bl.reference_date + CAST(e.value ->> 1 AS integer) AS end_date
+            FROM baseline bl
+            CROSS JOIN LATERAL (
+                SELECT 'PHASE' AS type, p.key, p.value
+                FROM jsonb_each(bl.entries -> 'phases') p
+                UNION ALL
+                SELECT 'TASK', t.key, t.value
+                FROM jsonb_each(bl.entries -> 'tasks') t
+                UNION ALL
+                SELECT 'MILESTONE', m.key, m.value
+                FROM jsonb_each(bl.entries -> 'milestones') m
+            ) e
+        ),
+        live AS (
+            SELECT 'PHASE' AS type, ph.id, ph.name, ph.start_date, ph.end_date
+            FROM phases ph
+            JOIN schedules s ON s.id = ph.schedule_id
+            WHERE s.project_id = :projectId
+            UNION ALL
+            SELECT 'TASK', t.id, t.name, t.start_date, t.end_date
+            FROM tasks t
+            WHERE t.project_id = :projectId
+            UNION ALL
+            SELECT 'MILESTONE', m.id, m.name, m.planned_date, m.planned_date
+            FROM milestones m
+            WHERE m.project_id = :projectId
+        )
+        SELECT COALESCE(l.type, p.type) AS type, COALESCE(l.id, p.id) AS id,
+            COALESCE(l.name, p.name) AS name, p.start_date, p.end_date, l.start_date, l.end_date,
+            p.id IS NOT NULL AS in_baseline, l.id IS NOT NULL AS in_plan
+        FROM planned p
+        FULL JOIN live l ON l.type = p.type AND l.id = p.id
+        ORDER BY CASE COALESCE(l.type, p.type)
+                WHEN 'PHASE' THEN 0 WHEN 'TASK' THEN 1 ELSE 2 END,
+            COALESCE(p.start_date, l.start_date), 2
+        """,
+        nativeQuery = true
+    )
+    List<Object[]> findVarianceRows(
+        @Param("baselineId") UUID baselineId,
+        @Param("projectId") UUID projectId
+    );
+}
@@ -0,0 +1,224 @@
+package com.maistech.buildup.schedule.domain;
+
+import com.maistech.buildup.schedule.BaselineVarianceStatus;
+import com.maistech.buildup.schedule.ScheduleBaselineEntity;
+import com.maistech.buildup.schedule.ScheduleEntity;
+import com.maistech.buildup.schedule.ScheduleNotFoundException;
+import com.maistech.buildup.schedule.dto.BaselineResponse;
+import com.maistech.buildup.schedule.dto.BaselineVarianceItem;
+import com.maistech.buildup.schedule.dto.BaselineVarianceResponse;
+import com.maistech.buildup.schedule.dto.CreateBaselineRequest;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class ScheduleBaselineService {
+
+    public static final int MAX_BASELINES_PER_SCHEDULE = 10;
+
+    private final ScheduleBaselineRepository baselineRepository;
+    private final ScheduleRepository scheduleRepository;
+
+    public ScheduleBaselineService(
+        ScheduleBaselineRepository baselineRepository,
+        ScheduleRepository scheduleRepository
+    ) {
+        this.baselineRepository = baselineRepository;
+        this.scheduleRepository = scheduleRepository;
+    }
+
+    public BaselineResponse createBaseline(
+        UUID companyId,
+        UUID projectId,
+        CreateBaselineRequest request
+    ) {
+        // The schedule row lock serializes captures, so the limit holds
+        ScheduleEntity schedule = scheduleRepository
+            .findByProjectIdForUpdate(projectId)
+            .filter(s -> companyId.equals(s.getCompanyId()))
+            .orElseThrow(() ->
+                new ScheduleNotFoundException("Schedule not found for project")
+            );
+
+        if (
+            baselineRepository.countByScheduleId(schedule.getId()) >=
+            MAX_BASELINES_PER_SCHEDULE
+        ) {
+            throw new IllegalArgumentException(
+                "A schedule can have at most " +
+                MAX_BASELINES_PER_SCHEDULE +
+                " baselines"
+            );
+        }
+
+        ScheduleBaselineEntity baseline = ScheduleBaselineEntity.builder()
+            .schedule(schedule)
+            .project(schedule.getProject())
+            .name(request.name())
+            .description(request.description())
+            .referenceDate(schedule.getStartDate())
+            .plannedStartDate(schedule.getStartDate())
+            .plannedEndDate(schedule.getEndDate())
+            .companyId(companyId)
+            .build();
+
+        UUID baselineId = baselineRepository.saveAndFlush(baseline).getId();
+        baselineRepository.captureEntries(baselineId);
+
+        return baselineRepository
+            .findById(baselineId)
+            .map(this::mapToResponse)
+            .orElseThrow(() ->
+                new ScheduleNotFoundException("Baseline not found")
+            );
+    }
+
+    @Transactional(readOnly = true)
+    public List<BaselineResponse> listBaselines(
+        UUID companyId,
+        UUID projectId
+    ) {
+        return baselineRepository
+            .findByProjectIdAndCompanyId(projectId, companyId)
+            .stream()
+            .map(this::mapToResponse)
+            .toList();
+    }
+
+    public void deleteBaseline(UUID companyId, UUID projectId, UUID baselineId) {
+        baselineRepository.delete(findBaseline(companyId, projectId, baselineId));
+    }
+
+    @Transactional(readOnly = true)
+    public BaselineVarianceResponse getVariance(
+        UUID companyId,
+        UUID projectId,
+        UUID baselineId,
+        boolean includeUnchanged
+    ) {
+        ScheduleBaselineEntity baseline = findBaseline(
+            companyId,
+            projectId,
+            baselineId
+        );
+
+        int compared = 0;
+        int changed = 0;
+        int added = 0;
+        int removed = 0;
+        int maxFinishSlip = 0;
+        List<BaselineVarianceItem> items = new ArrayList<>();
+
+        for (Object[] columns : baselineRepository.findVarianceRows(
+            baselineId,
+            projectId
+        )) {
+            BaselineVarianceItem item = compare(BaselineVarianceRow.of(columns));
+            compared++;
+            switch (item.status()) {
+                case CHANGED -> changed++;
+                case ADDED -> added++;
+                case REMOVED -> removed++;
+                case UNCHANGED -> {}
+            }
+            if (item.finishVarianceDays() != null) {
+                maxFinishSlip = Math.max(
+                    maxFinishSlip,
+                    item.finishVarianceDays()
+                );
+            }
+            if (
+                includeUnchanged ||
+                item.status() != BaselineVarianceStatus.UNCHANGED
+            ) {
+                items.add(item);
+            }
+        }
+
+        LocalDate currentEnd = baseline.getSchedule().getEndDate();
+
+        return new BaselineVarianceResponse(
+            baseline.getId(),
+            baseline.getName(),
+            baseline.getPlannedEndDate(),
+            currentEnd,
+            daysBetween(baseline.getPlannedEndDate(), currentEnd),
+            compared,
+            changed,
+            added,
+            removed,
+            maxFinishSlip,
+            items
+        );
+    }
+
+    private BaselineVarianceItem compare(BaselineVarianceRow row) {
+        BaselineVarianceStatus status;
+        if (!row.inBaseline()) {
+            status = BaselineVarianceStatus.ADDED;
+        } else if (!row.inPlan()) {
+            status = BaselineVarianceStatus.REMOVED;
+        } else if (
+            Objects.equals(row.baselineStartDate(), row.currentStartDate()) &&
+            Objects.equals(row.baselineEndDate(), row.currentEndDate())
+        ) {
+            status = BaselineVarianceStatus.UNCHANGED;
+        } else {
+            status = BaselineVarianceStatus.CHANGED;
+        }
+
+        return new BaselineVarianceItem(
+            row.id(),
+            row.type(),
+            row.name(),
+            status,
+            row.baselineStartDate(),
+            row.baselineEndDate(),
+            row.currentStartDate(),
+            row.currentEndDate(),
+            daysBetween(row.baselineStartDate(), row.currentStartDate()),
+            daysBetween(row.baselineEndDate(), row.currentEndDate())
+        );
+    }
+
+    private ScheduleBaselineEntity findBaseline(
+        UUID companyId,
+        UUID projectId,
+        UUID baselineId
+    ) {
+        return baselineRepository
+            .findByIdAndProjectIdAndCompanyId(baselineId, projectId, companyId)
+            .orElseThrow(() ->
+                new ScheduleNotFoundException("Baseline not found")
+            );
+    }
+
+    private static Integer daysBetween(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            return null;
+        }
+        return (int) ChronoUnit.DAYS.between(from, to);
+    }
+
+    private BaselineResponse mapToResponse(ScheduleBaselineEntity baseline) {
+        return new BaselineResponse(
+            baseline.getId(),
+            baseline.getSchedule().getId(),
+            baseline.getName(),
+            baseline.getDescription(),
+            baseline.getPlannedStartDate(),
+            baseline.getPlannedEndDate(),
+            baseline.getTaskCount(),
+            baseline.getPhaseCount(),
+            baseline.getMilestoneCount(),
+            baseline.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package com.maistech.buildup.schedule.domain;
+
+import com.maistech.buildup.task.TaskChangedEvent;
+import com.maistech.buildup.task.TaskSnapshot;
+import com.maistech.buildup.task.TasksFlaggedOverdueEvent;
+import com.maistech.buildup.task.TasksImportedEvent;
+import java.util.UUID;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Applies each task change as a counter delta inside the writing transaction
+@Component
+public class ScheduleCounterListener {
+
+    private final ScheduleRepository scheduleRepository;
+
+    public ScheduleCounterListener(ScheduleRepository scheduleRepository) {
+        this.scheduleRepository = scheduleRepository;
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskSnapshot before = event.before();
+        TaskSnapshot after = event.after();
+
+        apply(
+            event.projectId(),
+            count(after != null) - count(before != null),
+            count(after != null && after.completed()) -
+            count(before != null && before.completed()),
+            count(after != null && after.overdue()) -
+            count(before != null && before.overdue())
+        );
+    }
+
+    @EventListener
+    public void onTasksImported(TasksImportedEvent event) {
+        int completed = 0;
+        int overdue = 0;
+        for (TaskSnapshot task : event.tasks()) {
+            completed += count(task.completed());
+            overdue += count(task.overdue());
+        }
+        apply(event.projectId(), event.tasks().size(), completed, overdue);
+    }
+
+    @EventListener
+    public void onTasksFlaggedOverdue(TasksFlaggedOverdueEvent event) {
+        apply(event.projectId(), 0, 0, event.count());
+    }
+
+    private void apply(
+        UUID projectId,
+        int totalDelta,
+        int completedDelta,
+        int overdueDelta
+    ) {
+        if (totalDelta == 0 && completedDelta == 0 && overdueDelta == 0) {
+            return;
+        }
+        scheduleRepository.applyTaskCounterDelta(
+            projectId,
+            totalDelta,
+            completedDelta,
+            overdueDelta
+        );
+    }
+
+    private static int count(boolean condition) {
+        return condition ? 1 : 0;
+    }
+}
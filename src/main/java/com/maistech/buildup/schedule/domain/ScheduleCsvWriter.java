@@ -0,0 +1,82 @@
+package com.maistech.buildup.schedule.domain;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+// The BOM keeps accented names intact in spreadsheet tools
+final class ScheduleCsvWriter implements ScheduleExportWriter {
+
+    private static final String HEADER =
+        "uid,id,type,outline_level,name,start_date,end_date,duration_days," +
+        "progress_percentage,status,predecessors";
+    private static final String LINE_END = "\r\n";
+
+    private final Writer writer;
+
+    ScheduleCsvWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(
+            new OutputStreamWriter(out, StandardCharsets.UTF_8)
+        );
+        writer.write('\uFEFF');
+        writer.write(HEADER);
+        writer.write(LINE_END);
+    }
+
+    @Override
+    public void write(ScheduleExportRow row) throws IOException {
+        writer.write(Long.toString(row.uid()));
+        writer.write(',');
+        writer.write(row.id().toString());
+        writer.write(',');
+        writer.write(row.kind());
+        writer.write(',');
+        writer.write(Integer.toString(row.outlineLevel()));
+        writer.write(',');
+        writer.write(escape(row.name()));
+        writer.write(',');
+        writer.write(text(row.startDate()));
+        writer.write(',');
+        writer.write(text(row.endDate()));
+        writer.write(',');
+        writer.write(text(row.durationDays()));
+        writer.write(',');
+        writer.write(text(row.progress()));
+        writer.write(',');
+        writer.write(text(row.status()));
+        writer.write(',');
+        writer.write(text(row.predecessors()));
+        writer.write(LINE_END);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        // Keep spreadsheets from evaluating names as formulas
+        String safe = !value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0
+            ? "'" + value
+            : value;
+        if (
+            safe.indexOf(',') < 0 &&
+            safe.indexOf('"') < 0 &&
+            safe.indexOf('\n') < 0 &&
+            safe.indexOf('\r') < 0
+        ) {
+            return safe;
+        }
+        return '"' + safe.replace("\"", "\"\"") + '"';
+    }
+}
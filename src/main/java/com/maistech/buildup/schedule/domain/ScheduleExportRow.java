@@ -0,0 +1,55 @@
+package com.maistech.buildup.schedule.domain;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// predecessors holds uid:DEPENDENCY_TYPE entries separated by semicolons
+record ScheduleExportRow(
+    long uid,
+    UUID id,
+    String kind,
+    int outlineLevel,
+    String name,
+    LocalDate startDate,
+    LocalDate endDate,
+    Integer durationDays,
+    Integer progress,
+    String status,
+    String predecessors
+) {
+    static ScheduleExportRow of(Object[] columns) {
+        return new ScheduleExportRow(
+            ((Number) columns[0]).longValue(),
+            (UUID) columns[1],
+            (String) columns[2],
+            ((Number) columns[3]).intValue(),
+            (String) columns[4],
+            toLocalDate(columns[5]),
+            toLocalDate(columns[6]),
+            toInteger(columns[7]),
+            toInteger(columns[8]),
+            (String) columns[9],
+            (String) columns[10]
+        );
+    }
+
+    boolean isPhase() {
+        return "PHASE".equals(kind);
+    }
+
+    boolean isMilestone() {
+        return "MILESTONE".equals(kind);
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
+    private static Integer toInteger(Object value) {
+        return value != null ? ((Number) value).intValue() : null;
+    }
+}
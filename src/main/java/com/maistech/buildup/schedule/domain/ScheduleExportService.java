@@ -0,0 +1,89 @@
+package com.maistech.buildup.schedule.domain;
+
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.project.domain.ProjectRepository;
+import com.maistech.buildup.schedule.ScheduleExportFormat;
+import com.maistech.buildup.schedule.ScheduleNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Service
+public class ScheduleExportService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ScheduleExportService(
+        ScheduleRepository scheduleRepository,
+        ProjectRepository projectRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.scheduleRepository = scheduleRepository;
+        this.projectRepository = projectRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public StreamingResponseBody exportSchedule(
+        UUID companyId,
+        UUID projectId,
+        ScheduleExportFormat format
+    ) {
+        ProjectEntity project = projectRepository
+            .findByIdAndCompanyId(projectId, companyId)
+            .orElseThrow(() ->
+                new ScheduleNotFoundException("Project not found")
+            );
+        String projectName = project.getName();
+        LocalDate projectStart = project.getStartDate();
+
+        return out ->
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (
+                    Stream<Object[]> rows = scheduleRepository.streamExportRows(
+                        projectId
+                    )
+                ) {
+                    ScheduleExportWriter writer = openWriter(
+                        format,
+                        out,
+                        projectName,
+                        projectStart
+                    );
+                    Iterator<Object[]> iterator = rows.iterator();
+                    while (iterator.hasNext()) {
+                        writer.write(ScheduleExportRow.of(iterator.next()));
+                    }
+                    writer.finish();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    private ScheduleExportWriter openWriter(
+        ScheduleExportFormat format,
+        OutputStream out,
+        String projectName,
+        LocalDate projectStart
+    ) throws IOException {
+        return switch (format) {
+            case CSV -> new ScheduleCsvWriter(out);
+            case MS_PROJECT_XML -> new MsProjectXmlWriter(
+                out,
+                projectName,
+                projectStart
+            );
+        };
+    }
+}
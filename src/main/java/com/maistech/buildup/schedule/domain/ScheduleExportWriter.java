@@ -0,0 +1,9 @@
+package com.maistech.buildup.schedule.domain;
+
+import java.io.IOException;
+
+interface ScheduleExportWriter {
+    void write(ScheduleExportRow row) throws IOException;
+
+    void finish() throws IOException;
+}
@@ -0,0 +1,277 @@
+package com.maistech.buildup.schedule.domain;
+
+import com.maistech.buildup.calendar.WorkingCalendar;
+import com.maistech.buildup.task.DependencyType;
+import com.maistech.buildup.task.domain.TaskDependencyRow;
+import com.maistech.buildup.task.domain.TaskScheduleRow;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Offsets and durations are in working days of the company calendar
+public final class ScheduleGraph {
+
+    static final byte FINISH_TO_START = 0;
+    static final byte START_TO_START = 1;
+    static final byte FINISH_TO_FINISH = 2;
+    static final byte START_TO_FINISH = 3;
+
+    static final int NO_CONSTRAINT = Integer.MIN_VALUE;
+
+    final LocalDate anchor;
+    final WorkingCalendar calendar;
+    final UUID[] taskIds;
+    final String[] names;
+    final int[] durations;
+    final int[] startConstraints;
+
+    final int[] predecessorOffsets;
+    final int[] predecessors;
+    final byte[] predecessorTypes;
+
+    final int[] successorOffsets;
+    final int[] successors;
+    final byte[] successorTypes;
+
+    final int[] topologicalOrder;
+
+    private final Map<UUID, Integer> indexById;
+
+    private ScheduleGraph(
+        LocalDate anchor,
+        WorkingCalendar calendar,
+        UUID[] taskIds,
+        String[] names,
+        int[] durations,
+        int[] startConstraints,
+        int[] predecessorOffsets,
+        int[] predecessors,
+        byte[] predecessorTypes,
+        int[] successorOffsets,
+        int[] successors,
+        byte[] successorTypes,
+        int[] topologicalOrder,
+        Map<UUID, Integer> indexById
+    ) {
+        this.anchor = anchor;
+        this.calendar = calendar;
+        this.taskIds = taskIds;
+        this.names = names;
+        this.durations = durations;
+        this.startConstraints = startConstraints;
+        this.predecessorOffsets = predecessorOffsets;
+        this.predecessors = predecessors;
+        this.predecessorTypes = predecessorTypes;
+        this.successorOffsets = successorOffsets;
+        this.successors = successors;
+        this.successorTypes = successorTypes;
+        this.topologicalOrder = topologicalOrder;
+        this.indexById = indexById;
+    }
+
+    public static ScheduleGraph build(
+        LocalDate fallbackAnchor,
+        WorkingCalendar calendar,
+        List<TaskScheduleRow> tasks,
+        List<TaskDependencyRow> dependencies
+    ) {
+        int n = tasks.size();
+        UUID[] taskIds = new UUID[n];
+        String[] names = new String[n];
+        int[] durations = new int[n];
+        Map<UUID, Integer> indexById = new HashMap<>(n * 2);
+
+        LocalDate anchor = null;
+        for (int i = 0; i < n; i++) {
+            TaskScheduleRow task = tasks.get(i);
+            taskIds[i] = task.id();
+            names[i] = task.name();
+            durations[i] = durationOf(task, calendar);
+            indexById.put(task.id(), i);
+
+            if (
+                task.startDate() != null &&
+                (anchor == null || task.startDate().isBefore(anchor))
+            ) {
+                anchor = task.startDate();
+            }
+        }
+        if (anchor == null) {
+            anchor = fallbackAnchor;
+        }
+
+        int[] startConstraints = new int[n];
+        for (int i = 0; i < n; i++) {
+            LocalDate start = tasks.get(i).startDate();
+            startConstraints[i] = start != null
+                ? calendar.workingDaysUntil(anchor, start)
+                : NO_CONSTRAINT;
+        }
+
+        int m = 0;
+        int[] from = new int[dependencies.size()];
+        int[] to = new int[dependencies.size()];
+        byte[] types = new byte[dependencies.size()];
+        for (TaskDependencyRow dependency : dependencies) {
+            Integer predecessor = indexById.get(dependency.dependsOnTaskId());
+            Integer successor = indexById.get(dependency.taskId());
+            if (predecessor == null || successor == null) {
+                continue;
+            }
+            from[m] = predecessor;
+            to[m] = successor;
+            types[m] = typeCode(dependency.dependencyType());
+            m++;
+        }
+
+        int[] predecessorOffsets = new int[n + 1];
+        int[] successorOffsets = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            predecessorOffsets[to[e] + 1]++;
+            successorOffsets[from[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            predecessorOffsets[i + 1] += predecessorOffsets[i];
+            successorOffsets[i + 1] += successorOffsets[i];
+        }
+
+        int[] predecessors = new int[m];
+        byte[] predecessorTypes = new byte[m];
+        int[] successors = new int[m];
+        byte[] successorTypes = new byte[m];
+        int[] predecessorCursor = predecessorOffsets.clone();
+        int[] successorCursor = successorOffsets.clone();
+        for (int e = 0; e < m; e++) {
+            int p = predecessorCursor[to[e]]++;
+            predecessors[p] = from[e];
+            predecessorTypes[p] = types[e];
+
+            int s = successorCursor[from[e]]++;
+            successors[s] = to[e];
+            successorTypes[s] = types[e];
+        }
+
+        int[] topologicalOrder = topologicalOrder(
+            n,
+            predecessorOffsets,
+            successorOffsets,
+            successors
+        );
+
+        return new ScheduleGraph(
+            anchor,
+            calendar,
+            taskIds,
+            names,
+            durations,
+            startConstraints,
+            predecessorOffsets,
+            predecessors,
+            predecessorTypes,
+            successorOffsets,
+            successors,
+            successorTypes,
+            topologicalOrder,
+            indexById
+        );
+    }
+
+    public int size() {
+        return taskIds.length;
+    }
+
+    public LocalDate anchor() {
+        return anchor;
+    }
+
+    public UUID taskId(int index) {
+        return taskIds[index];
+    }
+
+    public String taskName(int index) {
+        return names[index];
+    }
+
+    public int duration(int index) {
+        return durations[index];
+    }
+
+    public int indexOf(UUID taskId) {
+        Integer index = indexById.get(taskId);
+        return index != null ? index : -1;
+    }
+
+    public LocalDate dateAt(int offset) {
+        return calendar.addWorkingDays(anchor, offset);
+    }
+
+    private static int durationOf(
+        TaskScheduleRow task,
+        WorkingCalendar calendar
+    ) {
+        if (task.durationDays() != null && task.durationDays() > 0) {
+            return task.durationDays();
+        }
+        if (task.startDate() != null && task.endDate() != null) {
+            return Math.max(
+                1,
+                calendar.countWorkingDays(task.startDate(), task.endDate())
+            );
+        }
+        return 1;
+    }
+
+    private static byte typeCode(DependencyType type) {
+        if (type == null) {
+            return FINISH_TO_START;
+        }
+        return switch (type) {
+            case FINISH_TO_START -> FINISH_TO_START;
+            case START_TO_START -> START_TO_START;
+            case FINISH_TO_FINISH -> FINISH_TO_FINISH;
+            case START_TO_FINISH -> START_TO_FINISH;
+        };
+    }
+
+    private static int[] topologicalOrder(
+        int n,
+        int[] predecessorOffsets,
+        int[] successorOffsets,
+        int[] successors
+    ) {
+        int[] inDegree = new int[n];
+        for (int i = 0; i < n; i++) {
+            inDegree[i] = predecessorOffsets[i + 1] - predecessorOffsets[i];
+        }
+
+        int[] order = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int current = order[head++];
+            for (
+                int e = successorOffsets[current];
+                e < successorOffsets[current + 1];
+                e++
+            ) {
+                if (--inDegree[successors[e]] == 0) {
+                    order[tail++] = successors[e];
+                }
+            }
+        }
+
+        if (tail != n) {
+            throw new IllegalStateException(
+                "Task dependencies contain a cycle"
+            );
+        }
+        return order;
+    }
+}
@@ -0,0 +1,154 @@
+package com.maistech.buildup.schedule.domain;
+
+import com.maistech.buildup.schedule.MilestoneChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Recalculates a project once quiet for DEBOUNCE_NANOS or after MAX_DELAY_NANOS
+@Component
+@Slf4j
+public class ScheduleRecalculationQueue {
+
+    public static final long DEBOUNCE_NANOS = 500_000_000L;
+    public static final long MAX_DELAY_NANOS = 5_000_000_000L;
+    static final int MAX_CONCURRENT = 4;
+
+    private final ScheduleService scheduleService;
+    private final Map<UUID, PendingRecalculation> dirty =
+        new ConcurrentHashMap<>();
+    private final Set<UUID> running = ConcurrentHashMap.newKeySet();
+    private final Semaphore permits = new Semaphore(MAX_CONCURRENT);
+    private final ExecutorService executor =
+        Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter requestedCounter;
+    private final Counter executedCounter;
+    private final Timer recalculationTimer;
+
+    public ScheduleRecalculationQueue(
+        ScheduleService scheduleService,
+        MeterRegistry meterRegistry
+    ) {
+        this.scheduleService = scheduleService;
+        this.requestedCounter = Counter.builder("schedule.recalc.requested")
+            .description("Schedule recalculations requested")
+            .register(meterRegistry);
+        this.executedCounter = Counter.builder("schedule.recalc.executed")
+            .description("Schedule recalculations actually executed")
+            .register(meterRegistry);
+        this.recalculationTimer = Timer.builder("schedule.recalc.duration")
+            .description("Duration of a coalesced schedule recalculation")
+            .register(meterRegistry);
+        Gauge.builder("schedule.recalc.queue.depth", dirty, Map::size)
+            .description("Projects waiting for a schedule recalculation")
+            .register(meterRegistry);
+        Gauge.builder("schedule.recalc.coalescing.ratio", this, queue ->
+            queue.coalescingRatio()
+        )
+            .description("Requested recalculations per executed one")
+            .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMilestoneChanged(MilestoneChangedEvent event) {
+        markDirty(event.companyId(), event.projectId());
+    }
+
+    public void markDirty(UUID companyId, UUID projectId) {
+        markDirty(companyId, projectId, System.nanoTime());
+    }
+
+    public void markDirty(UUID companyId, UUID projectId, long now) {
+        requestedCounter.increment();
+        dirty.merge(
+            projectId,
+            new PendingRecalculation(companyId, now, now),
+            (previous, next) ->
+                new PendingRecalculation(
+                    companyId,
+                    previous.firstMarkedAt(),
+                    now
+                )
+        );
+    }
+
+    @Scheduled(fixedDelay = 250)
+    public void drain() {
+        drain(System.nanoTime());
+    }
+
+    public void drain(long now) {
+        for (Map.Entry<UUID, PendingRecalculation> entry : dirty.entrySet()) {
+            UUID projectId = entry.getKey();
+            PendingRecalculation pending = entry.getValue();
+            if (
+                (now - pending.lastMarkedAt() < DEBOUNCE_NANOS &&
+                    now - pending.firstMarkedAt() < MAX_DELAY_NANOS) ||
+                !running.add(projectId)
+            ) {
+                continue;
+            }
+            if (!permits.tryAcquire()) {
+                running.remove(projectId);
+                return;
+            }
+            if (!dirty.remove(projectId, pending)) {
+                running.remove(projectId);
+                permits.release();
+                continue;
+            }
+            executor.execute(() -> recalculate(projectId, pending.companyId()));
+        }
+    }
+
+    public int depth() {
+        return dirty.size();
+    }
+
+    public double coalescingRatio() {
+        double executed = executedCounter.count();
+        return executed > 0 ? requestedCounter.count() / executed : 0;
+    }
+
+    private void recalculate(UUID projectId, UUID companyId) {
+        try {
+            recalculationTimer.record(() ->
+                scheduleService.refreshSchedule(companyId, projectId)
+            );
+            executedCounter.increment();
+        } catch (RuntimeException e) {
+            log.warn(
+                "Failed to recalculate schedule of project {}",
+                projectId,
+                e
+            );
+        } finally {
+            running.remove(projectId);
+            permits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private record PendingRecalculation(
+        UUID companyId,
+        long firstMarkedAt,
+        long lastMarkedAt
+    ) {}
+}
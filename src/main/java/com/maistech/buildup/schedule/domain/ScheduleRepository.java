@@ -1,8 +1,14 @@
 package com.maistech.buildup.schedule.domain;
 
 import com.maistech.buildup.schedule.*;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -10,19 +16,26 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ScheduleRepository extends JpaRepository<ScheduleEntity, UUID> {
 
     Optional<ScheduleEntity> findByProjectId(UUID projectId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ScheduleEntity s WHERE s.project.id = :projectId")
+    Optional<ScheduleEntity> findByProjectIdForUpdate(
+        @Param("projectId") UUID projectId
+    );
+
     @Query("SELECT s FROM ScheduleEntity s WHERE s.id = :scheduleId AND s.companyId = :companyId")
     Optional<ScheduleEntity> findByIdAndCompanyId(
         @Param("scheduleId") UUID scheduleId,
         @Param("companyId") UUID companyId
     );
 
-    @Query("SELECT s FROM ScheduleEntity s WHERE s.companyId = :companyId")
+    @Query("SELECT s FROM ScheduleEntity s JOIN FETCH s.project WHERE s.companyId = :companyId")
     List<ScheduleEntity> findAllByCompanyId(@Param("companyId") UUID companyId);
 
     @Query("SELECT s FROM ScheduleEntity s WHERE s.companyId = :companyId AND s.status = :status")
@@ -31,7 +44,7 @@ public interface ScheduleRepository extends JpaRepository<ScheduleEntity, UUID>
         @Param("status") ScheduleStatus status
     );
 
-    @Query("SELECT s FROM ScheduleEntity s WHERE s.companyId = :companyId AND s.isOnTrack = false")
+    @Query("SELECT s FROM ScheduleEntity s JOIN FETCH s.project WHERE s.companyId = :companyId AND s.isOnTrack = false")
     List<ScheduleEntity> findDelayedSchedules(@Param("companyId") UUID companyId);
 
     @Query("SELECT s FROM ScheduleEntity s WHERE s.companyId = :companyId AND s.endDate < :date AND s.status != 'COMPLETED'")
@@ -39,4 +52,158 @@ public interface ScheduleRepository extends JpaRepository<ScheduleEntity, UUID>
         @Param("companyId") UUID companyId,
         @Param("date") LocalDate date
     );
+
+    @Modifying
+    @Query(
+        value = """
+        UPDATE schedules s SET
+            total_tasks = s.total_tasks + :totalDelta,
+            completed_tasks = s.completed_tasks + :completedDelta,
+            overdue_tasks = s.overdue_tasks + :overdueDelta,
+            completed_percentage = CASE
+                WHEN s.total_tasks + :totalDelta > 0
+                THEN ((s.completed_tasks + :completedDelta) * 100) / (s.total_tasks + :totalDelta)
+                ELSE 0
+            END,
+            is_on_track = s.overdue_tasks + :overdueDelta = 0
+                AND s.end_date >= CURRENT_DATE,
+            status = CASE
+                WHEN s.status IN ('ON_HOLD', 'CANCELLED') THEN s.status
+                WHEN s.total_tasks + :totalDelta = 0 THEN 'DRAFT'
+                WHEN s.overdue_tasks + :overdueDelta > 0 THEN 'DELAYED'
+                WHEN s.completed_tasks + :completedDelta = s.total_tasks + :totalDelta THEN 'COMPLETED'
+                WHEN s.completed_tasks + :completedDelta > 0 THEN 'ACTIVE'
+                ELSE 'DRAFT'
+            END,
+            updated_at = CURRENT_TIMESTAMP
+        WHERE s.project_id = :projectId
+        """,
+        nativeQuery = true
+    )
+    int applyTaskCounterDelta(
+        @Param("projectId") UUID projectId,
+        @Param("totalDelta") int totalDelta,
+        @Param("completedDelta") int completedDelta,
+        @Param("overdueDelta") int overdueDelta
+    );
+
+    @Modifying
+    @Query(
+        value = """
+        INSERT INTO schedules (
+            id, project_id, company_id, start_date, end_date,
+            total_duration_days, completed_percentage, total_tasks,
+            completed_tasks, overdue_tasks, critical_path_duration,
+            last_calculated_at, status, is_on_track, created_at, updated_at
+        ) VALUES (
+            gen_random_uuid(),
+            :#{#schedule.project.id},
+            :#{#schedule.companyId},
+            :#{#schedule.startDate},
+            :#{#schedule.endDate},
+            :#{#schedule.totalDurationDays},
+            :#{#schedule.completedPercentage},
+            :#{#schedule.totalTasks},
+            :#{#schedule.completedTasks},
+            :#{#schedule.overdueTasks},
+            :#{#schedule.criticalPathDuration},
+            :#{#schedule.lastCalculatedAt},
+            :#{#schedule.status.name()},
+            :#{#schedule.isOnTrack},
+            CURRENT_TIMESTAMP,
+            CURRENT_TIMESTAMP
+        )
+        ON CONFLICT (project_id) DO UPDATE SET
+            start_date = EXCLUDED.start_date,
+            end_date = EXCLUDED.end_date,
+            total_duration_days = EXCLUDED.total_duration_days,
+            completed_percentage = EXCLUDED.completed_percentage,
+            total_tasks = EXCLUDED.total_tasks,
+            completed_tasks = EXCLUDED.completed_tasks,
+            overdue_tasks = EXCLUDED.overdue_tasks,
+            critical_path_duration = EXCLUDED.critical_path_duration,
+            last_calculated_at = EXCLUDED.last_calculated_at,
+            status = CASE
+                WHEN schedules.status IN ('ON_HOLD', 'CANCELLED') THEN schedules.status
+                ELSE EXCLUDED.status
+            END,
+            is_on_track = EXCLUDED.is_on_track,
+            updated_at = CURRENT_TIMESTAMP
+        """,
+        nativeQuery = true
+    )
+    int upsertCalculatedSchedule(@Param("schedule") ScheduleEntity schedule);
+
+    @Query(
+        """
+        SELECT new com.maistech.buildup.schedule.domain.ProjectScheduleSummaryRow(
+            p.id, p.name, p.status, p.dueDate, p.contractValue,
+            s.status, s.completedPercentage, s.isOnTrack, s.endDate
+        )
+        FROM ProjectEntity p
+        LEFT JOIN ScheduleEntity s ON s.project = p
+        WHERE p.companyId = :companyId
+        ORDER BY p.name
+        """
+    )
+    List<ProjectScheduleSummaryRow> findProjectSummaryRowsByCompanyId(
+        @Param("companyId") UUID companyId
+    );
+
+    @QueryHints(
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500")
+    )
+    @Query(
+        value = """
+        WITH items AS (
+            SELECT ph.id, 'PHASE' AS kind, 1 AS outline_level, ph.name,
+                ph.start_date, ph.end_date, ph.duration_days,
+                ph.completion_percentage AS progress, ph.status,
+                1 AS bucket, ph.order_index AS phase_order, ph.id AS phase_key,
+                -1 AS item_order
+            FROM phases ph
+            JOIN schedules s ON s.id = ph.schedule_id
+            WHERE s.project_id = :projectId
+            UNION ALL
+            SELECT t.id, 'TASK', CASE WHEN ph.id IS NULL THEN 1 ELSE 2 END,
+                t.name, t.start_date, t.end_date, t.duration_days,
+                t.progress_percentage, t.status,
+                CASE WHEN ph.id IS NULL THEN 0 ELSE 1 END, ph.order_index, ph.id,
+                t.order_index
+            FROM tasks t
+            LEFT JOIN phases ph ON ph.id = t.phase_id
+            WHERE t.project_id = :projectId
+            UNION ALL
+            SELECT m.id, 'MILESTONE', 1, m.name, m.planned_date,
+                m.planned_date, 0, m.completion_percentage, m.status,
+                2, NULL, NULL, m.order_index
+            FROM milestones m
+            WHERE m.project_id = :projectId
+        ),
+        numbered AS (
+            SELECT i.*, ROW_NUMBER() OVER (
+                ORDER BY i.bucket, i.phase_order, i.phase_key,
+                    i.item_order NULLS LAST, i.start_date, i.id
+            ) AS uid
+            FROM items i
+        ),
+        predecessors AS (
+            SELECT d.task_id, string_agg(
+                p.uid || ':' || COALESCE(d.dependency_type, 'FINISH_TO_START'),
+                ';' ORDER BY p.uid
+            ) AS links
+            FROM task_dependencies d
+            JOIN numbered p ON p.id = d.depends_on_task_id
+            WHERE p.kind = 'TASK'
+            GROUP BY d.task_id
+        )
+        SELECT n.uid, n.id, n.kind, n.outline_level, n.name, n.start_date,
+            n.end_date, n.duration_days, n.progress, n.status, pr.links
+        FROM numbered n
+        LEFT JOIN predecessors pr ON pr.task_id = n.id AND n.kind = 'TASK'
+        ORDER BY n.uid
+        """,
+        nativeQuery = true
+    )
+    Stream<Object[]> streamExportRows(@Param("projectId") UUID projectId);
 }
@@ -0,0 +1,41 @@
+package com.maistech.buildup.schedule.domain;
+
+import java.time.LocalDate;
+
+// finishes holds the finish offset of every iteration, sorted ascending
+public record ScheduleRiskResult(
+    ScheduleGraph graph,
+    int[] finishes,
+    int[] criticalCounts
+) {
+    public int iterations() {
+        return finishes.length;
+    }
+
+    public int finishAtPercentile(int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * finishes.length);
+        return finishes[Math.clamp(rank - 1, 0, finishes.length - 1)];
+    }
+
+    public LocalDate finishDateAtPercentile(int percentile) {
+        return graph.dateAt(Math.max(finishAtPercentile(percentile), 1) - 1);
+    }
+
+    public double criticalityIndex(int index) {
+        return (double) criticalCounts[index] / finishes.length;
+    }
+
+    public double probabilityOfFinishingBy(int finishOffset) {
+        int low = 0;
+        int high = finishes.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (finishes[middle] <= finishOffset) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return (double) low / finishes.length;
+    }
+}
@@ -0,0 +1,215 @@
+package com.maistech.buildup.schedule.domain;
+
+import com.maistech.buildup.calendar.WorkingCalendar;
+import com.maistech.buildup.calendar.domain.WorkingCalendarService;
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.project.domain.ProjectRepository;
+import com.maistech.buildup.schedule.ScheduleNotFoundException;
+import com.maistech.buildup.schedule.dto.ScheduleRiskResponse;
+import com.maistech.buildup.schedule.dto.TaskRiskItem;
+import com.maistech.buildup.task.domain.TaskDependencyRepository;
+import com.maistech.buildup.task.domain.TaskDurationEstimateRow;
+import com.maistech.buildup.task.domain.TaskRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class ScheduleRiskService {
+
+    public static final int DEFAULT_ITERATIONS = 10_000;
+    public static final int MIN_ITERATIONS = 100;
+    public static final int MAX_ITERATIONS = 100_000;
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final WorkingCalendarService workingCalendarService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ForkJoinPool pool = new ForkJoinPool(
+        Math.max(1, Runtime.getRuntime().availableProcessors() / 2)
+    );
+
+    public ScheduleRiskService(
+        ProjectRepository projectRepository,
+        TaskRepository taskRepository,
+        TaskDependencyRepository taskDependencyRepository,
+        WorkingCalendarService workingCalendarService,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.workingCalendarService = workingCalendarService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public ScheduleRiskResponse simulate(
+        UUID companyId,
+        UUID projectId,
+        Integer iterations,
+        Long seed
+    ) {
+        int runs = iterations != null ? iterations : DEFAULT_ITERATIONS;
+        if (runs < MIN_ITERATIONS || runs > MAX_ITERATIONS) {
+            throw new IllegalArgumentException(
+                "Iterations must be between " +
+                MIN_ITERATIONS +
+                " and " +
+                MAX_ITERATIONS
+            );
+        }
+        long effectiveSeed = seed != null
+            ? seed
+            : ThreadLocalRandom.current().nextLong();
+
+        // The connection goes back to the pool before the simulation starts
+        SimulationInput input = readOnlyTransaction.execute(status ->
+            load(companyId, projectId)
+        );
+
+        CriticalPathResult plan = CriticalPathEngine.calculate(input.graph());
+        ScheduleRiskResult result = ScheduleRiskSimulator.simulate(
+            input.graph(),
+            input.optimistic(),
+            input.mostLikely(),
+            input.pessimistic(),
+            runs,
+            effectiveSeed,
+            pool
+        );
+
+        return toResponse(
+            input.project(),
+            input.calendar(),
+            plan,
+            result,
+            effectiveSeed,
+            input.estimated()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private SimulationInput load(UUID companyId, UUID projectId) {
+        ProjectEntity project = projectRepository
+            .findByIdAndCompanyId(projectId, companyId)
+            .orElseThrow(() ->
+                new ScheduleNotFoundException("Project not found")
+            );
+
+        WorkingCalendar calendar = workingCalendarService.forCompany(companyId);
+        ScheduleGraph graph = ScheduleGraph.build(
+            project.getStartDate() != null
+                ? project.getStartDate()
+                : LocalDate.now(),
+            calendar,
+            taskRepository.findScheduleRowsByProjectId(projectId),
+            taskDependencyRepository.findRowsByProjectId(projectId)
+        );
+
+        int n = graph.size();
+        int[] optimistic = new int[n];
+        int[] mostLikely = new int[n];
+        int[] pessimistic = new int[n];
+        int estimated = 0;
+        for (TaskDurationEstimateRow row : taskRepository.findDurationEstimatesByProjectId(
+            projectId
+        )) {
+            int index = graph.indexOf(row.taskId());
+            if (index < 0) {
+                continue;
+            }
+            optimistic[index] = row.optimisticDurationDays();
+            mostLikely[index] = row.mostLikelyDurationDays() != null
+                ? row.mostLikelyDurationDays()
+                : graph.duration(index);
+            pessimistic[index] = row.pessimisticDurationDays();
+            estimated++;
+        }
+
+        return new SimulationInput(
+            project,
+            calendar,
+            graph,
+            optimistic,
+            mostLikely,
+            pessimistic,
+            estimated
+        );
+    }
+
+    private static ScheduleRiskResponse toResponse(
+        ProjectEntity project,
+        WorkingCalendar calendar,
+        CriticalPathResult plan,
+        ScheduleRiskResult result,
+        long seed,
+        int estimated
+    ) {
+        ScheduleGraph graph = result.graph();
+
+        List<TaskRiskItem> tasks = new ArrayList<>(graph.size());
+        for (int i = 0; i < graph.size(); i++) {
+            tasks.add(
+                new TaskRiskItem(
+                    graph.taskId(i),
+                    graph.taskName(i),
+                    graph.duration(i),
+                    result.criticalityIndex(i),
+                    plan.isCritical(i)
+                )
+            );
+        }
+        tasks.sort(
+            Comparator.comparing(TaskRiskItem::criticalityIndex).reversed()
+        );
+
+        LocalDate dueDate = project.getDueDate();
+        Double onTimeProbability = dueDate != null
+            ? result.probabilityOfFinishingBy(
+                  calendar.workingDaysUntil(graph.anchor(), dueDate.plusDays(1))
+              )
+            : null;
+
+        return new ScheduleRiskResponse(
+            result.iterations(),
+            seed,
+            estimated,
+            graph.anchor(),
+            plan.projectFinishDate(),
+            plan.projectDuration(),
+            result.finishDateAtPercentile(50),
+            result.finishAtPercentile(50),
+            result.finishDateAtPercentile(80),
+            result.finishAtPercentile(80),
+            result.finishDateAtPercentile(95),
+            result.finishAtPercentile(95),
+            dueDate,
+            onTimeProbability,
+            tasks
+        );
+    }
+
+    private record SimulationInput(
+        ProjectEntity project,
+        WorkingCalendar calendar,
+        ScheduleGraph graph,
+        int[] optimistic,
+        int[] mostLikely,
+        int[] pessimistic,
+        int estimated
+    ) {}
+}
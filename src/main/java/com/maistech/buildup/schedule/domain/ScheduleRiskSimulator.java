@@ -0,0 +1,191 @@
+package com.maistech.buildup.schedule.domain;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Chunks are seeded by position, so a seed reproduces on any core count
+public final class ScheduleRiskSimulator {
+
+    static final int CHUNK_SIZE = 256;
+
+    private ScheduleRiskSimulator() {}
+
+    public static ScheduleRiskResult simulate(
+        ScheduleGraph graph,
+        int[] optimistic,
+        int[] mostLikely,
+        int[] pessimistic,
+        int iterations,
+        long seed,
+        ForkJoinPool pool
+    ) {
+        Estimates estimates = Estimates.of(
+            graph,
+            optimistic,
+            mostLikely,
+            pessimistic
+        );
+        int[] finishes = new int[iterations];
+        int[] criticalCounts = pool.invoke(
+            new Chunk(graph, estimates, finishes, 0, iterations, seed)
+        );
+        Arrays.sort(finishes);
+        return new ScheduleRiskResult(graph, finishes, criticalCounts);
+    }
+
+    // Equal optimistic and pessimistic estimates replace the duration in base
+    private record Estimates(
+        int[] base,
+        int[] tasks,
+        double[] low,
+        double[] range,
+        double[] lowerSpan,
+        double[] upperSpan,
+        double[] modeCut
+    ) {
+        static Estimates of(
+            ScheduleGraph graph,
+            int[] optimistic,
+            int[] mostLikely,
+            int[] pessimistic
+        ) {
+            int n = graph.size();
+            int[] base = graph.durations.clone();
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                if (pessimistic[i] > optimistic[i]) {
+                    count++;
+                } else if (optimistic[i] > 0) {
+                    base[i] = optimistic[i];
+                }
+            }
+
+            int[] tasks = new int[count];
+            double[] low = new double[count];
+            double[] range = new double[count];
+            double[] lowerSpan = new double[count];
+            double[] upperSpan = new double[count];
+            double[] modeCut = new double[count];
+            int k = 0;
+            for (int i = 0; i < n; i++) {
+                if (pessimistic[i] <= optimistic[i]) {
+                    continue;
+                }
+                double a = optimistic[i];
+                double b = pessimistic[i];
+                double m = Math.min(Math.max(mostLikely[i], a), b);
+                tasks[k] = i;
+                low[k] = a;
+                range[k] = b - a;
+                lowerSpan[k] = (b - a) * (m - a);
+                upperSpan[k] = (b - a) * (b - m);
+                modeCut[k] = (m - a) / (b - a);
+                k++;
+            }
+            return new Estimates(
+                base,
+                tasks,
+                low,
+                range,
+                lowerSpan,
+                upperSpan,
+                modeCut
+            );
+        }
+
+        // Inverse CDF of the triangular distribution, rounded to whole days
+        int sample(int k, double u) {
+            double value = u < modeCut[k]
+                ? low[k] + Math.sqrt(u * lowerSpan[k])
+                : low[k] + range[k] - Math.sqrt((1 - u) * upperSpan[k]);
+            return Math.max(1, (int) Math.round(value));
+        }
+    }
+
+    private static final class Chunk extends RecursiveTask<int[]> {
+
+        private final ScheduleGraph graph;
+        private final Estimates estimates;
+        private final int[] finishes;
+        private final int from;
+        private final int to;
+        private final long seed;
+
+        Chunk(
+            ScheduleGraph graph,
+            Estimates estimates,
+            int[] finishes,
+            int from,
+            int to,
+            long seed
+        ) {
+            this.graph = graph;
+            this.estimates = estimates;
+            this.finishes = finishes;
+            this.from = from;
+            this.to = to;
+            this.seed = seed;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from > CHUNK_SIZE) {
+                int chunks = (to - from + CHUNK_SIZE - 1) / CHUNK_SIZE;
+                int middle = from + (chunks / 2) * CHUNK_SIZE;
+                Chunk left = new Chunk(graph, estimates, finishes, from, middle, seed);
+                Chunk right = new Chunk(graph, estimates, finishes, middle, to, seed);
+                left.fork();
+                int[] counts = right.compute();
+                int[] other = left.join();
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += other[i];
+                }
+                return counts;
+            }
+            return run();
+        }
+
+        private int[] run() {
+            int n = graph.size();
+            int[] durations = estimates.base().clone();
+            int[] earlyStart = new int[n];
+            int[] lateFinish = new int[n];
+            int[] criticalCounts = new int[n];
+            int[] uncertain = estimates.tasks();
+            SplittableRandom random = new SplittableRandom(
+                seed ^ (0x9E3779B97F4A7C15L * (from / CHUNK_SIZE + 1))
+            );
+
+            for (int iteration = from; iteration < to; iteration++) {
+                for (int k = 0; k < uncertain.length; k++) {
+                    durations[uncertain[k]] = estimates.sample(
+                        k,
+                        random.nextDouble()
+                    );
+                }
+
+                int projectFinish = CriticalPathEngine.forwardPass(
+                    graph,
+                    durations,
+                    earlyStart
+                );
+                CriticalPathEngine.backwardPass(
+                    graph,
+                    durations,
+                    projectFinish,
+                    lateFinish
+                );
+
+                for (int i = 0; i < n; i++) {
+                    if (lateFinish[i] - durations[i] <= earlyStart[i]) {
+                        criticalCounts[i]++;
+                    }
+                }
+                finishes[iteration] = projectFinish;
+            }
+            return criticalCounts;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.maistech.buildup.schedule.domain;
+
+import com.maistech.buildup.schedule.dto.SandboxEditRequest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+// base is the network as opened; current is base with the edits applied
+public record ScheduleSandbox(
+    UUID id,
+    UUID companyId,
+    UUID projectId,
+    ScheduleScenario base,
+    ScheduleScenario current,
+    List<SandboxEditRequest> edits,
+    Map<UUID, UUID> phaseByTask,
+    List<PhaseDateRow> phases,
+    List<MilestoneDateRow> milestones,
+    AtomicReference<LocalDateTime> lastAccess
+) {
+    public ScheduleSandbox withEdits(
+        ScheduleScenario scenario,
+        List<SandboxEditRequest> applied
+    ) {
+        List<SandboxEditRequest> allEdits = new ArrayList<>(
+            edits.size() + applied.size()
+        );
+        allEdits.addAll(edits);
+        allEdits.addAll(applied);
+        return new ScheduleSandbox(
+            id,
+            companyId,
+            projectId,
+            base,
+            scenario,
+            List.copyOf(allEdits),
+            phaseByTask,
+            phases,
+            milestones,
+            lastAccess
+        );
+    }
+
+    public LocalDateTime lastAccessedAt() {
+        return lastAccess.get();
+    }
+
+    // In place, so a read never swaps the instance a commit is holding
+    public void touch(LocalDateTime now) {
+        lastAccess.set(now);
+    }
+}
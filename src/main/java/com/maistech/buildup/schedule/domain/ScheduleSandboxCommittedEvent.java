@@ -0,0 +1,3 @@
+package com.maistech.buildup.schedule.domain;
+
+public record ScheduleSandboxCommittedEvent(ScheduleSandbox sandbox) {}
@@ -0,0 +1,513 @@
+package com.maistech.buildup.schedule.domain;
+
+import com.maistech.buildup.calendar.domain.WorkingCalendarService;
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.project.domain.ProjectRepository;
+import com.maistech.buildup.schedule.MilestoneStatus;
+import com.maistech.buildup.schedule.ScheduleConflictException;
+import com.maistech.buildup.schedule.ScheduleNotFoundException;
+import com.maistech.buildup.schedule.dto.*;
+import com.maistech.buildup.task.TaskChangedEvent;
+import com.maistech.buildup.task.TaskDependencyEntity;
+import com.maistech.buildup.task.TaskEntity;
+import com.maistech.buildup.task.TaskSnapshot;
+import com.maistech.buildup.task.domain.TaskDependencyRepository;
+import com.maistech.buildup.task.domain.TaskDependencyRow;
+import com.maistech.buildup.task.domain.TaskPhaseRow;
+import com.maistech.buildup.task.domain.TaskRepository;
+import com.maistech.buildup.task.domain.TaskScheduleRow;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ScheduleSandboxService {
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final PhaseRepository phaseRepository;
+    private final MilestoneRepository milestoneRepository;
+    private final WorkingCalendarService workingCalendarService;
+    private final ScheduleSandboxStore sandboxStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ScheduleSandboxService(
+        ProjectRepository projectRepository,
+        TaskRepository taskRepository,
+        TaskDependencyRepository taskDependencyRepository,
+        PhaseRepository phaseRepository,
+        MilestoneRepository milestoneRepository,
+        WorkingCalendarService workingCalendarService,
+        ScheduleSandboxStore sandboxStore,
+        ApplicationEventPublisher eventPublisher
+    ) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.phaseRepository = phaseRepository;
+        this.milestoneRepository = milestoneRepository;
+        this.workingCalendarService = workingCalendarService;
+        this.sandboxStore = sandboxStore;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    public SandboxResponse openSandbox(UUID companyId, UUID projectId) {
+        ProjectEntity project = projectRepository
+            .findByIdAndCompanyId(projectId, companyId)
+            .orElseThrow(() ->
+                new ScheduleNotFoundException("Project not found")
+            );
+
+        ScheduleScenario scenario = ScheduleScenario.of(
+            project.getStartDate() != null
+                ? project.getStartDate()
+                : LocalDate.now(),
+            workingCalendarService.forCompany(companyId),
+            taskRepository.findScheduleRowsByProjectId(projectId),
+            taskDependencyRepository.findRowsByProjectId(projectId)
+        );
+
+        Map<UUID, UUID> phaseByTask = new HashMap<>();
+        for (TaskPhaseRow row : taskRepository.findPhaseRowsByProjectId(
+            projectId
+        )) {
+            phaseByTask.put(row.taskId(), row.phaseId());
+        }
+
+        ScheduleSandbox sandbox = new ScheduleSandbox(
+            UUID.randomUUID(),
+            companyId,
+            projectId,
+            scenario,
+            scenario,
+            List.of(),
+            Map.copyOf(phaseByTask),
+            phaseRepository.findDateRowsByProjectId(projectId),
+            milestoneRepository.findDateRowsByProjectId(projectId),
+            new AtomicReference<>(LocalDateTime.now())
+        );
+        sandboxStore.add(sandbox);
+
+        return toResponse(sandbox);
+    }
+
+    public SandboxResponse getSandbox(
+        UUID companyId,
+        UUID projectId,
+        UUID sandboxId
+    ) {
+        return toResponse(findSandboxOrThrow(companyId, projectId, sandboxId));
+    }
+
+    public SandboxResponse applyEdits(
+        UUID companyId,
+        UUID projectId,
+        UUID sandboxId,
+        ApplySandboxEditsRequest request
+    ) {
+        ScheduleSandbox sandbox = findSandboxOrThrow(
+            companyId,
+            projectId,
+            sandboxId
+        );
+
+        ScheduleScenario scenario = sandbox.current();
+        for (SandboxEditRequest edit : request.edits()) {
+            scenario = scenario.apply(edit);
+        }
+        scenario.schedule();
+
+        ScheduleSandbox updated = sandbox.withEdits(scenario, request.edits());
+        if (!sandboxStore.replace(sandbox, updated)) {
+            throw new ScheduleConflictException(
+                "Sandbox was changed by another request, reload and retry"
+            );
+        }
+        return toResponse(updated);
+    }
+
+    public void discardSandbox(UUID companyId, UUID projectId, UUID sandboxId) {
+        sandboxStore.remove(findSandboxOrThrow(companyId, projectId, sandboxId));
+    }
+
+    // Writes nothing if a touched task or link changed since the sandbox opened
+    @Transactional
+    public SandboxCommitResponse commitSandbox(
+        UUID companyId,
+        UUID projectId,
+        UUID sandboxId
+    ) {
+        ScheduleSandbox sandbox = findSandboxOrThrow(
+            companyId,
+            projectId,
+            sandboxId
+        );
+        CriticalPathResult base = sandbox.base().schedule();
+        CriticalPathResult current = sandbox.current().schedule();
+        List<TaskScheduleRow> baseTasks = sandbox.base().tasks();
+
+        Map<UUID, Integer> changedTasks = new HashMap<>();
+        for (int i = 0; i < baseTasks.size(); i++) {
+            if (
+                datesDiffer(base, current, i) ||
+                !baseTasks.get(i).equals(sandbox.current().tasks().get(i))
+            ) {
+                changedTasks.put(baseTasks.get(i).id(), i);
+            }
+        }
+
+        int updated = 0;
+        if (!changedTasks.isEmpty()) {
+            // Row locks keep a concurrent task edit from slipping in between
+            // the conflict check and the write.
+            for (TaskEntity task : taskRepository.findAllByIdForUpdate(
+                changedTasks.keySet()
+            )) {
+                int i = changedTasks.get(task.getId());
+                TaskScheduleRow original = baseTasks.get(i);
+                if (
+                    !Objects.equals(task.getStartDate(), original.startDate()) ||
+                    !Objects.equals(task.getEndDate(), original.endDate()) ||
+                    !Objects.equals(
+                        task.getDurationDays(),
+                        original.durationDays()
+                    )
+                ) {
+                    throw new ScheduleConflictException(
+                        "Task " +
+                        task.getName() +
+                        " was changed after the sandbox was opened"
+                    );
+                }
+
+                TaskSnapshot before = TaskSnapshot.of(task);
+                task.setStartDate(current.earlyStartDate(i));
+                task.setEndDate(current.earlyFinishDate(i));
+                task.setDurationDays(current.graph().duration(i));
+                task.refreshOverdueFlag();
+                eventPublisher.publishEvent(
+                    TaskChangedEvent.updated(task, before)
+                );
+                updated++;
+            }
+        }
+
+        DependencyChanges dependencyChanges = commitDependencies(sandbox);
+        eventPublisher.publishEvent(new ScheduleSandboxCommittedEvent(sandbox));
+
+        return new SandboxCommitResponse(
+            projectId,
+            updated,
+            dependencyChanges.added(),
+            dependencyChanges.removed()
+        );
+    }
+
+    private DependencyChanges commitDependencies(ScheduleSandbox sandbox) {
+        Map<DependencyKey, TaskDependencyRow> before = byKey(
+            sandbox.base().dependencies()
+        );
+        Map<DependencyKey, TaskDependencyRow> after = byKey(
+            sandbox.current().dependencies()
+        );
+        if (before.equals(after)) {
+            return new DependencyChanges(0, 0);
+        }
+
+        List<UUID> taskIds = new ArrayList<>();
+        for (DependencyKey key : before.keySet()) {
+            if (!before.get(key).equals(after.get(key))) {
+                taskIds.add(key.taskId());
+            }
+        }
+        for (DependencyKey key : after.keySet()) {
+            if (!before.containsKey(key)) {
+                taskIds.add(key.taskId());
+            }
+        }
+
+        Map<DependencyKey, TaskDependencyEntity> stored = new HashMap<>();
+        for (TaskDependencyEntity dependency : taskDependencyRepository.findByTaskIdIn(
+            taskIds
+        )) {
+            stored.put(
+                new DependencyKey(
+                    dependency.getTask().getId(),
+                    dependency.getDependsOnTask().getId()
+                ),
+                dependency
+            );
+        }
+
+        List<TaskDependencyEntity> removed = new ArrayList<>();
+        List<TaskDependencyEntity> added = new ArrayList<>();
+        for (Map.Entry<DependencyKey, TaskDependencyRow> entry : before.entrySet()) {
+            DependencyKey key = entry.getKey();
+            TaskDependencyRow target = after.get(key);
+            if (entry.getValue().equals(target)) {
+                continue;
+            }
+            TaskDependencyEntity dependency = stored.get(key);
+            if (
+                dependency == null ||
+                dependency.getDependencyType() !=
+                entry.getValue().dependencyType()
+            ) {
+                throw new ScheduleConflictException(
+                    "Task dependencies were changed after the sandbox was opened"
+                );
+            }
+            if (target == null) {
+                removed.add(dependency);
+            } else {
+                dependency.setDependencyType(target.dependencyType());
+            }
+        }
+        for (Map.Entry<DependencyKey, TaskDependencyRow> entry : after.entrySet()) {
+            DependencyKey key = entry.getKey();
+            if (before.containsKey(key)) {
+                continue;
+            }
+            if (stored.containsKey(key)) {
+                throw new ScheduleConflictException(
+                    "Task dependencies were changed after the sandbox was opened"
+                );
+            }
+            TaskDependencyEntity dependency = new TaskDependencyEntity();
+            dependency.setTask(taskRepository.getReferenceById(key.taskId()));
+            dependency.setDependsOnTask(
+                taskRepository.getReferenceById(key.dependsOnTaskId())
+            );
+            dependency.setDependencyType(entry.getValue().dependencyType());
+            added.add(dependency);
+        }
+
+        taskDependencyRepository.deleteAll(removed);
+        taskDependencyRepository.saveAll(added);
+        return new DependencyChanges(added.size(), removed.size());
+    }
+
+    private ScheduleSandbox findSandboxOrThrow(
+        UUID companyId,
+        UUID projectId,
+        UUID sandboxId
+    ) {
+        return sandboxStore
+            .find(companyId, projectId, sandboxId)
+            .orElseThrow(() ->
+                new ScheduleNotFoundException("Sandbox not found or expired")
+            );
+    }
+
+    static SandboxResponse toResponse(ScheduleSandbox sandbox) {
+        CriticalPathResult base = sandbox.base().schedule();
+        CriticalPathResult current = sandbox.current().schedule();
+        ScheduleGraph graph = current.graph();
+        int n = graph.size();
+
+        List<SandboxTaskChange> changedTasks = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (
+                datesDiffer(base, current, i) ||
+                base.graph().duration(i) != graph.duration(i)
+            ) {
+                changedTasks.add(
+                    new SandboxTaskChange(
+                        graph.taskId(i),
+                        graph.taskName(i),
+                        base.earlyStartDate(i),
+                        base.earlyFinishDate(i),
+                        current.earlyStartDate(i),
+                        current.earlyFinishDate(i),
+                        graph.duration(i),
+                        daysBetween(
+                            base.earlyFinishDate(i),
+                            current.earlyFinishDate(i)
+                        ),
+                        current.isCritical(i)
+                    )
+                );
+            }
+        }
+
+        LocalDate plannedFinish = base.projectFinishDate();
+        LocalDate finish = current.projectFinishDate();
+
+        return new SandboxResponse(
+            sandbox.id(),
+            sandbox.projectId(),
+            sandbox.edits(),
+            plannedFinish,
+            finish,
+            daysBetween(plannedFinish, finish),
+            ScheduleService.toCriticalPathResponse(current),
+            changedTasks,
+            phaseImpacts(sandbox, base, current),
+            milestoneImpacts(sandbox, base, current),
+            sandbox.lastAccessedAt().plus(ScheduleSandboxStore.IDLE_TIMEOUT)
+        );
+    }
+
+    private static List<SandboxPhaseImpact> phaseImpacts(
+        ScheduleSandbox sandbox,
+        CriticalPathResult base,
+        CriticalPathResult current
+    ) {
+        if (sandbox.phases().isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, int[]> baseSpans = new HashMap<>();
+        Map<UUID, int[]> currentSpans = new HashMap<>();
+        ScheduleGraph graph = current.graph();
+        for (int i = 0; i < graph.size(); i++) {
+            UUID phaseId = sandbox.phaseByTask().get(graph.taskId(i));
+            if (phaseId != null) {
+                widen(baseSpans, phaseId, base, i);
+                widen(currentSpans, phaseId, current, i);
+            }
+        }
+
+        List<SandboxPhaseImpact> impacts = new ArrayList<>();
+        for (PhaseDateRow phase : sandbox.phases()) {
+            int[] before = baseSpans.get(phase.id());
+            int[] after = currentSpans.get(phase.id());
+            if (before == null) {
+                continue;
+            }
+            LocalDate plannedStart = base.graph().dateAt(before[0]);
+            LocalDate plannedEnd = base.graph().dateAt(before[1] - 1);
+            LocalDate newStart = graph.dateAt(after[0]);
+            LocalDate newEnd = graph.dateAt(after[1] - 1);
+            if (plannedStart.equals(newStart) && plannedEnd.equals(newEnd)) {
+                continue;
+            }
+            impacts.add(
+                new SandboxPhaseImpact(
+                    phase.id(),
+                    phase.name(),
+                    phase.endDate(),
+                    plannedStart,
+                    plannedEnd,
+                    newStart,
+                    newEnd,
+                    daysBetween(plannedEnd, newEnd),
+                    phase.endDate() != null && newEnd.isAfter(phase.endDate())
+                )
+            );
+        }
+        return impacts;
+    }
+
+    // Impacted when the latest task finished by its planned date moves
+    private static List<SandboxMilestoneImpact> milestoneImpacts(
+        ScheduleSandbox sandbox,
+        CriticalPathResult base,
+        CriticalPathResult current
+    ) {
+        List<SandboxMilestoneImpact> impacts = new ArrayList<>();
+        int n = current.graph().size();
+        for (MilestoneDateRow milestone : sandbox.milestones()) {
+            if (
+                milestone.status() == MilestoneStatus.COMPLETED ||
+                milestone.status() == MilestoneStatus.CANCELLED
+            ) {
+                continue;
+            }
+
+            LocalDate plannedFinish = null;
+            LocalDate newFinish = null;
+            for (int i = 0; i < n; i++) {
+                LocalDate finish = base.earlyFinishDate(i);
+                if (finish.isAfter(milestone.plannedDate())) {
+                    continue;
+                }
+                LocalDate moved = current.earlyFinishDate(i);
+                if (plannedFinish == null || finish.isAfter(plannedFinish)) {
+                    plannedFinish = finish;
+                }
+                if (newFinish == null || moved.isAfter(newFinish)) {
+                    newFinish = moved;
+                }
+            }
+            if (plannedFinish == null || plannedFinish.equals(newFinish)) {
+                continue;
+            }
+
+            impacts.add(
+                new SandboxMilestoneImpact(
+                    milestone.id(),
+                    milestone.name(),
+                    milestone.plannedDate(),
+                    plannedFinish,
+                    newFinish,
+                    Math.max(0, daysBetween(milestone.plannedDate(), newFinish)),
+                    newFinish.isAfter(milestone.plannedDate())
+                )
+            );
+        }
+        return impacts;
+    }
+
+    private static void widen(
+        Map<UUID, int[]> spans,
+        UUID phaseId,
+        CriticalPathResult result,
+        int index
+    ) {
+        int[] span = spans.computeIfAbsent(phaseId, id ->
+            new int[] { Integer.MAX_VALUE, Integer.MIN_VALUE }
+        );
+        span[0] = Math.min(span[0], result.earlyStart()[index]);
+        span[1] = Math.max(span[1], result.earlyFinish()[index]);
+    }
+
+    private static boolean datesDiffer(
+        CriticalPathResult base,
+        CriticalPathResult current,
+        int index
+    ) {
+        return (
+            !base.earlyStartDate(index).equals(current.earlyStartDate(index)) ||
+            !base.earlyFinishDate(index).equals(current.earlyFinishDate(index))
+        );
+    }
+
+    private static int daysBetween(LocalDate from, LocalDate to) {
+        return (int) ChronoUnit.DAYS.between(from, to);
+    }
+
+    private static Map<DependencyKey, TaskDependencyRow> byKey(
+        List<TaskDependencyRow> dependencies
+    ) {
+        Map<DependencyKey, TaskDependencyRow> rows = new HashMap<>(
+            dependencies.size() * 2
+        );
+        for (TaskDependencyRow dependency : dependencies) {
+            rows.put(
+                new DependencyKey(
+                    dependency.taskId(),
+                    dependency.dependsOnTaskId()
+                ),
+                dependency
+            );
+        }
+        return rows;
+    }
+
+    private record DependencyKey(UUID taskId, UUID dependsOnTaskId) {}
+
+    private record DependencyChanges(int added, int removed) {}
+}
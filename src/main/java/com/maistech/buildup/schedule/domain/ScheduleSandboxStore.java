@@ -0,0 +1,85 @@
+package com.maistech.buildup.schedule.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// In memory only; sandboxes idle for IDLE_TIMEOUT are dropped
+@Component
+public class ScheduleSandboxStore {
+
+    public static final Duration IDLE_TIMEOUT = Duration.ofMinutes(30);
+    public static final int MAX_SANDBOXES_PER_COMPANY = 20;
+
+    private final Map<UUID, ScheduleSandbox> sandboxes =
+        new ConcurrentHashMap<>();
+
+    public void add(ScheduleSandbox sandbox) {
+        long open = sandboxes
+            .values()
+            .stream()
+            .filter(s -> s.companyId().equals(sandbox.companyId()))
+            .count();
+        if (open >= MAX_SANDBOXES_PER_COMPANY) {
+            throw new IllegalArgumentException(
+                "A company can have at most " +
+                MAX_SANDBOXES_PER_COMPANY +
+                " open sandboxes"
+            );
+        }
+        sandboxes.put(sandbox.id(), sandbox);
+    }
+
+    public Optional<ScheduleSandbox> find(
+        UUID companyId,
+        UUID projectId,
+        UUID sandboxId
+    ) {
+        ScheduleSandbox sandbox = sandboxes.get(sandboxId);
+        if (
+            sandbox == null ||
+            !sandbox.companyId().equals(companyId) ||
+            !sandbox.projectId().equals(projectId)
+        ) {
+            return Optional.empty();
+        }
+        sandbox.touch(LocalDateTime.now());
+        return Optional.of(sandbox);
+    }
+
+    public boolean replace(ScheduleSandbox expected, ScheduleSandbox updated) {
+        return sandboxes.replace(expected.id(), expected, updated);
+    }
+
+    public boolean remove(ScheduleSandbox sandbox) {
+        return sandboxes.remove(sandbox.id(), sandbox);
+    }
+
+    // After commit, so a rolled-back commit leaves the sandbox open
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSandboxCommitted(ScheduleSandboxCommittedEvent event) {
+        remove(event.sandbox());
+    }
+
+    public int size() {
+        return sandboxes.size();
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        evictIdle(LocalDateTime.now());
+    }
+
+    public void evictIdle(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(IDLE_TIMEOUT);
+        sandboxes
+            .values()
+            .removeIf(sandbox -> sandbox.lastAccessedAt().isBefore(cutoff));
+    }
+}
@@ -0,0 +1,260 @@
+package com.maistech.buildup.schedule.domain;
+
+import com.maistech.buildup.calendar.WorkingCalendar;
+import com.maistech.buildup.schedule.dto.SandboxEditRequest;
+import com.maistech.buildup.task.DependencyType;
+import com.maistech.buildup.task.domain.TaskDependencyRow;
+import com.maistech.buildup.task.domain.TaskScheduleRow;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// apply shares everything but the changed list with the previous version
+public final class ScheduleScenario {
+
+    private final LocalDate fallbackAnchor;
+    private final WorkingCalendar calendar;
+    private final List<TaskScheduleRow> tasks;
+    private final List<TaskDependencyRow> dependencies;
+    private final Map<UUID, Integer> positions;
+
+    private volatile CriticalPathResult schedule;
+
+    private ScheduleScenario(
+        LocalDate fallbackAnchor,
+        WorkingCalendar calendar,
+        List<TaskScheduleRow> tasks,
+        List<TaskDependencyRow> dependencies,
+        Map<UUID, Integer> positions
+    ) {
+        this.fallbackAnchor = fallbackAnchor;
+        this.calendar = calendar;
+        this.tasks = tasks;
+        this.dependencies = dependencies;
+        this.positions = positions;
+    }
+
+    public static ScheduleScenario of(
+        LocalDate fallbackAnchor,
+        WorkingCalendar calendar,
+        List<TaskScheduleRow> tasks,
+        List<TaskDependencyRow> dependencies
+    ) {
+        Map<UUID, Integer> positions = new HashMap<>(tasks.size() * 2);
+        for (int i = 0; i < tasks.size(); i++) {
+            positions.put(tasks.get(i).id(), i);
+        }
+        return new ScheduleScenario(
+            fallbackAnchor,
+            calendar,
+            List.copyOf(tasks),
+            List.copyOf(dependencies),
+            Map.copyOf(positions)
+        );
+    }
+
+    public List<TaskScheduleRow> tasks() {
+        return tasks;
+    }
+
+    public List<TaskDependencyRow> dependencies() {
+        return dependencies;
+    }
+
+    public WorkingCalendar calendar() {
+        return calendar;
+    }
+
+    // Task indexes match tasks(), so versions compare by index
+    public CriticalPathResult schedule() {
+        CriticalPathResult result = schedule;
+        if (result == null) {
+            try {
+                result = CriticalPathEngine.calculate(
+                    ScheduleGraph.build(
+                        fallbackAnchor,
+                        calendar,
+                        tasks,
+                        dependencies
+                    )
+                );
+            } catch (IllegalStateException e) {
+                throw new IllegalArgumentException(
+                    "Edits would create circular reference between tasks"
+                );
+            }
+            schedule = result;
+        }
+        return result;
+    }
+
+    public ScheduleScenario apply(SandboxEditRequest edit) {
+        int position = positionOf(edit.taskId());
+        TaskScheduleRow task = tasks.get(position);
+
+        return switch (edit.type()) {
+            case SHIFT_TASK -> {
+                if (edit.days() == null) {
+                    throw new IllegalArgumentException(
+                        "Days are required to shift a task"
+                    );
+                }
+                LocalDate start = task.startDate() != null
+                    ? task.startDate()
+                    : schedule().earlyStartDate(position);
+                yield withTask(
+                    position,
+                    reschedule(
+                        task,
+                        calendar.addWorkingDays(start, edit.days()),
+                        schedule().graph().duration(position)
+                    )
+                );
+            }
+            case SET_START -> {
+                if (edit.date() == null) {
+                    throw new IllegalArgumentException(
+                        "Date is required to set a start date"
+                    );
+                }
+                yield withTask(
+                    position,
+                    reschedule(
+                        task,
+                        edit.date(),
+                        schedule().graph().duration(position)
+                    )
+                );
+            }
+            case SET_DURATION -> {
+                if (edit.days() == null || edit.days() < 1) {
+                    throw new IllegalArgumentException(
+                        "Duration must be at least 1 day"
+                    );
+                }
+                yield withTask(
+                    position,
+                    reschedule(task, task.startDate(), edit.days())
+                );
+            }
+            case ADD_DEPENDENCY -> {
+                UUID dependsOnTaskId = requireDependsOn(edit);
+                if (dependencyPosition(task.id(), dependsOnTaskId) >= 0) {
+                    throw new IllegalArgumentException(
+                        "Dependency already exists"
+                    );
+                }
+                List<TaskDependencyRow> changed = new ArrayList<>(
+                    dependencies.size() + 1
+                );
+                changed.addAll(dependencies);
+                changed.add(
+                    new TaskDependencyRow(
+                        task.id(),
+                        dependsOnTaskId,
+                        edit.dependencyType() != null
+                            ? edit.dependencyType()
+                            : DependencyType.FINISH_TO_START
+                    )
+                );
+                yield withDependencies(changed);
+            }
+            case REMOVE_DEPENDENCY -> {
+                int index = dependencyPosition(
+                    task.id(),
+                    requireDependsOn(edit)
+                );
+                if (index < 0) {
+                    throw new IllegalArgumentException(
+                        "Dependency not found"
+                    );
+                }
+                List<TaskDependencyRow> changed = new ArrayList<>(dependencies);
+                changed.remove(index);
+                yield withDependencies(changed);
+            }
+        };
+    }
+
+    private int positionOf(UUID taskId) {
+        Integer position = positions.get(taskId);
+        if (position == null) {
+            throw new IllegalArgumentException(
+                "Task " + taskId + " does not belong to this project"
+            );
+        }
+        return position;
+    }
+
+    private UUID requireDependsOn(SandboxEditRequest edit) {
+        if (edit.dependsOnTaskId() == null) {
+            throw new IllegalArgumentException(
+                "Depends on task ID is required"
+            );
+        }
+        if (edit.dependsOnTaskId().equals(edit.taskId())) {
+            throw new IllegalArgumentException(
+                "A task cannot depend on itself"
+            );
+        }
+        positionOf(edit.dependsOnTaskId());
+        return edit.dependsOnTaskId();
+    }
+
+    private int dependencyPosition(UUID taskId, UUID dependsOnTaskId) {
+        for (int i = 0; i < dependencies.size(); i++) {
+            TaskDependencyRow dependency = dependencies.get(i);
+            if (
+                dependency.taskId().equals(taskId) &&
+                dependency.dependsOnTaskId().equals(dependsOnTaskId)
+            ) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private TaskScheduleRow reschedule(
+        TaskScheduleRow task,
+        LocalDate startDate,
+        int durationDays
+    ) {
+        return new TaskScheduleRow(
+            task.id(),
+            task.name(),
+            startDate,
+            startDate != null
+                ? calendar.endDateFor(startDate, durationDays)
+                : null,
+            durationDays,
+            task.status()
+        );
+    }
+
+    private ScheduleScenario withTask(int position, TaskScheduleRow task) {
+        List<TaskScheduleRow> changed = new ArrayList<>(tasks);
+        changed.set(position, task);
+        return new ScheduleScenario(
+            fallbackAnchor,
+            calendar,
+            List.copyOf(changed),
+            dependencies,
+            positions
+        );
+    }
+
+    private ScheduleScenario withDependencies(
+        List<TaskDependencyRow> changed
+    ) {
+        return new ScheduleScenario(
+            fallbackAnchor,
+            calendar,
+            tasks,
+            List.copyOf(changed),
+            positions
+        );
+    }
+}
@@ -1,17 +1,26 @@
 package com.maistech.buildup.schedule.domain;
 
+import com.maistech.buildup.calendar.WorkingCalendar;
+import com.maistech.buildup.calendar.domain.WorkingCalendarService;
+import com.maistech.buildup.portfolio.domain.PortfolioService;
 import com.maistech.buildup.schedule.*;
 import com.maistech.buildup.project.ProjectEntity;
 import com.maistech.buildup.project.domain.ProjectRepository;
 import com.maistech.buildup.schedule.dto.*;
-import com.maistech.buildup.task.TaskEntity;
+import com.maistech.buildup.task.domain.TaskDependencyRepository;
 import com.maistech.buildup.task.domain.TaskRepository;
-import com.maistech.buildup.task.TaskStatus;
+import com.maistech.buildup.task.domain.TaskScheduleStats;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,20 +31,33 @@ public class ScheduleService {
     private final MilestoneRepository milestoneRepository;
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final WorkingCalendarService workingCalendarService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ScheduleService(
         ScheduleRepository scheduleRepository,
         MilestoneRepository milestoneRepository,
         ProjectRepository projectRepository,
-        TaskRepository taskRepository
+        TaskRepository taskRepository,
+        TaskDependencyRepository taskDependencyRepository,
+        WorkingCalendarService workingCalendarService,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.scheduleRepository = scheduleRepository;
         this.milestoneRepository = milestoneRepository;
         this.projectRepository = projectRepository;
         this.taskRepository = taskRepository;
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.workingCalendarService = workingCalendarService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = PortfolioService.CACHE_KEY
+    )
     public ScheduleResponse generateSchedule(UUID companyId, UUID projectId) {
         ProjectEntity project = projectRepository
             .findById(projectId)
@@ -74,6 +96,10 @@ public class ScheduleService {
     }
 
     @Transactional
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = PortfolioService.CACHE_KEY
+    )
     public ScheduleResponse updateSchedule(
         UUID companyId,
         UUID projectId,
@@ -109,6 +135,10 @@ public class ScheduleService {
     }
 
     @Transactional
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = PortfolioService.CACHE_KEY
+    )
     public ScheduleResponse recalculateSchedule(
         UUID companyId,
         UUID projectId
@@ -116,28 +146,116 @@ public class ScheduleService {
         return generateSchedule(companyId, projectId);
     }
 
+    // One upsert, so concurrent refreshes never race on the schedule row
+    @Transactional
+    @CacheEvict(
+        cacheNames = PortfolioService.CACHE_NAME,
+        key = PortfolioService.CACHE_KEY
+    )
+    public void refreshSchedule(UUID companyId, UUID projectId) {
+        projectRepository
+            .findById(projectId)
+            .ifPresent(project -> {
+                ScheduleEntity schedule = new ScheduleEntity();
+                schedule.setProject(project);
+                schedule.setCompanyId(companyId);
+                calculateSchedule(schedule, projectId);
+                scheduleRepository.upsertCalculatedSchedule(schedule);
+            });
+    }
+
     @Transactional(readOnly = true)
     public List<ScheduleResponse> listCompanySchedules(UUID companyId) {
-        return scheduleRepository
-            .findAllByCompanyId(companyId)
-            .stream()
-            .map(this::toScheduleResponse)
-            .toList();
+        return toScheduleResponses(scheduleRepository.findAllByCompanyId(companyId));
     }
 
     @Transactional(readOnly = true)
     public List<ScheduleResponse> listDelayedSchedules(UUID companyId) {
-        return scheduleRepository
-            .findDelayedSchedules(companyId)
+        return toScheduleResponses(scheduleRepository.findDelayedSchedules(companyId));
+    }
+
+    @Transactional(readOnly = true)
+    public CriticalPathResponse getCriticalPath(UUID companyId, UUID projectId) {
+        ProjectEntity project = projectRepository
+            .findByIdAndCompanyId(projectId, companyId)
+            .orElseThrow(() ->
+                new ScheduleNotFoundException("Project not found")
+            );
+
+        CriticalPathResult result = calculateCriticalPath(
+            projectId,
+            workingCalendarService.forCompany(companyId),
+            project.getStartDate() != null
+                ? project.getStartDate()
+                : LocalDate.now()
+        );
+        return toCriticalPathResponse(result);
+    }
+
+    static CriticalPathResponse toCriticalPathResponse(
+        CriticalPathResult result
+    ) {
+        ScheduleGraph graph = result.graph();
+
+        List<Integer> criticalTasks = new ArrayList<>();
+        for (
+            int i = result.critical().nextSetBit(0);
+            i >= 0;
+            i = result.critical().nextSetBit(i + 1)
+        ) {
+            criticalTasks.add(i);
+        }
+        criticalTasks.sort(
+            Comparator.comparingInt(i -> result.earlyStart()[i])
+        );
+
+        List<CriticalPathResponse.TaskInCriticalPath> tasks = criticalTasks
             .stream()
-            .map(this::toScheduleResponse)
+            .map(i ->
+                new CriticalPathResponse.TaskInCriticalPath(
+                    graph.taskId(i).toString(),
+                    graph.taskName(i),
+                    graph.duration(i),
+                    result.earlyStartDate(i),
+                    result.earlyFinishDate(i),
+                    result.lateStartDate(i),
+                    result.lateFinishDate(i),
+                    result.totalFloat()[i]
+                )
+            )
             .toList();
+
+        return new CriticalPathResponse(
+            tasks,
+            result.projectDuration(),
+            graph.anchor(),
+            result.projectFinishDate()
+        );
+    }
+
+    private CriticalPathResult calculateCriticalPath(
+        UUID projectId,
+        WorkingCalendar calendar,
+        LocalDate fallbackAnchor
+    ) {
+        ScheduleGraph graph = ScheduleGraph.build(
+            fallbackAnchor,
+            calendar,
+            taskRepository.findScheduleRowsByProjectId(projectId),
+            taskDependencyRepository.findRowsByProjectId(projectId)
+        );
+        return CriticalPathEngine.calculate(graph);
     }
 
     private void calculateSchedule(ScheduleEntity schedule, UUID projectId) {
-        List<TaskEntity> tasks = taskRepository.findByProjectId(projectId);
+        TaskScheduleStats stats = taskRepository.findScheduleStatsByProjectId(
+            projectId
+        );
+        WorkingCalendar calendar = workingCalendarService.forCompany(
+            schedule.getCompanyId()
+        );
 
-        if (tasks.isEmpty()) {
+        if (stats.totalTasks() == 0) {
             ProjectEntity project = schedule.getProject();
 
             LocalDate defaultStart = project.getStartDate() != null
@@ -151,51 +269,35 @@ public class ScheduleService {
             schedule.setStartDate(defaultStart);
             schedule.setEndDate(defaultEnd);
             schedule.setTotalDurationDays(
-                    (int) ChronoUnit.DAYS.between(defaultStart, defaultEnd)
+                    calendar.workingDaysUntil(defaultStart, defaultEnd)
             );
             schedule.setStatus(ScheduleStatus.DRAFT);
             schedule.setTotalTasks(0);
             schedule.setCompletedTasks(0);
             schedule.setOverdueTasks(0);
             schedule.setCompletedPercentage(0);
+            schedule.setCriticalPathDuration(null);
             schedule.setIsOnTrack(true);
             return;
         }
 
-        LocalDate earliestStart = tasks
-            .stream()
-            .map(TaskEntity::getStartDate)
-            .filter(date -> date != null)
-            .min(LocalDate::compareTo)
-            .orElse(LocalDate.now());
+        LocalDate earliestStart = stats.earliestStart() != null
+            ? stats.earliestStart()
+            : LocalDate.now();
 
-        LocalDate latestEnd = tasks
-            .stream()
-            .map(TaskEntity::getEndDate)
-            .filter(date -> date != null)
-            .max(LocalDate::compareTo)
-            .orElse(LocalDate.now().plusMonths(3));
+        LocalDate latestEnd = stats.latestEnd() != null
+            ? stats.latestEnd()
+            : LocalDate.now().plusMonths(3);
 
         schedule.setStartDate(earliestStart);
         schedule.setEndDate(latestEnd);
         schedule.setTotalDurationDays(
-            (int) ChronoUnit.DAYS.between(earliestStart, latestEnd)
+            calendar.workingDaysUntil(earliestStart, latestEnd)
         );
 
-        int totalTasks = tasks.size();
-        long completedTasks = tasks
-            .stream()
-            .filter(t -> t.getStatus() == TaskStatus.COMPLETED)
-            .count();
-        long overdueTasks = tasks
-            .stream()
-            .filter(
-                t ->
-                    t.getEndDate() != null &&
-                    t.getEndDate().isBefore(LocalDate.now()) &&
-                    t.getStatus() != TaskStatus.COMPLETED
-            )
-            .count();
+        int totalTasks = (int) stats.totalTasks();
+        long completedTasks = stats.completedTasks();
+        long overdueTasks = stats.overdueTasks();
 
         schedule.setTotalTasks(totalTasks);
         schedule.setCompletedTasks((int) completedTasks);
@@ -212,6 +314,14 @@ public class ScheduleService {
                 !schedule.getEndDate().isBefore(LocalDate.now()));
         schedule.setIsOnTrack(isOnTrack);
 
+        schedule.setCriticalPathDuration(
+            calculateCriticalPath(
+                projectId,
+                calendar,
+                earliestStart
+            ).projectDuration()
+        );
+
         if (overdueTasks > 0) {
             schedule.setStatus(ScheduleStatus.DELAYED);
         } else if (completedTasks == totalTasks) {
@@ -225,6 +335,46 @@ public class ScheduleService {
         schedule.setLastCalculatedAt(LocalDateTime.now());
     }
 
+    private List<ScheduleResponse> toScheduleResponses(
+        List<ScheduleEntity> schedules
+    ) {
+        if (schedules.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, List<MilestoneResponse>> milestonesByProject =
+            milestoneRepository
+                .findByProjectIdInOrderByPlannedDateAsc(
+                    schedules
+                        .stream()
+                        .map(schedule -> schedule.getProject().getId())
+                        .toList()
+                )
+                .stream()
+                .collect(
+                    Collectors.groupingBy(
+                        milestone -> milestone.getProject().getId(),
+                        Collectors.mapping(
+                            this::toMilestoneResponse,
+                            Collectors.toList()
+                        )
+                    )
+                );
+
+        return schedules
+            .stream()
+            .map(schedule ->
+                toScheduleResponse(
+                    schedule,
+                    milestonesByProject.getOrDefault(
+                        schedule.getProject().getId(),
+                        List.of()
+                    )
+                )
+            )
+            .toList();
+    }
+
     private ScheduleResponse toScheduleResponse(ScheduleEntity schedule) {
         List<MilestoneResponse> milestones = milestoneRepository
             .findByProjectIdOrderByPlannedDateAsc(schedule.getProject().getId())
@@ -232,6 +382,13 @@ public class ScheduleService {
             .map(this::toMilestoneResponse)
             .toList();
 
+        return toScheduleResponse(schedule, milestones);
+    }
+
+    private ScheduleResponse toScheduleResponse(
+        ScheduleEntity schedule,
+        List<MilestoneResponse> milestones
+    ) {
         Integer daysRemaining = schedule.getEndDate() != null
             ? (int) ChronoUnit.DAYS.between(
                   LocalDate.now(),
@@ -335,7 +492,9 @@ public class ScheduleService {
 
         milestone = milestoneRepository.save(milestone);
 
-        recalculateSchedule(companyId, projectId);
+        eventPublisher.publishEvent(
+            new MilestoneChangedEvent(companyId, projectId)
+        );
 
         return toMilestoneResponse(milestone);
     }
@@ -374,7 +533,9 @@ public class ScheduleService {
 
         milestone = milestoneRepository.save(milestone);
 
-        recalculateSchedule(companyId, projectId);
+        eventPublisher.publishEvent(
+            new MilestoneChangedEvent(companyId, projectId)
+        );
 
         return toMilestoneResponse(milestone);
     }
@@ -393,7 +554,9 @@ public class ScheduleService {
 
         milestoneRepository.delete(milestone);
 
-        recalculateSchedule(companyId, projectId);
+        eventPublisher.publishEvent(
+            new MilestoneChangedEvent(companyId, projectId)
+        );
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,12 @@
+package com.maistech.buildup.schedule.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record ApplySandboxEditsRequest(
+    @NotEmpty(message = "At least one edit is required")
+    @Size(max = 500, message = "At most 500 edits per request")
+    List<@Valid SandboxEditRequest> edits
+) {}
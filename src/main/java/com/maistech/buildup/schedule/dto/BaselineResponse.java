@@ -0,0 +1,18 @@
+package com.maistech.buildup.schedule.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record BaselineResponse(
+    UUID id,
+    UUID scheduleId,
+    String name,
+    String description,
+    LocalDate plannedStartDate,
+    LocalDate plannedEndDate,
+    Integer taskCount,
+    Integer phaseCount,
+    Integer milestoneCount,
+    LocalDateTime createdAt
+) {}
@@ -0,0 +1,19 @@
+package com.maistech.buildup.schedule.dto;
+
+import com.maistech.buildup.schedule.BaselineVarianceStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record BaselineVarianceItem(
+    UUID id,
+    String type,
+    String name,
+    BaselineVarianceStatus status,
+    LocalDate baselineStartDate,
+    LocalDate baselineEndDate,
+    LocalDate currentStartDate,
+    LocalDate currentEndDate,
+    Integer startVarianceDays,
+    Integer finishVarianceDays
+) {}
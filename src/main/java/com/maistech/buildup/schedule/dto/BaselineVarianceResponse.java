@@ -0,0 +1,19 @@
+package com.maistech.buildup.schedule.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record BaselineVarianceResponse(
+    UUID baselineId,
+    String baselineName,
+    LocalDate baselineEndDate,
+    LocalDate currentEndDate,
+    Integer finishVarianceDays,
+    Integer comparedItems,
+    Integer changedItems,
+    Integer addedItems,
+    Integer removedItems,
+    Integer maxFinishSlipDays,
+    List<BaselineVarianceItem> items
+) {}
@@ -0,0 +1,12 @@
+package com.maistech.buildup.schedule.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record CreateBaselineRequest(
+    @NotBlank(message = "Baseline name is required")
+    @Size(max = 255, message = "Baseline name must have at most 255 characters")
+    String name,
+
+    String description
+) {}
@@ -0,0 +1,10 @@
+package com.maistech.buildup.schedule.dto;
+
+import java.util.UUID;
+
+public record SandboxCommitResponse(
+    UUID projectId,
+    Integer updatedTasks,
+    Integer addedDependencies,
+    Integer removedDependencies
+) {}
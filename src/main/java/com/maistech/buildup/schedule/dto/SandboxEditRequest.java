@@ -0,0 +1,22 @@
+package com.maistech.buildup.schedule.dto;
+
+import com.maistech.buildup.schedule.SandboxEditType;
+import com.maistech.buildup.task.DependencyType;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// days is for SHIFT_TASK and SET_DURATION, date for SET_START
+public record SandboxEditRequest(
+    @NotNull(message = "Edit type is required") SandboxEditType type,
+
+    @NotNull(message = "Task ID is required") UUID taskId,
+
+    Integer days,
+
+    LocalDate date,
+
+    UUID dependsOnTaskId,
+
+    DependencyType dependencyType
+) {}
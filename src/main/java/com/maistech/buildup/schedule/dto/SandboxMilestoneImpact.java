@@ -0,0 +1,14 @@
+package com.maistech.buildup.schedule.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record SandboxMilestoneImpact(
+    UUID milestoneId,
+    String name,
+    LocalDate plannedDate,
+    LocalDate plannedFinishDate,
+    LocalDate newFinishDate,
+    Integer slipDays,
+    Boolean atRisk
+) {}
@@ -0,0 +1,16 @@
+package com.maistech.buildup.schedule.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record SandboxPhaseImpact(
+    UUID phaseId,
+    String name,
+    LocalDate phaseEndDate,
+    LocalDate plannedStartDate,
+    LocalDate plannedEndDate,
+    LocalDate newStartDate,
+    LocalDate newEndDate,
+    Integer finishVarianceDays,
+    Boolean exceedsPhaseEnd
+) {}
@@ -0,0 +1,20 @@
+package com.maistech.buildup.schedule.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record SandboxResponse(
+    UUID sandboxId,
+    UUID projectId,
+    List<SandboxEditRequest> edits,
+    LocalDate plannedFinishDate,
+    LocalDate finishDate,
+    Integer finishVarianceDays,
+    CriticalPathResponse criticalPath,
+    List<SandboxTaskChange> changedTasks,
+    List<SandboxPhaseImpact> phaseImpacts,
+    List<SandboxMilestoneImpact> milestoneImpacts,
+    LocalDateTime expiresAt
+) {}
@@ -0,0 +1,16 @@
+package com.maistech.buildup.schedule.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record SandboxTaskChange(
+    UUID taskId,
+    String taskName,
+    LocalDate plannedStartDate,
+    LocalDate plannedEndDate,
+    LocalDate newStartDate,
+    LocalDate newEndDate,
+    Integer durationDays,
+    Integer finishVarianceDays,
+    Boolean critical
+) {}
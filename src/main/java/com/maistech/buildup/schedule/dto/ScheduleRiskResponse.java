@@ -0,0 +1,23 @@
+package com.maistech.buildup.schedule.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// onTimeProbability is null when the project has no due date
+public record ScheduleRiskResponse(
+    Integer iterations,
+    Long seed,
+    Integer estimatedTasks,
+    LocalDate startDate,
+    LocalDate plannedFinishDate,
+    Integer plannedDurationDays,
+    LocalDate p50FinishDate,
+    Integer p50DurationDays,
+    LocalDate p80FinishDate,
+    Integer p80DurationDays,
+    LocalDate p95FinishDate,
+    Integer p95DurationDays,
+    LocalDate dueDate,
+    Double onTimeProbability,
+    List<TaskRiskItem> tasks
+) {}
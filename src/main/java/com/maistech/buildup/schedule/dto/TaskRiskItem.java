@@ -0,0 +1,12 @@
+package com.maistech.buildup.schedule.dto;
+
+import java.util.UUID;
+
+// criticalityIndex: share of iterations with the task on the critical path
+public record TaskRiskItem(
+    UUID taskId,
+    String taskName,
+    Integer plannedDurationDays,
+    Double criticalityIndex,
+    Boolean criticalInPlan
+) {}
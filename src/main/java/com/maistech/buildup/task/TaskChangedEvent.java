@@ -0,0 +1,45 @@
+package com.maistech.buildup.task;
+
+import java.util.UUID;
+
+// before is null for created tasks, after is null for deleted ones
+public record TaskChangedEvent(
+    UUID companyId,
+    UUID projectId,
+    UUID taskId,
+    TaskSnapshot before,
+    TaskSnapshot after
+) {
+    public static TaskChangedEvent created(TaskEntity task) {
+        return new TaskChangedEvent(
+            task.getCompanyId(),
+            task.getProject().getId(),
+            task.getId(),
+            null,
+            TaskSnapshot.of(task)
+        );
+    }
+
+    public static TaskChangedEvent updated(
+        TaskEntity task,
+        TaskSnapshot before
+    ) {
+        return new TaskChangedEvent(
+            task.getCompanyId(),
+            task.getProject().getId(),
+            task.getId(),
+            before,
+            TaskSnapshot.of(task)
+        );
+    }
+
+    public static TaskChangedEvent deleted(TaskEntity task) {
+        return new TaskChangedEvent(
+            task.getCompanyId(),
+            task.getProject().getId(),
+            task.getId(),
+            TaskSnapshot.of(task),
+            null
+        );
+    }
+}
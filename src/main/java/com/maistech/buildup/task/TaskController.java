@@ -1,6 +1,7 @@
 package com.maistech.buildup.task;
 
 import com.maistech.buildup.shared.security.JWTUserData;
+import com.maistech.buildup.task.domain.TaskBatchService;
 import com.maistech.buildup.task.domain.TaskService;
 import com.maistech.buildup.task.dto.*;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,8 +13,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -30,9 +34,14 @@ import org.springframework.web.bind.annotation.*;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskBatchService taskBatchService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(
+        TaskService taskService,
+        TaskBatchService taskBatchService
+    ) {
         this.taskService = taskService;
+        this.taskBatchService = taskBatchService;
     }
 
     @PostMapping
@@ -86,6 +95,57 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(task);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+        summary = "Create tasks in batch",
+        description = "Creates many tasks and the dependencies between them in a single request. Tasks are identified by client-side reference keys, which dependencies use to point at each other. The whole batch is rejected if a reference is unknown or the dependencies form a cycle. SUPER_ADMIN can optionally specify companyId via query parameter."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "201",
+                description = "Tasks created successfully",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = TaskBatchResponse.class)
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Validation error - invalid references, duplicate dependencies or circular dependencies"
+            ),
+            @ApiResponse(
+                responseCode = "403",
+                description = "Forbidden - requires ADMIN or MANAGER role"
+            ),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Project not found"
+            )
+        }
+    )
+    public ResponseEntity<TaskBatchResponse> createTaskBatch(
+        @Parameter(description = "Project ID", required = true)
+        @PathVariable UUID projectId,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        @Valid @RequestBody CreateTaskBatchRequest request,
+        Authentication authentication
+    ) {
+        JWTUserData userData = (JWTUserData) authentication.getPrincipal();
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        TaskBatchResponse response = taskBatchService.createTasks(
+            targetCompanyId,
+            projectId,
+            userData.userId(),
+            request
+        );
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
     @Operation(
@@ -128,13 +188,21 @@ public class TaskController {
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
     @Operation(
         summary = "List user's tasks",
-        description = "Returns all tasks assigned to the authenticated user across all projects."
+        description = "Returns tasks assigned to the authenticated user across all projects, ordered by due date (tasks without a due date last). Results are paginated with an opaque cursor: pass the nextCursor of a page to get the following one. Can be filtered by status, priority and due-date window."
     )
     @ApiResponses(
         value = {
             @ApiResponse(
                 responseCode = "200",
-                description = "User's tasks retrieved successfully"
+                description = "User's tasks retrieved successfully",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = TaskFeedResponse.class)
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Invalid cursor or filter"
             ),
             @ApiResponse(
                 responseCode = "403",
@@ -142,12 +210,31 @@ public class TaskController {
             )
         }
     )
-    public ResponseEntity<List<TaskResponse>> listMyTasks(
+    public ResponseEntity<TaskFeedResponse> listMyTasks(
+        @Parameter(description = "Filter by status (repeatable)")
+        @RequestParam(required = false) Set<TaskStatus> status,
+        @Parameter(description = "Filter by priority (repeatable)")
+        @RequestParam(required = false) Set<TaskPriority> priority,
+        @Parameter(description = "Only tasks due on or after this date")
+        @RequestParam(required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate dueFrom,
+        @Parameter(description = "Only tasks due on or before this date")
+        @RequestParam(required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate dueTo,
+        @Parameter(description = "Cursor returned by the previous page")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size (1-100, default 20)")
+        @RequestParam(required = false) Integer limit,
         Authentication authentication
     ) {
         JWTUserData userData = (JWTUserData) authentication.getPrincipal();
 
-        List<TaskResponse> tasks = taskService.listUserTasks(userData.userId());
+        TaskFeedResponse tasks = taskService.listUserTasks(
+            userData.userId(),
+            new TaskFeedQuery(status, priority, dueFrom, dueTo, cursor, limit)
+        );
         return ResponseEntity.ok(tasks);
     }
 
@@ -238,7 +325,7 @@ public class TaskController {
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     @Operation(
         summary = "Update task",
-        description = "Updates task information. All fields in the request are optional - only provided fields will be updated. SUPER_ADMIN can optionally specify companyId via query parameter."
+        description = "Updates task information. All fields in the request are optional - only provided fields will be updated. With autoReschedule=true, a date change is pushed forward through the dependency graph and every successor whose dependency would be violated is moved later, keeping its duration. SUPER_ADMIN can optionally specify companyId via query parameter."
     )
     @ApiResponses(
         value = {
@@ -271,6 +358,10 @@ public class TaskController {
         @PathVariable UUID taskId,
         @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
         @RequestParam(required = false) UUID companyId,
+        @Parameter(
+            description = "Shift dependent tasks that would otherwise start before their dependencies allow"
+        )
+        @RequestParam(defaultValue = "false") boolean autoReschedule,
         @Valid @RequestBody UpdateTaskRequest request,
         Authentication authentication
     ) {
@@ -280,7 +371,8 @@ public class TaskController {
             targetCompanyId,
             projectId,
             taskId,
-            request
+            request,
+            autoReschedule
         );
         return ResponseEntity.ok(task);
     }
@@ -322,6 +414,48 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    @PutMapping("/{taskId}/position")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+        summary = "Move task",
+        description = "Moves the task right after afterTaskId, or to the top of the project when afterTaskId is null. Only the moved task is written. SUPER_ADMIN can optionally specify companyId via query parameter."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "204",
+                description = "Task moved successfully"
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Invalid target position"
+            ),
+            @ApiResponse(
+                responseCode = "403",
+                description = "Forbidden - requires ADMIN or MANAGER role"
+            ),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Task not found"
+            )
+        }
+    )
+    public ResponseEntity<Void> moveTask(
+        @Parameter(description = "Project ID", required = true)
+        @PathVariable UUID projectId,
+        @Parameter(description = "Task ID", required = true)
+        @PathVariable UUID taskId,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        @Valid @RequestBody MoveTaskRequest request,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        taskService.moveTask(targetCompanyId, projectId, taskId, request);
+        return ResponseEntity.noContent().build();
+    }
+
     @PatchMapping("/{taskId}/start")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
     @Operation(
@@ -456,6 +590,54 @@ public class TaskController {
         return ResponseEntity.ok(task);
     }
 
+    @PatchMapping("/{taskId}/estimate")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+        summary = "Update task duration estimate",
+        description = "Sets the optimistic, most likely and pessimistic durations of a task, in working days. They are sampled by the schedule risk simulation. SUPER_ADMIN can optionally specify companyId via query parameter."
+    )
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Estimate updated successfully"
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Validation error - estimates must satisfy optimistic <= most likely <= pessimistic"
+            ),
+            @ApiResponse(
+                responseCode = "403",
+                description = "Forbidden"
+            ),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Task not found"
+            )
+        }
+    )
+    public ResponseEntity<TaskResponse> updateDurationEstimate(
+        @Parameter(description = "Project ID", required = true)
+        @PathVariable UUID projectId,
+        @Parameter(description = "Task ID", required = true)
+        @PathVariable UUID taskId,
+        @Parameter(description = "Company ID (optional, only for SUPER_ADMIN)")
+        @RequestParam(required = false) UUID companyId,
+        @Valid @RequestBody UpdateDurationEstimateRequest request,
+        Authentication authentication
+    ) {
+        UUID targetCompanyId = getTargetCompanyId(authentication, companyId);
+
+        TaskResponse task = taskService.updateDurationEstimate(
+            targetCompanyId,
+            projectId,
+            taskId,
+            request
+        );
+
+        return ResponseEntity.ok(task);
+    }
+
     @PostMapping("/{taskId}/dependencies")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     @Operation(
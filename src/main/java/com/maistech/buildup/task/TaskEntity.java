@@ -1,6 +1,7 @@
 package com.maistech.buildup.task;
 
 import com.maistech.buildup.auth.UserEntity;
+import com.maistech.buildup.calendar.WorkingCalendar;
 import com.maistech.buildup.project.ProjectEntity;
 import com.maistech.buildup.shared.entity.BaseEntity;
 import jakarta.persistence.*;
@@ -47,6 +48,15 @@ public class TaskEntity extends BaseEntity {
     @Column(name = "duration_days")
     private Integer durationDays;
 
+    @Column(name = "optimistic_duration_days")
+    private Integer optimisticDurationDays;
+
+    @Column(name = "most_likely_duration_days")
+    private Integer mostLikelyDurationDays;
+
+    @Column(name = "pessimistic_duration_days")
+    private Integer pessimisticDurationDays;
+
     @Enumerated(EnumType.STRING)
     @Column(length = 50, nullable = false)
     @NotNull
@@ -70,6 +80,10 @@ public class TaskEntity extends BaseEntity {
     @Builder.Default
     private Integer orderIndex = 0;
 
+    @Column(name = "is_overdue", nullable = false)
+    @Builder.Default
+    private boolean flaggedOverdue = false;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", nullable = false)
     private UserEntity createdBy;
@@ -169,28 +183,53 @@ public class TaskEntity extends BaseEntity {
             );
     }
 
-    public void calculateDurationFromDates() {
+    public void calculateDurationFromDates(WorkingCalendar calendar) {
         if (startDate != null && endDate != null) {
-            this.durationDays =
-                (int) java.time.temporal.ChronoUnit.DAYS.between(
-                    startDate,
-                    endDate
-                ) +
-                1;
+            this.durationDays = calendar.countWorkingDays(startDate, endDate);
         }
     }
 
-    public void calculateEndDateFromDuration() {
+    public void calculateEndDateFromDuration(WorkingCalendar calendar) {
         if (startDate != null && durationDays != null) {
-            this.endDate = startDate.plusDays(durationDays - 1);
+            this.endDate = calendar.endDateFor(startDate, durationDays);
+        }
+    }
+
+    public void updateDurationEstimate(
+        Integer optimistic,
+        Integer mostLikely,
+        Integer pessimistic
+    ) {
+        if (
+            optimistic < 1 ||
+            mostLikely < optimistic ||
+            pessimistic < mostLikely
+        ) {
+            throw new IllegalArgumentException(
+                "Estimates must satisfy 1 <= optimistic <= most likely <= pessimistic"
+            );
         }
+        this.optimisticDurationDays = optimistic;
+        this.mostLikelyDurationDays = mostLikely;
+        this.pessimisticDurationDays = pessimistic;
+    }
+
+    public void rescheduleTo(LocalDate newStartDate, WorkingCalendar calendar) {
+        calculateDurationFromDates(calendar);
+        this.startDate = newStartDate;
+        calculateEndDateFromDuration(calendar);
+    }
+
+    public void refreshOverdueFlag() {
+        this.flaggedOverdue = isOverdue();
     }
 
     @PrePersist
     @PreUpdate
-    private void syncCompanyId() {
+    private void syncDerivedColumns() {
         if (project != null && getCompanyId() == null) {
             setCompanyId(project.getCompanyId());
         }
+        refreshOverdueFlag();
     }
 }
@@ -0,0 +1,51 @@
+package com.maistech.buildup.task;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+public record TaskSnapshot(
+    UUID phaseId,
+    TaskStatus status,
+    LocalDate startDate,
+    LocalDate endDate,
+    Integer durationDays,
+    Integer progressPercentage,
+    boolean overdue
+) {
+    public static TaskSnapshot of(TaskEntity task) {
+        return new TaskSnapshot(
+            task.getPhase() != null ? task.getPhase().getId() : null,
+            task.getStatus(),
+            task.getStartDate(),
+            task.getEndDate(),
+            task.getDurationDays(),
+            task.getProgressPercentage(),
+            task.isFlaggedOverdue()
+        );
+    }
+
+    public boolean datesDifferFrom(TaskSnapshot other) {
+        return (
+            !Objects.equals(startDate, other.startDate) ||
+            !Objects.equals(endDate, other.endDate) ||
+            !Objects.equals(durationDays, other.durationDays)
+        );
+    }
+
+    public boolean completed() {
+        return status == TaskStatus.COMPLETED;
+    }
+
+    // Duration in days weighting the task's progress, at least one
+    public long progressWeight() {
+        return durationDays != null && durationDays > 1 ? durationDays : 1;
+    }
+
+    public long weightedProgress() {
+        return (
+            (progressPercentage != null ? progressPercentage : 0L) *
+            progressWeight()
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.maistech.buildup.task;
+
+import java.util.UUID;
+
+public record TasksFlaggedOverdueEvent(
+    UUID companyId,
+    UUID projectId,
+    int count
+) {}
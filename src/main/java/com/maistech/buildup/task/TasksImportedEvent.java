@@ -0,0 +1,10 @@
+package com.maistech.buildup.task;
+
+import java.util.List;
+import java.util.UUID;
+
+public record TasksImportedEvent(
+    UUID companyId,
+    UUID projectId,
+    List<TaskSnapshot> tasks
+) {}
@@ -0,0 +1,115 @@
+package com.maistech.buildup.task.domain;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+final class DependencyCycleDetector {
+
+    private DependencyCycleDetector() {}
+
+    static boolean reaches(
+        UUID startTaskId,
+        UUID targetTaskId,
+        List<Object[]> edges
+    ) {
+        if (startTaskId.equals(targetTaskId)) {
+            return true;
+        }
+
+        Map<UUID, Integer> indexById = new HashMap<>();
+        indexById.put(startTaskId, 0);
+        int[] from = new int[edges.size()];
+        int[] to = new int[edges.size()];
+        for (int e = 0; e < edges.size(); e++) {
+            from[e] = indexOf(indexById, (UUID) edges.get(e)[0]);
+            to[e] = indexOf(indexById, (UUID) edges.get(e)[1]);
+        }
+
+        Integer target = indexById.get(targetTaskId);
+        if (target == null) {
+            return false;
+        }
+
+        int n = indexById.size();
+        int[] offsets = new int[n + 1];
+        for (int e = 0; e < from.length; e++) {
+            offsets[from[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] adjacency = new int[from.length];
+        int[] cursor = offsets.clone();
+        for (int e = 0; e < from.length; e++) {
+            adjacency[cursor[from[e]]++] = to[e];
+        }
+
+        BitSet visited = new BitSet(n);
+        int[] stack = new int[n];
+        int top = 0;
+        stack[top++] = 0;
+        visited.set(0);
+        while (top > 0) {
+            int current = stack[--top];
+            if (current == target) {
+                return true;
+            }
+            for (int e = offsets[current]; e < offsets[current + 1]; e++) {
+                int next = adjacency[e];
+                if (!visited.get(next)) {
+                    visited.set(next);
+                    stack[top++] = next;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Kahn's algorithm: a cycle leaves some node unvisited
+    static boolean hasCycle(int n, int[] from, int[] to, int edgeCount) {
+        int[] inDegree = new int[n];
+        int[] offsets = new int[n + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            offsets[from[e] + 1]++;
+            inDegree[to[e]]++;
+        }
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] adjacency = new int[edgeCount];
+        int[] cursor = offsets.clone();
+        for (int e = 0; e < edgeCount; e++) {
+            adjacency[cursor[from[e]]++] = to[e];
+        }
+
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0) {
+                queue[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int current = queue[head++];
+            for (int e = offsets[current]; e < offsets[current + 1]; e++) {
+                if (--inDegree[adjacency[e]] == 0) {
+                    queue[tail++] = adjacency[e];
+                }
+            }
+        }
+        return tail != n;
+    }
+
+    private static int indexOf(Map<UUID, Integer> indexById, UUID id) {
+        Integer index = indexById.get(id);
+        if (index == null) {
+            index = indexById.size();
+            indexById.put(id, index);
+        }
+        return index;
+    }
+}
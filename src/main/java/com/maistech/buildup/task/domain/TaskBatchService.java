@@ -0,0 +1,295 @@
+package com.maistech.buildup.task.domain;
+
+import com.maistech.buildup.auth.UserEntity;
+import com.maistech.buildup.auth.domain.UserRepository;
+import com.maistech.buildup.calendar.WorkingCalendar;
+import com.maistech.buildup.calendar.domain.WorkingCalendarService;
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.project.ProjectNotFoundException;
+import com.maistech.buildup.project.domain.ProjectRepository;
+import com.maistech.buildup.task.*;
+import com.maistech.buildup.task.dto.*;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class TaskBatchService {
+
+    static final int FLUSH_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final WorkingCalendarService workingCalendarService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskBatchService(
+        EntityManager entityManager,
+        TaskRepository taskRepository,
+        ProjectRepository projectRepository,
+        UserRepository userRepository,
+        WorkingCalendarService workingCalendarService,
+        ApplicationEventPublisher eventPublisher
+    ) {
+        this.entityManager = entityManager;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.workingCalendarService = workingCalendarService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public TaskBatchResponse createTasks(
+        UUID companyId,
+        UUID projectId,
+        UUID createdById,
+        CreateTaskBatchRequest request
+    ) {
+        ProjectEntity project = projectRepository
+            .findByIdAndCompanyId(projectId, companyId)
+            .orElseThrow(() ->
+                new ProjectNotFoundException(
+                    "Project not found or does not belong to this company"
+                )
+            );
+
+        UserEntity creator = userRepository
+            .findById(createdById)
+            .orElseThrow(() ->
+                new IllegalArgumentException("Creator not found")
+            );
+
+        List<BatchTaskItem> items = request.tasks();
+        List<BatchDependencyItem> links = request.dependencies() != null
+            ? request.dependencies()
+            : List.of();
+
+        Map<String, Integer> indexByRef = indexReferences(items);
+        int[] predecessors = new int[links.size()];
+        int[] successors = new int[links.size()];
+        resolveLinks(links, indexByRef, predecessors, successors);
+
+        if (
+            DependencyCycleDetector.hasCycle(
+                items.size(),
+                predecessors,
+                successors,
+                links.size()
+            )
+        ) {
+            throw new IllegalArgumentException(
+                "Cannot create batch: dependencies contain a circular reference"
+            );
+        }
+
+        Map<UUID, UserEntity> assignees = resolveAssignees(items);
+
+        WorkingCalendar calendar = workingCalendarService.forCompany(companyId);
+        int baseRank = taskRepository.findMaxOrderIndex(projectId);
+        UUID[] taskIds = new UUID[items.size()];
+        List<TaskSnapshot> snapshots = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            TaskEntity task = buildTask(
+                items.get(i).task(),
+                project,
+                creator,
+                assignees,
+                companyId,
+                calendar,
+                baseRank + (i + 1) * TaskRankRebalancer.RANK_GAP
+            );
+            entityManager.persist(task);
+            taskIds[i] = task.getId();
+            snapshots.add(TaskSnapshot.of(task));
+            flushAndClearEvery(i + 1);
+        }
+        flushAndClear();
+
+        for (int e = 0; e < links.size(); e++) {
+            TaskDependencyEntity dependency = new TaskDependencyEntity();
+            dependency.setTask(
+                entityManager.getReference(
+                    TaskEntity.class,
+                    taskIds[successors[e]]
+                )
+            );
+            dependency.setDependsOnTask(
+                entityManager.getReference(
+                    TaskEntity.class,
+                    taskIds[predecessors[e]]
+                )
+            );
+            if (links.get(e).dependencyType() != null) {
+                dependency.setDependencyType(links.get(e).dependencyType());
+            }
+            entityManager.persist(dependency);
+            flushAndClearEvery(e + 1);
+        }
+        flushAndClear();
+
+        eventPublisher.publishEvent(
+            new TasksImportedEvent(companyId, projectId, snapshots)
+        );
+
+        Map<String, UUID> idsByRef = new LinkedHashMap<>(items.size() * 2);
+        for (int i = 0; i < items.size(); i++) {
+            idsByRef.put(items.get(i).ref(), taskIds[i]);
+        }
+        return new TaskBatchResponse(items.size(), links.size(), idsByRef);
+    }
+
+    private Map<String, Integer> indexReferences(List<BatchTaskItem> items) {
+        Map<String, Integer> indexByRef = new HashMap<>(items.size() * 2);
+        for (int i = 0; i < items.size(); i++) {
+            if (indexByRef.putIfAbsent(items.get(i).ref(), i) != null) {
+                throw new IllegalArgumentException(
+                    "Duplicate task reference: " + items.get(i).ref()
+                );
+            }
+        }
+        return indexByRef;
+    }
+
+    private void resolveLinks(
+        List<BatchDependencyItem> links,
+        Map<String, Integer> indexByRef,
+        int[] predecessors,
+        int[] successors
+    ) {
+        Set<Long> seen = new HashSet<>(links.size() * 2);
+        for (int e = 0; e < links.size(); e++) {
+            BatchDependencyItem link = links.get(e);
+            int successor = indexOfRef(indexByRef, link.taskRef());
+            int predecessor = indexOfRef(indexByRef, link.dependsOnRef());
+
+            if (successor == predecessor) {
+                throw new IllegalArgumentException(
+                    "Task cannot depend on itself: " + link.taskRef()
+                );
+            }
+            if (!seen.add(((long) successor << 32) | predecessor)) {
+                throw new IllegalArgumentException(
+                    "Dependency already exists: " +
+                    link.taskRef() +
+                    " -> " +
+                    link.dependsOnRef()
+                );
+            }
+
+            predecessors[e] = predecessor;
+            successors[e] = successor;
+        }
+    }
+
+    private int indexOfRef(Map<String, Integer> indexByRef, String ref) {
+        Integer index = indexByRef.get(ref);
+        if (index == null) {
+            throw new IllegalArgumentException(
+                "Unknown task reference: " + ref
+            );
+        }
+        return index;
+    }
+
+    private Map<UUID, UserEntity> resolveAssignees(List<BatchTaskItem> items) {
+        Set<UUID> assigneeIds = items
+            .stream()
+            .map(item -> item.task().assignedTo())
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        if (assigneeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, UserEntity> assignees = userRepository
+            .findAllById(assigneeIds)
+            .stream()
+            .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+        for (UUID assigneeId : assigneeIds) {
+            if (!assignees.containsKey(assigneeId)) {
+                throw new IllegalArgumentException(
+                    "Assigned user not found: " + assigneeId
+                );
+            }
+        }
+        return assignees;
+    }
+
+    private TaskEntity buildTask(
+        CreateTaskRequest request,
+        ProjectEntity project,
+        UserEntity creator,
+        Map<UUID, UserEntity> assignees,
+        UUID companyId,
+        WorkingCalendar calendar,
+        int orderIndex
+    ) {
+        TaskEntity task = TaskEntity.builder()
+            .project(project)
+            .name(request.name())
+            .description(request.description())
+            .startDate(request.startDate())
+            .endDate(request.endDate())
+            .durationDays(request.durationDays())
+            .priority(
+                request.priority() != null
+                    ? request.priority()
+                    : TaskPriority.MEDIUM
+            )
+            .progressPercentage(
+                request.progressPercentage() != null
+                    ? request.progressPercentage()
+                    : 0
+            )
+            .createdBy(creator)
+            .assignedTo(
+                request.assignedTo() != null
+                    ? assignees.get(request.assignedTo())
+                    : null
+            )
+            .orderIndex(orderIndex)
+            .companyId(companyId)
+            .build();
+
+        if (
+            task.getStartDate() != null &&
+            task.getDurationDays() != null &&
+            task.getEndDate() == null
+        ) {
+            task.calculateEndDateFromDuration(calendar);
+        } else if (
+            task.getStartDate() != null &&
+            task.getEndDate() != null &&
+            task.getDurationDays() == null
+        ) {
+            task.calculateDurationFromDates(calendar);
+        }
+        return task;
+    }
+
+    private void flushAndClearEvery(int written) {
+        if (written % FLUSH_SIZE == 0) {
+            flushAndClear();
+        }
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -1,9 +1,12 @@
 package com.maistech.buildup.task.domain;
 
 import com.maistech.buildup.task.TaskDependencyEntity;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,7 +16,70 @@ public interface TaskDependencyRepository
 
     List<TaskDependencyEntity> findByDependsOnTaskId(UUID taskId);
 
+    List<TaskDependencyEntity> findByTaskIdIn(Collection<UUID> taskIds);
+
     void deleteByTaskIdAndDependsOnTaskId(UUID taskId, UUID dependsOnTaskId);
 
     boolean existsByTaskIdAndDependsOnTaskId(UUID taskId, UUID dependsOnTaskId);
+
+    @Query(
+        """
+        SELECT new com.maistech.buildup.task.domain.TaskDependencyRow(
+            d.task.id, d.dependsOnTask.id, d.dependencyType
+        )
+        FROM TaskDependencyEntity d
+        WHERE d.task.project.id = :projectId
+        """
+    )
+    List<TaskDependencyRow> findRowsByProjectId(
+        @Param("projectId") UUID projectId
+    );
+
+    @Query(
+        """
+        SELECT new com.maistech.buildup.task.domain.TaskDependencySummaryRow(
+            d.task.id, d.id, p.id, p.name, p.status, d.dependencyType
+        )
+        FROM TaskDependencyEntity d
+        JOIN d.dependsOnTask p
+        WHERE d.task.id IN :taskIds
+        """
+    )
+    List<TaskDependencySummaryRow> findSummaryRowsByTaskIds(
+        @Param("taskIds") Collection<UUID> taskIds
+    );
+
+    @Query(
+        value = """
+        WITH RECURSIVE reachable(id) AS (
+            SELECT CAST(:startTaskId AS uuid)
+            UNION
+            SELECT d.depends_on_task_id
+            FROM task_dependencies d
+            JOIN reachable r ON d.task_id = r.id
+        )
+        SELECT d.task_id, d.depends_on_task_id
+        FROM task_dependencies d
+        JOIN reachable r ON d.task_id = r.id
+        """,
+        nativeQuery = true
+    )
+    List<Object[]> findReachableEdges(@Param("startTaskId") UUID startTaskId);
+
+    @Query(
+        value = """
+        WITH RECURSIVE downstream(id) AS (
+            SELECT CAST(:startTaskId AS uuid)
+            UNION
+            SELECT d.task_id
+            FROM task_dependencies d
+            JOIN downstream r ON d.depends_on_task_id = r.id
+        )
+        SELECT d.task_id, d.depends_on_task_id, d.dependency_type
+        FROM task_dependencies d
+        JOIN downstream r ON d.depends_on_task_id = r.id
+        """,
+        nativeQuery = true
+    )
+    List<Object[]> findDownstreamEdges(@Param("startTaskId") UUID startTaskId);
 }
@@ -0,0 +1,10 @@
+package com.maistech.buildup.task.domain;
+
+import com.maistech.buildup.task.DependencyType;
+import java.util.UUID;
+
+public record TaskDependencyRow(
+    UUID taskId,
+    UUID dependsOnTaskId,
+    DependencyType dependencyType
+) {}
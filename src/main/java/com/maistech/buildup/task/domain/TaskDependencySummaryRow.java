@@ -0,0 +1,14 @@
+package com.maistech.buildup.task.domain;
+
+import com.maistech.buildup.task.DependencyType;
+import com.maistech.buildup.task.TaskStatus;
+import java.util.UUID;
+
+public record TaskDependencySummaryRow(
+    UUID taskId,
+    UUID dependencyId,
+    UUID dependsOnTaskId,
+    String dependsOnTaskName,
+    TaskStatus dependsOnTaskStatus,
+    DependencyType dependencyType
+) {}
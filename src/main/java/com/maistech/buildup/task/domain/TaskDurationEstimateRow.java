@@ -0,0 +1,10 @@
+package com.maistech.buildup.task.domain;
+
+import java.util.UUID;
+
+public record TaskDurationEstimateRow(
+    UUID taskId,
+    Integer optimisticDurationDays,
+    Integer mostLikelyDurationDays,
+    Integer pessimisticDurationDays
+) {}
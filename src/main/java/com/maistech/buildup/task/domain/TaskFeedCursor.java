@@ -0,0 +1,51 @@
+package com.maistech.buildup.task.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+record TaskFeedCursor(LocalDate dueDate, UUID id) {
+    static final LocalDate OPEN_ENDED = LocalDate.of(9999, 12, 31);
+    static final LocalDate EARLIEST = LocalDate.of(1, 1, 1);
+
+    static final TaskFeedCursor START = new TaskFeedCursor(
+        EARLIEST,
+        new UUID(0, 0)
+    );
+
+    static TaskFeedCursor after(LocalDate endDate, UUID id) {
+        return new TaskFeedCursor(endDate != null ? endDate : OPEN_ENDED, id);
+    }
+
+    static TaskFeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String[] parts = new String(
+                Base64.getUrlDecoder().decode(cursor),
+                StandardCharsets.UTF_8
+            ).split("\\|", 2);
+            return new TaskFeedCursor(
+                LocalDate.parse(parts[0]),
+                UUID.fromString(parts[1])
+            );
+        } catch (
+            IllegalArgumentException
+            | DateTimeParseException
+            | ArrayIndexOutOfBoundsException e
+        ) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(
+                (dueDate + "|" + id).getBytes(StandardCharsets.UTF_8)
+            );
+    }
+}
@@ -0,0 +1,106 @@
+package com.maistech.buildup.task.domain;
+
+import com.maistech.buildup.task.TasksFlaggedOverdueEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@Slf4j
+public class TaskOverdueSweeper {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer sweepTimer;
+    private final Counter flaggedCounter;
+    private final Counter tenantCounter;
+
+    public TaskOverdueSweeper(
+        TaskRepository taskRepository,
+        ApplicationEventPublisher eventPublisher,
+        TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.sweepTimer = Timer.builder("tasks.overdue.sweep")
+            .description("Duration of the overdue task sweep")
+            .register(meterRegistry);
+        this.flaggedCounter = Counter.builder("tasks.overdue.flagged")
+            .description("Tasks flagged as overdue by the sweeper")
+            .register(meterRegistry);
+        this.tenantCounter = Counter.builder("tasks.overdue.tenants")
+            .description("Tenants with newly overdue tasks per sweep")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "0 5 * * * ?")
+    public void sweep() {
+        sweepTimer.record(() -> {
+            LocalDate today = LocalDate.now();
+            List<UUID> companyIds =
+                taskRepository.findCompanyIdsWithNewlyOverdueTasks(today);
+
+            int flagged = 0;
+            for (UUID companyId : companyIds) {
+                flagged += sweepCompany(companyId, today);
+            }
+
+            tenantCounter.increment(companyIds.size());
+            flaggedCounter.increment(flagged);
+            if (flagged > 0) {
+                log.info(
+                    "Flagged {} overdue tasks across {} companies",
+                    flagged,
+                    companyIds.size()
+                );
+            }
+        });
+    }
+
+    int sweepCompany(UUID companyId, LocalDate today) {
+        int flagged = 0;
+        int chunk;
+        do {
+            Integer updated = transactionTemplate.execute(status ->
+                flagChunk(companyId, today)
+            );
+            chunk = updated != null ? updated : 0;
+            flagged += chunk;
+        } while (chunk == CHUNK_SIZE);
+        return flagged;
+    }
+
+    private int flagChunk(UUID companyId, LocalDate today) {
+        List<UUID> projectIds = taskRepository.flagOverdueTasks(
+            companyId,
+            today,
+            CHUNK_SIZE
+        );
+
+        Map<UUID, Integer> countByProject = new HashMap<>();
+        for (UUID projectId : projectIds) {
+            countByProject.merge(projectId, 1, Integer::sum);
+        }
+        countByProject.forEach((projectId, count) ->
+            eventPublisher.publishEvent(
+                new TasksFlaggedOverdueEvent(companyId, projectId, count)
+            )
+        );
+        return projectIds.size();
+    }
+}
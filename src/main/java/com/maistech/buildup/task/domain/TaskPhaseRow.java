@@ -0,0 +1,5 @@
+package com.maistech.buildup.task.domain;
+
+import java.util.UUID;
+
+public record TaskPhaseRow(UUID taskId, UUID phaseId) {}
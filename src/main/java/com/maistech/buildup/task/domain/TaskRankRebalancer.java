@@ -0,0 +1,38 @@
+package com.maistech.buildup.task.domain;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Respreads sparse ranks before repeated moves into one slot exhaust the gap
+@Component
+@Slf4j
+public class TaskRankRebalancer {
+
+    static final int RANK_GAP = 1024;
+    static final int MIN_RANK_GAP = 8;
+    static final int MAX_RANK = Integer.MAX_VALUE / 2;
+
+    private final TaskRepository taskRepository;
+
+    public TaskRankRebalancer(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @Scheduled(cron = "0 30 * * * ?")
+    public void rebalanceCrowdedProjects() {
+        List<UUID> projectIds =
+            taskRepository.findProjectIdsWithCrowdedOrderIndexes(
+                MIN_RANK_GAP,
+                MAX_RANK
+            );
+        for (UUID projectId : projectIds) {
+            taskRepository.rebalanceOrderIndexes(projectId, RANK_GAP);
+        }
+        if (!projectIds.isEmpty()) {
+            log.info("Rebalanced task ranks for {} projects", projectIds.size());
+        }
+    }
+}
@@ -1,18 +1,25 @@
 package com.maistech.buildup.task.domain;
 
 import com.maistech.buildup.task.*;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<TaskEntity, UUID> {
     List<TaskEntity> findByProjectId(UUID projectId);
-    
+
+    @EntityGraph(attributePaths = { "project", "assignedTo", "createdBy" })
     List<TaskEntity> findByProjectIdOrderByOrderIndexAsc(UUID projectId);
 
     List<TaskEntity> findByProjectIdAndStatus(
@@ -20,7 +27,38 @@ public interface TaskRepository extends JpaRepository<TaskEntity, UUID> {
         TaskStatus status
     );
 
-    List<TaskEntity> findByAssignedToId(UUID userId);
+    @EntityGraph(attributePaths = { "project", "assignedTo", "createdBy" })
+    List<TaskEntity> findByIdIn(Collection<UUID> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TaskEntity t WHERE t.id IN :ids ORDER BY t.id")
+    List<TaskEntity> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
+
+    @Query(
+        value = """
+        SELECT t.id
+        FROM tasks t
+        WHERE t.assigned_to = :userId
+          AND t.status IN (:statuses)
+          AND (:anyPriority OR t.priority IN (:priorities))
+          AND COALESCE(t.end_date, DATE '9999-12-31') BETWEEN :dueFrom AND :dueTo
+          AND (COALESCE(t.end_date, DATE '9999-12-31'), t.id) > (:afterDueDate, :afterId)
+        ORDER BY COALESCE(t.end_date, DATE '9999-12-31'), t.id
+        LIMIT :limit
+        """,
+        nativeQuery = true
+    )
+    List<UUID> findAssignedTaskIdsAfter(
+        @Param("userId") UUID userId,
+        @Param("statuses") Collection<String> statuses,
+        @Param("anyPriority") boolean anyPriority,
+        @Param("priorities") Collection<String> priorities,
+        @Param("dueFrom") LocalDate dueFrom,
+        @Param("dueTo") LocalDate dueTo,
+        @Param("afterDueDate") LocalDate afterDueDate,
+        @Param("afterId") UUID afterId,
+        @Param("limit") int limit
+    );
 
     @Query(
         "SELECT t FROM TaskEntity t WHERE t.project.id = :projectId AND t.assignedTo.id = :userId"
@@ -30,16 +68,216 @@ public interface TaskRepository extends JpaRepository<TaskEntity, UUID> {
         @Param("userId") UUID userId
     );
 
+    @EntityGraph(attributePaths = { "project", "assignedTo", "createdBy" })
     @Query(
-        "SELECT t FROM TaskEntity t WHERE t.project.id = :projectId AND t.endDate < :date AND t.status NOT IN ('COMPLETED', 'CANCELLED')"
+        "SELECT t FROM TaskEntity t WHERE t.project.id = :projectId AND t.flaggedOverdue = true ORDER BY t.endDate"
     )
-    List<TaskEntity> findOverdueTasks(
-        @Param("projectId") UUID projectId,
-        @Param("date") LocalDate date
+    List<TaskEntity> findOverdueTasks(@Param("projectId") UUID projectId);
+
+    @Query(
+        value = """
+        SELECT DISTINCT company_id
+        FROM tasks
+        WHERE NOT is_overdue
+          AND status NOT IN ('COMPLETED', 'CANCELLED')
+          AND end_date < :today
+        """,
+        nativeQuery = true
+    )
+    List<UUID> findCompanyIdsWithNewlyOverdueTasks(
+        @Param("today") LocalDate today
+    );
+
+    @Query(
+        value = """
+        WITH due AS (
+            SELECT id
+            FROM tasks
+            WHERE company_id = :companyId
+              AND NOT is_overdue
+              AND status NOT IN ('COMPLETED', 'CANCELLED')
+              AND end_date < :today
+            LIMIT :chunkSize
+            FOR UPDATE SKIP LOCKED
+        ),
+        flagged AS (
+            UPDATE tasks t
+            SET is_overdue = true
+            FROM due
+            WHERE t.id = due.id
+            RETURNING t.project_id
+        )
+        SELECT project_id FROM flagged
+        """,
+        nativeQuery = true
+    )
+    List<UUID> flagOverdueTasks(
+        @Param("companyId") UUID companyId,
+        @Param("today") LocalDate today,
+        @Param("chunkSize") int chunkSize
     );
 
     @Query(
         "SELECT t FROM TaskEntity t WHERE t.project.id = :projectId AND t.priority IN ('HIGH', 'URGENT')"
     )
     List<TaskEntity> findHighPriorityTasks(@Param("projectId") UUID projectId);
+
+    @Query(
+        """
+        SELECT new com.maistech.buildup.task.domain.TaskScheduleStats(
+            COUNT(t),
+            COUNT(t) FILTER (WHERE t.status = 'COMPLETED'),
+            COUNT(t) FILTER (WHERE t.flaggedOverdue = true),
+            MIN(t.startDate),
+            MAX(t.endDate)
+        )
+        FROM TaskEntity t
+        WHERE t.project.id = :projectId
+        """
+    )
+    TaskScheduleStats findScheduleStatsByProjectId(
+        @Param("projectId") UUID projectId
+    );
+
+    @Query(
+        """
+        SELECT new com.maistech.buildup.task.domain.TaskScheduleRow(
+            t.id, t.name, t.startDate, t.endDate, t.durationDays, t.status
+        )
+        FROM TaskEntity t
+        WHERE t.project.id = :projectId
+        """
+    )
+    List<TaskScheduleRow> findScheduleRowsByProjectId(
+        @Param("projectId") UUID projectId
+    );
+
+    @Query(
+        """
+        SELECT new com.maistech.buildup.task.domain.TaskScheduleRow(
+            t.id, t.name, t.startDate, t.endDate, t.durationDays, t.status
+        )
+        FROM TaskEntity t
+        WHERE t.id IN :ids
+        """
+    )
+    List<TaskScheduleRow> findScheduleRowsByIdIn(
+        @Param("ids") Collection<UUID> ids
+    );
+
+    @Query(
+        """
+        SELECT new com.maistech.buildup.task.domain.TaskPhaseRow(
+            t.id, t.phase.id
+        )
+        FROM TaskEntity t
+        WHERE t.project.id = :projectId
+          AND t.phase IS NOT NULL
+        """
+    )
+    List<TaskPhaseRow> findPhaseRowsByProjectId(
+        @Param("projectId") UUID projectId
+    );
+
+    @Query(
+        """
+        SELECT new com.maistech.buildup.task.domain.TaskDurationEstimateRow(
+            t.id,
+            t.optimisticDurationDays,
+            t.mostLikelyDurationDays,
+            t.pessimisticDurationDays
+        )
+        FROM TaskEntity t
+        WHERE t.project.id = :projectId
+          AND t.optimisticDurationDays IS NOT NULL
+          AND t.pessimisticDurationDays IS NOT NULL
+        """
+    )
+    List<TaskDurationEstimateRow> findDurationEstimatesByProjectId(
+        @Param("projectId") UUID projectId
+    );
+
+    @Query(
+        "SELECT COALESCE(MAX(t.orderIndex), 0) FROM TaskEntity t WHERE t.project.id = :projectId"
+    )
+    int findMaxOrderIndex(@Param("projectId") UUID projectId);
+
+    @Query("SELECT t.orderIndex FROM TaskEntity t WHERE t.id = :taskId")
+    int findOrderIndexById(@Param("taskId") UUID taskId);
+
+    @Query(
+        "SELECT MIN(t.orderIndex) FROM TaskEntity t WHERE t.project.id = :projectId AND t.orderIndex > :orderIndex AND t.id <> :excludedTaskId"
+    )
+    Integer findNextOrderIndex(
+        @Param("projectId") UUID projectId,
+        @Param("orderIndex") int orderIndex,
+        @Param("excludedTaskId") UUID excludedTaskId
+    );
+
+    @Modifying
+    @Query("UPDATE TaskEntity t SET t.orderIndex = :orderIndex WHERE t.id = :taskId")
+    int updateOrderIndex(
+        @Param("taskId") UUID taskId,
+        @Param("orderIndex") int orderIndex
+    );
+
+    @Transactional
+    @Modifying
+    @Query(
+        value = """
+        UPDATE tasks t
+        SET order_index = r.position * :gap
+        FROM (
+            SELECT id, ROW_NUMBER() OVER (ORDER BY order_index, id) AS position
+            FROM tasks
+            WHERE project_id = :projectId
+        ) r
+        WHERE t.id = r.id
+          AND t.order_index <> r.position * :gap
+        """,
+        nativeQuery = true
+    )
+    int rebalanceOrderIndexes(
+        @Param("projectId") UUID projectId,
+        @Param("gap") int gap
+    );
+
+    @Query(
+        value = """
+        SELECT project_id
+        FROM (
+            SELECT
+                project_id,
+                order_index,
+                order_index - LAG(order_index) OVER (
+                    PARTITION BY project_id ORDER BY order_index
+                ) AS gap
+            FROM tasks
+        ) ranks
+        GROUP BY project_id
+        HAVING MIN(gap) < :minGap OR MAX(order_index) > :maxOrderIndex
+        """,
+        nativeQuery = true
+    )
+    List<UUID> findProjectIdsWithCrowdedOrderIndexes(
+        @Param("minGap") int minGap,
+        @Param("maxOrderIndex") int maxOrderIndex
+    );
+
+    @Query(
+        """
+        SELECT new com.maistech.buildup.task.domain.TaskSummaryRow(
+            t.project.id,
+            COUNT(t),
+            COUNT(t) FILTER (WHERE t.status = 'COMPLETED'),
+            COUNT(t) FILTER (WHERE t.flaggedOverdue = true)
+        )
+        FROM TaskEntity t
+        WHERE t.companyId = :companyId
+        GROUP BY t.project.id
+        """
+    )
+    List<TaskSummaryRow> findSummaryRowsByCompanyId(
+        @Param("companyId") UUID companyId
+    );
 }
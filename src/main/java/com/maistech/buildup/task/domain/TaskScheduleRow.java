@@ -0,0 +1,14 @@
+package com.maistech.buildup.task.domain;
+
+import com.maistech.buildup.task.TaskStatus;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record TaskScheduleRow(
+    UUID id,
+    String name,
+    LocalDate startDate,
+    LocalDate endDate,
+    Integer durationDays,
+    TaskStatus status
+) {}
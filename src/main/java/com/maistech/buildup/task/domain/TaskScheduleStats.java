@@ -0,0 +1,11 @@
+package com.maistech.buildup.task.domain;
+
+import java.time.LocalDate;
+
+public record TaskScheduleStats(
+    long totalTasks,
+    long completedTasks,
+    long overdueTasks,
+    LocalDate earliestStart,
+    LocalDate latestEnd
+) {}
@@ -3,14 +3,26 @@ package com.maistech.buildup.task.domain;
 import com.maistech.buildup.task.*;
 import com.maistech.buildup.auth.UserEntity;
 import com.maistech.buildup.auth.domain.UserRepository;
+import com.maistech.buildup.calendar.WorkingCalendar;
+import com.maistech.buildup.calendar.domain.WorkingCalendarService;
 import com.maistech.buildup.project.ProjectEntity;
 import com.maistech.buildup.project.ProjectNotFoundException;
 import com.maistech.buildup.project.domain.ProjectRepository;
+import com.maistech.buildup.schedule.domain.DatePropagation;
+import com.maistech.buildup.schedule.domain.ScheduleGraph;
 import com.maistech.buildup.task.dto.*;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,21 +30,30 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class TaskService {
 
+    static final int DEFAULT_FEED_LIMIT = 20;
+    static final int MAX_FEED_LIMIT = 100;
+
     private final TaskRepository taskRepository;
     private final TaskDependencyRepository taskDependencyRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final WorkingCalendarService workingCalendarService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TaskService(
         TaskRepository taskRepository,
         TaskDependencyRepository taskDependencyRepository,
         ProjectRepository projectRepository,
-        UserRepository userRepository
+        UserRepository userRepository,
+        WorkingCalendarService workingCalendarService,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.taskRepository = taskRepository;
         this.taskDependencyRepository = taskDependencyRepository;
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
+        this.workingCalendarService = workingCalendarService;
+        this.eventPublisher = eventPublisher;
     }
 
     public TaskResponse createTask(
@@ -83,24 +104,30 @@ public class TaskService {
             )
             .createdBy(creator)
             .assignedTo(assignedUser)
+            .orderIndex(
+                taskRepository.findMaxOrderIndex(projectId) +
+                TaskRankRebalancer.RANK_GAP
+            )
             .companyId(companyId)
             .build();
 
+        WorkingCalendar calendar = workingCalendarService.forCompany(companyId);
         if (
             task.getStartDate() != null &&
             task.getDurationDays() != null &&
             task.getEndDate() == null
         ) {
-            task.calculateEndDateFromDuration();
+            task.calculateEndDateFromDuration(calendar);
         } else if (
             task.getStartDate() != null &&
             task.getEndDate() != null &&
             task.getDurationDays() == null
         ) {
-            task.calculateDurationFromDates();
+            task.calculateDurationFromDates(calendar);
         }
 
         task = taskRepository.save(task);
+        publishCreated(task);
         return mapToResponse(task);
     }
 
@@ -109,12 +136,23 @@ public class TaskService {
         UUID projectId,
         UUID taskId,
         UpdateTaskRequest request
+    ) {
+        return updateTask(companyId, projectId, taskId, request, false);
+    }
+
+    public TaskResponse updateTask(
+        UUID companyId,
+        UUID projectId,
+        UUID taskId,
+        UpdateTaskRequest request,
+        boolean autoReschedule
     ) {
         TaskEntity task = findTaskInProjectOrThrow(
             taskId,
             projectId,
             companyId
         );
+        TaskSnapshot before = TaskSnapshot.of(task);
 
         if (request.name() != null) {
             task.setName(request.name());
@@ -149,15 +187,21 @@ public class TaskService {
             task.setAssignedTo(assignedUser);
         }
 
+        WorkingCalendar calendar = workingCalendarService.forCompany(companyId);
         if (task.getStartDate() != null && task.getEndDate() != null) {
-            task.calculateDurationFromDates();
+            task.calculateDurationFromDates(calendar);
         } else if (
             task.getStartDate() != null && task.getDurationDays() != null
         ) {
-            task.calculateEndDateFromDuration();
+            task.calculateEndDateFromDuration(calendar);
         }
 
         task = taskRepository.save(task);
+        publishUpdated(task, before);
+
+        if (autoReschedule && TaskSnapshot.of(task).datesDifferFrom(before)) {
+            rescheduleSuccessors(task, calendar);
+        }
         return mapToResponse(task);
     }
 
@@ -168,6 +212,7 @@ public class TaskService {
             companyId
         );
         taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(task));
     }
 
     @Transactional(readOnly = true)
@@ -192,20 +237,53 @@ public class TaskService {
                 new ProjectNotFoundException("Project not found")
             );
 
-        return taskRepository
-            .findByProjectIdOrderByOrderIndexAsc(projectId)
-            .stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        return mapToResponses(taskRepository.findByProjectIdOrderByOrderIndexAsc(projectId));
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponse> listUserTasks(UUID userId) {
-        return taskRepository
-            .findByAssignedToId(userId)
+    public TaskFeedResponse listUserTasks(UUID userId, TaskFeedQuery query) {
+        int limit = query.limit() != null
+            ? Math.clamp(query.limit(), 1, MAX_FEED_LIMIT)
+            : DEFAULT_FEED_LIMIT;
+        TaskFeedCursor after = TaskFeedCursor.decode(query.cursor());
+
+        List<UUID> ids = taskRepository.findAssignedTaskIdsAfter(
+            userId,
+            enumNames(query.statuses(), TaskStatus.values()),
+            query.priorities() == null || query.priorities().isEmpty(),
+            enumNames(query.priorities(), TaskPriority.values()),
+            query.dueFrom() != null ? query.dueFrom() : TaskFeedCursor.EARLIEST,
+            query.dueTo() != null ? query.dueTo() : TaskFeedCursor.OPEN_ENDED,
+            after.dueDate(),
+            after.id(),
+            limit + 1
+        );
+
+        boolean hasMore = ids.size() > limit;
+        List<UUID> pageIds = hasMore ? ids.subList(0, limit) : ids;
+        if (pageIds.isEmpty()) {
+            return new TaskFeedResponse(List.of(), null);
+        }
+
+        Map<UUID, TaskEntity> tasksById = taskRepository
+            .findByIdIn(pageIds)
             .stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+            .collect(Collectors.toMap(TaskEntity::getId, Function.identity()));
+        List<TaskEntity> page = pageIds
+            .stream()
+            .map(tasksById::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+        String nextCursor = null;
+        if (hasMore && !page.isEmpty()) {
+            TaskEntity last = page.getLast();
+            nextCursor = TaskFeedCursor.after(
+                last.getEndDate(),
+                last.getId()
+            ).encode();
+        }
+        return new TaskFeedResponse(mapToResponses(page), nextCursor);
     }
 
     @Transactional(readOnly = true)
@@ -216,11 +294,7 @@ public class TaskService {
                 new ProjectNotFoundException("Project not found")
             );
 
-        return taskRepository
-            .findOverdueTasks(projectId, LocalDate.now())
-            .stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        return mapToResponses(taskRepository.findOverdueTasks(projectId));
     }
 
     public TaskResponse startTask(UUID companyId, UUID projectId, UUID taskId) {
@@ -229,8 +303,10 @@ public class TaskService {
             projectId,
             companyId
         );
+        TaskSnapshot before = TaskSnapshot.of(task);
         task.start();
         task = taskRepository.save(task);
+        publishUpdated(task, before);
         return mapToResponse(task);
     }
 
@@ -244,8 +320,10 @@ public class TaskService {
             projectId,
             companyId
         );
+        TaskSnapshot before = TaskSnapshot.of(task);
         task.complete();
         task = taskRepository.save(task);
+        publishUpdated(task, before);
         return mapToResponse(task);
     }
 
@@ -260,11 +338,60 @@ public class TaskService {
             projectId,
             companyId
         );
+        TaskSnapshot before = TaskSnapshot.of(task);
         task.updateProgress(progress);
         task = taskRepository.save(task);
+        publishUpdated(task, before);
         return mapToResponse(task);
     }
 
+    public TaskResponse updateDurationEstimate(
+        UUID companyId,
+        UUID projectId,
+        UUID taskId,
+        UpdateDurationEstimateRequest request
+    ) {
+        TaskEntity task = findTaskInProjectOrThrow(
+            taskId,
+            projectId,
+            companyId
+        );
+        task.updateDurationEstimate(
+            request.optimisticDurationDays(),
+            request.mostLikelyDurationDays(),
+            request.pessimisticDurationDays()
+        );
+        return mapToResponse(taskRepository.save(task));
+    }
+
+    public void moveTask(
+        UUID companyId,
+        UUID projectId,
+        UUID taskId,
+        MoveTaskRequest request
+    ) {
+        findTaskInProjectOrThrow(taskId, projectId, companyId);
+        UUID afterTaskId = request.afterTaskId();
+        if (afterTaskId != null) {
+            if (afterTaskId.equals(taskId)) {
+                throw new IllegalArgumentException(
+                    "Task cannot be placed after itself"
+                );
+            }
+            findTaskInProjectOrThrow(afterTaskId, projectId, companyId);
+        }
+
+        Integer rank = rankAfter(projectId, taskId, afterTaskId);
+        if (rank == null) {
+            taskRepository.rebalanceOrderIndexes(
+                projectId,
+                TaskRankRebalancer.RANK_GAP
+            );
+            rank = rankAfter(projectId, taskId, afterTaskId);
+        }
+        taskRepository.updateOrderIndex(taskId, rank);
+    }
+
     public void addDependency(
         UUID companyId,
         UUID projectId,
@@ -318,35 +445,90 @@ public class TaskService {
         );
     }
 
-    private boolean wouldCreateCircularDependency(
-        UUID taskId,
-        UUID dependsOnTaskId
-    ) {
-        return checkCircularDependency(dependsOnTaskId, taskId);
+    private Integer rankAfter(UUID projectId, UUID taskId, UUID afterTaskId) {
+        int previous = afterTaskId != null
+            ? taskRepository.findOrderIndexById(afterTaskId)
+            : 0;
+        Integer next = taskRepository.findNextOrderIndex(
+            projectId,
+            previous,
+            taskId
+        );
+
+        if (next == null) {
+            return previous <= TaskRankRebalancer.MAX_RANK
+                ? previous + TaskRankRebalancer.RANK_GAP
+                : null;
+        }
+        if (next - previous < 2) {
+            return null;
+        }
+        return previous + (next - previous) / 2;
     }
 
-    private boolean checkCircularDependency(
-        UUID currentTaskId,
-        UUID targetTaskId
+    private void rescheduleSuccessors(
+        TaskEntity task,
+        WorkingCalendar calendar
     ) {
-        if (currentTaskId.equals(targetTaskId)) {
-            return true;
+        List<TaskDependencyRow> edges = taskDependencyRepository
+            .findDownstreamEdges(task.getId())
+            .stream()
+            .map(row ->
+                new TaskDependencyRow(
+                    (UUID) row[0],
+                    (UUID) row[1],
+                    row[2] != null
+                        ? DependencyType.valueOf((String) row[2])
+                        : null
+                )
+            )
+            .toList();
+        if (edges.isEmpty()) {
+            return;
         }
 
-        List<TaskDependencyEntity> dependencies =
-            taskDependencyRepository.findByTaskId(currentTaskId);
-        for (TaskDependencyEntity dep : dependencies) {
-            if (
-                checkCircularDependency(
-                    dep.getDependsOnTask().getId(),
-                    targetTaskId
-                )
-            ) {
-                return true;
-            }
+        Set<UUID> taskIds = new HashSet<>();
+        taskIds.add(task.getId());
+        edges.forEach(edge -> taskIds.add(edge.taskId()));
+        Map<UUID, LocalDate> newStartDates = DatePropagation.pushSuccessors(
+            ScheduleGraph.build(
+                task.getStartDate(),
+                calendar,
+                taskRepository.findScheduleRowsByIdIn(taskIds),
+                edges
+            ),
+            task.getId()
+        );
+        if (newStartDates.isEmpty()) {
+            return;
         }
 
-        return false;
+        List<TaskEntity> successors = taskRepository.findAllById(
+            newStartDates.keySet()
+        );
+        for (TaskEntity successor : successors) {
+            TaskSnapshot before = TaskSnapshot.of(successor);
+            successor.rescheduleTo(
+                newStartDates.get(successor.getId()),
+                calendar
+            );
+            publishUpdated(successor, before);
+        }
+    }
+
+    private boolean wouldCreateCircularDependency(
+        UUID taskId,
+        UUID dependsOnTaskId
+    ) {
+        if (dependsOnTaskId.equals(taskId)) {
+            return true;
+        }
+
+        return DependencyCycleDetector.reaches(
+            dependsOnTaskId,
+            taskId,
+            taskDependencyRepository.findReachableEdges(dependsOnTaskId)
+        );
     }
 
     private TaskEntity findTaskInProjectOrThrow(
@@ -375,16 +557,67 @@ public class TaskService {
         return task;
     }
 
-    private TaskResponse mapToResponse(TaskEntity task) {
-        AssignedUserDto assignedUser = null;
-        if (task.getAssignedTo() != null) {
-            assignedUser = new AssignedUserDto(
-                task.getAssignedTo().getId(),
-                task.getAssignedTo().getName(),
-                task.getAssignedTo().getEmail()
-            );
+    private static <E extends Enum<E>> List<String> enumNames(
+        Collection<E> selected,
+        E[] all
+    ) {
+        Collection<E> values = selected == null || selected.isEmpty()
+            ? Arrays.asList(all)
+            : selected;
+        return values.stream().map(Enum::name).toList();
+    }
+
+    private List<TaskResponse> mapToResponses(List<TaskEntity> tasks) {
+        if (tasks.isEmpty()) {
+            return List.of();
         }
 
+        Map<UUID, List<TaskDependencyDto>> dependenciesByTask =
+            taskDependencyRepository
+                .findSummaryRowsByTaskIds(
+                    tasks.stream().map(TaskEntity::getId).toList()
+                )
+                .stream()
+                .collect(
+                    Collectors.groupingBy(
+                        TaskDependencySummaryRow::taskId,
+                        Collectors.mapping(
+                            row ->
+                                new TaskDependencyDto(
+                                    row.dependencyId(),
+                                    row.dependsOnTaskId(),
+                                    row.dependsOnTaskName(),
+                                    row.dependsOnTaskStatus(),
+                                    row.dependencyType()
+                                ),
+                            Collectors.toList()
+                        )
+                    )
+                );
+
+        return tasks
+            .stream()
+            .map(task ->
+                mapToResponse(
+                    task,
+                    dependenciesByTask.getOrDefault(task.getId(), List.of())
+                )
+            )
+            .collect(Collectors.toList());
+    }
+
+    // Align the overdue flag first so the event matches what the write stores
+    private void publishCreated(TaskEntity task) {
+        task.refreshOverdueFlag();
+        eventPublisher.publishEvent(TaskChangedEvent.created(task));
+    }
+
+    private void publishUpdated(TaskEntity task, TaskSnapshot before) {
+        task.refreshOverdueFlag();
+        eventPublisher.publishEvent(TaskChangedEvent.updated(task, before));
+    }
+
+    private TaskResponse mapToResponse(TaskEntity task) {
         List<TaskDependencyDto> dependencies = task
             .getDependencies()
             .stream()
@@ -399,6 +632,26 @@ public class TaskService {
             )
             .collect(Collectors.toList());
 
+        return mapToResponse(task, dependencies);
+    }
+
+    private TaskResponse mapToResponse(
+        TaskEntity task,
+        List<TaskDependencyDto> dependencies
+    ) {
+        AssignedUserDto assignedUser = null;
+        if (task.getAssignedTo() != null) {
+            assignedUser = new AssignedUserDto(
+                task.getAssignedTo().getId(),
+                task.getAssignedTo().getName(),
+                task.getAssignedTo().getEmail()
+            );
+        }
+
+        boolean hasBlockingDependencies = dependencies
+            .stream()
+            .anyMatch(dep -> dep.taskStatus() != TaskStatus.COMPLETED);
+
         return new TaskResponse(
             task.getId(),
             task.getProject().getId(),
@@ -408,13 +661,16 @@ public class TaskService {
             task.getStartDate(),
             task.getEndDate(),
             task.getDurationDays(),
+            task.getOptimisticDurationDays(),
+            task.getMostLikelyDurationDays(),
+            task.getPessimisticDurationDays(),
             task.getStatus(),
             task.getPriority(),
             task.getProgressPercentage(),
             assignedUser,
             task.isOverdue(),
             task.getDaysUntilDueDate(),
-            task.hasBlockingDependencies(),
+            hasBlockingDependencies,
             dependencies,
             task.getCreatedBy().getId(),
             task.getCreatedBy().getName(),
@@ -0,0 +1,10 @@
+package com.maistech.buildup.task.domain;
+
+import java.util.UUID;
+
+public record TaskSummaryRow(
+    UUID projectId,
+    long totalTasks,
+    long completedTasks,
+    long overdueTasks
+) {}
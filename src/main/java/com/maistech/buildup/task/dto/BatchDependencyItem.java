@@ -0,0 +1,13 @@
+package com.maistech.buildup.task.dto;
+
+import com.maistech.buildup.task.DependencyType;
+import jakarta.validation.constraints.NotBlank;
+
+public record BatchDependencyItem(
+    @NotBlank(message = "Task reference is required") String taskRef,
+
+    @NotBlank(message = "Depends-on reference is required")
+    String dependsOnRef,
+
+    DependencyType dependencyType
+) {}
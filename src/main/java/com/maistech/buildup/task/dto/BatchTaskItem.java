@@ -0,0 +1,11 @@
+package com.maistech.buildup.task.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record BatchTaskItem(
+    @NotBlank(message = "Task reference is required") String ref,
+
+    @Valid @NotNull CreateTaskRequest task
+) {}
@@ -0,0 +1,14 @@
+package com.maistech.buildup.task.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record CreateTaskBatchRequest(
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = 10000, message = "A batch cannot exceed 10000 tasks")
+    List<@Valid BatchTaskItem> tasks,
+
+    List<@Valid BatchDependencyItem> dependencies
+) {}
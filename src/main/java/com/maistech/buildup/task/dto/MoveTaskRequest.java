@@ -0,0 +1,6 @@
+package com.maistech.buildup.task.dto;
+
+import java.util.UUID;
+
+// A null afterTaskId moves the task to the top
+public record MoveTaskRequest(UUID afterTaskId) {}
@@ -0,0 +1,10 @@
+package com.maistech.buildup.task.dto;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record TaskBatchResponse(
+    int createdTasks,
+    int createdDependencies,
+    Map<String, UUID> taskIds
+) {}
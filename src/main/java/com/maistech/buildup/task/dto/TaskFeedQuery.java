@@ -0,0 +1,15 @@
+package com.maistech.buildup.task.dto;
+
+import com.maistech.buildup.task.TaskPriority;
+import com.maistech.buildup.task.TaskStatus;
+import java.time.LocalDate;
+import java.util.Set;
+
+public record TaskFeedQuery(
+    Set<TaskStatus> statuses,
+    Set<TaskPriority> priorities,
+    LocalDate dueFrom,
+    LocalDate dueTo,
+    String cursor,
+    Integer limit
+) {}
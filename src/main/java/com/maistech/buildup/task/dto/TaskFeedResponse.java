@@ -0,0 +1,5 @@
+package com.maistech.buildup.task.dto;
+
+import java.util.List;
+
+public record TaskFeedResponse(List<TaskResponse> items, String nextCursor) {}
@@ -16,6 +16,9 @@ public record TaskResponse(
     LocalDate startDate,
     LocalDate endDate,
     Integer durationDays,
+    Integer optimisticDurationDays,
+    Integer mostLikelyDurationDays,
+    Integer pessimisticDurationDays,
     TaskStatus status,
     TaskPriority priority,
     Integer progressPercentage,
@@ -0,0 +1,18 @@
+package com.maistech.buildup.task.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record UpdateDurationEstimateRequest(
+    @NotNull(message = "Optimistic duration is required")
+    @Min(value = 1, message = "Optimistic duration must be at least 1 day")
+    Integer optimisticDurationDays,
+
+    @NotNull(message = "Most likely duration is required")
+    @Min(value = 1, message = "Most likely duration must be at least 1 day")
+    Integer mostLikelyDurationDays,
+
+    @NotNull(message = "Pessimistic duration is required")
+    @Min(value = 1, message = "Pessimistic duration must be at least 1 day")
+    Integer pessimisticDurationDays
+) {}
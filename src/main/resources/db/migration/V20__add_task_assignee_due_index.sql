@@ -0,0 +1,5 @@
+-- V20: Keyset index for the "my tasks" feed
+-- Ordena por vencimento (sem data = fim da fila) e id, cobrindo os filtros de status/prioridade
+CREATE INDEX IF NOT EXISTS idx_tasks_assigned_due
+    ON tasks (assigned_to, (COALESCE(end_date, DATE '9999-12-31')), id)
+    INCLUDE (status, priority);
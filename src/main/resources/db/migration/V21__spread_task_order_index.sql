@@ -0,0 +1,17 @@
+-- V21: Sparse ranks for task ordering
+-- Espalha order_index em múltiplos de 1024 por projeto para que mover uma tarefa altere apenas uma linha
+WITH ranked AS (
+    SELECT
+        id,
+        ROW_NUMBER() OVER (
+            PARTITION BY project_id
+            ORDER BY COALESCE(order_index, 0), created_at, id
+        ) AS position
+    FROM tasks
+)
+UPDATE tasks t
+SET order_index = r.position * 1024
+FROM ranked r
+WHERE r.id = t.id;
+
+ALTER TABLE tasks ALTER COLUMN order_index SET NOT NULL;
@@ -0,0 +1,17 @@
+-- V22: Persisted overdue flag for tasks, maintained on write and by the overdue sweeper
+ALTER TABLE tasks ADD COLUMN is_overdue BOOLEAN NOT NULL DEFAULT false;
+
+UPDATE tasks
+SET is_overdue = true
+WHERE end_date < CURRENT_DATE
+  AND status NOT IN ('COMPLETED', 'CANCELLED');
+
+-- Listas e contagens de atrasadas por projeto
+CREATE INDEX IF NOT EXISTS idx_tasks_overdue
+    ON tasks (project_id, end_date)
+    WHERE is_overdue;
+
+-- Candidatas do sweeper: abertas e ainda não marcadas
+CREATE INDEX IF NOT EXISTS idx_tasks_overdue_candidates
+    ON tasks (company_id, end_date)
+    WHERE NOT is_overdue AND status NOT IN ('COMPLETED', 'CANCELLED');
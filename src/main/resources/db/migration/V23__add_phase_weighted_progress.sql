@@ -0,0 +1,22 @@
+-- V23: Duration-weighted phase progress, maintained incrementally from task changes
+
+-- Soma de progresso × duração e soma das durações das tarefas da fase
+ALTER TABLE phases ADD COLUMN weighted_progress BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE phases ADD COLUMN progress_weight BIGINT NOT NULL DEFAULT 0;
+
+-- Carga inicial a partir das tarefas existentes (duração mínima de 1 dia)
+UPDATE phases ph
+SET weighted_progress = agg.weighted_progress,
+    progress_weight = agg.progress_weight,
+    completion_percentage = ROUND(
+        agg.weighted_progress::numeric / agg.progress_weight
+    )
+FROM (
+    SELECT t.phase_id,
+           SUM(COALESCE(t.progress_percentage, 0) * GREATEST(COALESCE(t.duration_days, 1), 1)) AS weighted_progress,
+           SUM(GREATEST(COALESCE(t.duration_days, 1), 1)) AS progress_weight
+    FROM tasks t
+    WHERE t.phase_id IS NOT NULL
+    GROUP BY t.phase_id
+) agg
+WHERE ph.id = agg.phase_id;
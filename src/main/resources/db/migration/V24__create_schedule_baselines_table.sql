@@ -0,0 +1,35 @@
+-- V24: Schedule baselines stored as one compact row per baseline
+
+-- Datas planejadas congeladas de tarefas, fases e marcos, gravadas em JSONB
+-- como deslocamentos em dias a partir de reference_date:
+-- {"tasks": {"<id>": [inicio, fim]}, "phases": {...}, "milestones": {...}}
+CREATE TABLE schedule_baselines (
+    id UUID PRIMARY KEY,
+    schedule_id UUID NOT NULL,
+    project_id UUID NOT NULL,
+    company_id UUID NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    description TEXT,
+    reference_date DATE NOT NULL,
+    planned_start_date DATE NOT NULL,
+    planned_end_date DATE NOT NULL,
+    task_count INTEGER NOT NULL DEFAULT 0,
+    phase_count INTEGER NOT NULL DEFAULT 0,
+    milestone_count INTEGER NOT NULL DEFAULT 0,
+    entries JSONB NOT NULL DEFAULT '{}'::jsonb,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_baseline_schedule FOREIGN KEY (schedule_id)
+        REFERENCES schedules(id) ON DELETE CASCADE,
+    CONSTRAINT fk_baseline_project FOREIGN KEY (project_id)
+        REFERENCES projects(id) ON DELETE CASCADE,
+    CONSTRAINT fk_baseline_company FOREIGN KEY (company_id)
+        REFERENCES companies(id) ON DELETE CASCADE
+);
+
+-- Listagem das baselines de um cronograma, mais recentes primeiro
+CREATE INDEX idx_schedule_baselines_schedule ON schedule_baselines(schedule_id, created_at DESC);
+
+-- Busca por empresa
+CREATE INDEX idx_schedule_baselines_company ON schedule_baselines(company_id);
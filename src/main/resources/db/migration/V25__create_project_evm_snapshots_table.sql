@@ -0,0 +1,28 @@
+-- V25: Daily earned value (EVM) snapshots per project
+
+-- Um ponto por projeto por dia; o histórico é apenas acrescentado, nunca recalculado
+CREATE TABLE project_evm_snapshots (
+    id UUID PRIMARY KEY,
+    project_id UUID NOT NULL,
+    company_id UUID NOT NULL,
+    snapshot_date DATE NOT NULL,
+    budget_at_completion NUMERIC(15, 2) NOT NULL,
+    planned_value NUMERIC(15, 2) NOT NULL,
+    earned_value NUMERIC(15, 2) NOT NULL,
+    actual_cost NUMERIC(15, 2) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_evm_snapshot_project FOREIGN KEY (project_id)
+        REFERENCES projects(id) ON DELETE CASCADE,
+    CONSTRAINT fk_evm_snapshot_company FOREIGN KEY (company_id)
+        REFERENCES companies(id) ON DELETE CASCADE,
+    CONSTRAINT uk_evm_snapshot_project_date UNIQUE (project_id, snapshot_date)
+);
+
+-- Busca por empresa
+CREATE INDEX idx_evm_snapshots_company ON project_evm_snapshots(company_id);
+
+-- Custo real: soma das despesas pagas até a data, por projeto
+CREATE INDEX IF NOT EXISTS idx_expenses_project_paid_date
+    ON expenses(project_id, paid_date) WHERE status = 'PAID';
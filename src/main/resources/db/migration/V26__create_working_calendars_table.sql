@@ -0,0 +1,67 @@
+-- V26: Per-company working calendars
+
+-- Dias úteis da semana como máscara de bits (bit 0 = segunda ... bit 6 = domingo)
+CREATE TABLE working_calendars (
+    id UUID PRIMARY KEY,
+    company_id UUID NOT NULL,
+    workdays_mask INTEGER NOT NULL DEFAULT 31,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_working_calendar_company FOREIGN KEY (company_id)
+        REFERENCES companies(id) ON DELETE CASCADE,
+    CONSTRAINT uk_working_calendar_company UNIQUE (company_id),
+    CONSTRAINT chk_working_calendar_workdays CHECK (workdays_mask BETWEEN 1 AND 127)
+);
+
+-- Feriados (working = false) e dias úteis extras (working = true)
+CREATE TABLE working_calendar_exceptions (
+    id UUID PRIMARY KEY,
+    calendar_id UUID NOT NULL,
+    exception_date DATE NOT NULL,
+    working BOOLEAN NOT NULL DEFAULT FALSE,
+    description VARCHAR(255),
+
+    CONSTRAINT fk_calendar_exception_calendar FOREIGN KEY (calendar_id)
+        REFERENCES working_calendars(id) ON DELETE CASCADE,
+    CONSTRAINT uk_calendar_exception_date UNIQUE (calendar_id, exception_date)
+);
+
+-- Durações passam a contar dias úteis; nenhuma empresa tem calendário ainda,
+-- então as datas existentes são recontadas de segunda a sexta (mínimo de 1 dia)
+UPDATE tasks t
+SET duration_days = GREATEST(1, (
+    SELECT COUNT(*)
+    FROM generate_series(t.start_date, t.end_date, INTERVAL '1 day') d
+    WHERE EXTRACT(ISODOW FROM d) < 6
+))
+WHERE t.start_date IS NOT NULL
+  AND t.end_date IS NOT NULL
+  AND t.end_date >= t.start_date;
+
+UPDATE phases ph
+SET duration_days = GREATEST(1, (
+    SELECT COUNT(*)
+    FROM generate_series(ph.start_date, ph.end_date, INTERVAL '1 day') d
+    WHERE EXTRACT(ISODOW FROM d) < 6
+))
+WHERE ph.start_date IS NOT NULL
+  AND ph.end_date IS NOT NULL
+  AND ph.end_date >= ph.start_date;
+
+-- O progresso ponderado das fases usa a duração como peso: recalcula com os novos valores
+UPDATE phases ph
+SET weighted_progress = agg.weighted_progress,
+    progress_weight = agg.progress_weight,
+    completion_percentage = ROUND(
+        agg.weighted_progress::numeric / agg.progress_weight
+    )
+FROM (
+    SELECT t.phase_id,
+           SUM(COALESCE(t.progress_percentage, 0) * GREATEST(COALESCE(t.duration_days, 1), 1)) AS weighted_progress,
+           SUM(GREATEST(COALESCE(t.duration_days, 1), 1)) AS progress_weight
+    FROM tasks t
+    WHERE t.phase_id IS NOT NULL
+    GROUP BY t.phase_id
+) agg
+WHERE ph.id = agg.phase_id;
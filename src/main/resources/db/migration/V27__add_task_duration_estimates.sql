@@ -0,0 +1,14 @@
+-- V27: Three-point duration estimates for schedule risk simulation
+
+-- Durações em dias úteis: otimista, mais provável e pessimista
+ALTER TABLE tasks ADD COLUMN optimistic_duration_days INTEGER;
+ALTER TABLE tasks ADD COLUMN most_likely_duration_days INTEGER;
+ALTER TABLE tasks ADD COLUMN pessimistic_duration_days INTEGER;
+
+ALTER TABLE tasks ADD CONSTRAINT chk_task_duration_estimates CHECK (
+    optimistic_duration_days IS NULL OR (
+        optimistic_duration_days >= 1 AND
+        most_likely_duration_days >= optimistic_duration_days AND
+        pessimistic_duration_days >= most_likely_duration_days
+    )
+);
@@ -0,0 +1,58 @@
+-- V28: Running financial totals per project and expense category
+
+-- Uma linha por projeto e categoria, atualizada por deltas a cada escrita de despesa;
+-- colunas de atraso dependem da data e são recalculadas pela reconciliação diária
+CREATE TABLE project_financial_ledger (
+    id UUID PRIMARY KEY,
+    project_id UUID NOT NULL,
+    category_id UUID NOT NULL,
+    company_id UUID NOT NULL,
+    committed_amount NUMERIC(15, 2) NOT NULL DEFAULT 0,
+    paid_amount NUMERIC(15, 2) NOT NULL DEFAULT 0,
+    pending_amount NUMERIC(15, 2) NOT NULL DEFAULT 0,
+    overdue_amount NUMERIC(15, 2) NOT NULL DEFAULT 0,
+    overdue_count INTEGER NOT NULL DEFAULT 0,
+    expense_count INTEGER NOT NULL DEFAULT 0,
+    installments_outstanding INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_financial_ledger_project FOREIGN KEY (project_id)
+        REFERENCES projects(id) ON DELETE CASCADE,
+    CONSTRAINT fk_financial_ledger_category FOREIGN KEY (category_id)
+        REFERENCES expense_categories(id) ON DELETE CASCADE,
+    CONSTRAINT fk_financial_ledger_company FOREIGN KEY (company_id)
+        REFERENCES companies(id) ON DELETE CASCADE,
+    CONSTRAINT uk_financial_ledger_project_category UNIQUE (project_id, category_id)
+);
+
+-- Busca por empresa
+CREATE INDEX idx_financial_ledger_company ON project_financial_ledger(company_id);
+
+-- Carga inicial a partir das despesas existentes
+INSERT INTO project_financial_ledger (
+    id, project_id, category_id, company_id, committed_amount, paid_amount,
+    pending_amount, overdue_amount, overdue_count, expense_count,
+    installments_outstanding
+)
+SELECT gen_random_uuid(), e.project_id, e.category_id, e.company_id,
+    COALESCE(SUM(e.amount) FILTER (WHERE e.status <> 'CANCELLED'), 0),
+    COALESCE(SUM(e.amount) FILTER (WHERE e.status = 'PAID'), 0),
+    COALESCE(SUM(e.amount) FILTER (WHERE e.status IN ('PENDING', 'OVERDUE')), 0),
+    COALESCE(SUM(e.amount) FILTER (
+        WHERE e.status = 'OVERDUE'
+        OR (e.status = 'PENDING' AND e.due_date < CURRENT_DATE)
+    ), 0),
+    COUNT(*) FILTER (
+        WHERE e.status = 'OVERDUE'
+        OR (e.status = 'PENDING' AND e.due_date < CURRENT_DATE)
+    ),
+    COUNT(*) FILTER (WHERE e.status <> 'CANCELLED'),
+    COALESCE(SUM(i.outstanding) FILTER (WHERE e.status IN ('PENDING', 'OVERDUE')), 0)
+FROM expenses e
+LEFT JOIN LATERAL (
+    SELECT COUNT(*) AS outstanding
+    FROM expense_installments ei
+    WHERE ei.expense_id = e.id AND ei.status NOT IN ('PAID', 'CANCELLED')
+) i ON e.has_installments
+GROUP BY e.project_id, e.category_id, e.company_id;
@@ -0,0 +1,5 @@
+-- V29: Lookup of expenses by invoice number for idempotent imports
+
+-- Importação de despesas: ignora notas já importadas (fornecedor + número da nota)
+CREATE INDEX IF NOT EXISTS idx_expenses_company_invoice
+    ON expenses(company_id, invoice_number) WHERE invoice_number IS NOT NULL;
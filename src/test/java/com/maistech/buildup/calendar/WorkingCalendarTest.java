@@ -0,0 +1,124 @@
+package com.maistech.buildup.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WorkingCalendarTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 1, 6);
+
+    @Test
+    @DisplayName("countWorkingDays - should skip weekends and holidays")
+    void shouldCountWorkingDays() {
+        WorkingCalendar calendar = WorkingCalendar.of(
+            EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY),
+            Map.of(MONDAY.plusDays(8), false)
+        );
+
+        assertThat(calendar.countWorkingDays(MONDAY, MONDAY.plusDays(4)))
+            .isEqualTo(5);
+        assertThat(calendar.countWorkingDays(MONDAY, MONDAY.plusDays(13)))
+            .isEqualTo(9);
+        assertThat(calendar.workingDaysUntil(MONDAY.plusDays(7), MONDAY))
+            .isEqualTo(-5);
+        assertThat(calendar.isWorkingDay(MONDAY.plusDays(8))).isFalse();
+    }
+
+    @Test
+    @DisplayName("addWorkingDays - should roll non-working days forward")
+    void shouldAddWorkingDays() {
+        WorkingCalendar calendar = WorkingCalendar.of(
+            EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY),
+            Map.of(MONDAY.plusDays(5), true)
+        );
+
+        assertThat(calendar.addWorkingDays(MONDAY.plusDays(6), 0))
+            .isEqualTo(MONDAY.plusDays(7));
+        assertThat(calendar.addWorkingDays(MONDAY, 5))
+            .isEqualTo(MONDAY.plusDays(5));
+        assertThat(calendar.addWorkingDays(MONDAY, 6))
+            .isEqualTo(MONDAY.plusDays(7));
+        assertThat(calendar.addWorkingDays(MONDAY.plusDays(7), -2))
+            .isEqualTo(MONDAY.plusDays(4));
+        assertThat(calendar.endDateFor(MONDAY, 10))
+            .isEqualTo(MONDAY.plusDays(10));
+    }
+
+    @Test
+    @DisplayName("should match a day-by-day count across years")
+    void shouldMatchNaiveCount() {
+        WorkingCalendar calendar = WorkingCalendar.of(
+            EnumSet.of(
+                DayOfWeek.MONDAY,
+                DayOfWeek.TUESDAY,
+                DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY,
+                DayOfWeek.FRIDAY,
+                DayOfWeek.SATURDAY
+            ),
+            Map.of(LocalDate.of(2026, 12, 25), false, LocalDate.of(2027, 1, 1), false)
+        );
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200; i++) {
+            LocalDate start = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(2000));
+            LocalDate end = start.plusDays(random.nextInt(900));
+
+            int expected = 0;
+            for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+                if (calendar.isWorkingDay(day)) {
+                    expected++;
+                }
+            }
+
+            assertThat(calendar.countWorkingDays(start, end)).isEqualTo(expected);
+            if (calendar.isWorkingDay(start) && expected > 0) {
+                LocalDate last = calendar.endDateFor(start, expected);
+                assertThat(calendar.isWorkingDay(last)).isTrue();
+                assertThat(calendar.countWorkingDays(start, last))
+                    .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should extend the precomputed years on demand")
+    void shouldGrowBeyondInitialYears() {
+        WorkingCalendar calendar = WorkingCalendar.standard();
+        LocalDate far = LocalDate.of(2150, 6, 1);
+
+        assertThat(calendar.countWorkingDays(far, far.plusDays(6))).isEqualTo(5);
+        assertThat(calendar.addWorkingDays(LocalDate.of(1980, 1, 1), 0))
+            .isEqualTo(LocalDate.of(1980, 1, 1));
+        assertThatThrownBy(() ->
+            calendar.countWorkingDays(LocalDate.of(2300, 1, 1), LocalDate.of(2300, 1, 2))
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("continuous - should equal calendar-day arithmetic")
+    void shouldTreatEveryDayAsWorking() {
+        WorkingCalendar calendar = WorkingCalendar.continuous();
+
+        assertThat(calendar.countWorkingDays(MONDAY, MONDAY.plusDays(9)))
+            .isEqualTo(10);
+        assertThat(calendar.addWorkingDays(MONDAY, 12))
+            .isEqualTo(MONDAY.plusDays(12));
+    }
+
+    @Test
+    @DisplayName("of - should require at least one workday")
+    void shouldRejectEmptyWorkweek() {
+        assertThatThrownBy(() -> WorkingCalendar.of(Set.of(), Map.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,117 @@
+package com.maistech.buildup.evm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.maistech.buildup.evm.domain.EarnedValueRepository;
+import com.maistech.buildup.evm.domain.EarnedValueService;
+import com.maistech.buildup.evm.dto.EarnedValuePoint;
+import com.maistech.buildup.evm.dto.EarnedValueResponse;
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.project.domain.ProjectRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EarnedValueServiceTest {
+
+    @Mock
+    private EarnedValueRepository earnedValueRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @InjectMocks
+    private EarnedValueService earnedValueService;
+
+    private final UUID companyId = UUID.randomUUID();
+    private ProjectEntity project;
+
+    @BeforeEach
+    void setUp() {
+        project = new ProjectEntity();
+        project.setId(UUID.randomUUID());
+        project.setCompanyId(companyId);
+        project.setContractValue(new BigDecimal("100000.00"));
+    }
+
+    @Test
+    @DisplayName("getEarnedValue - should derive indices from aggregated inputs")
+    void shouldComputeCurrentMetrics() {
+        when(
+            projectRepository.findByIdAndCompanyId(project.getId(), companyId)
+        ).thenReturn(Optional.of(project));
+        when(
+            earnedValueRepository.findInputs(eq(List.of(project.getId())), any())
+        ).thenReturn(List.<Object[]>of(inputs(50, 40, 25)));
+
+        EarnedValueResponse response = earnedValueService.getEarnedValue(
+            companyId,
+            project.getId(),
+            null,
+            null
+        );
+
+        EarnedValuePoint current = response.current();
+        assertThat(current.plannedValue()).isEqualByComparingTo("80000");
+        assertThat(current.earnedValue()).isEqualByComparingTo("50000");
+        assertThat(current.actualCost()).isEqualByComparingTo("62500");
+        assertThat(current.schedulePerformanceIndex()).isEqualByComparingTo(
+            "0.625"
+        );
+        assertThat(current.costPerformanceIndex()).isEqualByComparingTo("0.8");
+        assertThat(current.estimateAtCompletion()).isEqualByComparingTo(
+            "125000"
+        );
+        assertThat(response.series()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("appendSnapshots - should aggregate projects in one query")
+    void shouldAppendOneSnapshotPerProject() {
+        LocalDate date = LocalDate.of(2026, 5, 10);
+        when(
+            earnedValueRepository.findInputs(List.of(project.getId()), date)
+        ).thenReturn(List.<Object[]>of(inputs(50, 0, 0)));
+
+        int appended = earnedValueService.appendSnapshots(
+            List.of(project.getId()),
+            date
+        );
+
+        assertThat(appended).isEqualTo(1);
+        verify(earnedValueRepository).upsertSnapshot(
+            project.getId(),
+            companyId,
+            date,
+            new BigDecimal("100000.00"),
+            new BigDecimal("0.00"),
+            new BigDecimal("0.00"),
+            BigDecimal.ZERO
+        );
+    }
+
+    private Object[] inputs(int totalWeight, int plannedWeight, int earnedWeight) {
+        return new Object[] {
+            project.getId(),
+            companyId,
+            project.getContractValue(),
+            BigDecimal.valueOf(totalWeight),
+            BigDecimal.valueOf(plannedWeight),
+            BigDecimal.valueOf(earnedWeight),
+            earnedWeight > 0 ? new BigDecimal("62500") : BigDecimal.ZERO,
+        };
+    }
+}
@@ -0,0 +1,165 @@
+package com.maistech.buildup.financial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.maistech.buildup.financial.domain.CashFlowService;
+import com.maistech.buildup.financial.domain.ExpenseRepository;
+import com.maistech.buildup.financial.dto.CashFlowBucket;
+import com.maistech.buildup.financial.dto.CashFlowForecastResponse;
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.project.ProjectStatus;
+import com.maistech.buildup.project.domain.ProjectRepository;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CashFlowServiceTest {
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @InjectMocks
+    private CashFlowService cashFlowService;
+
+    private final UUID companyId = UUID.randomUUID();
+    private ProjectEntity project;
+
+    @BeforeEach
+    void setUp() {
+        project = new ProjectEntity();
+        project.setId(UUID.randomUUID());
+        project.setCompanyId(companyId);
+    }
+
+    @Test
+    @DisplayName("forecastProject - should build weekly buckets with a running net")
+    void shouldBucketProjectCashFlow() {
+        LocalDate from = CashFlowGranularity.WEEK.bucketStart(LocalDate.now());
+        when(
+            projectRepository.findByIdAndCompanyId(project.getId(), companyId)
+        ).thenReturn(Optional.of(project));
+        when(
+            expenseRepository.findCashFlowRows(
+                eq(List.of(project.getId())),
+                eq("week"),
+                eq("1 week"),
+                any(),
+                eq(from),
+                eq(from.plusWeeks(3).minusDays(1))
+            )
+        ).thenReturn(
+            List.of(
+                row(from, "1500.00", "0", "500.00", "0"),
+                row(from.plusWeeks(1), "0", "0", "0", "0"),
+                row(from.plusWeeks(2), "2000.00", "10000.00", "0", "0")
+            )
+        );
+
+        CashFlowForecastResponse forecast = cashFlowService.forecastProject(
+            companyId,
+            project.getId(),
+            CashFlowGranularity.WEEK,
+            3
+        );
+
+        assertThat(forecast.projectId()).isEqualTo(project.getId());
+        assertThat(forecast.from()).isEqualTo(from);
+        assertThat(forecast.to()).isEqualTo(from.plusDays(20));
+        assertThat(forecast.totalOutflow()).isEqualByComparingTo("3500.00");
+        assertThat(forecast.totalInflow()).isEqualByComparingTo("10000.00");
+        assertThat(forecast.netCashFlow()).isEqualByComparingTo("6500.00");
+        assertThat(forecast.pastDueOutflow()).isEqualByComparingTo("500.00");
+        assertThat(forecast.buckets())
+            .extracting(CashFlowBucket::periodEnd)
+            .containsExactly(
+                from.plusDays(6),
+                from.plusDays(13),
+                from.plusDays(20)
+            );
+        assertThat(forecast.buckets())
+            .extracting(CashFlowBucket::cumulativeNetCashFlow)
+            .usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(
+                new BigDecimal("-1500.00"),
+                new BigDecimal("-1500.00"),
+                new BigDecimal("6500.00")
+            );
+    }
+
+    @Test
+    @DisplayName("forecastCompany - should return empty buckets without querying when there are no projects")
+    void shouldSkipQueryWithoutProjects() {
+        when(
+            projectRepository.findIdsByCompanyIdAndStatusNot(
+                companyId,
+                ProjectStatus.CANCELLED
+            )
+        ).thenReturn(List.of());
+
+        CashFlowForecastResponse forecast = cashFlowService.forecastCompany(
+            companyId,
+            CashFlowGranularity.MONTH,
+            6
+        );
+
+        assertThat(forecast.projectId()).isNull();
+        assertThat(forecast.from().getDayOfMonth()).isEqualTo(1);
+        assertThat(forecast.buckets()).hasSize(6);
+        assertThat(forecast.netCashFlow()).isEqualByComparingTo("0");
+        verifyNoInteractions(expenseRepository);
+    }
+
+    @Test
+    @DisplayName("forecastCompany - should reject a horizon outside the allowed range")
+    void shouldRejectInvalidPeriods() {
+        when(
+            projectRepository.findIdsByCompanyIdAndStatusNot(
+                companyId,
+                ProjectStatus.CANCELLED
+            )
+        ).thenReturn(List.of(project.getId()));
+
+        assertThatThrownBy(() ->
+            cashFlowService.forecastCompany(
+                companyId,
+                CashFlowGranularity.WEEK,
+                CashFlowService.MAX_PERIODS + 1
+            )
+        ).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(expenseRepository);
+    }
+
+    private static Object[] row(
+        LocalDate bucketStart,
+        String outflow,
+        String inflow,
+        String pastDueOutflow,
+        String pastDueInflow
+    ) {
+        return new Object[] {
+            Date.valueOf(bucketStart),
+            new BigDecimal(outflow),
+            new BigDecimal(inflow),
+            new BigDecimal(pastDueOutflow),
+            new BigDecimal(pastDueInflow),
+        };
+    }
+}
@@ -0,0 +1,355 @@
+package com.maistech.buildup.financial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+import com.maistech.buildup.auth.domain.UserRepository;
+import com.maistech.buildup.financial.domain.ExpenseCategoryRepository;
+import com.maistech.buildup.financial.domain.ExpenseImportService;
+import com.maistech.buildup.financial.domain.ExpenseRepository;
+import com.maistech.buildup.financial.domain.FinancialLedgerRepository;
+import com.maistech.buildup.financial.domain.FinancialLedgerService;
+import com.maistech.buildup.financial.dto.ExpenseImportError;
+import com.maistech.buildup.financial.dto.ExpenseImportResponse;
+import com.maistech.buildup.project.domain.ProjectRepository;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ExpenseImportServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private ExpenseCategoryRepository categoryRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private FinancialLedgerRepository ledgerRepository;
+
+    private ExpenseImportService expenseImportService;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> rowsCaptor;
+
+    private final UUID companyId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+    private ExpenseCategoryEntity category;
+
+    @BeforeEach
+    void setUp() {
+        expenseImportService = new ExpenseImportService(
+            jdbcTemplate,
+            expenseRepository,
+            categoryRepository,
+            projectRepository,
+            userRepository,
+            new FinancialLedgerService(ledgerRepository)
+        );
+
+        category = new ExpenseCategoryEntity();
+        category.setId(UUID.randomUUID());
+        category.setName("MATERIAIS");
+
+        when(userRepository.existsById(userId)).thenReturn(true);
+        lenient()
+            .when(projectRepository.findIdAndNameByCompanyId(companyId))
+            .thenReturn(
+                List.<Object[]>of(new Object[] { projectId, "Residencial Aurora" })
+            );
+        lenient()
+            .when(categoryRepository.findAll())
+            .thenReturn(List.of(category));
+    }
+
+    @Test
+    @DisplayName("importExpenses - should batch valid CSV rows and report the invalid ones by line")
+    void shouldImportCsvAndReportInvalidRows() {
+        when(
+            expenseRepository.findSupplierInvoicePairs(eq(companyId), anyCollection())
+        ).thenReturn(List.of());
+        String csv = """
+            project;category;description;amount;due_date;paid_date;supplier;invoice_number;installments
+            Residencial Aurora;materiais;Cimento;1.500,00;10/03/2025;;Votorantim;NF-1;3
+            residencial aurora;MATERIAIS;Areia;200.50;2025-03-12;2025-03-12;Areal Sul;NF-2;
+            Residencial Aurora;MATERIAIS;Brita;abc;2025-03-12;;Areal Sul;NF-3;
+            Outro Projeto;MATERIAIS;Tijolo;90,00;2025-03-12;;Olaria;NF-4;
+            Residencial Aurora;MATERIAIS;Cimento;1.500,00;10/03/2025;;Votorantim;NF-1;3
+            """;
+
+        ExpenseImportResponse response = importCsv(csv);
+
+        assertThat(response.totalRows()).isEqualTo(5);
+        assertThat(response.importedCount()).isEqualTo(2);
+        assertThat(response.duplicateCount()).isEqualTo(1);
+        assertThat(response.failedCount()).isEqualTo(2);
+        assertThat(response.errors())
+            .extracting(ExpenseImportError::line)
+            .containsExactly(4, 5);
+
+        verify(jdbcTemplate).batchUpdate(
+            startsWith("INSERT INTO expenses"),
+            rowsCaptor.capture()
+        );
+        List<Object[]> expenses = rowsCaptor.getValue();
+        assertThat(expenses).hasSize(2);
+        assertThat(expenses.get(0)[1]).isEqualTo(projectId);
+        assertThat(expenses.get(0)[2]).isEqualTo(category.getId());
+        assertThat(expenses.get(0)[5]).isEqualTo(new BigDecimal("1500.00"));
+        assertThat(expenses.get(0)[6]).isEqualTo(LocalDate.of(2025, 3, 10));
+        assertThat(expenses.get(1)[8]).isEqualTo("PAID");
+
+        verify(jdbcTemplate).batchUpdate(
+            startsWith("INSERT INTO expense_installments"),
+            rowsCaptor.capture()
+        );
+        assertThat(rowsCaptor.getValue())
+            .extracting(row -> row[3])
+            .containsExactly(
+                new BigDecimal("500.00"),
+                new BigDecimal("500.00"),
+                new BigDecimal("500.00")
+            );
+        verify(ledgerRepository).applyDelta(
+            projectId,
+            category.getId(),
+            companyId,
+            new BigDecimal("1700.50"),
+            new BigDecimal("200.50"),
+            new BigDecimal("1500.00"),
+            new BigDecimal("1500.00"),
+            1,
+            2,
+            3
+        );
+    }
+
+    @Test
+    @DisplayName("importExpenses - should skip rows already imported for the company")
+    void shouldSkipExistingInvoices() {
+        when(
+            expenseRepository.findSupplierInvoicePairs(eq(companyId), anyCollection())
+        ).thenReturn(List.<Object[]>of(new Object[] { "Votorantim", "NF-1" }));
+        String csv = """
+            description,amount,due_date,supplier,invoice_number
+            Cimento,1500.00,2025-03-10,Votorantim,NF-1
+            """;
+
+        ExpenseImportResponse response = expenseImportService.importExpenses(
+            companyId,
+            userId,
+            ExpenseImportFormat.CSV,
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+            null,
+            projectId,
+            category.getId()
+        );
+
+        assertThat(response.importedCount()).isZero();
+        assertThat(response.duplicateCount()).isEqualTo(1);
+        verify(jdbcTemplate, never()).batchUpdate(
+            any(String.class),
+            anyList()
+        );
+        verifyNoInteractions(ledgerRepository);
+    }
+
+    @Test
+    @DisplayName("importExpenses - should import OFX debits as paid expenses and reject credits")
+    void shouldImportOfxDebits() {
+        when(
+            expenseRepository.findSupplierInvoicePairs(eq(companyId), anyCollection())
+        ).thenReturn(List.of());
+        String ofx = """
+            OFXHEADER:100
+            <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+            <STMTTRN><TRNTYPE>DEBIT<DTPOSTED>20250310120000[-3:BRT]
+            <TRNAMT>-350.75<FITID>20250310001<NAME>Casa do Construtor
+            </STMTTRN>
+            <STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20250311<TRNAMT>1000.00
+            <FITID>20250311001<NAME>Cliente</STMTTRN>
+            </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+            """;
+
+        ExpenseImportResponse response = expenseImportService.importExpenses(
+            companyId,
+            userId,
+            ExpenseImportFormat.OFX,
+            new ByteArrayInputStream(ofx.getBytes(StandardCharsets.ISO_8859_1)),
+            null,
+            projectId,
+            category.getId()
+        );
+
+        assertThat(response.importedCount()).isEqualTo(1);
+        assertThat(response.failedCount()).isEqualTo(1);
+        verify(jdbcTemplate).batchUpdate(
+            startsWith("INSERT INTO expenses"),
+            rowsCaptor.capture()
+        );
+        Object[] expense = rowsCaptor.getValue().get(0);
+        assertThat(expense[5]).isEqualTo(new BigDecimal("350.75"));
+        assertThat(expense[7]).isEqualTo(LocalDate.of(2025, 3, 10));
+        assertThat(expense[8]).isEqualTo("PAID");
+        assertThat(expense[10]).isEqualTo("Casa do Construtor");
+        assertThat(expense[11]).isEqualTo("20250310001");
+    }
+
+    @Test
+    @DisplayName("importExpenses - should decode UTF-8 OFX files as declared in the header")
+    void shouldDecodeUtf8Ofx() {
+        when(
+            expenseRepository.findSupplierInvoicePairs(eq(companyId), anyCollection())
+        ).thenReturn(List.of());
+        String ofx = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <?OFX OFXHEADER="200" VERSION="220"?>
+            <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+            <STMTTRN><TRNTYPE>DEBIT</TRNTYPE><DTPOSTED>20250310</DTPOSTED>
+            <TRNAMT>-89.90</TRNAMT><FITID>A1</FITID>
+            <NAME>Depósito São João</NAME><MEMO>Argamassa e cal</MEMO>
+            </STMTTRN>
+            </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+            """;
+
+        expenseImportService.importExpenses(
+            companyId,
+            userId,
+            ExpenseImportFormat.OFX,
+            new ByteArrayInputStream(ofx.getBytes(StandardCharsets.UTF_8)),
+            null,
+            projectId,
+            category.getId()
+        );
+
+        verify(jdbcTemplate).batchUpdate(
+            startsWith("INSERT INTO expenses"),
+            rowsCaptor.capture()
+        );
+        Object[] expense = rowsCaptor.getValue().get(0);
+        assertThat(expense[4]).isEqualTo("Argamassa e cal");
+        assertThat(expense[10]).isEqualTo("Depósito São João");
+    }
+
+    @Test
+    @DisplayName("importExpenses - should decode CSV files in the given charset")
+    void shouldDecodeCsvInGivenCharset() {
+        category.setName("ELÉTRICA");
+        when(
+            expenseRepository.findSupplierInvoicePairs(eq(companyId), anyCollection())
+        ).thenReturn(List.of());
+        String csv = """
+            category;description;amount;due_date;supplier;invoice_number
+            Elétrica;Fiação;320,00;2025-03-12;Eletro Sul;NF-9
+            """;
+
+        ExpenseImportResponse response = expenseImportService.importExpenses(
+            companyId,
+            userId,
+            ExpenseImportFormat.CSV,
+            new ByteArrayInputStream(csv.getBytes(Charset.forName("windows-1252"))),
+            Charset.forName("windows-1252"),
+            projectId,
+            null
+        );
+
+        assertThat(response.importedCount()).isEqualTo(1);
+        verify(jdbcTemplate).batchUpdate(
+            startsWith("INSERT INTO expenses"),
+            rowsCaptor.capture()
+        );
+        Object[] expense = rowsCaptor.getValue().get(0);
+        assertThat(expense[2]).isEqualTo(category.getId());
+        assertThat(expense[4]).isEqualTo("Fiação");
+    }
+
+    @Test
+    @DisplayName("importExpenses - should reject rows naming an ambiguous category")
+    void shouldRejectAmbiguousCategoryNames() {
+        ExpenseCategoryEntity duplicate = new ExpenseCategoryEntity();
+        duplicate.setId(UUID.randomUUID());
+        duplicate.setName("Materiais");
+        when(categoryRepository.findAll()).thenReturn(
+            List.of(category, duplicate)
+        );
+        when(
+            expenseRepository.findSupplierInvoicePairs(eq(companyId), anyCollection())
+        ).thenReturn(List.of());
+        String csv =
+            """
+            project,category,description,amount,due_date,supplier,invoice_number
+            Residencial Aurora,materiais,Cimento,100.00,2025-03-10,Votorantim,NF-1
+            Residencial Aurora,%s,Areia,50.00,2025-03-10,Areal Sul,NF-2
+            """.formatted(duplicate.getId());
+
+        ExpenseImportResponse response = importCsv(csv);
+
+        assertThat(response.importedCount()).isEqualTo(1);
+        assertThat(response.errors())
+            .extracting(ExpenseImportError::line)
+            .containsExactly(2);
+        verify(jdbcTemplate).batchUpdate(
+            startsWith("INSERT INTO expenses"),
+            rowsCaptor.capture()
+        );
+        assertThat(rowsCaptor.getValue().get(0)[2]).isEqualTo(duplicate.getId());
+    }
+
+    @Test
+    @DisplayName("importExpenses - should require a default project and category for OFX")
+    void shouldRequireDefaultsForOfx() {
+        assertThatThrownBy(() ->
+            expenseImportService.importExpenses(
+                companyId,
+                userId,
+                ExpenseImportFormat.OFX,
+                new ByteArrayInputStream(new byte[0]),
+                null,
+                projectId,
+                null
+            )
+        ).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private ExpenseImportResponse importCsv(String csv) {
+        return expenseImportService.importExpenses(
+            companyId,
+            userId,
+            ExpenseImportFormat.CSV,
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+            null,
+            null,
+            null
+        );
+    }
+}
@@ -21,11 +21,16 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.DynamicPropertyRegistry;
@@ -48,6 +53,10 @@ class ExpenseIntegrationTest {
         registry.add("spring.datasource.url", postgres::getJdbcUrl);
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add(
+            "spring.jpa.properties.hibernate.generate_statistics",
+            () -> "true"
+        );
     }
 
     @Autowired
@@ -71,6 +80,18 @@ class ExpenseIntegrationTest {
     @Autowired
     private ExpenseCategoryRepository categoryRepository;
 
+    @Autowired
+    private ExpenseInstallmentRepository installmentRepository;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private FinancialLedgerService ledgerService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -443,17 +464,18 @@ class ExpenseIntegrationTest {
     @Test
     @DisplayName("should get financial summary")
     void shouldGetFinancialSummary() {
-        createTestExpense("Expense 1", new BigDecimal("5000.00"));
+        createExpenseThroughService("Expense 1", new BigDecimal("5000.00"));
 
-        UUID expenseId2 = createTestExpense(
+        ExpenseResponse expense2 = createExpenseThroughService(
             "Expense 2",
             new BigDecimal("3000.00")
         );
-        ExpenseEntity expense2 = expenseRepository
-            .findById(expenseId2)
-            .orElseThrow();
-        expense2.markAsPaid(LocalDate.now(), PaymentMethod.PIX);
-        expenseRepository.save(expense2);
+        expenseService.markAsPaid(
+            companyId,
+            projectId,
+            expense2.id(),
+            new MarkAsPaidRequest(LocalDate.now(), PaymentMethod.PIX)
+        );
 
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(authToken);
@@ -482,6 +504,28 @@ class ExpenseIntegrationTest {
         );
     }
 
+    @Test
+    @DisplayName("should rebuild the financial ledger and report drift")
+    void shouldReconcileFinancialLedger() {
+        createExpenseThroughService("Tracked", new BigDecimal("5000.00"));
+        createTestExpense("Written around the service", new BigDecimal("700.00"));
+
+        List<FinancialLedgerDrift> drifts = ledgerService.reconcile(
+            LocalDate.now()
+        );
+
+        assertThat(drifts).singleElement().satisfies(drift -> {
+            assertThat(drift.projectId()).isEqualTo(projectId);
+            assertThat(drift.categoryId()).isEqualTo(categoryId);
+            assertThat(drift.committedAmount()).isEqualByComparingTo("700.00");
+            assertThat(drift.expenseCount()).isEqualTo(1L);
+        });
+        assertThat(
+            expenseService.getFinancialSummary(companyId, projectId).totalExpenses()
+        ).isEqualByComparingTo("5700.00");
+        assertThat(ledgerService.reconcile(LocalDate.now())).isEmpty();
+    }
+
     @Test
     @DisplayName("should list overdue expenses")
     void shouldListOverdueExpenses() {
@@ -538,6 +582,102 @@ class ExpenseIntegrationTest {
         assertThat(response.getBody()).hasSizeGreaterThanOrEqualTo(2);
     }
 
+    @Test
+    @DisplayName("should list expenses with a constant number of statements")
+    void shouldListExpensesWithConstantStatementCount() {
+        createTestExpensesWithInstallments(2);
+        long smallProjectStatements = countListStatements(2);
+
+        createTestExpensesWithInstallments(10);
+        long largeProjectStatements = countListStatements(12);
+
+        assertThat(largeProjectStatements).isEqualTo(smallProjectStatements);
+    }
+
+    private long countListStatements(int expectedExpenses) {
+        Statistics statistics = entityManagerFactory
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.clear();
+
+        Page<ExpenseResponse> page = expenseService.listProjectExpenses(
+            companyId,
+            projectId,
+            PageRequest.of(0, 20)
+        );
+        List<ExpenseResponse> overdue = expenseService.listOverdueExpenses(
+            companyId,
+            projectId
+        );
+        List<ExpenseResponse> byCategory =
+            expenseService.listExpensesByCategory(
+                companyId,
+                projectId,
+                categoryId
+            );
+
+        assertThat(page.getContent()).hasSize(expectedExpenses);
+        assertThat(page.getContent())
+            .allSatisfy(expense ->
+                assertThat(expense.installments()).hasSize(2)
+            );
+        assertThat(overdue)
+            .hasSize(expectedExpenses)
+            .allSatisfy(expense ->
+                assertThat(expense.installments()).hasSize(2)
+            );
+        assertThat(byCategory).hasSize(expectedExpenses);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createTestExpensesWithInstallments(int count) {
+        for (int i = 0; i < count; i++) {
+            UUID expenseId = createTestExpense(
+                "Installment Expense " + i,
+                new BigDecimal("2000.00")
+            );
+            ExpenseEntity expense = expenseRepository
+                .findById(expenseId)
+                .orElseThrow();
+            expense.setHasInstallments(true);
+            expense.setDueDate(LocalDate.now().minusDays(5));
+            expense = expenseRepository.save(expense);
+
+            for (int number = 1; number <= 2; number++) {
+                ExpenseInstallmentEntity installment =
+                    new ExpenseInstallmentEntity();
+                installment.setExpense(expense);
+                installment.setInstallmentNumber(number);
+                installment.setAmount(new BigDecimal("1000.00"));
+                installment.setDueDate(LocalDate.now().plusDays(10 * number));
+                installmentRepository.save(installment);
+            }
+        }
+    }
+
+    private ExpenseResponse createExpenseThroughService(
+        String description,
+        BigDecimal amount
+    ) {
+        return expenseService.createExpense(
+            companyId,
+            projectId,
+            adminUser.getId(),
+            new CreateExpenseRequest(
+                categoryId,
+                description,
+                amount,
+                LocalDate.now().plusDays(10),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            )
+        );
+    }
+
     private UUID createTestExpense(String description, BigDecimal amount) {
         ExpenseEntity expense = new ExpenseEntity();
         expense.setProject(project);
@@ -0,0 +1,254 @@
+package com.maistech.buildup.financial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.maistech.buildup.auth.UserEntity;
+import com.maistech.buildup.auth.domain.UserRepository;
+import com.maistech.buildup.financial.domain.ExpenseCategoryRepository;
+import com.maistech.buildup.financial.domain.ExpenseInstallmentRepository;
+import com.maistech.buildup.financial.domain.ExpenseRepository;
+import com.maistech.buildup.financial.domain.ExpenseService;
+import com.maistech.buildup.financial.domain.FinancialLedgerRepository;
+import com.maistech.buildup.financial.domain.FinancialLedgerService;
+import com.maistech.buildup.financial.dto.CategorySummary;
+import com.maistech.buildup.financial.dto.FinancialSummaryResponse;
+import com.maistech.buildup.financial.dto.MarkAsPaidRequest;
+import com.maistech.buildup.financial.dto.UpdateExpenseRequest;
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.project.domain.ProjectRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ExpenseServiceTest {
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private ExpenseInstallmentRepository installmentRepository;
+
+    @Mock
+    private ExpenseCategoryRepository categoryRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private FinancialLedgerRepository ledgerRepository;
+
+    private ExpenseService expenseService;
+
+    private final UUID companyId = UUID.randomUUID();
+    private ProjectEntity project;
+    private ExpenseCategoryEntity category;
+
+    @BeforeEach
+    void setUp() {
+        expenseService = new ExpenseService(
+            expenseRepository,
+            installmentRepository,
+            categoryRepository,
+            projectRepository,
+            userRepository,
+            new FinancialLedgerService(ledgerRepository)
+        );
+
+        project = new ProjectEntity();
+        project.setId(UUID.randomUUID());
+        project.setCompanyId(companyId);
+        category = new ExpenseCategoryEntity();
+        category.setId(UUID.randomUUID());
+        category.setName("MATERIAIS");
+    }
+
+    @Test
+    @DisplayName("getFinancialSummary - should add up the project's ledger rows")
+    void shouldSummarizeFromLedgerRows() {
+        stubProject();
+        ExpenseCategoryEntity transport = new ExpenseCategoryEntity();
+        transport.setName("TRANSPORTE");
+        when(ledgerRepository.findByProjectId(project.getId())).thenReturn(
+            List.of(
+                ledgerRow(category, "7000.00", "2000.00", "5000.00", 1, 3),
+                ledgerRow(transport, "500.00", "0", "500.00", 0, 0)
+            )
+        );
+
+        FinancialSummaryResponse summary = expenseService.getFinancialSummary(
+            companyId,
+            project.getId()
+        );
+
+        assertThat(summary.totalExpenses()).isEqualByComparingTo("7500.00");
+        assertThat(summary.totalPaid()).isEqualByComparingTo("2000.00");
+        assertThat(summary.totalPending()).isEqualByComparingTo("5500.00");
+        assertThat(summary.overdueExpensesCount()).isEqualTo(1L);
+        assertThat(summary.totalOverdue()).isEqualByComparingTo("5000.00");
+        assertThat(summary.outstandingInstallmentsCount()).isEqualTo(3L);
+        assertThat(summary.expensesByCategory())
+            .extracting(CategorySummary::categoryName)
+            .containsExactly("MATERIAIS", "TRANSPORTE");
+        verifyNoInteractions(expenseRepository, installmentRepository);
+    }
+
+    @Test
+    @DisplayName("getFinancialSummary - should return zeros for a project without expenses")
+    void shouldSummarizeEmptyProject() {
+        stubProject();
+        when(ledgerRepository.findByProjectId(project.getId())).thenReturn(
+            List.of()
+        );
+
+        FinancialSummaryResponse summary = expenseService.getFinancialSummary(
+            companyId,
+            project.getId()
+        );
+
+        assertThat(summary.totalExpenses()).isEqualByComparingTo("0");
+        assertThat(summary.totalPending()).isEqualByComparingTo("0");
+        assertThat(summary.expensesByCategory()).isEmpty();
+        assertThat(summary.overdueExpensesCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("markAsPaid - should move the amount from pending to paid in the ledger")
+    void shouldApplyPaymentDelta() {
+        ExpenseEntity expense = stubExpense(LocalDate.now().plusDays(5));
+
+        expenseService.markAsPaid(
+            companyId,
+            project.getId(),
+            expense.getId(),
+            new MarkAsPaidRequest(LocalDate.now(), PaymentMethod.PIX)
+        );
+
+        verify(ledgerRepository).applyDelta(
+            project.getId(),
+            category.getId(),
+            companyId,
+            new BigDecimal("0.00"),
+            new BigDecimal("1000.00"),
+            new BigDecimal("-1000.00"),
+            BigDecimal.ZERO,
+            0,
+            0,
+            0
+        );
+    }
+
+    @Test
+    @DisplayName("cancelExpense - should take an overdue expense and its installments out of the ledger")
+    void shouldApplyCancellationDelta() {
+        ExpenseEntity expense = stubExpense(LocalDate.now().minusDays(3));
+        expense.setHasInstallments(true);
+        expense.getInstallments().add(installment(ExpenseStatus.PAID));
+        expense.getInstallments().add(installment(ExpenseStatus.PENDING));
+
+        expenseService.cancelExpense(companyId, project.getId(), expense.getId());
+
+        verify(ledgerRepository).applyDelta(
+            project.getId(),
+            category.getId(),
+            companyId,
+            new BigDecimal("-1000.00"),
+            BigDecimal.ZERO,
+            new BigDecimal("-1000.00"),
+            new BigDecimal("-1000.00"),
+            -1,
+            -1,
+            -1
+        );
+    }
+
+    @Test
+    @DisplayName("updateExpense - should not touch the ledger when no total changes")
+    void shouldSkipLedgerWhenTotalsUnchanged() {
+        ExpenseEntity expense = stubExpense(LocalDate.now().plusDays(5));
+
+        expenseService.updateExpense(
+            companyId,
+            project.getId(),
+            expense.getId(),
+            new UpdateExpenseRequest(
+                "Renamed",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            )
+        );
+
+        verifyNoInteractions(ledgerRepository);
+    }
+
+    private void stubProject() {
+        when(
+            projectRepository.findByIdAndCompanyId(project.getId(), companyId)
+        ).thenReturn(Optional.of(project));
+    }
+
+    private ExpenseEntity stubExpense(LocalDate dueDate) {
+        UserEntity user = new UserEntity();
+
+        ExpenseEntity expense = new ExpenseEntity();
+        expense.setId(UUID.randomUUID());
+        expense.setCompanyId(companyId);
+        expense.setProject(project);
+        expense.setCategory(category);
+        expense.setDescription("Concrete");
+        expense.setAmount(new BigDecimal("1000.00"));
+        expense.setDueDate(dueDate);
+        expense.setCreatedBy(user);
+        when(expenseRepository.findById(expense.getId())).thenReturn(
+            Optional.of(expense)
+        );
+        when(expenseRepository.save(expense)).thenReturn(expense);
+        return expense;
+    }
+
+    private static ExpenseInstallmentEntity installment(ExpenseStatus status) {
+        ExpenseInstallmentEntity installment = new ExpenseInstallmentEntity();
+        installment.setAmount(new BigDecimal("500.00"));
+        installment.setStatus(status);
+        return installment;
+    }
+
+    private static ProjectFinancialLedgerEntity ledgerRow(
+        ExpenseCategoryEntity category,
+        String committed,
+        String paid,
+        String pending,
+        int overdueCount,
+        int installmentsOutstanding
+    ) {
+        ProjectFinancialLedgerEntity row = new ProjectFinancialLedgerEntity();
+        row.setCategory(category);
+        row.setCommittedAmount(new BigDecimal(committed));
+        row.setPaidAmount(new BigDecimal(paid));
+        row.setPendingAmount(new BigDecimal(pending));
+        row.setOverdueAmount(
+            overdueCount > 0 ? new BigDecimal(pending) : BigDecimal.ZERO
+        );
+        row.setOverdueCount(overdueCount);
+        row.setExpenseCount(1);
+        row.setInstallmentsOutstanding(installmentsOutstanding);
+        return row;
+    }
+}
@@ -0,0 +1,137 @@
+package com.maistech.buildup.portfolio;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.maistech.buildup.financial.domain.ExpenseRepository;
+import com.maistech.buildup.financial.domain.ExpenseSummaryRow;
+import com.maistech.buildup.portfolio.domain.PortfolioService;
+import com.maistech.buildup.portfolio.dto.PortfolioResponse;
+import com.maistech.buildup.portfolio.dto.ProjectPortfolioSummary;
+import com.maistech.buildup.project.ProjectStatus;
+import com.maistech.buildup.schedule.ScheduleStatus;
+import com.maistech.buildup.schedule.domain.MilestoneRepository;
+import com.maistech.buildup.schedule.domain.MilestoneSummaryRow;
+import com.maistech.buildup.schedule.domain.PhaseRepository;
+import com.maistech.buildup.schedule.domain.PhaseSummaryRow;
+import com.maistech.buildup.schedule.domain.ProjectScheduleSummaryRow;
+import com.maistech.buildup.schedule.domain.ScheduleRepository;
+import com.maistech.buildup.task.domain.TaskRepository;
+import com.maistech.buildup.task.domain.TaskSummaryRow;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PortfolioServiceTest {
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private PhaseRepository phaseRepository;
+
+    @Mock
+    private MilestoneRepository milestoneRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @InjectMocks
+    private PortfolioService portfolioService;
+
+    @Test
+    @DisplayName("getPortfolio - should merge grouped rows per project")
+    void shouldMergeGroupedRowsPerProject() {
+        UUID companyId = UUID.randomUUID();
+        UUID tower = UUID.randomUUID();
+        UUID house = UUID.randomUUID();
+        LocalDate nextMilestone = LocalDate.now().plusDays(7);
+
+        when(
+            scheduleRepository.findProjectSummaryRowsByCompanyId(companyId)
+        ).thenReturn(
+            List.of(
+                new ProjectScheduleSummaryRow(
+                    tower,
+                    "Tower",
+                    ProjectStatus.IN_PROGRESS,
+                    null,
+                    new BigDecimal("1000000.00"),
+                    ScheduleStatus.DELAYED,
+                    40,
+                    false,
+                    null
+                ),
+                new ProjectScheduleSummaryRow(
+                    house,
+                    "House",
+                    ProjectStatus.IN_PROGRESS,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null
+                )
+            )
+        );
+        when(taskRepository.findSummaryRowsByCompanyId(companyId)).thenReturn(
+            List.of(new TaskSummaryRow(tower, 10, 4, 2))
+        );
+        when(phaseRepository.findSummaryRowsByCompanyId(companyId)).thenReturn(
+            List.of(new PhaseSummaryRow(tower, 3, 1, 1))
+        );
+        when(
+            milestoneRepository.findSummaryRowsByCompanyId(eq(companyId), any())
+        ).thenReturn(
+            List.of(new MilestoneSummaryRow(tower, 4, 1, 1, nextMilestone))
+        );
+        when(
+            expenseRepository.findSummaryRowsByCompanyId(eq(companyId), any())
+        ).thenReturn(
+            List.of(
+                new ExpenseSummaryRow(
+                    tower,
+                    new BigDecimal("500.00"),
+                    new BigDecimal("200.00"),
+                    new BigDecimal("300.00"),
+                    null
+                )
+            )
+        );
+
+        PortfolioResponse response = portfolioService.getPortfolio(companyId);
+
+        assertThat(response.totalProjects()).isEqualTo(2);
+        assertThat(response.delayedProjects()).isEqualTo(1);
+        assertThat(response.onTrackProjects()).isZero();
+        assertThat(response.totalTasks()).isEqualTo(10);
+        assertThat(response.overdueTasks()).isEqualTo(2);
+        assertThat(response.totalContractValue()).isEqualByComparingTo(
+            "1000000"
+        );
+        assertThat(response.paidExpenses()).isEqualByComparingTo("200");
+
+        ProjectPortfolioSummary towerSummary = response.projects().get(0);
+        assertThat(towerSummary.totalPhases()).isEqualTo(3);
+        assertThat(towerSummary.nextMilestoneDate()).isEqualTo(nextMilestone);
+        assertThat(towerSummary.overdueExpenses()).isEqualByComparingTo("0");
+
+        ProjectPortfolioSummary houseSummary = response.projects().get(1);
+        assertThat(houseSummary.totalTasks()).isZero();
+        assertThat(houseSummary.totalExpenses()).isEqualByComparingTo("0");
+    }
+}
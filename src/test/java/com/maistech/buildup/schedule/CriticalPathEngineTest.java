@@ -0,0 +1,152 @@
+package com.maistech.buildup.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.maistech.buildup.calendar.WorkingCalendar;
+import com.maistech.buildup.schedule.domain.CriticalPathEngine;
+import com.maistech.buildup.schedule.domain.CriticalPathResult;
+import com.maistech.buildup.schedule.domain.ScheduleGraph;
+import com.maistech.buildup.task.DependencyType;
+import com.maistech.buildup.task.TaskStatus;
+import com.maistech.buildup.task.domain.TaskDependencyRow;
+import com.maistech.buildup.task.domain.TaskScheduleRow;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CriticalPathEngineTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 6);
+
+    @Test
+    @DisplayName("calculate - finish-to-start chain is fully critical")
+    void shouldMarkFinishToStartChainAsCritical() {
+        TaskScheduleRow a = task("A", START, 3);
+        TaskScheduleRow b = task("B", null, 2);
+        TaskScheduleRow c = task("C", null, 4);
+        TaskScheduleRow d = task("D", null, 1);
+
+        CriticalPathResult result = CriticalPathEngine.calculate(
+            ScheduleGraph.build(
+                START,
+                WorkingCalendar.continuous(),
+                List.of(a, b, c, d),
+                List.of(
+                    link(a, b, DependencyType.FINISH_TO_START),
+                    link(b, c, DependencyType.FINISH_TO_START),
+                    link(a, d, DependencyType.FINISH_TO_START)
+                )
+            )
+        );
+        ScheduleGraph graph = result.graph();
+
+        assertThat(result.projectDuration()).isEqualTo(9);
+        assertThat(result.earlyStart()[graph.indexOf(c.id())]).isEqualTo(5);
+        assertThat(result.isCritical(graph.indexOf(a.id()))).isTrue();
+        assertThat(result.isCritical(graph.indexOf(b.id()))).isTrue();
+        assertThat(result.isCritical(graph.indexOf(c.id()))).isTrue();
+        assertThat(result.isCritical(graph.indexOf(d.id()))).isFalse();
+        assertThat(result.totalFloat()[graph.indexOf(d.id())]).isEqualTo(5);
+        assertThat(result.projectFinishDate()).isEqualTo(START.plusDays(8));
+    }
+
+    @Test
+    @DisplayName("calculate - honors start-to-start, finish-to-finish and start-to-finish")
+    void shouldHonorAllDependencyTypes() {
+        TaskScheduleRow a = task("A", START, 5);
+        TaskScheduleRow b = task("B", null, 2);
+        TaskScheduleRow c = task("C", null, 3);
+        TaskScheduleRow d = task("D", null, 4);
+
+        CriticalPathResult result = CriticalPathEngine.calculate(
+            ScheduleGraph.build(
+                START,
+                WorkingCalendar.continuous(),
+                List.of(a, b, c, d),
+                List.of(
+                    link(a, b, DependencyType.START_TO_START),
+                    link(a, c, DependencyType.FINISH_TO_FINISH),
+                    link(b, d, DependencyType.START_TO_FINISH)
+                )
+            )
+        );
+        ScheduleGraph graph = result.graph();
+
+        assertThat(result.earlyStart()[graph.indexOf(b.id())]).isEqualTo(0);
+        assertThat(result.earlyStart()[graph.indexOf(c.id())]).isEqualTo(2);
+        assertThat(result.earlyFinish()[graph.indexOf(c.id())]).isEqualTo(5);
+        assertThat(result.earlyStart()[graph.indexOf(d.id())]).isEqualTo(0);
+        assertThat(result.projectDuration()).isEqualTo(5);
+        assertThat(result.isCritical(graph.indexOf(a.id()))).isTrue();
+        assertThat(result.isCritical(graph.indexOf(c.id()))).isTrue();
+    }
+
+    @Test
+    @DisplayName("calculate - should count durations in working days")
+    void shouldSkipNonWorkingDays() {
+        TaskScheduleRow a = task("A", START, 3);
+        TaskScheduleRow b = task("B", null, 4);
+
+        CriticalPathResult result = CriticalPathEngine.calculate(
+            ScheduleGraph.build(
+                START,
+                WorkingCalendar.standard(),
+                List.of(a, b),
+                List.of(link(a, b, DependencyType.FINISH_TO_START))
+            )
+        );
+        int index = result.graph().indexOf(b.id());
+
+        assertThat(result.projectDuration()).isEqualTo(7);
+        assertThat(result.earlyStartDate(index)).isEqualTo(START.plusDays(3));
+        assertThat(result.earlyFinishDate(index)).isEqualTo(START.plusDays(8));
+        assertThat(result.projectFinishDate()).isEqualTo(START.plusDays(8));
+    }
+
+    @Test
+    @DisplayName("build - should reject cyclic dependencies")
+    void shouldRejectCycles() {
+        TaskScheduleRow a = task("A", START, 1);
+        TaskScheduleRow b = task("B", null, 1);
+
+        assertThatThrownBy(() ->
+            ScheduleGraph.build(
+                START,
+                WorkingCalendar.continuous(),
+                List.of(a, b),
+                List.of(
+                    link(a, b, DependencyType.FINISH_TO_START),
+                    link(b, a, DependencyType.FINISH_TO_START)
+                )
+            )
+        )
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("cycle");
+    }
+
+    private static TaskScheduleRow task(
+        String name,
+        LocalDate startDate,
+        int durationDays
+    ) {
+        return new TaskScheduleRow(
+            UUID.randomUUID(),
+            name,
+            startDate,
+            null,
+            durationDays,
+            TaskStatus.PENDING
+        );
+    }
+
+    private static TaskDependencyRow link(
+        TaskScheduleRow predecessor,
+        TaskScheduleRow successor,
+        DependencyType type
+    ) {
+        return new TaskDependencyRow(successor.id(), predecessor.id(), type);
+    }
+}
@@ -0,0 +1,104 @@
+package com.maistech.buildup.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.maistech.buildup.calendar.WorkingCalendar;
+import com.maistech.buildup.schedule.domain.DatePropagation;
+import com.maistech.buildup.schedule.domain.ScheduleGraph;
+import com.maistech.buildup.task.DependencyType;
+import com.maistech.buildup.task.TaskStatus;
+import com.maistech.buildup.task.domain.TaskDependencyRow;
+import com.maistech.buildup.task.domain.TaskScheduleRow;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DatePropagationTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 6);
+
+    @Test
+    @DisplayName("pushSuccessors - shifts violated successors by dependency type")
+    void shouldPushViolatedSuccessors() {
+        TaskScheduleRow a = task("A", START.plusDays(4), 3);
+        TaskScheduleRow fs = task("FS", START.plusDays(3), 2);
+        TaskScheduleRow ss = task("SS", START.plusDays(1), 2);
+        TaskScheduleRow ff = task("FF", START.plusDays(2), 2);
+        TaskScheduleRow sf = task("SF", START.plusDays(3), 2);
+        TaskScheduleRow chained = task("Chained", START.plusDays(5), 1);
+
+        Map<UUID, LocalDate> moved = DatePropagation.pushSuccessors(
+            ScheduleGraph.build(
+                START,
+                WorkingCalendar.continuous(),
+                List.of(a, fs, ss, ff, sf, chained),
+                List.of(
+                    link(a, fs, DependencyType.FINISH_TO_START),
+                    link(a, ss, DependencyType.START_TO_START),
+                    link(a, ff, DependencyType.FINISH_TO_FINISH),
+                    link(a, sf, DependencyType.START_TO_FINISH),
+                    link(fs, chained, DependencyType.FINISH_TO_START)
+                )
+            ),
+            a.id()
+        );
+
+        assertThat(moved)
+            .containsEntry(fs.id(), START.plusDays(7))
+            .containsEntry(ss.id(), START.plusDays(4))
+            .containsEntry(ff.id(), START.plusDays(5))
+            .containsEntry(chained.id(), START.plusDays(9))
+            .doesNotContainKey(sf.id())
+            .doesNotContainKey(a.id());
+    }
+
+    @Test
+    @DisplayName("pushSuccessors - leaves unrelated and satisfied tasks untouched")
+    void shouldOnlyMoveAffectedTasks() {
+        TaskScheduleRow a = task("A", START, 2);
+        TaskScheduleRow b = task("B", START.plusDays(10), 2);
+        TaskScheduleRow unrelated = task("Unrelated", START, 5);
+        TaskScheduleRow other = task("Other", START, 1);
+
+        Map<UUID, LocalDate> moved = DatePropagation.pushSuccessors(
+            ScheduleGraph.build(
+                START,
+                WorkingCalendar.continuous(),
+                List.of(a, b, unrelated, other),
+                List.of(
+                    link(a, b, DependencyType.FINISH_TO_START),
+                    link(unrelated, other, DependencyType.FINISH_TO_START)
+                )
+            ),
+            a.id()
+        );
+
+        assertThat(moved).isEmpty();
+    }
+
+    private static TaskScheduleRow task(
+        String name,
+        LocalDate startDate,
+        int durationDays
+    ) {
+        return new TaskScheduleRow(
+            UUID.randomUUID(),
+            name,
+            startDate,
+            null,
+            durationDays,
+            TaskStatus.PENDING
+        );
+    }
+
+    private static TaskDependencyRow link(
+        TaskScheduleRow predecessor,
+        TaskScheduleRow successor,
+        DependencyType type
+    ) {
+        return new TaskDependencyRow(successor.id(), predecessor.id(), type);
+    }
+}
@@ -0,0 +1,112 @@
+package com.maistech.buildup.schedule;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.maistech.buildup.schedule.domain.PhaseProgressListener;
+import com.maistech.buildup.schedule.domain.PhaseRepository;
+import com.maistech.buildup.task.TaskChangedEvent;
+import com.maistech.buildup.task.TaskSnapshot;
+import com.maistech.buildup.task.TaskStatus;
+import com.maistech.buildup.task.TasksImportedEvent;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PhaseProgressListenerTest {
+
+    @Mock
+    private PhaseRepository phaseRepository;
+
+    @InjectMocks
+    private PhaseProgressListener listener;
+
+    private final UUID companyId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID phaseId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("onTaskChanged - progress change applies the weighted difference")
+    void shouldApplyWeightedProgressDelta() {
+        listener.onTaskChanged(
+            event(snapshot(phaseId, 10, 20), snapshot(phaseId, 10, 50))
+        );
+
+        verify(phaseRepository).applyProgressDelta(phaseId, 300, 0);
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - moving a task updates both phases")
+    void shouldMoveProgressBetweenPhases() {
+        UUID otherPhaseId = UUID.randomUUID();
+
+        listener.onTaskChanged(
+            event(snapshot(phaseId, 4, 50), snapshot(otherPhaseId, 4, 50))
+        );
+
+        verify(phaseRepository).applyProgressDelta(phaseId, -200, -4);
+        verify(phaseRepository).applyProgressDelta(otherPhaseId, 200, 4);
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - should skip tasks without phase or change")
+    void shouldSkipUnchangedProgress() {
+        listener.onTaskChanged(
+            event(snapshot(phaseId, 5, 40), snapshot(phaseId, 5, 40))
+        );
+        listener.onTaskChanged(event(null, snapshot(null, 5, 40)));
+
+        verify(phaseRepository, never()).applyProgressDelta(
+            any(),
+            anyLong(),
+            anyLong()
+        );
+    }
+
+    @Test
+    @DisplayName("onTasksImported - should apply one delta per phase")
+    void shouldAggregateImportedTasksPerPhase() {
+        listener.onTasksImported(
+            new TasksImportedEvent(
+                companyId,
+                projectId,
+                List.of(
+                    snapshot(phaseId, 2, 100),
+                    snapshot(phaseId, null, 0),
+                    snapshot(null, 3, 10)
+                )
+            )
+        );
+
+        verify(phaseRepository).applyProgressDelta(phaseId, 200, 3);
+        verifyNoMoreInteractions(phaseRepository);
+    }
+
+    private TaskChangedEvent event(TaskSnapshot before, TaskSnapshot after) {
+        return new TaskChangedEvent(
+            companyId,
+            projectId,
+            UUID.randomUUID(),
+            before,
+            after
+        );
+    }
+
+    private TaskSnapshot snapshot(UUID phase, Integer duration, int progress) {
+        return new TaskSnapshot(
+            phase,
+            TaskStatus.IN_PROGRESS,
+            null,
+            null,
+            duration,
+            progress,
+            false
+        );
+    }
+}
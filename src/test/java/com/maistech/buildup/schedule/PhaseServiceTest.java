@@ -0,0 +1,120 @@
+package com.maistech.buildup.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.maistech.buildup.calendar.domain.WorkingCalendarService;
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.schedule.domain.PhaseRepository;
+import com.maistech.buildup.schedule.domain.PhaseService;
+import com.maistech.buildup.schedule.domain.PhaseTaskCountRow;
+import com.maistech.buildup.schedule.domain.ScheduleRepository;
+import com.maistech.buildup.schedule.dto.PhaseResponse;
+import com.maistech.buildup.schedule.dto.UpdatePhaseRequest;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PhaseServiceTest {
+
+    @Mock
+    private PhaseRepository phaseRepository;
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private WorkingCalendarService workingCalendarService;
+
+    @InjectMocks
+    private PhaseService phaseService;
+
+    private final UUID companyId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("listPhasesBySchedule - should count tasks with one grouped query")
+    void shouldUseGroupedTaskCounts() {
+        ScheduleEntity schedule = new ScheduleEntity();
+        schedule.setId(UUID.randomUUID());
+        schedule.setProject(new ProjectEntity());
+        PhaseEntity structure = phase(schedule, "Structure");
+        PhaseEntity finishing = phase(schedule, "Finishing");
+        when(
+            scheduleRepository.findByIdAndCompanyId(schedule.getId(), companyId)
+        ).thenReturn(Optional.of(schedule));
+        when(
+            phaseRepository.findTaskCountsByScheduleId(schedule.getId())
+        ).thenReturn(List.of(new PhaseTaskCountRow(structure.getId(), 5, 2)));
+        when(
+            phaseRepository.findByScheduleIdAndCompanyId(
+                schedule.getId(),
+                companyId
+            )
+        ).thenReturn(List.of(structure, finishing));
+
+        List<PhaseResponse> responses = phaseService.listPhasesBySchedule(
+            companyId,
+            schedule.getId()
+        );
+
+        assertThat(responses.get(0).totalTasks()).isEqualTo(5);
+        assertThat(responses.get(0).completedTasks()).isEqualTo(2);
+        assertThat(responses.get(1).totalTasks()).isZero();
+        verify(phaseRepository, never()).findTaskCountsByPhaseId(any());
+    }
+
+    @Test
+    @DisplayName("updatePhase - should reject a manual completion percentage")
+    void shouldRejectManualCompletion() {
+        ScheduleEntity schedule = new ScheduleEntity();
+        schedule.setId(UUID.randomUUID());
+        PhaseEntity structure = phase(schedule, "Structure");
+        when(
+            phaseRepository.findByIdAndCompanyId(structure.getId(), companyId)
+        ).thenReturn(Optional.of(structure));
+        UpdatePhaseRequest request = new UpdatePhaseRequest(
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            80,
+            null
+        );
+
+        assertThatThrownBy(() ->
+            phaseService.updatePhase(
+                companyId,
+                schedule.getId(),
+                structure.getId(),
+                request
+            )
+        ).isInstanceOf(IllegalArgumentException.class);
+        verify(phaseRepository, never()).save(any());
+    }
+
+    private PhaseEntity phase(ScheduleEntity schedule, String name) {
+        PhaseEntity phase = PhaseEntity.builder()
+            .name(name)
+            .schedule(schedule)
+            .startDate(LocalDate.now())
+            .endDate(LocalDate.now().plusDays(30))
+            .companyId(companyId)
+            .build();
+        phase.setId(UUID.randomUUID());
+        return phase;
+    }
+}
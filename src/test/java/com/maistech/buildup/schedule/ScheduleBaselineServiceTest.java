@@ -0,0 +1,193 @@
+package com.maistech.buildup.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.schedule.domain.ScheduleBaselineRepository;
+import com.maistech.buildup.schedule.domain.ScheduleBaselineService;
+import com.maistech.buildup.schedule.domain.ScheduleRepository;
+import com.maistech.buildup.schedule.dto.BaselineResponse;
+import com.maistech.buildup.schedule.dto.BaselineVarianceItem;
+import com.maistech.buildup.schedule.dto.BaselineVarianceResponse;
+import com.maistech.buildup.schedule.dto.CreateBaselineRequest;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleBaselineServiceTest {
+
+    @Mock
+    private ScheduleBaselineRepository baselineRepository;
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @InjectMocks
+    private ScheduleBaselineService baselineService;
+
+    private final UUID companyId = UUID.randomUUID();
+    private final LocalDate start = LocalDate.of(2026, 3, 2);
+    private ProjectEntity project;
+    private ScheduleEntity schedule;
+
+    @BeforeEach
+    void setUp() {
+        project = new ProjectEntity();
+        project.setId(UUID.randomUUID());
+        project.setCompanyId(companyId);
+
+        schedule = new ScheduleEntity();
+        schedule.setId(UUID.randomUUID());
+        schedule.setProject(project);
+        schedule.setCompanyId(companyId);
+        schedule.setStartDate(start);
+        schedule.setEndDate(start.plusDays(90));
+    }
+
+    @Test
+    @DisplayName("createBaseline - should freeze dates with one statement")
+    void shouldCaptureEntriesInDatabase() {
+        UUID baselineId = UUID.randomUUID();
+        when(scheduleRepository.findByProjectIdForUpdate(project.getId())).thenReturn(
+            Optional.of(schedule)
+        );
+        when(
+            baselineRepository.saveAndFlush(any(ScheduleBaselineEntity.class))
+        ).thenAnswer(invocation -> {
+            ScheduleBaselineEntity baseline = invocation.getArgument(0);
+            baseline.setId(baselineId);
+            baseline.setTaskCount(5000);
+            when(baselineRepository.findById(baselineId)).thenReturn(
+                Optional.of(baseline)
+            );
+            return baseline;
+        });
+
+        BaselineResponse response = baselineService.createBaseline(
+            companyId,
+            project.getId(),
+            new CreateBaselineRequest("Contract", null)
+        );
+
+        verify(baselineRepository).captureEntries(baselineId);
+        assertThat(response.name()).isEqualTo("Contract");
+        assertThat(response.scheduleId()).isEqualTo(schedule.getId());
+        assertThat(response.plannedEndDate()).isEqualTo(start.plusDays(90));
+        assertThat(response.taskCount()).isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("createBaseline - should reject more than the allowed baselines")
+    void shouldRejectBaselineOverLimit() {
+        when(scheduleRepository.findByProjectIdForUpdate(project.getId())).thenReturn(
+            Optional.of(schedule)
+        );
+        when(baselineRepository.countByScheduleId(schedule.getId())).thenReturn(
+            (long) ScheduleBaselineService.MAX_BASELINES_PER_SCHEDULE
+        );
+
+        assertThatThrownBy(() ->
+            baselineService.createBaseline(
+                companyId,
+                project.getId(),
+                new CreateBaselineRequest("Too many", null)
+            )
+        ).isInstanceOf(IllegalArgumentException.class);
+        verify(baselineRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("getVariance - should classify rows and summarize slips")
+    void shouldComputeVarianceInSinglePass() {
+        ScheduleBaselineEntity baseline = ScheduleBaselineEntity.builder()
+            .schedule(schedule)
+            .project(project)
+            .name("Contract")
+            .referenceDate(start)
+            .plannedStartDate(start)
+            .plannedEndDate(start.plusDays(80))
+            .companyId(companyId)
+            .build();
+        baseline.setId(UUID.randomUUID());
+        when(
+            baselineRepository.findByIdAndProjectIdAndCompanyId(
+                baseline.getId(),
+                project.getId(),
+                companyId
+            )
+        ).thenReturn(Optional.of(baseline));
+        when(
+            baselineRepository.findVarianceRows(baseline.getId(), project.getId())
+        ).thenReturn(
+            List.of(
+                row("TASK", "Excavation", 0, 10, 0, 10, true, true),
+                row("TASK", "Foundation", 10, 20, 12, 27, true, true),
+                row("TASK", "Rework", null, null, 30, 33, false, true),
+                row("MILESTONE", "Inspection", 40, 40, null, null, true, false)
+            )
+        );
+
+        BaselineVarianceResponse response = baselineService.getVariance(
+            companyId,
+            project.getId(),
+            baseline.getId(),
+            false
+        );
+
+        assertThat(response.comparedItems()).isEqualTo(4);
+        assertThat(response.changedItems()).isEqualTo(1);
+        assertThat(response.addedItems()).isEqualTo(1);
+        assertThat(response.removedItems()).isEqualTo(1);
+        assertThat(response.maxFinishSlipDays()).isEqualTo(7);
+        assertThat(response.finishVarianceDays()).isEqualTo(10);
+        assertThat(response.items())
+            .extracting(BaselineVarianceItem::status)
+            .containsExactly(
+                BaselineVarianceStatus.CHANGED,
+                BaselineVarianceStatus.ADDED,
+                BaselineVarianceStatus.REMOVED
+            );
+        assertThat(response.items().get(0).startVarianceDays()).isEqualTo(2);
+        assertThat(response.items().get(2).name()).isEqualTo("Inspection");
+    }
+
+    private Object[] row(
+        String type,
+        String name,
+        Integer baselineStart,
+        Integer baselineEnd,
+        Integer currentStart,
+        Integer currentEnd,
+        boolean inBaseline,
+        boolean inPlan
+    ) {
+        return new Object[] {
+            type,
+            UUID.randomUUID(),
+            name,
+            date(baselineStart),
+            date(baselineEnd),
+            date(currentStart),
+            date(currentEnd),
+            inBaseline,
+            inPlan,
+        };
+    }
+
+    private Date date(Integer offset) {
+        return offset != null ? Date.valueOf(start.plusDays(offset)) : null;
+    }
+}
@@ -0,0 +1,131 @@
+package com.maistech.buildup.schedule;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.maistech.buildup.schedule.domain.ScheduleCounterListener;
+import com.maistech.buildup.schedule.domain.ScheduleRepository;
+import com.maistech.buildup.task.TaskChangedEvent;
+import com.maistech.buildup.task.TaskSnapshot;
+import com.maistech.buildup.task.TaskStatus;
+import com.maistech.buildup.task.TasksImportedEvent;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleCounterListenerTest {
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @InjectMocks
+    private ScheduleCounterListener listener;
+
+    private final UUID companyId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("onTaskChanged - completing an overdue task moves it between counters")
+    void shouldApplyDeltaWhenOverdueTaskIsCompleted() {
+        listener.onTaskChanged(
+            new TaskChangedEvent(
+                companyId,
+                projectId,
+                UUID.randomUUID(),
+                snapshot(TaskStatus.IN_PROGRESS, true),
+                snapshot(TaskStatus.COMPLETED, false)
+            )
+        );
+
+        verify(scheduleRepository).applyTaskCounterDelta(projectId, 0, 1, -1);
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - creating and deleting tasks adjusts the total")
+    void shouldApplyDeltaForCreatedAndDeletedTasks() {
+        listener.onTaskChanged(
+            new TaskChangedEvent(
+                companyId,
+                projectId,
+                UUID.randomUUID(),
+                null,
+                snapshot(TaskStatus.PENDING, false)
+            )
+        );
+        listener.onTaskChanged(
+            new TaskChangedEvent(
+                companyId,
+                projectId,
+                UUID.randomUUID(),
+                snapshot(TaskStatus.COMPLETED, false),
+                null
+            )
+        );
+
+        verify(scheduleRepository).applyTaskCounterDelta(projectId, 1, 0, 0);
+        verify(scheduleRepository).applyTaskCounterDelta(projectId, -1, -1, 0);
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - should skip the update when no counter changes")
+    void shouldSkipUpdateWhenCountersAreUnchanged() {
+        listener.onTaskChanged(
+            new TaskChangedEvent(
+                companyId,
+                projectId,
+                UUID.randomUUID(),
+                snapshot(TaskStatus.PENDING, false),
+                snapshot(TaskStatus.IN_PROGRESS, false)
+            )
+        );
+
+        verify(scheduleRepository, never()).applyTaskCounterDelta(
+            any(),
+            anyInt(),
+            anyInt(),
+            anyInt()
+        );
+    }
+
+    @Test
+    @DisplayName("onTasksImported - should apply a single summed delta")
+    void shouldApplySingleDeltaForImportedTasks() {
+        listener.onTasksImported(
+            new TasksImportedEvent(
+                companyId,
+                projectId,
+                List.of(
+                    snapshot(TaskStatus.PENDING, false),
+                    snapshot(TaskStatus.PENDING, true),
+                    snapshot(TaskStatus.COMPLETED, false)
+                )
+            )
+        );
+
+        verify(scheduleRepository, times(1)).applyTaskCounterDelta(
+            projectId,
+            3,
+            1,
+            1
+        );
+    }
+
+    private TaskSnapshot snapshot(TaskStatus status, boolean overdue) {
+        return new TaskSnapshot(
+            null,
+            status,
+            LocalDate.now(),
+            LocalDate.now(),
+            1,
+            status == TaskStatus.COMPLETED ? 100 : 0,
+            overdue
+        );
+    }
+}
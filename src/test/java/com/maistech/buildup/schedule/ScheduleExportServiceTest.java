@@ -0,0 +1,168 @@
+package com.maistech.buildup.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.project.domain.ProjectRepository;
+import com.maistech.buildup.schedule.domain.ScheduleExportService;
+import com.maistech.buildup.schedule.domain.ScheduleRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleExportServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 3, 3);
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ScheduleExportService exportService;
+    private UUID companyId;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ScheduleExportService(
+            scheduleRepository,
+            projectRepository,
+            transactionManager
+        );
+        companyId = UUID.randomUUID();
+        projectId = UUID.randomUUID();
+
+        ProjectEntity project = new ProjectEntity();
+        project.setId(projectId);
+        project.setName("Residencial Aurora");
+        project.setStartDate(START);
+        lenient()
+            .when(projectRepository.findByIdAndCompanyId(projectId, companyId))
+            .thenReturn(Optional.of(project));
+        lenient()
+            .when(scheduleRepository.streamExportRows(projectId))
+            .thenAnswer(invocation -> rows());
+    }
+
+    @Test
+    @DisplayName("exportSchedule - should stream rows as CSV")
+    void shouldStreamRowsAsCsv() throws Exception {
+        String csv = export(ScheduleExportFormat.CSV);
+
+        String[] lines = csv.substring(1).split("\r\n");
+        assertThat(lines).hasSize(5);
+        assertThat(lines[0]).startsWith("uid,id,type,outline_level,name");
+        assertThat(lines[1]).contains(",PHASE,1,Fundação,2025-03-03,");
+        assertThat(lines[2]).contains(",TASK,2,\"Escavação, fase 1\",");
+        assertThat(lines[3]).endsWith(",PENDING,2:FINISH_TO_START");
+        assertThat(lines[4]).contains(",MILESTONE,1,'=Entrega,");
+    }
+
+    @Test
+    @DisplayName("exportSchedule - should stream rows as MS Project XML")
+    void shouldStreamRowsAsMsProjectXml() throws Exception {
+        String xml = export(ScheduleExportFormat.MS_PROJECT_XML);
+
+        assertThat(xml).contains(
+            "<Project xmlns=\"http://schemas.microsoft.com/project\">"
+        );
+        assertThat(xml).contains("<Name>Residencial Aurora</Name>");
+        assertThat(xml).contains("<Summary>1</Summary>");
+        assertThat(xml).contains(
+            "<PredecessorLink><PredecessorUID>2</PredecessorUID><Type>1</Type></PredecessorLink>"
+        );
+        assertThat(xml).contains("<Milestone>1</Milestone>");
+        assertThat(xml).contains("<Duration>PT16H0M0S</Duration>");
+        assertThat(xml).endsWith("</Tasks></Project>");
+    }
+
+    @Test
+    @DisplayName("exportSchedule - should reject projects from other companies")
+    void shouldRejectUnknownProject() {
+        assertThatThrownBy(() ->
+            exportService.exportSchedule(
+                UUID.randomUUID(),
+                projectId,
+                ScheduleExportFormat.CSV
+            )
+        ).isInstanceOf(ScheduleNotFoundException.class);
+        verifyNoInteractions(scheduleRepository);
+    }
+
+    private String export(ScheduleExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportSchedule(companyId, projectId, format).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Stream<Object[]> rows() {
+        return Stream.of(
+            row(1, "PHASE", 1, "Fundação", START, 10, "IN_PROGRESS", null),
+            row(2, "TASK", 2, "Escavação, fase 1", START, 2, "COMPLETED", null),
+            row(
+                3,
+                "TASK",
+                2,
+                "Sapatas",
+                START.plusDays(2),
+                3,
+                "PENDING",
+                "2:FINISH_TO_START"
+            ),
+            row(
+                4,
+                "MILESTONE",
+                1,
+                "=Entrega",
+                START.plusDays(10),
+                0,
+                "PENDING",
+                null
+            )
+        );
+    }
+
+    private static Object[] row(
+        long uid,
+        String kind,
+        int outlineLevel,
+        String name,
+        LocalDate start,
+        int durationDays,
+        String status,
+        String predecessors
+    ) {
+        return new Object[] {
+            uid,
+            UUID.randomUUID(),
+            kind,
+            outlineLevel,
+            name,
+            Date.valueOf(start),
+            Date.valueOf(start.plusDays(Math.max(durationDays - 1, 0))),
+            durationDays,
+            0,
+            status,
+            predecessors,
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.maistech.buildup.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.maistech.buildup.schedule.domain.ScheduleRecalculationQueue;
+import com.maistech.buildup.schedule.domain.ScheduleService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleRecalculationQueueTest {
+
+    @Mock
+    private ScheduleService scheduleService;
+
+    private ScheduleRecalculationQueue queue;
+    private UUID companyId;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        queue = new ScheduleRecalculationQueue(
+            scheduleService,
+            new SimpleMeterRegistry()
+        );
+        companyId = UUID.randomUUID();
+        projectId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("drain - should coalesce repeated changes into one recalculation")
+    void shouldCoalesceRepeatedChanges() {
+        for (int i = 0; i < 5; i++) {
+            queue.onMilestoneChanged(
+                new MilestoneChangedEvent(companyId, projectId)
+            );
+        }
+        assertThat(queue.depth()).isEqualTo(1);
+
+        queue.drain(
+            System.nanoTime() + ScheduleRecalculationQueue.DEBOUNCE_NANOS
+        );
+
+        verify(scheduleService, timeout(1000).times(1)).refreshSchedule(
+            companyId,
+            projectId
+        );
+        assertThat(queue.depth()).isZero();
+        verify(scheduleService, after(100).times(1)).refreshSchedule(
+            companyId,
+            projectId
+        );
+        assertThat(queue.coalescingRatio()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("drain - should wait for the debounce window")
+    void shouldWaitForDebounceWindow() {
+        queue.markDirty(companyId, projectId);
+
+        queue.drain(System.nanoTime());
+
+        assertThat(queue.depth()).isEqualTo(1);
+        verifyNoInteractions(scheduleService);
+    }
+
+    @Test
+    @DisplayName("drain - should not let continuous changes postpone a recalculation forever")
+    void shouldDrainWithinMaxDelayUnderContinuousChanges() {
+        long start = System.nanoTime();
+        long step = ScheduleRecalculationQueue.DEBOUNCE_NANOS / 5;
+        long now = start;
+        while (now - start < ScheduleRecalculationQueue.MAX_DELAY_NANOS) {
+            queue.markDirty(companyId, projectId, now);
+            queue.drain(now);
+            now += step;
+        }
+        verifyNoInteractions(scheduleService);
+
+        queue.markDirty(companyId, projectId, now);
+        queue.drain(now);
+
+        verify(scheduleService, timeout(1000).times(1)).refreshSchedule(
+            companyId,
+            projectId
+        );
+        assertThat(queue.depth()).isZero();
+    }
+}
@@ -0,0 +1,174 @@
+package com.maistech.buildup.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.maistech.buildup.calendar.WorkingCalendar;
+import com.maistech.buildup.schedule.domain.ScheduleGraph;
+import com.maistech.buildup.schedule.domain.ScheduleRiskResult;
+import com.maistech.buildup.schedule.domain.ScheduleRiskSimulator;
+import com.maistech.buildup.task.DependencyType;
+import com.maistech.buildup.task.TaskStatus;
+import com.maistech.buildup.task.domain.TaskDependencyRow;
+import com.maistech.buildup.task.domain.TaskScheduleRow;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ScheduleRiskSimulatorTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 6);
+
+    @Test
+    @DisplayName("simulate - without estimates every iteration matches the plan")
+    void shouldReproducePlanWithoutEstimates() {
+        TaskScheduleRow a = task("A", START, 3);
+        TaskScheduleRow b = task("B", null, 2);
+        TaskScheduleRow c = task("C", null, 1);
+        ScheduleGraph graph = graph(
+            List.of(a, b, c),
+            List.of(link(a, b), link(a, c))
+        );
+        int n = graph.size();
+
+        ScheduleRiskResult result = ScheduleRiskSimulator.simulate(
+            graph,
+            new int[n],
+            new int[n],
+            new int[n],
+            500,
+            7L,
+            ForkJoinPool.commonPool()
+        );
+
+        assertThat(result.finishAtPercentile(50)).isEqualTo(5);
+        assertThat(result.finishAtPercentile(95)).isEqualTo(5);
+        assertThat(result.finishDateAtPercentile(95)).isEqualTo(START.plusDays(4));
+        assertThat(result.criticalityIndex(graph.indexOf(b.id()))).isEqualTo(1.0);
+        assertThat(result.criticalityIndex(graph.indexOf(c.id()))).isZero();
+    }
+
+    @Test
+    @DisplayName("simulate - should stay within the estimate range")
+    void shouldSampleWithinEstimates() {
+        TaskScheduleRow a = task("A", START, 4);
+        ScheduleGraph graph = graph(List.of(a), List.of());
+
+        ScheduleRiskResult result = ScheduleRiskSimulator.simulate(
+            graph,
+            new int[] { 2 },
+            new int[] { 4 },
+            new int[] { 10 },
+            5_000,
+            11L,
+            ForkJoinPool.commonPool()
+        );
+
+        assertThat(result.finishes()[0]).isGreaterThanOrEqualTo(2);
+        assertThat(result.finishes()[result.iterations() - 1]).isLessThanOrEqualTo(10);
+        assertThat(result.finishAtPercentile(50)).isBetween(4, 6);
+        assertThat(result.finishAtPercentile(95)).isGreaterThan(
+            result.finishAtPercentile(50)
+        );
+        assertThat(result.probabilityOfFinishingBy(10)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("simulate - should use a fixed estimate instead of the planned duration")
+    void shouldApplyFixedEstimates() {
+        TaskScheduleRow a = task("A", START, 2);
+        ScheduleGraph graph = graph(List.of(a), List.of());
+
+        ScheduleRiskResult result = ScheduleRiskSimulator.simulate(
+            graph,
+            new int[] { 5 },
+            new int[] { 5 },
+            new int[] { 5 },
+            100,
+            3L,
+            ForkJoinPool.commonPool()
+        );
+
+        assertThat(result.finishAtPercentile(5)).isEqualTo(5);
+        assertThat(result.finishAtPercentile(95)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("simulate - same seed gives the same result on any pool size")
+    void shouldBeReproducibleAcrossPools() {
+        TaskScheduleRow a = task("A", START, 3);
+        TaskScheduleRow b = task("B", null, 5);
+        TaskScheduleRow c = task("C", null, 4);
+        TaskScheduleRow d = task("D", null, 2);
+        ScheduleGraph graph = graph(
+            List.of(a, b, c, d),
+            List.of(link(a, b), link(a, c), link(b, d), link(c, d))
+        );
+        int[] optimistic = { 2, 3, 2, 1 };
+        int[] mostLikely = { 3, 5, 4, 2 };
+        int[] pessimistic = { 6, 9, 10, 4 };
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            ScheduleRiskResult first = ScheduleRiskSimulator.simulate(
+                graph, optimistic, mostLikely, pessimistic, 3_000, 42L, single
+            );
+            ScheduleRiskResult second = ScheduleRiskSimulator.simulate(
+                graph, optimistic, mostLikely, pessimistic, 3_000, 42L, several
+            );
+
+            assertThat(second.finishes()).isEqualTo(first.finishes());
+            assertThat(second.criticalCounts()).isEqualTo(first.criticalCounts());
+            assertThat(first.criticalityIndex(graph.indexOf(b.id())))
+                .isBetween(0.0, 1.0);
+            assertThat(
+                first.criticalityIndex(graph.indexOf(b.id())) +
+                first.criticalityIndex(graph.indexOf(c.id()))
+            ).isGreaterThanOrEqualTo(1.0);
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    private static ScheduleGraph graph(
+        List<TaskScheduleRow> tasks,
+        List<TaskDependencyRow> dependencies
+    ) {
+        return ScheduleGraph.build(
+            START,
+            WorkingCalendar.continuous(),
+            tasks,
+            dependencies
+        );
+    }
+
+    private static TaskScheduleRow task(
+        String name,
+        LocalDate startDate,
+        int durationDays
+    ) {
+        return new TaskScheduleRow(
+            UUID.randomUUID(),
+            name,
+            startDate,
+            null,
+            durationDays,
+            TaskStatus.PENDING
+        );
+    }
+
+    private static TaskDependencyRow link(
+        TaskScheduleRow predecessor,
+        TaskScheduleRow successor
+    ) {
+        return new TaskDependencyRow(
+            successor.id(),
+            predecessor.id(),
+            DependencyType.FINISH_TO_START
+        );
+    }
+}
@@ -0,0 +1,376 @@
+package com.maistech.buildup.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import com.maistech.buildup.calendar.WorkingCalendar;
+import com.maistech.buildup.calendar.domain.WorkingCalendarService;
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.project.domain.ProjectRepository;
+import com.maistech.buildup.schedule.domain.MilestoneDateRow;
+import com.maistech.buildup.schedule.domain.MilestoneRepository;
+import com.maistech.buildup.schedule.domain.PhaseDateRow;
+import com.maistech.buildup.schedule.domain.PhaseRepository;
+import com.maistech.buildup.schedule.domain.ScheduleSandboxCommittedEvent;
+import com.maistech.buildup.schedule.domain.ScheduleSandboxService;
+import com.maistech.buildup.schedule.domain.ScheduleSandboxStore;
+import com.maistech.buildup.schedule.dto.ApplySandboxEditsRequest;
+import com.maistech.buildup.schedule.dto.SandboxCommitResponse;
+import com.maistech.buildup.schedule.dto.SandboxEditRequest;
+import com.maistech.buildup.schedule.dto.SandboxResponse;
+import com.maistech.buildup.schedule.dto.SandboxTaskChange;
+import com.maistech.buildup.task.DependencyType;
+import com.maistech.buildup.task.TaskChangedEvent;
+import com.maistech.buildup.task.TaskEntity;
+import com.maistech.buildup.task.TaskStatus;
+import com.maistech.buildup.task.domain.TaskDependencyRepository;
+import com.maistech.buildup.task.domain.TaskDependencyRow;
+import com.maistech.buildup.task.domain.TaskPhaseRow;
+import com.maistech.buildup.task.domain.TaskRepository;
+import com.maistech.buildup.task.domain.TaskScheduleRow;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleSandboxServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 3, 2);
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+
+    @Mock
+    private PhaseRepository phaseRepository;
+
+    @Mock
+    private MilestoneRepository milestoneRepository;
+
+    @Mock
+    private WorkingCalendarService workingCalendarService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ScheduleSandboxStore sandboxStore;
+    private ScheduleSandboxService sandboxService;
+
+    private final UUID companyId = UUID.randomUUID();
+    private final UUID phaseId = UUID.randomUUID();
+    private final UUID milestoneId = UUID.randomUUID();
+    private ProjectEntity project;
+    private TaskScheduleRow foundation;
+    private TaskScheduleRow walls;
+    private TaskScheduleRow plumbing;
+
+    @BeforeEach
+    void setUp() {
+        sandboxStore = new ScheduleSandboxStore();
+        sandboxService = new ScheduleSandboxService(
+            projectRepository,
+            taskRepository,
+            taskDependencyRepository,
+            phaseRepository,
+            milestoneRepository,
+            workingCalendarService,
+            sandboxStore,
+            eventPublisher
+        );
+
+        project = new ProjectEntity();
+        project.setId(UUID.randomUUID());
+        project.setCompanyId(companyId);
+        project.setStartDate(START);
+
+        foundation = row("Foundation", START, START.plusDays(2), 3);
+        walls = row("Walls", null, null, 2);
+        plumbing = row("Plumbing", null, null, 1);
+
+        when(
+            projectRepository.findByIdAndCompanyId(project.getId(), companyId)
+        ).thenReturn(Optional.of(project));
+        when(workingCalendarService.forCompany(companyId)).thenReturn(
+            WorkingCalendar.continuous()
+        );
+        when(
+            taskRepository.findScheduleRowsByProjectId(project.getId())
+        ).thenReturn(List.of(foundation, walls, plumbing));
+        when(
+            taskDependencyRepository.findRowsByProjectId(project.getId())
+        ).thenReturn(List.of(link(foundation, walls), link(foundation, plumbing)));
+        when(taskRepository.findPhaseRowsByProjectId(project.getId())).thenReturn(
+            List.of(new TaskPhaseRow(walls.id(), phaseId))
+        );
+        when(phaseRepository.findDateRowsByProjectId(project.getId())).thenReturn(
+            List.of(
+                new PhaseDateRow(phaseId, "Structure", START, START.plusDays(4))
+            )
+        );
+        when(
+            milestoneRepository.findDateRowsByProjectId(project.getId())
+        ).thenReturn(
+            List.of(
+                new MilestoneDateRow(
+                    milestoneId,
+                    "Structure done",
+                    START.plusDays(4),
+                    MilestoneStatus.PENDING
+                )
+            )
+        );
+    }
+
+    @Test
+    @DisplayName("applyEdits - should report moved tasks, phases and milestones without writing")
+    void shouldEvaluateEditsInMemory() {
+        SandboxResponse opened = sandboxService.openSandbox(
+            companyId,
+            project.getId()
+        );
+        assertThat(opened.changedTasks()).isEmpty();
+        assertThat(opened.finishDate()).isEqualTo(START.plusDays(4));
+
+        SandboxResponse response = sandboxService.applyEdits(
+            companyId,
+            project.getId(),
+            opened.sandboxId(),
+            edits(shift(foundation, 2))
+        );
+
+        assertThat(response.edits()).hasSize(1);
+        assertThat(response.finishDate()).isEqualTo(START.plusDays(6));
+        assertThat(response.finishVarianceDays()).isEqualTo(2);
+        assertThat(response.changedTasks())
+            .extracting(SandboxTaskChange::taskId)
+            .containsExactlyInAnyOrder(foundation.id(), walls.id(), plumbing.id());
+        assertThat(response.criticalPath().tasks()).hasSize(2);
+
+        assertThat(response.phaseImpacts()).singleElement().satisfies(phase -> {
+            assertThat(phase.newEndDate()).isEqualTo(START.plusDays(6));
+            assertThat(phase.finishVarianceDays()).isEqualTo(2);
+            assertThat(phase.exceedsPhaseEnd()).isTrue();
+        });
+        assertThat(response.milestoneImpacts())
+            .singleElement()
+            .satisfies(milestone -> {
+                assertThat(milestone.milestoneId()).isEqualTo(milestoneId);
+                assertThat(milestone.slipDays()).isEqualTo(2);
+                assertThat(milestone.atRisk()).isTrue();
+            });
+
+        verify(taskRepository, never()).findAllById(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("applyEdits - should reject a cycle and keep the sandbox as it was")
+    void shouldRejectCircularDependency() {
+        SandboxResponse opened = sandboxService.openSandbox(
+            companyId,
+            project.getId()
+        );
+
+        assertThatThrownBy(() ->
+            sandboxService.applyEdits(
+                companyId,
+                project.getId(),
+                opened.sandboxId(),
+                edits(
+                    shift(foundation, 1),
+                    new SandboxEditRequest(
+                        SandboxEditType.ADD_DEPENDENCY,
+                        foundation.id(),
+                        null,
+                        null,
+                        walls.id(),
+                        null
+                    )
+                )
+            )
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("circular");
+
+        assertThat(
+            sandboxService
+                .getSandbox(companyId, project.getId(), opened.sandboxId())
+                .edits()
+        ).isEmpty();
+    }
+
+    @Test
+    @DisplayName("commitSandbox - should update moved tasks only and close the sandbox")
+    void shouldCommitMovedTasks() {
+        SandboxResponse opened = sandboxService.openSandbox(
+            companyId,
+            project.getId()
+        );
+        sandboxService.applyEdits(
+            companyId,
+            project.getId(),
+            opened.sandboxId(),
+            edits(
+                new SandboxEditRequest(
+                    SandboxEditType.SET_DURATION,
+                    walls.id(),
+                    4,
+                    null,
+                    null,
+                    null
+                )
+            )
+        );
+        TaskEntity wallsTask = entity(walls);
+        when(taskRepository.findAllByIdForUpdate(anyCollection())).thenReturn(
+            List.of(wallsTask)
+        );
+
+        SandboxCommitResponse response = sandboxService.commitSandbox(
+            companyId,
+            project.getId(),
+            opened.sandboxId()
+        );
+
+        assertThat(response.updatedTasks()).isEqualTo(1);
+        assertThat(wallsTask.getStartDate()).isEqualTo(START.plusDays(3));
+        assertThat(wallsTask.getEndDate()).isEqualTo(START.plusDays(6));
+        assertThat(wallsTask.getDurationDays()).isEqualTo(4);
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+        verify(taskDependencyRepository, never()).findByTaskIdIn(any());
+
+        // The sandbox is only dropped once the transaction has committed
+        ArgumentCaptor<ScheduleSandboxCommittedEvent> committed =
+            ArgumentCaptor.forClass(ScheduleSandboxCommittedEvent.class);
+        verify(eventPublisher).publishEvent(committed.capture());
+        assertThat(sandboxStore.size()).isEqualTo(1);
+        // A read landing between the commit and its completion
+        sandboxService.getSandbox(
+            companyId,
+            project.getId(),
+            opened.sandboxId()
+        );
+        sandboxStore.onSandboxCommitted(committed.getValue());
+        assertThat(sandboxStore.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("commitSandbox - should fail when a task changed after opening")
+    void shouldRejectStaleCommit() {
+        SandboxResponse opened = sandboxService.openSandbox(
+            companyId,
+            project.getId()
+        );
+        sandboxService.applyEdits(
+            companyId,
+            project.getId(),
+            opened.sandboxId(),
+            edits(shift(foundation, 1))
+        );
+        TaskEntity foundationTask = entity(foundation);
+        foundationTask.setStartDate(START.plusDays(10));
+        when(taskRepository.findAllByIdForUpdate(anyCollection())).thenReturn(
+            List.of(foundationTask)
+        );
+
+        assertThatThrownBy(() ->
+            sandboxService.commitSandbox(
+                companyId,
+                project.getId(),
+                opened.sandboxId()
+            )
+        ).isInstanceOf(ScheduleConflictException.class);
+
+        assertThat(sandboxStore.size()).isEqualTo(1);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("evictIdle - should drop sandboxes not used within the timeout")
+    void shouldEvictIdleSandboxes() {
+        sandboxService.openSandbox(companyId, project.getId());
+
+        sandboxStore.evictIdle(LocalDateTime.now());
+        assertThat(sandboxStore.size()).isEqualTo(1);
+
+        sandboxStore.evictIdle(
+            LocalDateTime.now()
+                .plus(ScheduleSandboxStore.IDLE_TIMEOUT)
+                .plusMinutes(1)
+        );
+        assertThat(sandboxStore.size()).isZero();
+    }
+
+    private TaskEntity entity(TaskScheduleRow row) {
+        TaskEntity task = new TaskEntity();
+        task.setId(row.id());
+        task.setCompanyId(companyId);
+        task.setProject(project);
+        task.setName(row.name());
+        task.setStatus(row.status());
+        task.setStartDate(row.startDate());
+        task.setEndDate(row.endDate());
+        task.setDurationDays(row.durationDays());
+        return task;
+    }
+
+    private static ApplySandboxEditsRequest edits(SandboxEditRequest... edits) {
+        return new ApplySandboxEditsRequest(List.of(edits));
+    }
+
+    private static SandboxEditRequest shift(TaskScheduleRow task, int days) {
+        return new SandboxEditRequest(
+            SandboxEditType.SHIFT_TASK,
+            task.id(),
+            days,
+            null,
+            null,
+            null
+        );
+    }
+
+    private static TaskScheduleRow row(
+        String name,
+        LocalDate startDate,
+        LocalDate endDate,
+        int durationDays
+    ) {
+        return new TaskScheduleRow(
+            UUID.randomUUID(),
+            name,
+            startDate,
+            endDate,
+            durationDays,
+            TaskStatus.PENDING
+        );
+    }
+
+    private static TaskDependencyRow link(
+        TaskScheduleRow predecessor,
+        TaskScheduleRow successor
+    ) {
+        return new TaskDependencyRow(
+            successor.id(),
+            predecessor.id(),
+            DependencyType.FINISH_TO_START
+        );
+    }
+}
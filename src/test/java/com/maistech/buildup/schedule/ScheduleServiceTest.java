@@ -0,0 +1,224 @@
+package com.maistech.buildup.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.maistech.buildup.calendar.WorkingCalendar;
+import com.maistech.buildup.calendar.domain.WorkingCalendarService;
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.project.domain.ProjectRepository;
+import com.maistech.buildup.schedule.domain.MilestoneRepository;
+import com.maistech.buildup.schedule.domain.ScheduleRepository;
+import com.maistech.buildup.schedule.domain.ScheduleService;
+import com.maistech.buildup.schedule.dto.MilestoneResponse;
+import com.maistech.buildup.schedule.dto.ScheduleResponse;
+import com.maistech.buildup.task.domain.TaskDependencyRepository;
+import com.maistech.buildup.task.domain.TaskRepository;
+import com.maistech.buildup.task.domain.TaskScheduleStats;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleServiceTest {
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private MilestoneRepository milestoneRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+
+    @Mock
+    private WorkingCalendarService workingCalendarService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ScheduleService scheduleService;
+
+    private UUID companyId;
+    private ProjectEntity firstProject;
+    private ProjectEntity secondProject;
+
+    @BeforeEach
+    void setUp() {
+        companyId = UUID.randomUUID();
+        firstProject = project("First Project");
+        secondProject = project("Second Project");
+    }
+
+    @Test
+    @DisplayName("listCompanySchedules - should load milestones with a single query")
+    void shouldLoadMilestonesForAllSchedulesAtOnce() {
+        when(scheduleRepository.findAllByCompanyId(companyId)).thenReturn(
+            List.of(schedule(firstProject), schedule(secondProject))
+        );
+        when(
+            milestoneRepository.findByProjectIdInOrderByPlannedDateAsc(
+                List.of(firstProject.getId(), secondProject.getId())
+            )
+        ).thenReturn(
+            List.of(
+                milestone(firstProject, "Foundation"),
+                milestone(firstProject, "Structure")
+            )
+        );
+
+        List<ScheduleResponse> responses = scheduleService.listCompanySchedules(
+            companyId
+        );
+
+        assertThat(responses).hasSize(2);
+        assertThat(responses.get(0).projectName()).isEqualTo("First Project");
+        assertThat(responses.get(0).milestones())
+            .extracting(MilestoneResponse::name)
+            .containsExactly("Foundation", "Structure");
+        assertThat(responses.get(1).milestones()).isEmpty();
+        verify(milestoneRepository, never()).findByProjectIdOrderByPlannedDateAsc(
+            any()
+        );
+    }
+
+    @Test
+    @DisplayName("listDelayedSchedules - should skip milestone lookup when empty")
+    void shouldSkipMilestoneLookupWhenNoDelayedSchedules() {
+        when(scheduleRepository.findDelayedSchedules(companyId)).thenReturn(
+            List.of()
+        );
+
+        assertThat(scheduleService.listDelayedSchedules(companyId)).isEmpty();
+        verifyNoInteractions(milestoneRepository);
+    }
+
+    @Test
+    @DisplayName("generateSchedule - should derive counters from aggregate stats")
+    void shouldGenerateScheduleFromAggregateStats() {
+        UUID projectId = firstProject.getId();
+        LocalDate start = LocalDate.now().minusDays(10);
+        LocalDate end = LocalDate.now().plusDays(20);
+        when(projectRepository.findById(projectId)).thenReturn(
+            Optional.of(firstProject)
+        );
+        when(scheduleRepository.findByProjectId(projectId)).thenReturn(
+            Optional.empty()
+        );
+        when(taskRepository.findScheduleStatsByProjectId(projectId)).thenReturn(
+            new TaskScheduleStats(4, 1, 0, start, end)
+        );
+        when(scheduleRepository.save(any(ScheduleEntity.class))).thenAnswer(
+            invocation -> invocation.getArgument(0)
+        );
+
+        when(workingCalendarService.forCompany(companyId)).thenReturn(
+            WorkingCalendar.continuous()
+        );
+
+        ScheduleResponse response = scheduleService.generateSchedule(
+            companyId,
+            projectId
+        );
+
+        assertThat(response.totalTasks()).isEqualTo(4);
+        assertThat(response.completedTasks()).isEqualTo(1);
+        assertThat(response.completedPercentage()).isEqualTo(25);
+        assertThat(response.startDate()).isEqualTo(start);
+        assertThat(response.endDate()).isEqualTo(end);
+        assertThat(response.status()).isEqualTo(ScheduleStatus.ACTIVE);
+        assertThat(response.isOnTrack()).isTrue();
+        verify(taskRepository, never()).findByProjectId(any());
+    }
+
+    @Test
+    @DisplayName("deleteMilestone - should queue recalculation instead of running it")
+    void shouldPublishMilestoneChangeOnDelete() {
+        MilestoneEntity milestone = milestone(firstProject, "Foundation");
+        when(milestoneRepository.findById(milestone.getId())).thenReturn(
+            Optional.of(milestone)
+        );
+
+        scheduleService.deleteMilestone(
+            companyId,
+            firstProject.getId(),
+            milestone.getId()
+        );
+
+        verify(milestoneRepository).delete(milestone);
+        verify(eventPublisher).publishEvent(
+            new MilestoneChangedEvent(companyId, firstProject.getId())
+        );
+        verifyNoInteractions(taskRepository, scheduleRepository);
+    }
+
+    @Test
+    @DisplayName("refreshSchedule - should upsert the recalculated schedule")
+    void shouldUpsertRecalculatedSchedule() {
+        UUID projectId = firstProject.getId();
+        when(projectRepository.findById(projectId)).thenReturn(
+            Optional.of(firstProject)
+        );
+        when(taskRepository.findScheduleStatsByProjectId(projectId)).thenReturn(
+            new TaskScheduleStats(0, 0, 0, null, null)
+        );
+
+        when(workingCalendarService.forCompany(companyId)).thenReturn(
+            WorkingCalendar.continuous()
+        );
+
+        scheduleService.refreshSchedule(companyId, projectId);
+
+        ArgumentCaptor<ScheduleEntity> captor = ArgumentCaptor.forClass(
+            ScheduleEntity.class
+        );
+        verify(scheduleRepository).upsertCalculatedSchedule(captor.capture());
+        assertThat(captor.getValue().getProject()).isSameAs(firstProject);
+        assertThat(captor.getValue().getCompanyId()).isEqualTo(companyId);
+        assertThat(captor.getValue().getStatus()).isEqualTo(ScheduleStatus.DRAFT);
+        verify(scheduleRepository, never()).save(any());
+    }
+
+    private ProjectEntity project(String name) {
+        ProjectEntity project = new ProjectEntity();
+        project.setId(UUID.randomUUID());
+        project.setName(name);
+        project.setCompanyId(companyId);
+        return project;
+    }
+
+    private ScheduleEntity schedule(ProjectEntity project) {
+        ScheduleEntity schedule = new ScheduleEntity();
+        schedule.setId(UUID.randomUUID());
+        schedule.setProject(project);
+        schedule.setCompanyId(companyId);
+        return schedule;
+    }
+
+    private MilestoneEntity milestone(ProjectEntity project, String name) {
+        MilestoneEntity milestone = new MilestoneEntity();
+        milestone.setId(UUID.randomUUID());
+        milestone.setName(name);
+        milestone.setProject(project);
+        milestone.setPlannedDate(LocalDate.now().plusDays(10));
+        return milestone;
+    }
+}
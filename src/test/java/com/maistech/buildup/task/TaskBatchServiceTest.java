@@ -0,0 +1,193 @@
+package com.maistech.buildup.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.maistech.buildup.auth.UserEntity;
+import com.maistech.buildup.auth.domain.UserRepository;
+import com.maistech.buildup.calendar.WorkingCalendar;
+import com.maistech.buildup.calendar.domain.WorkingCalendarService;
+import com.maistech.buildup.project.ProjectEntity;
+import com.maistech.buildup.project.domain.ProjectRepository;
+import com.maistech.buildup.task.domain.TaskBatchService;
+import com.maistech.buildup.task.domain.TaskRepository;
+import com.maistech.buildup.task.dto.*;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBatchServiceTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private WorkingCalendarService workingCalendarService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TaskBatchService taskBatchService;
+
+    private UUID companyId;
+    private UUID projectId;
+    private UUID userId;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        companyId = UUID.randomUUID();
+        projectId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+
+        ProjectEntity project = new ProjectEntity();
+        project.setId(projectId);
+        project.setName("Test Project");
+        project.setCompanyId(companyId);
+
+        user = mock(UserEntity.class);
+        lenient().when(user.getId()).thenReturn(userId);
+
+        lenient()
+            .when(projectRepository.findByIdAndCompanyId(projectId, companyId))
+            .thenReturn(Optional.of(project));
+        lenient()
+            .when(userRepository.findById(userId))
+            .thenReturn(Optional.of(user));
+        lenient()
+            .doAnswer(invocation -> {
+                if (invocation.getArgument(0) instanceof TaskEntity task) {
+                    task.setId(UUID.randomUUID());
+                }
+                return null;
+            })
+            .when(entityManager)
+            .persist(any());
+    }
+
+    @Test
+    @DisplayName("createTasks - should resolve references and lookups once")
+    void shouldCreateTasksAndDependenciesFromReferences() {
+        CreateTaskBatchRequest request = new CreateTaskBatchRequest(
+            List.of(item("a", userId), item("b", userId), item("c", null)),
+            List.of(
+                new BatchDependencyItem("b", "a", DependencyType.FINISH_TO_START),
+                new BatchDependencyItem("c", "b", null)
+            )
+        );
+        when(userRepository.findAllById(Set.of(userId))).thenReturn(
+            List.of(user)
+        );
+        when(taskRepository.findMaxOrderIndex(projectId)).thenReturn(4096);
+
+        when(workingCalendarService.forCompany(companyId)).thenReturn(
+            WorkingCalendar.continuous()
+        );
+
+        TaskBatchResponse response = taskBatchService.createTasks(
+            companyId,
+            projectId,
+            userId,
+            request
+        );
+
+        assertThat(response.createdTasks()).isEqualTo(3);
+        assertThat(response.createdDependencies()).isEqualTo(2);
+        assertThat(response.taskIds()).containsOnlyKeys("a", "b", "c");
+        verify(userRepository, times(1)).findAllById(any());
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(entityManager, times(5)).persist(captor.capture());
+        List<TaskEntity> tasks = captor
+            .getAllValues()
+            .stream()
+            .filter(TaskEntity.class::isInstance)
+            .map(TaskEntity.class::cast)
+            .toList();
+        assertThat(tasks).hasSize(3);
+        assertThat(tasks.get(0).getAssignedTo()).isSameAs(user);
+        assertThat(tasks.get(2).getOrderIndex()).isEqualTo(4096 + 3 * 1024);
+        assertThat(tasks.get(0).getCompanyId()).isEqualTo(companyId);
+        verify(entityManager).getReference(
+            TaskEntity.class,
+            response.taskIds().get("a")
+        );
+    }
+
+    @Test
+    @DisplayName("createTasks - should reject circular dependencies")
+    void shouldRejectCircularDependencies() {
+        CreateTaskBatchRequest request = new CreateTaskBatchRequest(
+            List.of(item("a", null), item("b", null), item("c", null)),
+            List.of(
+                new BatchDependencyItem("b", "a", null),
+                new BatchDependencyItem("c", "b", null),
+                new BatchDependencyItem("a", "c", null)
+            )
+        );
+
+        assertThatThrownBy(() ->
+            taskBatchService.createTasks(companyId, projectId, userId, request)
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("circular");
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    @DisplayName("createTasks - should reject unknown references")
+    void shouldRejectUnknownReferences() {
+        CreateTaskBatchRequest request = new CreateTaskBatchRequest(
+            List.of(item("a", null)),
+            List.of(new BatchDependencyItem("a", "missing", null))
+        );
+
+        assertThatThrownBy(() ->
+            taskBatchService.createTasks(companyId, projectId, userId, request)
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("missing");
+        verify(entityManager, never()).persist(any());
+    }
+
+    private BatchTaskItem item(String ref, UUID assignedTo) {
+        return new BatchTaskItem(
+            ref,
+            new CreateTaskRequest(
+                "Task " + ref,
+                null,
+                LocalDate.now(),
+                null,
+                3,
+                TaskPriority.MEDIUM,
+                assignedTo,
+                0
+            )
+        );
+    }
+}
@@ -21,6 +21,9 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -48,6 +51,10 @@ class TaskIntegrationTest {
         registry.add("spring.datasource.url", postgres::getJdbcUrl);
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add(
+            "spring.jpa.properties.hibernate.generate_statistics",
+            () -> "true"
+        );
     }
 
     @Autowired
@@ -74,6 +81,12 @@ class TaskIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private String authToken;
     private UUID companyId;
     private UUID userId;
@@ -483,18 +496,68 @@ class TaskIntegrationTest {
         headers.setBearerAuth(authToken);
         HttpEntity<Void> entity = new HttpEntity<>(headers);
 
-        ResponseEntity<List<TaskResponse>> response = restTemplate.exchange(
+        ResponseEntity<TaskFeedResponse> response = restTemplate.exchange(
             "/companies/{companyId}/projects/{projectId}/tasks/my-tasks",
             HttpMethod.GET,
             entity,
-            new ParameterizedTypeReference<List<TaskResponse>>() {},
+            TaskFeedResponse.class,
             companyId,
             projectId
         );
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody()).hasSizeGreaterThanOrEqualTo(1);
+        assertThat(response.getBody().items()).hasSizeGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should list project tasks with a constant number of statements")
+    void shouldListProjectTasksWithConstantStatementCount() {
+        createTestTaskChain(3);
+        long smallProjectStatements = countListProjectTasksStatements(3);
+
+        createTestTaskChain(30);
+        long largeProjectStatements = countListProjectTasksStatements(33);
+
+        assertThat(largeProjectStatements).isEqualTo(smallProjectStatements);
+    }
+
+    private long countListProjectTasksStatements(int expectedTasks) {
+        Statistics statistics = entityManagerFactory
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.clear();
+
+        List<TaskResponse> tasks = taskService.listProjectTasks(
+            companyId,
+            projectId
+        );
+
+        assertThat(tasks).hasSize(expectedTasks);
+        assertThat(tasks)
+            .filteredOn(task -> !task.dependencies().isEmpty())
+            .allMatch(TaskResponse::hasBlockingDependencies);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createTestTaskChain(int length) {
+        TaskEntity previous = null;
+        for (int i = 0; i < length; i++) {
+            TaskEntity task = taskRepository
+                .findById(createTestTask("Chained Task " + i))
+                .orElseThrow();
+            task.setAssignedTo(adminUser);
+            task = taskRepository.save(task);
+
+            if (previous != null) {
+                TaskDependencyEntity dependency = new TaskDependencyEntity();
+                dependency.setTask(task);
+                dependency.setDependsOnTask(previous);
+                dependency.setDependencyType(DependencyType.FINISH_TO_START);
+                taskDependencyRepository.save(dependency);
+            }
+            previous = task;
+        }
     }
 
     private UUID createTestTask(String name) {
@@ -0,0 +1,124 @@
+package com.maistech.buildup.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.maistech.buildup.task.domain.TaskOverdueSweeper;
+import com.maistech.buildup.task.domain.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class TaskOverdueSweeperTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private MeterRegistry meterRegistry;
+    private TaskOverdueSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new TaskOverdueSweeper(
+            taskRepository,
+            eventPublisher,
+            transactionTemplate,
+            meterRegistry
+        );
+        lenient()
+            .when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation ->
+                invocation
+                    .<TransactionCallback<?>>getArgument(0)
+                    .doInTransaction(null)
+            );
+    }
+
+    @Test
+    @DisplayName("sweep - flags tenants in chunks and publishes one delta per project")
+    void shouldFlagInChunksAndPublishProjectDeltas() {
+        UUID companyId = UUID.randomUUID();
+        UUID projectA = UUID.randomUUID();
+        UUID projectB = UUID.randomUUID();
+
+        List<UUID> firstChunk = new ArrayList<>(
+            Collections.nCopies(999, projectA)
+        );
+        firstChunk.add(projectB);
+
+        when(
+            taskRepository.findCompanyIdsWithNewlyOverdueTasks(
+                any(LocalDate.class)
+            )
+        ).thenReturn(List.of(companyId));
+        when(
+            taskRepository.flagOverdueTasks(
+                eq(companyId),
+                any(LocalDate.class),
+                eq(1000)
+            )
+        )
+            .thenReturn(firstChunk)
+            .thenReturn(List.of(projectB, projectB));
+
+        sweeper.sweep();
+
+        verify(taskRepository, times(2)).flagOverdueTasks(
+            eq(companyId),
+            any(LocalDate.class),
+            eq(1000)
+        );
+        ArgumentCaptor<TasksFlaggedOverdueEvent> captor =
+            ArgumentCaptor.forClass(TasksFlaggedOverdueEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues())
+            .extracting(TasksFlaggedOverdueEvent::count)
+            .containsExactlyInAnyOrder(999, 1, 2);
+
+        assertThat(
+            meterRegistry.get("tasks.overdue.flagged").counter().count()
+        ).isEqualTo(1002);
+        assertThat(
+            meterRegistry.get("tasks.overdue.sweep").timer().count()
+        ).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("sweep - does nothing when no task became overdue")
+    void shouldSkipWhenNothingIsDue() {
+        when(
+            taskRepository.findCompanyIdsWithNewlyOverdueTasks(
+                any(LocalDate.class)
+            )
+        ).thenReturn(List.of());
+
+        sweeper.sweep();
+
+        verify(taskRepository, never()).flagOverdueTasks(any(), any(), anyInt());
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -7,6 +7,8 @@ import static org.mockito.Mockito.*;
 
 import com.maistech.buildup.auth.UserEntity;
 import com.maistech.buildup.auth.domain.UserRepository;
+import com.maistech.buildup.calendar.WorkingCalendar;
+import com.maistech.buildup.calendar.domain.WorkingCalendarService;
 import com.maistech.buildup.tenant.CompanyEntity;
 import com.maistech.buildup.project.ProjectEntity;
 import com.maistech.buildup.project.ProjectNotFoundException;
@@ -16,6 +18,7 @@ import com.maistech.buildup.task.domain.*;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +28,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class TaskServiceTest {
@@ -41,6 +45,12 @@ class TaskServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private WorkingCalendarService workingCalendarService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -206,6 +216,140 @@ class TaskServiceTest {
         assertThat(task.getProgressPercentage()).isEqualTo(50);
     }
 
+    @Test
+    @DisplayName("updateTask - should push successors when autoReschedule is on")
+    void shouldRescheduleSuccessorsWhenDatesChange() {
+        LocalDate start = LocalDate.of(2025, 3, 3);
+        task.setStartDate(start);
+        task.setEndDate(start.plusDays(2));
+        task.setDurationDays(3);
+
+        TaskEntity successor = new TaskEntity();
+        successor.setId(UUID.randomUUID());
+        successor.setProject(project);
+        successor.setName("Successor");
+        successor.setStartDate(start.plusDays(3));
+        successor.setEndDate(start.plusDays(4));
+        successor.setDurationDays(2);
+
+        UpdateTaskRequest updateRequest = new UpdateTaskRequest(
+            null,
+            null,
+            start.plusDays(5),
+            null,
+            null,
+            null,
+            null,
+            null,
+            null
+        );
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(TaskEntity.class))).thenReturn(task);
+        when(
+            taskDependencyRepository.findDownstreamEdges(taskId)
+        ).thenReturn(
+            List.<Object[]>of(
+                new Object[] {
+                    successor.getId(),
+                    taskId,
+                    DependencyType.FINISH_TO_START.name(),
+                }
+            )
+        );
+        when(
+            taskRepository.findScheduleRowsByIdIn(
+                Set.of(taskId, successor.getId())
+            )
+        ).thenReturn(
+            List.of(
+                new TaskScheduleRow(
+                    taskId,
+                    "Test Task",
+                    start.plusDays(5),
+                    null,
+                    3,
+                    TaskStatus.PENDING
+                ),
+                new TaskScheduleRow(
+                    successor.getId(),
+                    "Successor",
+                    successor.getStartDate(),
+                    successor.getEndDate(),
+                    2,
+                    TaskStatus.PENDING
+                )
+            )
+        );
+        when(taskRepository.findAllById(Set.of(successor.getId()))).thenReturn(
+            List.of(successor)
+        );
+
+        when(workingCalendarService.forCompany(companyId)).thenReturn(
+            WorkingCalendar.continuous()
+        );
+
+        taskService.updateTask(
+            companyId,
+            projectId,
+            taskId,
+            updateRequest,
+            true
+        );
+
+        assertThat(successor.getStartDate()).isEqualTo(start.plusDays(8));
+        assertThat(successor.getEndDate()).isEqualTo(start.plusDays(9));
+    }
+
+    @Test
+    @DisplayName("moveTask - should write only the moved task between its neighbours")
+    void shouldMoveTaskBetweenNeighbours() {
+        TaskEntity afterTask = new TaskEntity();
+        afterTask.setId(UUID.randomUUID());
+        afterTask.setProject(project);
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.findById(afterTask.getId())).thenReturn(
+            Optional.of(afterTask)
+        );
+        when(taskRepository.findOrderIndexById(afterTask.getId())).thenReturn(
+            2048
+        );
+        when(
+            taskRepository.findNextOrderIndex(projectId, 2048, taskId)
+        ).thenReturn(3072);
+
+        taskService.moveTask(
+            companyId,
+            projectId,
+            taskId,
+            new MoveTaskRequest(afterTask.getId())
+        );
+
+        verify(taskRepository).updateOrderIndex(taskId, 2560);
+        verify(taskRepository, never()).rebalanceOrderIndexes(any(), anyInt());
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("moveTask - should rebalance the project when the gap is exhausted")
+    void shouldRebalanceWhenGapIsExhausted() {
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.findNextOrderIndex(projectId, 0, taskId))
+            .thenReturn(1)
+            .thenReturn(1024);
+
+        taskService.moveTask(
+            companyId,
+            projectId,
+            taskId,
+            new MoveTaskRequest(null)
+        );
+
+        verify(taskRepository).rebalanceOrderIndexes(projectId, 1024);
+        verify(taskRepository).updateOrderIndex(taskId, 512);
+    }
+
     @Test
     @DisplayName("updateTask - should throw exception when task not found")
     void shouldThrowExceptionWhenTaskNotFoundOnUpdate() {
@@ -290,14 +434,99 @@ class TaskServiceTest {
     @Test
     @DisplayName("listUserTasks - should return user's assigned tasks")
     void shouldListUserTasksSuccessfully() {
-        when(taskRepository.findByAssignedToId(userId)).thenReturn(
+        when(
+            taskRepository.findAssignedTaskIdsAfter(
+                eq(userId),
+                anyCollection(),
+                eq(true),
+                anyCollection(),
+                any(LocalDate.class),
+                any(LocalDate.class),
+                any(LocalDate.class),
+                any(UUID.class),
+                eq(21)
+            )
+        ).thenReturn(List.of(taskId));
+        when(taskRepository.findByIdIn(List.of(taskId))).thenReturn(
             List.of(task)
         );
 
-        List<TaskResponse> response = taskService.listUserTasks(userId);
+        TaskFeedResponse response = taskService.listUserTasks(
+            userId,
+            new TaskFeedQuery(null, null, null, null, null, null)
+        );
 
-        assertThat(response).hasSize(1);
-        assertThat(response.get(0).id()).isEqualTo(taskId);
+        assertThat(response.items()).hasSize(1);
+        assertThat(response.items().get(0).id()).isEqualTo(taskId);
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("listUserTasks - should return a cursor that resumes after the last task")
+    void shouldReturnCursorWhenMoreTasksExist() {
+        UUID nextTaskId = UUID.randomUUID();
+        task.setEndDate(LocalDate.of(2025, 3, 10));
+        when(
+            taskRepository.findAssignedTaskIdsAfter(
+                eq(userId),
+                eq(List.of("PENDING")),
+                eq(true),
+                anyCollection(),
+                any(LocalDate.class),
+                any(LocalDate.class),
+                any(LocalDate.class),
+                any(UUID.class),
+                eq(2)
+            )
+        ).thenReturn(List.of(taskId, nextTaskId));
+        when(taskRepository.findByIdIn(List.of(taskId))).thenReturn(
+            List.of(task)
+        );
+
+        TaskFeedResponse firstPage = taskService.listUserTasks(
+            userId,
+            new TaskFeedQuery(
+                Set.of(TaskStatus.PENDING),
+                null,
+                null,
+                null,
+                null,
+                1
+            )
+        );
+
+        assertThat(firstPage.items()).hasSize(1);
+        assertThat(firstPage.nextCursor()).isNotNull();
+
+        taskService.listUserTasks(
+            userId,
+            new TaskFeedQuery(null, null, null, null, firstPage.nextCursor(), 1)
+        );
+
+        verify(taskRepository).findAssignedTaskIdsAfter(
+            eq(userId),
+            anyCollection(),
+            eq(true),
+            anyCollection(),
+            any(LocalDate.class),
+            any(LocalDate.class),
+            eq(LocalDate.of(2025, 3, 10)),
+            eq(taskId),
+            eq(2)
+        );
+    }
+
+    @Test
+    @DisplayName("listUserTasks - should reject malformed cursor")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() ->
+            taskService.listUserTasks(
+                userId,
+                new TaskFeedQuery(null, null, null, null, "not-a-cursor", null)
+            )
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cursor");
     }
 
     @Test
@@ -310,7 +539,7 @@ class TaskServiceTest {
             projectRepository.findByIdAndCompanyId(projectId, companyId)
         ).thenReturn(Optional.of(project));
         when(
-            taskRepository.findOverdueTasks(eq(projectId), any(LocalDate.class))
+            taskRepository.findOverdueTasks(projectId)
         ).thenReturn(List.of(task));
 
         List<TaskResponse> response = taskService.listOverdueTasks(
@@ -371,6 +600,15 @@ class TaskServiceTest {
         assertThat(task.getStatus()).isEqualTo(TaskStatus.COMPLETED);
         assertThat(task.getProgressPercentage()).isEqualTo(100);
         verify(taskRepository).save(task);
+
+        ArgumentCaptor<TaskChangedEvent> eventCaptor = ArgumentCaptor.forClass(
+            TaskChangedEvent.class
+        );
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().before().status()).isEqualTo(
+            TaskStatus.IN_PROGRESS
+        );
+        assertThat(eventCaptor.getValue().after().completed()).isTrue();
     }
 
     @Test
@@ -473,6 +711,47 @@ class TaskServiceTest {
         verify(taskDependencyRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName(
+        "addDependency - should detect indirect cycle from reachable subgraph"
+    )
+    void shouldThrowExceptionOnIndirectCircularDependency() {
+        UUID middleTaskId = UUID.randomUUID();
+        UUID upstreamTaskId = UUID.randomUUID();
+        TaskEntity upstreamTask = new TaskEntity();
+        upstreamTask.setId(upstreamTaskId);
+        upstreamTask.setProject(project);
+
+        AddDependencyRequest request = new AddDependencyRequest(
+            upstreamTaskId,
+            DependencyType.FINISH_TO_START
+        );
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.findById(upstreamTaskId)).thenReturn(
+            Optional.of(upstreamTask)
+        );
+        when(
+            taskDependencyRepository.findReachableEdges(upstreamTaskId)
+        ).thenReturn(
+            List.of(
+                new Object[] { upstreamTaskId, middleTaskId },
+                new Object[] { middleTaskId, taskId }
+            )
+        );
+
+        assertThatThrownBy(() ->
+            taskService.addDependency(companyId, projectId, taskId, request)
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("would create circular reference");
+
+        verify(taskDependencyRepository, times(1)).findReachableEdges(
+            upstreamTaskId
+        );
+        verify(taskDependencyRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("removeDependency - should remove dependency successfully")
     void shouldRemoveDependencySuccessfully() {